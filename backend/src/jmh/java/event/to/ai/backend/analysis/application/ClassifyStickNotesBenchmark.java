@@ -0,0 +1,55 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.Group;
+import event.to.ai.backend.analysis.domain.StickyNote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 分類單一 frame 的時間：legacy 每個角色各掃描一次並逐一比對顏色字串、每個事件與所有候選便利貼比對距離
+// bucketed 只掃描一次並以 EnumMap 分桶，事件只檢查 Y 排序索引中落在距離範圍內的候選者
+// LegacyClassifyStickNotesUseCase 與隨機 frame 產生器來自 test source set (jmh.includeTests)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassifyStickNotesBenchmark {
+
+    @Param({"20", "200", "800"})
+    public int notesPerFrame;
+
+    // mixed：各種顏色平均分布；storm：幾乎都是事件 / reactor / policy / attribute，事件配對的成本為主
+    @Param({"mixed", "storm"})
+    public String shape;
+
+    private List<StickyNote> notes;
+    private Map<String, Point2D> frameSizes;
+
+    @Setup
+    public void setUp() {
+        notes = "storm".equals(shape)
+                ? ClassifyStickNotesUseCaseTest.randomStorm(new Random(42L), notesPerFrame)
+                : ClassifyStickNotesUseCaseTest.randomFrame(new Random(42L), notesPerFrame);
+        frameSizes = Map.of(notes.getFirst().getFrameId(), new Point2D.Double(1200.0, 800.0));
+    }
+
+    @Benchmark
+    public Group legacy() {
+        return new LegacyClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+    }
+
+    @Benchmark
+    public Group bucketed() {
+        return new ClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+    }
+}
@@ -0,0 +1,68 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.StickyNote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 便利貼分群的時間：legacy 對每張便利貼遞迴 DFS 並與所有便利貼比對距離 (O(n²))
+// grid 只比對相鄰格子裡的便利貼並以 union-find 合併
+// legacy 在 50k 張時單次要數十秒且遞迴深度可能超過 stack，只量到 10k；-Xss 讓 10k 的遞迴不會 StackOverflowError
+// LegacyClusterStickyNotesUseCase 與隨機 board 產生器來自 test source set (jmh.includeTests)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xss64m")
+public class ClusterStickyNotesBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LegacyBoard {
+
+        @Param({"1000", "10000"})
+        public int notes;
+
+        private List<StickyNote> stickyNotes;
+
+        @Setup
+        public void setUp() {
+            stickyNotes = ClusterStickyNotesUseCaseTest.randomBoard(new Random(42L), notes);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Board {
+
+        @Param({"1000", "10000", "50000"})
+        public int notes;
+
+        private List<StickyNote> stickyNotes;
+
+        @Setup
+        public void setUp() {
+            stickyNotes = ClusterStickyNotesUseCaseTest.randomBoard(new Random(42L), notes);
+        }
+    }
+
+    @Benchmark
+    public List<List<StickyNote>> legacy(LegacyBoard board) {
+        LegacyClusterStickyNotesUseCase useCase = new LegacyClusterStickyNotesUseCase();
+        useCase.cluster(board.stickyNotes);
+        return useCase.getAllGroup();
+    }
+
+    @Benchmark
+    public List<List<StickyNote>> grid(Board board) {
+        ClusterStickyNotesUseCase useCase = new ClusterStickyNotesUseCase();
+        useCase.cluster(board.stickyNotes);
+        return useCase.getAllGroup();
+    }
+}
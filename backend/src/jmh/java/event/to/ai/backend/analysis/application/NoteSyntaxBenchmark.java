@@ -0,0 +1,80 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.StickyNote;
+import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
+import event.to.ai.backend.analysis.domain.valueobject.Attribute;
+import event.to.ai.backend.analysis.domain.valueobject.NoteSyntaxDiagnostic;
+import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 解析 input / attribute / aggregate 便利貼的時間：legacy 每行以 replace 與 regex split 產生中間字串
+// index 以 NoteSyntaxParser 單趟掃描，只 substring 最後的欄位；搭配 -prof gc 比較每次操作的配置量
+// LegacyClassifyStickNotesUseCase 來自 test source set (jmh.includeTests)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoteSyntaxBenchmark {
+
+    // 每張便利貼上的屬性行數
+    @Param({"3", "30"})
+    public int lines;
+
+    private StickyNote input;
+    private StickyNote attribute;
+    private List<StickyNote> aggregates;
+    private LegacyClassifyStickNotesUseCase legacy;
+
+    @Setup
+    public void setUp() {
+        StringBuilder inputText = new StringBuilder();
+        StringBuilder attributeText = new StringBuilder();
+        StringBuilder aggregateText = new StringBuilder("Order{\n");
+        for (int i = 0; i < lines; i++) {
+            String separator = i == lines - 1 ? "" : ",\n";
+            inputText.append("String field").append(i).append(separator);
+            attributeText.append("List<String> field").append(i).append(": not null").append(separator);
+            aggregateText.append("  String field").append(i).append(": unique").append(separator);
+        }
+        aggregateText.append("\n}");
+        input = note(inputText.toString());
+        attribute = note(attributeText.toString());
+        aggregates = List.of(note(aggregateText.toString()));
+        legacy = new LegacyClassifyStickNotesUseCase();
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(legacy.StickyNoteToInput(input));
+        blackhole.consume(legacy.StickyNoteToAttribute(attribute));
+        blackhole.consume(legacy.StickyNoteToAggregateWithAttribute(aggregates));
+    }
+
+    @Benchmark
+    public void index(Blackhole blackhole) {
+        List<NoteSyntaxDiagnostic> diagnostics = new ArrayList<>();
+        List<UsecaseInput> inputs = NoteSyntaxParser.parseInputs(input, diagnostics);
+        List<Attribute> attributes = NoteSyntaxParser.parseAttributes(attribute, diagnostics);
+        AggregateWithAttribute aggregate = NoteSyntaxParser.parseAggregate(aggregates.getFirst(), diagnostics);
+        blackhole.consume(inputs);
+        blackhole.consume(attributes);
+        blackhole.consume(aggregate);
+    }
+
+    private static StickyNote note(String description) {
+        return new StickyNote("note-1", description, new Point2D.Double(), new Point2D.Double(100.0, 100.0),
+                "green", "sticky-note", "frame-1");
+    }
+}
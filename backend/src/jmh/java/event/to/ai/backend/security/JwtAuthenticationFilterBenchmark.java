@@ -0,0 +1,125 @@
+package event.to.ai.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter 每個請求的成本：舊流程 (解析三次 token + 每次重建金鑰 + 查使用者) vs 現在的 claims 快速路徑
+// 舊流程的使用者查詢以記憶體中的假資料代替，實際環境還要再加上一次 SELECT users 的往返時間
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000101");
+
+    private JwtAuthenticationFilter filter;
+    private LegacyJwtAuthenticationFilter legacyFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(SECRET, 3600);
+        CustomUserDetailsService userDetailsService = new InMemoryUserDetailsService();
+        filter = new JwtAuthenticationFilter(new AccessTokenAuthenticator(
+                jwtService, userDetailsService, new TokenRevocationService(3600, 1000)));
+        legacyFilter = new LegacyJwtAuthenticationFilter(userDetailsService);
+        token = jwtService.generateToken(USER_ID, "alice");
+    }
+
+    @Benchmark
+    public Object claimsFastPath() throws Exception {
+        // filter 只在尚未驗證時才處理 token，每次都從空的 SecurityContext 開始
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object legacyLookupPath() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader("Authorization", "Bearer " + token);
+        legacyFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // 改版前 JwtAuthenticationFilter + JwtService 的行為
+    static final class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final CustomUserDetailsService userDetailsService;
+
+        LegacyJwtAuthenticationFilter(CustomUserDetailsService userDetailsService) {
+            this.userDetailsService = userDetailsService;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String token = request.getHeader("Authorization").substring(7);
+            UUID userId = UUID.fromString(parse(token).getSubject());
+            AuthUserPrincipal principal = userDetailsService.loadUserById(userId);
+            UUID tokenUserId = UUID.fromString(parse(token).getSubject());
+            boolean expired = parse(token).getExpiration().before(new Date());
+            if (tokenUserId.equals(principal.getId()) && !expired) {
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal, null, principal.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+            filterChain.doFilter(request, response);
+        }
+
+        private Claims parse(String token) {
+            SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+            return Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        }
+    }
+
+    static final class InMemoryUserDetailsService extends CustomUserDetailsService {
+
+        private final AuthUserPrincipal alice = new AuthUserPrincipal(USER_ID, "alice", "hash");
+
+        InMemoryUserDetailsService() {
+            super(null);
+        }
+
+        @Override
+        public AuthUserPrincipal loadUserById(UUID userId) {
+            return alice;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package event.to.ai.backend.websocket;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.JacksonJsonMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 一則 board 事件經 simple broker 廣播給 N 個訂閱者的吞吐量 (events/sec)
+// convertAndSend：每次經 message converter 查找與序列化；preEncoded：publisher 以綁定型別的 ObjectWriter 編碼一次後直接交給 broker
+// 兩者在 outbound channel 都會為每個 session 編一次 STOMP frame，模擬 StompSubProtocolHandler 的成本
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardRealtimeFanOutBenchmark {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000501");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000101");
+
+    @Param({"1", "50", "200"})
+    public int subscribers;
+
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate converterTemplate;
+    private BoardRealtimePublisher publisher;
+    private BoardRealtimeEvent event;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        StompEncoder stompEncoder = new StompEncoder();
+        clientOutboundChannel.subscribe(stompFrameEncoder(stompEncoder));
+
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutboundChannel,
+                brokerChannel, List.of("/topic"));
+        broker.start();
+        String topic = "/topic/boards/" + BOARD_ID + "/events";
+        for (int i = 0; i < subscribers; i++) {
+            broker.handleMessage(subscribe("session-" + i, topic));
+        }
+
+        converterTemplate = new SimpMessagingTemplate(brokerChannel);
+        converterTemplate.setMessageConverter(new CompositeMessageConverter(List.of(new JacksonJsonMessageConverter(jsonMapper))));
+        publisher = new BoardRealtimePublisher(new BrokerBoardEventBus(new SimpMessagingTemplate(brokerChannel), jsonMapper, null, null), jsonMapper, false, 1);
+
+        List<Object> notes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            notes.add(new Note(UUID.randomUUID(), i * 10.0, i * 20.0, "Order placed " + i, "orange"));
+        }
+        event = new BoardRealtimeEvent(BoardRealtimeEventType.STICKY_NOTE_UPDATED, USER_ID, BOARD_ID, notes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+    }
+
+    @Benchmark
+    public void convertAndSend() {
+        converterTemplate.convertAndSend(publisher.topicFor(BOARD_ID), event);
+    }
+
+    @Benchmark
+    public void preEncoded() {
+        publisher.publish(event.getType(), event.getUserId(), event.getBoardId(), event.getPayload());
+    }
+
+    private MessageHandler stompFrameEncoder(StompEncoder stompEncoder) {
+        return message -> {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            accessor.setCommand(StompCommand.MESSAGE);
+            blackhole.consume(stompEncoder.encode(accessor.getMessageHeaders(), (byte[]) message.getPayload()));
+        };
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    public record Note(UUID id, double x, double y, String description, String color) {
+    }
+}
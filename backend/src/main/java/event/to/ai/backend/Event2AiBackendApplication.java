@@ -2,8 +2,10 @@ package event.to.ai.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class Event2AiBackendApplication {
 
 	public static void main(String[] args) {
@@ -3,13 +3,18 @@ package event.to.ai.backend.analysis.adapter.in.web;
 import event.to.ai.backend.analysis.adapter.in.web.dto.AnalysisRequest;
 import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
 import event.to.ai.backend.analysis.application.AnalysisApplicationService;
+import event.to.ai.backend.analysis.application.AnalysisJobService;
+import event.to.ai.backend.analysis.exception.AnalysisJobRejectedException;
 
 import java.util.List;
 import event.to.ai.backend.auth.CurrentUserIdProvider;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -23,12 +28,15 @@ import java.util.UUID;
 public class AnalysisController {
 
     private final AnalysisApplicationService analysisApplicationService;
+    private final AnalysisJobService analysisJobService;
     private final CurrentUserIdProvider currentUserIdProvider;
 
     @Autowired
     public AnalysisController(AnalysisApplicationService analysisApplicationService,
+                              AnalysisJobService analysisJobService,
                               CurrentUserIdProvider currentUserIdProvider) {
         this.analysisApplicationService = analysisApplicationService;
+        this.analysisJobService = analysisJobService;
         this.currentUserIdProvider = currentUserIdProvider;
     }
 
@@ -45,4 +53,28 @@ public class AnalysisController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // 回傳工作狀態後立即結束請求，進度與各 frame 的結果經由 Board 的 STOMP topic 送出
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitJob(@Valid @RequestBody AnalysisRequest request) {
+        try {
+            UUID currentUserId = currentUserIdProvider.getCurrentUserId();
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(analysisJobService.submit(currentUserId, request.getBoardId()));
+        } catch (AnalysisJobRejectedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable UUID jobId) {
+        try {
+            UUID currentUserId = currentUserIdProvider.getCurrentUserId();
+            return ResponseEntity.ok(analysisJobService.getJob(currentUserId, jobId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
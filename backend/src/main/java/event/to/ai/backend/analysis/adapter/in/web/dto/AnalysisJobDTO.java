@@ -0,0 +1,69 @@
+package event.to.ai.backend.analysis.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+// 非同步分析工作的狀態，groups 只在查詢已完成的工作時才有值
+public class AnalysisJobDTO {
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private UUID jobId;
+    private UUID boardId;
+    private long revision;
+    private Status status;
+    private int completedFrames;
+    private int totalFrames;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<GroupDTO> groups;
+
+    public AnalysisJobDTO(UUID jobId, UUID boardId, long revision, Status status, int completedFrames,
+                          int totalFrames, String error, List<GroupDTO> groups) {
+        this.jobId = jobId;
+        this.boardId = boardId;
+        this.revision = revision;
+        this.status = status;
+        this.completedFrames = completedFrames;
+        this.totalFrames = totalFrames;
+        this.error = error;
+        this.groups = groups;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getCompletedFrames() {
+        return completedFrames;
+    }
+
+    public int getTotalFrames() {
+        return totalFrames;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public List<GroupDTO> getGroups() {
+        return groups;
+    }
+}
@@ -0,0 +1,48 @@
+package event.to.ai.backend.analysis.adapter.in.web.dto;
+
+import java.util.UUID;
+
+// 分析工作中一個 frame 完成時送出的進度；平行分類時依完成順序送出，frameIndex 為該 frame 在結果中的位置
+public class AnalysisProgressDTO {
+
+    private UUID jobId;
+    private long revision;
+    private int frameIndex;
+    private int completedFrames;
+    private int totalFrames;
+    private GroupDTO group;
+
+    public AnalysisProgressDTO(UUID jobId, long revision, int frameIndex, int completedFrames, int totalFrames,
+                               GroupDTO group) {
+        this.jobId = jobId;
+        this.revision = revision;
+        this.frameIndex = frameIndex;
+        this.completedFrames = completedFrames;
+        this.totalFrames = totalFrames;
+        this.group = group;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public int getFrameIndex() {
+        return frameIndex;
+    }
+
+    public int getCompletedFrames() {
+        return completedFrames;
+    }
+
+    public int getTotalFrames() {
+        return totalFrames;
+    }
+
+    public GroupDTO getGroup() {
+        return group;
+    }
+}
@@ -1,7 +1,9 @@
 package event.to.ai.backend.analysis.adapter.in.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
 import event.to.ai.backend.analysis.domain.valueobject.DomainEvent;
+import event.to.ai.backend.analysis.domain.valueobject.NoteSyntaxDiagnostic;
 import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
 
 import java.util.List;
@@ -17,6 +19,12 @@ public class GroupDTO {
     private List<UsecaseInput> input;
     private List<DomainEvent> domainEvents;
     private List<AggregateWithAttribute> aggregateWithAttributes;
+    // 只有分類失敗的 frame 才有值，此時 groupId 為 frameId，其餘欄位為空
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+    // 格式錯誤而被略過的 input / attribute / aggregate 行，沒有時不輸出
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<NoteSyntaxDiagnostic> diagnostics;
 
     public GroupDTO() {
     }
@@ -92,4 +100,20 @@ public class GroupDTO {
     public void setAggregateWithAttributes(List<AggregateWithAttribute> aggregateWithAttributes) {
         this.aggregateWithAttributes = aggregateWithAttributes;
     }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public List<NoteSyntaxDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public void setDiagnostics(List<NoteSyntaxDiagnostic> diagnostics) {
+        this.diagnostics = diagnostics;
+    }
 }
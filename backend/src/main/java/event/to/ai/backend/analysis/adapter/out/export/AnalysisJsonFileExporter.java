@@ -0,0 +1,286 @@
+package event.to.ai.backend.analysis.adapter.out.export;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+import event.to.ai.backend.analysis.application.port.out.AnalysisExportPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 把分析結果寫到 {directory}/{boardTitle}_{boardId}/{useCaseName}.json (format=zip 時為 {directory}/{boardTitle}_{boardId}.zip)
+// 名稱帶上 boardId，同名的 Board 不會互相覆蓋；Board 改名後舊名稱的輸出會被移除
+// 每個 GroupDTO 以同一個 ObjectWriter 序列化進重複使用的 buffer，算出 SHA-256 後直接以 FileChannel 寫出，不另外複製
+// 內容與上次寫入相同的檔案不會重寫；重新啟動後第一次比對磁碟上的檔案內容
+// 先寫到同目錄的暫存檔、force 到磁碟後再 rename 成目標檔名，讀取端不會看到寫到一半的檔案
+// 分類失敗的 frame 不輸出，已不在結果中的 use case 檔案會被移除；只刪除這張 Board 輸出的 JSON / zip，其他檔案不動
+@Component
+public class AnalysisJsonFileExporter implements AnalysisExportPort {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisJsonFileExporter.class);
+    private static final int MAX_FILE_NAME_LENGTH = 120;
+
+    private final Path directory;
+    private final boolean zip;
+    private final ObjectWriter groupWriter;
+    private final ReusableBuffer buffer = new ReusableBuffer();
+    // 檔案路徑 -> 上次寫入內容的 SHA-256
+    private final Map<Path, String> writtenHashes = new HashMap<>();
+    private final Counter writtenFiles;
+    private final Counter skippedFiles;
+
+    @Autowired
+    public AnalysisJsonFileExporter(JsonMapper jsonMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.analysis.export.directory:ToAIJsonFile}") String directory,
+                                    @Value("${app.analysis.export.format:files}") String format) {
+        if (!format.equals("files") && !format.equals("zip")) {
+            throw new RuntimeException("Unsupported analysis export format: " + format);
+        }
+        this.directory = Path.of(directory);
+        this.zip = format.equals("zip");
+        this.groupWriter = jsonMapper.writerFor(GroupDTO.class).withDefaultPrettyPrinter();
+        this.writtenFiles = Counter.builder("board.analysis.export.files")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.skippedFiles = Counter.builder("board.analysis.export.files")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void write(UUID boardId, String boardTitle, List<GroupDTO> groups) {
+        String baseName = fileName(boardTitle, "board") + "_" + boardId;
+        try {
+            if (zip) {
+                Path target = directory.resolve(baseName + ".zip");
+                writeZip(target, groups);
+                removeRenamedExports(boardId, target);
+            } else {
+                Path boardDirectory = directory.resolve(baseName);
+                writeFiles(boardDirectory, groups);
+                removeRenamedExports(boardId, boardDirectory);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export analysis of board " + boardId, e);
+        }
+    }
+
+    private void writeFiles(Path boardDirectory, List<GroupDTO> groups) throws IOException {
+        Files.createDirectories(boardDirectory);
+        Set<Path> exported = new HashSet<>();
+        for (Map.Entry<String, GroupDTO> entry : entryNames(groups).entrySet()) {
+            Path target = boardDirectory.resolve(entry.getKey());
+            exported.add(target);
+
+            buffer.reset();
+            groupWriter.writeValue(buffer, entry.getValue());
+            String hash = sha256(buffer.view());
+            if (hash.equals(writtenHashes.computeIfAbsent(target, AnalysisJsonFileExporter::hashOfExistingFile))
+                    && Files.exists(target)) {
+                skippedFiles.increment();
+                continue;
+            }
+            writeAtomically(target, channel -> {
+                ByteBuffer content = buffer.view();
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+            });
+            writtenHashes.put(target, hash);
+            writtenFiles.increment();
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(boardDirectory, "*.json")) {
+            for (Path file : files) {
+                if (!exported.contains(file)) {
+                    Files.deleteIfExists(file);
+                    writtenHashes.remove(file);
+                }
+            }
+        }
+    }
+
+    // Board 改名後，同一個 boardId 在舊名稱下的輸出
+    // 目錄只刪除其中的 JSON，目錄裡還有其他檔案時保留目錄
+    private void removeRenamedExports(UUID boardId, Path current) throws IOException {
+        try (DirectoryStream<Path> exports = Files.newDirectoryStream(directory, "*_" + boardId + (zip ? ".zip" : ""))) {
+            for (Path previous : exports) {
+                if (previous.equals(current)) {
+                    continue;
+                }
+                if (zip) {
+                    Files.deleteIfExists(previous);
+                    writtenHashes.remove(previous);
+                } else if (Files.isDirectory(previous)) {
+                    try (DirectoryStream<Path> files = Files.newDirectoryStream(previous, "*.json")) {
+                        for (Path file : files) {
+                            Files.deleteIfExists(file);
+                            writtenHashes.remove(file);
+                        }
+                    }
+                    try {
+                        Files.deleteIfExists(previous);
+                    } catch (DirectoryNotEmptyException e) {
+                        log.debug("Keeping {} because it contains files not written by the exporter", previous);
+                    }
+                }
+            }
+        }
+    }
+
+    // zip 內的 entry 時間戳記每次都不同，無法比對磁碟上的檔案，只比對各 entry 名稱與內容合起來的 hash
+    private void writeZip(Path target, List<GroupDTO> groups) throws IOException {
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        MessageDigest digest = sha256();
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (Map.Entry<String, GroupDTO> entry : entryNames(groups).entrySet()) {
+            buffer.reset();
+            groupWriter.writeValue(buffer, entry.getValue());
+            byte[] content = buffer.toByteArray();
+            digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(content);
+            entries.put(entry.getKey(), content);
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        if (hash.equals(writtenHashes.get(target)) && Files.exists(target)) {
+            skippedFiles.increment();
+            return;
+        }
+        writeAtomically(target, channel -> {
+            ZipOutputStream zipStream = new ZipOutputStream(Channels.newOutputStream(channel));
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zipStream.putNextEntry(new ZipEntry(entry.getKey()));
+                zipStream.write(entry.getValue());
+                zipStream.closeEntry();
+            }
+            zipStream.finish();
+            zipStream.flush();
+        });
+        writtenHashes.put(target, hash);
+        writtenFiles.increment();
+    }
+
+    // 以 use case 名稱命名，重複的名稱依序加上 _2、_3…，順序與分析結果相同
+    private static Map<String, GroupDTO> entryNames(List<GroupDTO> groups) {
+        Map<String, GroupDTO> entries = new LinkedHashMap<>();
+        Map<String, Integer> seen = new HashMap<>();
+        for (GroupDTO group : groups) {
+            if (group.getError() != null) {
+                continue;
+            }
+            String base = fileName(group.getUseCaseName(), "use_case");
+            int count = seen.merge(base, 1, Integer::sum);
+            entries.put((count == 1 ? base : base + "_" + count) + ".json", group);
+        }
+        return entries;
+    }
+
+    private static void writeAtomically(Path target, ChannelWriter writer) throws IOException {
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), "." + target.getFileName(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.writeTo(channel);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // 與前端下載時相同的規則：去掉路徑與控制字元、空白改為底線
+    static String fileName(String value, String fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        String normalized = value.trim()
+                .replaceAll("[<>:\"/\\\\|?*\\x00-\\x1F]", "_")
+                .replaceAll("\\s+", "_");
+        if (normalized.length() > MAX_FILE_NAME_LENGTH) {
+            normalized = normalized.substring(0, MAX_FILE_NAME_LENGTH);
+        }
+        // "." 與 ".." 會指到上層目錄
+        return normalized.isEmpty() || normalized.matches("\\.+") ? fallback : normalized;
+    }
+
+    private static String hashOfExistingFile(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return sha256(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (IOException e) {
+            log.debug("Cannot read previously exported file {}", file, e);
+            return null;
+        }
+    }
+
+    private static String sha256(ByteBuffer content) {
+        MessageDigest digest = sha256();
+        digest.update(content);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
+    // 直接以 ByteBuffer 讀取內部陣列，序列化結果不必再複製一次
+    private static final class ReusableBuffer extends ByteArrayOutputStream {
+
+        private ReusableBuffer() {
+            super(8192);
+        }
+
+        private ByteBuffer view() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
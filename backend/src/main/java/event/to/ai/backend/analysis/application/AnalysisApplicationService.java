@@ -1,45 +1,145 @@
 package event.to.ai.backend.analysis.application;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
-import event.to.ai.backend.analysis.application.port.out.BoardMembershipRepositoryPort;
 import event.to.ai.backend.analysis.application.port.out.FrameRepositoryPort;
 import event.to.ai.backend.analysis.application.port.out.StickyNoteRepositoryPort;
 import event.to.ai.backend.analysis.application.port.out.TextBoxRepositoryPort;
 import event.to.ai.backend.analysis.domain.Group;
 import event.to.ai.backend.analysis.domain.StickyNote;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
 import event.to.ai.backend.textbox.adapter.out.persistence.entity.TextBoxes;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.awt.geom.Point2D;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
+// 分析結果以 (boardId, revision) 快取
+// 任何元件異動都會遞增 Board 的 revision，revision 沒變就代表 Board 內容沒變，可以直接回傳上次的結果
+// 舊 revision 的結果不會再被讀到，交給 maximum-size 與 TTL 淘汰；含有分類失敗 frame 的結果不快取，下次請求會重試
+// revision 變了仍需重新計算時，每個 frame 的分類結果再以 (frameId, frame 內容的 hash) 快取，只有內容變動的 frame 會重新分類
+// frame 數達到 parallel.threshold 時，各 frame 改在 virtual thread 上平行分類，結果仍依 frame 順序排列
+// 重新計算出的結果交給 AnalysisExportService 在背景寫成 JSON 檔案
 @Service
 public class AnalysisApplicationService {
 
+    static final String CACHE_NAME = "boardAnalysis";
+    static final String FRAME_CACHE_NAME = "frameAnalysis";
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisApplicationService.class);
+
     private final StickyNoteRepositoryPort stickyNoteRepositoryPort;
     private final TextBoxRepositoryPort textBoxRepositoryPort;
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final FrameRepositoryPort frameRepositoryPort;
+    private final BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+    private final AnalysisExportService analysisExportService;
+    private final Cache<AnalysisKey, List<GroupDTO>> results;
+    private final Cache<FrameKey, GroupDTO> frameResults;
+    private final Timer computeTimer;
+    private final int parallelThreshold;
+    private final int maxConcurrency;
 
+    // 命中率以 cache.gets{cache=boardAnalysis|frameAnalysis,result=hit|miss}、計算時間以 board.analysis.compute 出現在 /actuator/metrics
     @Autowired
     public AnalysisApplicationService(StickyNoteRepositoryPort stickyNoteRepositoryPort,
                                       TextBoxRepositoryPort textBoxRepositoryPort,
-                                      BoardMembershipRepositoryPort boardMembershipRepositoryPort,
-                                      FrameRepositoryPort frameRepositoryPort) {
+                                      BoardAccessService boardAccessService,
+                                      FrameRepositoryPort frameRepositoryPort,
+                                      BoardRevisionRepositoryPort boardRevisionRepositoryPort,
+                                      AnalysisExportService analysisExportService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.analysis.cache.ttl-seconds:600}") long ttlSeconds,
+                                      @Value("${app.analysis.cache.maximum-size:1000}") long maximumSize,
+                                      @Value("${app.analysis.frame-cache.maximum-size:20000}") long frameMaximumSize,
+                                      @Value("${app.analysis.parallel.threshold:8}") int parallelThreshold,
+                                      @Value("${app.analysis.parallel.max-concurrency:0}") int maxConcurrency) {
         this.stickyNoteRepositoryPort = stickyNoteRepositoryPort;
         this.textBoxRepositoryPort = textBoxRepositoryPort;
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.frameRepositoryPort = frameRepositoryPort;
+        this.boardRevisionRepositoryPort = boardRevisionRepositoryPort;
+        this.analysisExportService = analysisExportService;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.frameResults = Caffeine.newBuilder()
+                .maximumSize(frameMaximumSize)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.computeTimer = Timer.builder("board.analysis.compute")
+                .description("Time spent analysing a board on a cache miss")
+                .register(meterRegistry);
+        // 分類是純 CPU 運算，同時分類的 frame 數預設不超過 CPU 核心數
+        this.parallelThreshold = parallelThreshold;
+        this.maxConcurrency = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, frameResults, FRAME_CACHE_NAME);
     }
 
+    // 先讀 revision 再讀元件：讀到的元件至少包含該 revision 以前的所有異動
+    // 若同時有新的寫入提交，結果會比 revision 新，但那時 Board 的 revision 已經更大，這筆快取不會再被命中
+    // 回傳的 List 與其中的 GroupDTO 由所有命中的請求共用，呼叫端不可修改
     public List<GroupDTO> analyse(UUID actorUserId, UUID boardId) {
-        requireReadPermission(boardId, actorUserId);
+        return analyse(boardId, readRevision(actorUserId, boardId), AnalysisProgressListener.NONE);
+    }
+
+    // 檢查讀取權限並回傳 Board 目前的 revision，非同步分析在提交時先以此決定要分析的版本
+    public long readRevision(UUID actorUserId, UUID boardId) {
+        boardAccessService.requireReadPermission(boardId, actorUserId);
+
+        return boardRevisionRepositoryPort.findRevision(boardId)
+                .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
+    }
+
+    // 呼叫端已檢查過權限；計算中的每個 frame 完成時通知 listener，結果來自快取時依 frame 順序重播
+    public List<GroupDTO> analyse(UUID boardId, long revision, AnalysisProgressListener listener) {
+        // 同一個 key 同時只會有一個請求在計算，其他請求等待同一份結果
+        boolean[] computed = new boolean[1];
+        AnalysisKey analysisKey = new AnalysisKey(boardId, revision);
+        List<GroupDTO> groups = results.get(analysisKey, key -> {
+            computed[0] = true;
+            return computeTimer.record(() -> compute(boardId, listener));
+        });
+        if (computed[0] && groups.stream().anyMatch(group -> group.getError() != null)) {
+            // 失敗多半是暫時的 (例如便利貼還沒補齊)，不讓同一個 revision 的後續請求一直拿到失敗結果
+            results.asMap().remove(analysisKey, groups);
+        }
+        if (computed[0]) {
+            // 只有重新計算時才可能有新內容需要寫出檔案
+            analysisExportService.exportAsync(boardId, revision, groups);
+        } else {
+            listener.started(groups.size());
+            for (int i = 0; i < groups.size(); i++) {
+                listener.frameAnalysed(i, groups.get(i));
+            }
+        }
+        return groups;
+    }
 
+    private List<GroupDTO> compute(UUID boardId, AnalysisProgressListener listener) {
         List<StickyNote> allDomainNotes = new ArrayList<>();
 
         // 將指定 Board 上的 StickyNote 從 DB 中撈出來，加進 allDomainNotes
@@ -63,13 +163,87 @@ public class AnalysisApplicationService {
         ClusterByFrameIdUseCase clusterUseCase = new ClusterByFrameIdUseCase();
         clusterUseCase.cluster(allDomainNotes);
 
-        // 丟進 ClassifyStickNotesUseCase 中進行分類
-        ClassifyStickNotesUseCase classifyUseCase = new ClassifyStickNotesUseCase();
-        classifyUseCase.classify(clusterUseCase.getAllGroups(), frameSizes);
+        // 逐個 frame 丟進 ClassifyStickNotesUseCase 分類，內容沒變的 frame 直接沿用上次的結果
+        // frame 少的 Board 留在呼叫端的執行緒上，省下建立執行緒與同步的成本
+        List<List<StickyNote>> frames = clusterUseCase.getAllGroups();
+        listener.started(frames.size());
+        if (parallelThreshold > 0 && frames.size() >= parallelThreshold) {
+            return classifyInParallel(frames, frameSizes, listener);
+        }
+        List<GroupDTO> groups = new ArrayList<>(frames.size());
+        for (int i = 0; i < frames.size(); i++) {
+            GroupDTO group = classifyFrame(frames.get(i), frameSizes);
+            groups.add(group);
+            listener.frameAnalysed(i, group);
+        }
+        return List.copyOf(groups);
+    }
+
+    // 每個 frame 一條 virtual thread，以 Semaphore 限制同時分類的 frame 數
+    // 依 frame 原本的順序等待結果，回傳順序與逐一分類相同；listener 則在各 frame 完成時立即收到通知
+    private List<GroupDTO> classifyInParallel(List<List<StickyNote>> frames, Map<String, Point2D> frameSizes,
+                                              AnalysisProgressListener listener) {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<GroupDTO>> futures = new ArrayList<>(frames.size());
+            for (int i = 0; i < frames.size(); i++) {
+                int frameIndex = i;
+                List<StickyNote> frameNotes = frames.get(i);
+                futures.add(executor.submit(() -> {
+                    GroupDTO group;
+                    permits.acquire();
+                    try {
+                        group = classifyFrame(frameNotes, frameSizes);
+                    } finally {
+                        permits.release();
+                    }
+                    listener.frameAnalysed(frameIndex, group);
+                    return group;
+                }));
+            }
+
+            List<GroupDTO> groups = new ArrayList<>(frames.size());
+            try {
+                for (Future<GroupDTO> future : futures) {
+                    groups.add(join(future));
+                }
+            } catch (RuntimeException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+            return List.copyOf(groups);
+        }
+    }
 
-        return classifyUseCase.getGroups().stream()
-                .map(this::toGroupDTO)
-                .collect(Collectors.toList());
+    // 單一 frame 分類失敗 (例如缺少 use case 或 input 便利貼) 不會中斷整個分析
+    // 失敗的 frame 以只有 groupId (frameId) 與 error 的 GroupDTO 留在原本的位置，且不寫入 frame 快取
+    private GroupDTO classifyFrame(List<StickyNote> frameNotes, Map<String, Point2D> frameSizes) {
+        String frameId = frameNotes.getFirst().getFrameId();
+        FrameKey key = new FrameKey(frameId, FrameContentHash.of(frameNotes, frameSizes.get(frameId)));
+        try {
+            return frameResults.get(key, k -> toGroupDTO(new ClassifyStickNotesUseCase().classifyFrame(frameNotes, frameSizes)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to analyse frame {}: {}", frameId, e.toString());
+            GroupDTO failed = new GroupDTO();
+            failed.setGroupId(frameId);
+            failed.setError("Failed to analyse frame " + frameId + ": "
+                    + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+            return failed;
+        }
+    }
+
+    private <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while analysing board", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
     }
 
     private StickyNote toDomainStickyNote(
@@ -110,12 +284,13 @@ public class AnalysisApplicationService {
         dto.setInput(group.getInput());
         dto.setDomainEvents(group.getPublishEvents());
         dto.setAggregateWithAttributes(group.getAggregateWithAttributes());
+        dto.setDiagnostics(group.getDiagnostics());
         return dto;
     }
 
-    private void requireReadPermission(UUID boardId, UUID actorUserId) {
-        boardMembershipRepositoryPort
-                .findByBoardIdAndUserId(boardId, actorUserId)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this board"));
+    private record AnalysisKey(UUID boardId, long revision) {
+    }
+
+    private record FrameKey(String frameId, String contentHash) {
     }
 }
@@ -0,0 +1,99 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+import event.to.ai.backend.analysis.application.port.out.AnalysisExportPort;
+import event.to.ai.backend.analysis.application.port.out.BoardRepositoryPort;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+// 分析結果重新計算後，在單一背景執行緒上寫出檔案，不佔用請求或分析工作的執行緒
+// 同一張 Board 尚未寫出的結果只保留 revision 最新的一份；比已寫出的 revision 舊的結果直接略過
+@Service
+public class AnalysisExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisExportService.class);
+
+    private final AnalysisExportPort analysisExportPort;
+    private final BoardRepositoryPort boardRepositoryPort;
+    private final boolean enabled;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("analysis-export").factory());
+
+    // boardId -> 等待寫出的結果
+    private final ConcurrentHashMap<UUID, PendingExport> pendingExports = new ConcurrentHashMap<>();
+    // boardId -> 已寫出的 revision，只在 export 執行緒上存取
+    private final ConcurrentHashMap<UUID, Long> exportedRevisions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AnalysisExportService(AnalysisExportPort analysisExportPort,
+                                 BoardRepositoryPort boardRepositoryPort,
+                                 @Value("${app.analysis.export.enabled:true}") boolean enabled) {
+        this.analysisExportPort = analysisExportPort;
+        this.boardRepositoryPort = boardRepositoryPort;
+        this.enabled = enabled;
+    }
+
+    public void exportAsync(UUID boardId, long revision, List<GroupDTO> groups) {
+        if (!enabled) {
+            return;
+        }
+        PendingExport export = new PendingExport(revision, groups);
+        boolean[] scheduled = new boolean[1];
+        pendingExports.compute(boardId, (key, pending) -> {
+            if (pending == null) {
+                scheduled[0] = true;
+                return export;
+            }
+            return pending.revision() >= revision ? pending : export;
+        });
+        if (!scheduled[0]) {
+            return;
+        }
+        try {
+            executor.execute(() -> export(boardId));
+        } catch (RejectedExecutionException e) {
+            pendingExports.remove(boardId);
+            log.warn("Export of board {} skipped: exporter is shut down", boardId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 已排入的寫出仍會完成
+        executor.shutdown();
+    }
+
+    private void export(UUID boardId) {
+        PendingExport export = pendingExports.remove(boardId);
+        if (export == null || export.revision() <= exportedRevisions.getOrDefault(boardId, Long.MIN_VALUE)) {
+            return;
+        }
+        try {
+            Optional<Board> board = boardRepositoryPort.findById(boardId);
+            if (board.isEmpty()) {
+                exportedRevisions.remove(boardId);
+                return;
+            }
+            analysisExportPort.write(boardId, board.get().getTitle(), export.groups());
+            exportedRevisions.put(boardId, export.revision());
+        } catch (RuntimeException e) {
+            log.warn("Failed to export analysis of board {} at revision {}", boardId, export.revision(), e);
+        }
+    }
+
+    private record PendingExport(long revision, List<GroupDTO> groups) {
+    }
+}
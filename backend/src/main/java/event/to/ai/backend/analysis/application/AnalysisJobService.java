@@ -0,0 +1,213 @@
+package event.to.ai.backend.analysis.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import event.to.ai.backend.analysis.adapter.in.web.dto.AnalysisJobDTO;
+import event.to.ai.backend.analysis.adapter.in.web.dto.AnalysisProgressDTO;
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+import event.to.ai.backend.analysis.exception.AnalysisJobRejectedException;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.websocket.BoardRealtimeEventType;
+import event.to.ai.backend.websocket.BoardRealtimePublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 非同步分析工作：提交時只檢查權限並讀取 revision，分析在固定大小的執行緒池上進行，不佔用 Tomcat 的請求執行緒
+// 每張 Board 最多一個等待中的工作：revision 較新的提交直接把等待中的工作改成分析新的 revision，不另外排隊
+// 已在執行且 revision 相同 (或較新) 的工作則直接加入
+// 等待中的工作 (即有等待工作的 Board 數) 超過 queue-capacity 時拒絕新的提交 (AnalysisJobRejectedException)
+// 每個 frame 完成時以 analysis.progress 將部分結果送到 Board 的 topic，結束時送出 analysis.completed / analysis.failed
+// 工作結束後仍保留 retention-seconds 供 GET /api/analysis/jobs/{jobId} 取回結果
+@Service
+public class AnalysisJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisJobService.class);
+
+    private final AnalysisApplicationService analysisApplicationService;
+    private final BoardAccessService boardAccessService;
+    private final BoardRealtimePublisher boardRealtimePublisher;
+    private final ThreadPoolExecutor executor;
+    // boardId -> 這張 Board 等待中與最後開始執行的工作
+    private final ConcurrentHashMap<UUID, BoardJobs> activeJobs = new ConcurrentHashMap<>();
+    private final Cache<UUID, AnalysisJob> jobsById;
+
+    @Autowired
+    public AnalysisJobService(AnalysisApplicationService analysisApplicationService,
+                              BoardAccessService boardAccessService,
+                              BoardRealtimePublisher boardRealtimePublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.analysis.jobs.concurrency:2}") int concurrency,
+                              @Value("${app.analysis.jobs.queue-capacity:20}") int queueCapacity,
+                              @Value("${app.analysis.jobs.retention-seconds:600}") long retentionSeconds) {
+        this.analysisApplicationService = analysisApplicationService;
+        this.boardAccessService = boardAccessService;
+        this.boardRealtimePublisher = boardRealtimePublisher;
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("analysis-job-", 0).factory());
+        this.jobsById = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(retentionSeconds))
+                .build();
+        Gauge.builder("board.analysis.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Analysis jobs currently running")
+                .register(meterRegistry);
+        Gauge.builder("board.analysis.jobs.queued", executor, pool -> pool.getQueue().size())
+                .description("Analysis jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    public AnalysisJobDTO submit(UUID actorUserId, UUID boardId) {
+        long revision = analysisApplicationService.readRevision(actorUserId, boardId);
+
+        // compute 對同一張 Board 是原子的，與 run 取出等待中的工作互斥，revision 只會在工作開始前被改掉
+        AtomicReference<AnalysisJob> submitted = new AtomicReference<>();
+        activeJobs.compute(boardId, (key, jobs) -> {
+            BoardJobs current = jobs != null ? jobs : new BoardJobs();
+            AnalysisJob queued = current.queued;
+            if (queued != null) {
+                // 還沒開始的舊 revision 不必再算，先前加入的使用者一併拿到新 revision 的結果
+                if (revision > queued.revision) {
+                    queued.revision = revision;
+                }
+                submitted.set(queued);
+                return current;
+            }
+            AnalysisJob running = current.running;
+            if (running != null && revision <= running.revision) {
+                submitted.set(running);
+                return current;
+            }
+
+            AnalysisJob created = new AnalysisJob(UUID.randomUUID(), boardId, revision);
+            jobsById.put(created.id, created);
+            try {
+                executor.execute(() -> run(boardId, created));
+            } catch (RejectedExecutionException e) {
+                jobsById.invalidate(created.id);
+                return jobs;
+            }
+            current.queued = created;
+            submitted.set(created);
+            return current;
+        });
+        AnalysisJob job = submitted.get();
+        if (job == null) {
+            log.warn("Rejected analysis of board {} at revision {}: queue is full", boardId, revision);
+            throw new AnalysisJobRejectedException();
+        }
+        return job.toDTO(false);
+    }
+
+    public AnalysisJobDTO getJob(UUID actorUserId, UUID jobId) {
+        AnalysisJob job = jobsById.getIfPresent(jobId);
+        if (job == null) {
+            throw new RuntimeException("Analysis job not found with id: " + jobId);
+        }
+        boardAccessService.requireReadPermission(job.boardId, actorUserId);
+        return job.toDTO(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(UUID boardId, AnalysisJob job) {
+        activeJobs.computeIfPresent(boardId, (key, jobs) -> {
+            if (jobs.queued == job) {
+                jobs.queued = null;
+            }
+            jobs.running = job;
+            return jobs;
+        });
+        job.status = AnalysisJobDTO.Status.RUNNING;
+        try {
+            List<GroupDTO> groups = analysisApplicationService.analyse(job.boardId, job.revision, new AnalysisProgressListener() {
+                @Override
+                public void started(int totalFrames) {
+                    job.totalFrames = totalFrames;
+                }
+
+                @Override
+                public void frameAnalysed(int frameIndex, GroupDTO group) {
+                    int completed = job.completedFrames.incrementAndGet();
+                    publish(BoardRealtimeEventType.ANALYSIS_PROGRESS, job.boardId,
+                            new AnalysisProgressDTO(job.id, job.revision, frameIndex, completed, job.totalFrames, group));
+                }
+            });
+            job.groups = groups;
+            job.status = AnalysisJobDTO.Status.COMPLETED;
+            publish(BoardRealtimeEventType.ANALYSIS_COMPLETED, job.boardId, job.toDTO(false));
+        } catch (RuntimeException e) {
+            log.warn("Analysis job {} for board {} failed", job.id, job.boardId, e);
+            job.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.status = AnalysisJobDTO.Status.FAILED;
+            publish(BoardRealtimeEventType.ANALYSIS_FAILED, job.boardId, job.toDTO(false));
+        } finally {
+            activeJobs.computeIfPresent(boardId, (key, jobs) -> {
+                if (jobs.running == job) {
+                    jobs.running = null;
+                }
+                return jobs.queued == null && jobs.running == null ? null : jobs;
+            });
+            // 從結束時起算保留時間
+            jobsById.put(job.id, job);
+        }
+    }
+
+    // 工作由所有加入的使用者共用，不帶 userId，前端才不會把自己提交的工作當成自己的異動而略過
+    private void publish(BoardRealtimeEventType type, UUID boardId, Object payload) {
+        try {
+            boardRealtimePublisher.publish(type, null, boardId, payload);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} for board {}", type, boardId, e);
+        }
+    }
+
+    // 只在 activeJobs 的 compute 內讀寫
+    private static final class BoardJobs {
+
+        private AnalysisJob queued;
+        private AnalysisJob running;
+    }
+
+    private static final class AnalysisJob {
+
+        private final UUID id;
+        private final UUID boardId;
+        // 開始執行前可能被較新的提交改掉
+        private volatile long revision;
+        private final AtomicInteger completedFrames = new AtomicInteger();
+        private volatile int totalFrames;
+        private volatile AnalysisJobDTO.Status status = AnalysisJobDTO.Status.QUEUED;
+        private volatile List<GroupDTO> groups;
+        private volatile String error;
+
+        private AnalysisJob(UUID id, UUID boardId, long revision) {
+            this.id = id;
+            this.boardId = boardId;
+            this.revision = revision;
+        }
+
+        private AnalysisJobDTO toDTO(boolean includeGroups) {
+            return new AnalysisJobDTO(id, boardId, revision, status, completedFrames.get(), totalFrames, error,
+                    includeGroups ? groups : null);
+        }
+    }
+}
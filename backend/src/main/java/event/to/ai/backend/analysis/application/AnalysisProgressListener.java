@@ -0,0 +1,17 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+
+// 分析進度的回呼；平行分類時 frameAnalysed 會在不同執行緒上、依完成順序被呼叫，實作必須是 thread-safe
+// 結果直接取自快取時，會依 frame 順序重播一次
+public interface AnalysisProgressListener {
+
+    AnalysisProgressListener NONE = new AnalysisProgressListener() {
+    };
+
+    default void started(int totalFrames) {
+    }
+
+    default void frameAnalysed(int frameIndex, GroupDTO group) {
+    }
+}
@@ -1,11 +1,12 @@
 package event.to.ai.backend.analysis.application;
 
 import event.to.ai.backend.analysis.domain.Group;
+import event.to.ai.backend.analysis.domain.NoteRole;
 import event.to.ai.backend.analysis.domain.StickyNote;
 import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
 import event.to.ai.backend.analysis.domain.valueobject.Attribute;
 import event.to.ai.backend.analysis.domain.valueobject.DomainEvent;
-import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
+import event.to.ai.backend.analysis.domain.valueobject.NoteSyntaxDiagnostic;
 
 import java.awt.geom.Point2D;
 import java.util.*;
@@ -27,6 +28,11 @@ public class ClassifyStickNotesUseCase {
         }
     }
 
+    // 只分類單一 frame 內的便利貼，結果只與這些便利貼 (含順序) 及 frame 大小有關，不會加進 groups
+    public Group classifyFrame(List<StickyNote> stickyNotes, Map<String, Point2D> frameSizes) {
+        return classifyGroup(stickyNotes, frameSizes);
+    }
+
     private Group classifyGroup(List<StickyNote> stickyNotes, Map<String, Point2D> frameSizes) {
         Group group = new Group();
 
@@ -35,156 +41,83 @@ public class ClassifyStickNotesUseCase {
         Point2D frameSize = (frameId != null) ? frameSizes.getOrDefault(frameId, new Point2D.Double()) : new Point2D.Double();
         group.setEventStormingGeo(frameSize);
 
+        // 只掃描一次，依顏色把便利貼分到各角色，每個角色內維持原本的順序
+        EnumMap<NoteRole, List<StickyNote>> byRole = bucketByRole(stickyNotes);
+
         // Process UseCase
-        StickyNote useCase_stickyNote = findByType("use_case", stickyNotes).getFirst();
+        StickyNote useCase_stickyNote = byRole.get(NoteRole.USE_CASE).getFirst();
         group.setGroupId(useCase_stickyNote.getId());
         group.setUseCaseName(useCase_stickyNote.getDescription().replace("\n", ""));
         // set the position of useCase
         group.setUseCasePos(useCase_stickyNote.getPos());
 
+        // 格式錯誤的 input / attribute / aggregate 行略過並記錄在 diagnostics，不中斷整個 frame 的分類
+        List<NoteSyntaxDiagnostic> diagnostics = new ArrayList<>();
+
         // Process input
-        StickyNote input_stickyNote = findByType("input", stickyNotes).getFirst();
-        List<String> inputsWithType = Arrays.asList(input_stickyNote.getDescription().replace(",", "").split("\\n"));
-        List<UsecaseInput> input = new ArrayList<>();
-        for (String inputWithType : inputsWithType) {
-            List<String> nameAndType = Arrays.asList(inputWithType.split(" "));
-            UsecaseInput usecaseInput = new UsecaseInput(nameAndType.get(1), nameAndType.get(0));
-            input.add(usecaseInput);
-        }
-        group.setInput(input);
+        StickyNote input_stickyNote = byRole.get(NoteRole.INPUT).getFirst();
+        group.setInput(NoteSyntaxParser.parseInputs(input_stickyNote, diagnostics));
 
         // Process aggregate name
-        StickyNote aggregateName_stickyNote = findByType("aggregate_name", stickyNotes).getFirst();
+        StickyNote aggregateName_stickyNote = byRole.get(NoteRole.AGGREGATE_NAME).getFirst();
         group.setAggregateName(aggregateName_stickyNote.getDescription().replace("\n", ""));
 
         // Process actor's name
-        List<StickyNote> userName_stickyNotes = findByType("actor_name", stickyNotes);
-        group.setActor(replaceActorNames(userName_stickyNotes));
+        group.setActor(replaceActorNames(byRole.get(NoteRole.ACTOR)));
 
         // Process comments
-        List<StickyNote> comment_stickyNotes = findByType("comment", stickyNotes);
-        List<String> commentDescriptions = comment_stickyNotes.stream()
+        List<String> commentDescriptions = byRole.get(NoteRole.COMMENT).stream()
                 .map(StickyNote::getDescription) // every integer change to String
                 .collect(Collectors.toList());
         group.setComment(commentDescriptions);
 
         // Process "DomainEvnets" =>  Event Name + Notifier + Behavior + Attributes
-        List<StickyNote> aboutDomainEventStickyNotes = findByType("domain_event", stickyNotes);
-        List<DomainEvent> domainEvents = StickyNoteToDomainEvent(aboutDomainEventStickyNotes);
+        List<DomainEvent> domainEvents = StickyNoteToDomainEvent(byRole.get(NoteRole.DOMAIN_EVENT),
+                byRole.get(NoteRole.REACTOR), byRole.get(NoteRole.POLICY), byRole.get(NoteRole.EVENT_ATTRIBUTE), diagnostics);
         group.setDomainEvents(domainEvents);
 
         // Process "AggregateWithAttributes" =>  name, [{name1, type1, constraint1}, {name2, type2, constraint2}, ...]
-        List<StickyNote> aboutAggregateWithAttributesStickyNotes = findByType("aggregate_with_attribute", stickyNotes);
-        List<AggregateWithAttribute> aggregateWithAttributes = StickyNoteToAggregateWithAttribute(aboutAggregateWithAttributesStickyNotes);
+        List<AggregateWithAttribute> aggregateWithAttributes =
+                StickyNoteToAggregateWithAttribute(byRole.get(NoteRole.AGGREGATE_WITH_ATTRIBUTE), diagnostics);
         group.setAggregateWithAttributes(aggregateWithAttributes);
 
         // Process "method"
-        if (!findByType("method", stickyNotes).isEmpty()) {
-            StickyNote method_stickyNote = findByType("method", stickyNotes).getFirst();
+        List<StickyNote> method_stickyNotes = byRole.get(NoteRole.METHOD);
+        if (!method_stickyNotes.isEmpty()) {
+            StickyNote method_stickyNote = method_stickyNotes.getFirst();
             group.setMethod(aggregateName_stickyNote.getDescription().replace("\n", "") + " " + method_stickyNote.getDescription().replace("\n", ""));
         }
         else {
             group.setMethod("");
         }
-
+        group.setDiagnostics(diagnostics);
 
         return group;
     }
 
-    private List<StickyNote> findByType(String type, List<StickyNote> stickyNotes) {
-        List<StickyNote> result = new ArrayList<>();
-        switch (type) {
-            case "use_case":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("blue")) {
-                        result.add(stickyNote);
-                        break;
-                    }
-                }
-                break;
-            case "input":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("green")) {
-                        result.add(stickyNote);
-                        break;
-                    }
-                }
-                break;
-            case "aggregate_name":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("light_yellow")) {
-                        result.add(stickyNote);
-                        break;
-                    }
-                }
-                break;
-            case "actor_name":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("yellow")) {
-                        result.add(stickyNote);
-//                        break;
-                    }
-                }
-                break;
-            case "comment":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("gray")) {
-                        result.add(stickyNote);
-                    }
-                }
-                break;
-            case "domain_event":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("orange") ||
-                            stickyNote.getColor().equals("light_blue") ||
-                            stickyNote.getColor().equals("violet") ||
-                            stickyNote.getColor().equals("light_green")) {
-                        result.add(stickyNote);
-                    }
-                }
-                break;
-            case "aggregate_with_attribute":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("dark_green")) {
-                        result.add(stickyNote);
-                    }
-                }
-                break;
-            case "method":
-                for (StickyNote stickyNote : stickyNotes) {
-                    if (stickyNote.getColor().equals("pink")) {
-                        result.add(stickyNote);
-                    }
-                }
-                break;
+    // 每個角色都有一個 (可能是空的) List，沒有對應角色的顏色直接略過
+    private EnumMap<NoteRole, List<StickyNote>> bucketByRole(List<StickyNote> stickyNotes) {
+        EnumMap<NoteRole, List<StickyNote>> byRole = new EnumMap<>(NoteRole.class);
+        for (NoteRole role : NoteRole.values()) {
+            byRole.put(role, new ArrayList<>());
         }
-        return result;
-    }
-
-    private List<DomainEvent> StickyNoteToDomainEvent(List<StickyNote> stickyNotes) {
-        List<StickyNote> eventNames = new ArrayList<>();
-        List<StickyNote> reactors = new ArrayList<>();
-        List<StickyNote> policies = new ArrayList<>();
-        List<StickyNote> attributes = new ArrayList<>();
-        List<DomainEvent> result = new ArrayList<>();
-
         for (StickyNote stickyNote : stickyNotes) {
-            switch (stickyNote.getColor()) {
-                case "orange":
-                    eventNames.add(stickyNote);
-                    break;
-                case "light_blue":
-                    reactors.add(stickyNote);
-                    break;
-                case "violet":
-                    policies.add(stickyNote);
-                    break;
-                case "light_green":
-                    attributes.add(stickyNote);
-                    break;
+            NoteRole role = NoteRole.fromColor(stickyNote.getColor());
+            if (role != null) {
+                byRole.get(role).add(stickyNote);
             }
         }
+        return byRole;
+    }
 
+    private List<DomainEvent> StickyNoteToDomainEvent(List<StickyNote> eventNames, List<StickyNote> reactors,
+                                                      List<StickyNote> policies, List<StickyNote> attributes,
+                                                      List<NoteSyntaxDiagnostic> diagnostics) {
+        List<DomainEvent> result = new ArrayList<>();
+        // 每個事件只檢查 Y 座標落在 0.7 倍 threshold 範圍內的候選者，不再與整個 frame 的便利貼逐一比對
+        NoteYIndex attributeIndex = new NoteYIndex(attributes);
+        NoteYIndex reactorIndex = new NoteYIndex(reactors);
+        NoteYIndex policyIndex = new NoteYIndex(policies);
 
         for (int i = 0; i < eventNames.size(); i++) {
             StickyNote eventName = eventNames.get(i);
@@ -194,7 +127,8 @@ public class ClassifyStickNotesUseCase {
             List<StickyNote> thisEventsReactors = new ArrayList<>();
             List<StickyNote> thisEventsPolicies = new ArrayList<>();
             // -----------attribute------------
-            for (StickyNote attribute : attributes){
+            for (int candidate : attributeIndex.near(eventName, multiple_Y)) {
+                StickyNote attribute = attributes.get(candidate);
                 double threshold = max(max(eventName.getGeo().getX(), eventName.getGeo().getY()), max(attribute.getGeo().getX(), attribute.getGeo().getY()));
                 double dy = abs(attribute.getPos().getY() - eventName.getPos().getY());
                 double dx = abs(attribute.getPos().getX() - eventName.getPos().getX());
@@ -208,7 +142,8 @@ public class ClassifyStickNotesUseCase {
             // ---------------------------------
             // Take out the reactors and policies that belong to this eventName and then
             // put them separately into thisEventsReactors and thisEventsPolicies
-            for (StickyNote reactor : reactors) {
+            for (int candidate : reactorIndex.near(eventName, multiple_Y)) {
+                StickyNote reactor = reactors.get(candidate);
                 double threshold = max(max(eventName.getGeo().getX(), eventName.getGeo().getY()), max(reactor.getGeo().getX(), reactor.getGeo().getY()));
                 double dy = abs(reactor.getPos().getY() - eventName.getPos().getY());
                 // dy < 0.7 * geo.y    and     reactor.y <= eventName.y
@@ -217,7 +152,8 @@ public class ClassifyStickNotesUseCase {
                     thisEventsReactors.add(reactor);
                 }
             }
-            for (StickyNote policy : policies) {
+            for (int candidate : policyIndex.near(eventName, multiple_Y)) {
+                StickyNote policy = policies.get(candidate);
                 double threshold = max(max(eventName.getGeo().getX(), eventName.getGeo().getY()), max(policy.getGeo().getX(), policy.getGeo().getY()));
                 double dy = abs(policy.getPos().getY() - eventName.getPos().getY());
                 // distance < 0.7 * geo.y    and     policy.y >= eventName.y
@@ -231,7 +167,7 @@ public class ClassifyStickNotesUseCase {
             List<Attribute> attrs = new ArrayList<>();
             if (thisEventsAttribute != null) {
                 // 安全使用
-                attrs = StickyNoteToAttribute(thisEventsAttribute);
+                attrs = NoteSyntaxParser.parseAttributes(thisEventsAttribute, diagnostics);
             }
 
             if (thisEventsReactors.isEmpty() && thisEventsPolicies.isEmpty()) {
@@ -264,13 +200,10 @@ public class ClassifyStickNotesUseCase {
         return result;
     }
 
-    private List<AggregateWithAttribute> StickyNoteToAggregateWithAttribute(List<StickyNote> stickyNotes) {
+    private List<AggregateWithAttribute> StickyNoteToAggregateWithAttribute(List<StickyNote> stickyNotes,
+                                                                        List<NoteSyntaxDiagnostic> diagnostics) {
         List<AggregateWithAttribute> result = new ArrayList<>();
 
-        List<String> descriptions = stickyNotes.stream()
-                .map(StickyNote::getDescription) // every integer change to String
-                .collect(Collectors.toList());
-
 //        aggregate1{
 //            type1 name1: constrain1,
 //            type2 name2: constrain2,
@@ -278,75 +211,16 @@ public class ClassifyStickNotesUseCase {
 //            ...
 //        }
 
-        for (String description : descriptions) {
-            description = description
-                    .replace("<!-- -->", "")
-                    .replace("<br />", "")
-                    .replace("\u2028", "\n")
-                    .replace("\u2029", "\n");
-            String aggregateName = description.substring(0, description.indexOf('{')).trim();
-
-            String body = description.substring(
-                    description.indexOf('{') + 1,
-                    description.lastIndexOf('}')
-            ).trim();
-
-            List<Attribute> attributes = new ArrayList<>();
-
-            String[] lines = body.split(",");
-
-            for (String line : lines) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
-
-                // type1 name1: constrain1
-                String[] leftRight = line.split(":");
-                String left = leftRight[0].trim();     // type1 name1
-                String constraint = leftRight[1].trim();
-
-                String[] typeName = left.split("\\s+");
-                String type = typeName[0];
-                String name = typeName[1];
-
-                attributes.add(new Attribute(name, type, constraint));
+        for (StickyNote stickyNote : stickyNotes) {
+            AggregateWithAttribute aggregate = NoteSyntaxParser.parseAggregate(stickyNote, diagnostics);
+            if (aggregate != null) {
+                result.add(aggregate);
             }
-            result.add(new AggregateWithAttribute(aggregateName, attributes));
         }
 
         return result;
     }
 
-    private List<Attribute> StickyNoteToAttribute(StickyNote attribute) {
-        List<Attribute> result = new ArrayList<>();
-        String description = attribute.getDescription()
-                .replace("<!-- -->", "")
-                .replace("\u00A0", " ")
-                .replace("\u2028", "\n")
-                .replace("\u2029", "\n");
-
-        String[] lines = description.replace("\n", "<br />").split(",<br />");
-
-        for (String line : lines) {
-            line = line.trim();
-            if (line.isEmpty()) continue;
-
-            // type1 name1: constrain1
-            String[] typeWithVarNameAndConstraint = line.split(":");
-            String typeWithVarName = typeWithVarNameAndConstraint[0].trim();     // type1 name1
-            String constraint = typeWithVarNameAndConstraint.length > 1
-                    ? typeWithVarNameAndConstraint[1].trim()
-                    : "";
-
-
-            String[] typeName = typeWithVarName.trim().split("\\s+");
-            String name = typeName[typeName.length - 1];
-            String type = String.join(" ", Arrays.copyOfRange(typeName, 0, typeName.length - 1));
-
-            result.add(new Attribute(name, type, constraint));
-        }
-        return result;
-    }
-
     private List<String> replaceActorNames(List<StickyNote> stickyNotes) {
         List<String> result = new ArrayList<>();
         for (StickyNote stickyNote : stickyNotes) {
@@ -3,11 +3,16 @@ package event.to.ai.backend.analysis.application;
 import event.to.ai.backend.analysis.domain.StickyNote;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import static java.lang.Math.abs;
+import java.util.Map;
 
 public class ClusterStickyNotesUseCase {
+    // 超過這個格子編號時 double 已無法精確表示相鄰的格子
+    private static final double MAX_CELL_INDEX = 1e15;
+
     private int groupAmount;
     private List<List<StickyNote>> stickyNotesGroup = new ArrayList<>();
 
@@ -35,41 +40,167 @@ public class ClusterStickyNotesUseCase {
         return groupAmount;
     }
 
+    // 兩張便利貼相鄰的距離上限為 1.5 * max(sizeA, sizeB)，也就是兩者各自 threshold 中較大的那個
+    // 便利貼依座標放進邊長為 threshold 中位數的格子，每格只與格內最大 threshold 範圍內的格子比對，
+    // threshold 較小的一方一定會被較大的一方找到；相鄰的便利貼以 union-find 合併，不需要遞迴
+    // 分群依每群第一張便利貼在輸入中的順序排列，群內便利貼維持輸入順序
     private static List<List<StickyNote>> groupStickyNotes(List<StickyNote> notes) {
-        List<List<StickyNote>> groups = new ArrayList<>();
-        boolean[] visited = new boolean[notes.size()];
-
-        for (int i = 0; i < notes.size(); i++) {
-            if (!visited[i]) {
-                List<StickyNote> group = new ArrayList<>();
-                dfs(i, notes, visited, group);
-                groups.add(group);
+        int size = notes.size();
+        double[] noteXs = new double[size];
+        double[] noteYs = new double[size];
+        double[] noteThresholds = new double[size];
+        for (int i = 0; i < size; i++) {
+            StickyNote note = notes.get(i);
+            noteXs[i] = note.getPos().getX();
+            noteYs[i] = note.getPos().getY();
+            noteThresholds[i] = 1.5 * ((note.getGeo().getX() + note.getGeo().getY()) / 2);
+        }
+        double cellSize = cellSize(noteThresholds);
+
+        // 座標或 threshold 不是有限值 (或座標大到格子編號失真) 的便利貼另外與所有便利貼逐一比對
+        Map<Cell, List<Integer>> members = new HashMap<>();
+        List<Integer> irregular = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double cellX = Math.floor(noteXs[i] / cellSize);
+            double cellY = Math.floor(noteYs[i] / cellSize);
+            if (Double.isFinite(noteThresholds[i]) && Math.abs(cellX) < MAX_CELL_INDEX && Math.abs(cellY) < MAX_CELL_INDEX) {
+                members.computeIfAbsent(new Cell((long) cellX, (long) cellY), key -> new ArrayList<>()).add(i);
+            } else {
+                irregular.add(i);
             }
         }
 
-        return groups;
-    }
+        // 同一格的便利貼排在連續的 slot，比對候選者時循序讀取陣列；格子只記錄 [start, end)
+        int[] slotOf = new int[size];
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        double[] thresholds = new double[size];
+        Map<Cell, int[]> cells = new HashMap<>(members.size() * 2);
+        int slot = 0;
+        for (Map.Entry<Cell, List<Integer>> entry : members.entrySet()) {
+            int start = slot;
+            for (int i : entry.getValue()) {
+                slotOf[i] = slot++;
+            }
+            cells.put(entry.getKey(), new int[]{start, slot});
+        }
+        int gridSlots = slot;
+        for (int i : irregular) {
+            slotOf[i] = slot++;
+        }
+        for (int i = 0; i < size; i++) {
+            xs[slotOf[i]] = noteXs[i];
+            ys[slotOf[i]] = noteYs[i];
+            thresholds[slotOf[i]] = noteThresholds[i];
+        }
 
-    private static void dfs(int idx, List<StickyNote> notes, boolean[] visited, List<StickyNote> group) {
-        visited[idx] = true;
-        group.add(notes.get(idx));
+        UnionFind unionFind = new UnionFind(size);
+        for (Map.Entry<Cell, int[]> entry : cells.entrySet()) {
+            Cell cell = entry.getKey();
+            int[] owners = entry.getValue();
+            double maxThreshold = 0;
+            for (int i = owners[0]; i < owners[1]; i++) {
+                maxThreshold = Math.max(maxThreshold, thresholds[i]);
+            }
+            // 理論上 floor(threshold / cellSize) + 1 格就涵蓋全部候選者，再放寬一點吸收浮點誤差
+            long radius = (long) Math.floor(maxThreshold / cellSize * (1 + 1e-9)) + 1;
+            double span = 2.0 * radius + 1;
+            if (span * span >= cells.size()) {
+                unionAdjacent(owners, new int[]{0, gridSlots}, xs, ys, thresholds, unionFind);
+                continue;
+            }
+            for (long dx = -radius; dx <= radius; dx++) {
+                for (long dy = -radius; dy <= radius; dy++) {
+                    int[] candidates = cells.get(new Cell(cell.x() + dx, cell.y() + dy));
+                    if (candidates != null) {
+                        unionAdjacent(owners, candidates, xs, ys, thresholds, unionFind);
+                    }
+                }
+            }
+        }
+        for (int i = gridSlots; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (i != j && isAdjacent(i, j, xs, ys, thresholds)) {
+                    unionFind.union(i, j);
+                }
+            }
+        }
+
+        Map<Integer, List<StickyNote>> groupsByRoot = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            groupsByRoot.computeIfAbsent(unionFind.find(slotOf[i]), root -> new ArrayList<>()).add(notes.get(i));
+        }
+        return new ArrayList<>(groupsByRoot.values());
+    }
 
-        for (int i = 0; i < notes.size(); i++) {
-            if (!visited[i] && isAdjacent(notes.get(idx), notes.get(i))) {
-                dfs(i, notes, visited, group);
+    // 每一對只由 threshold 較大的一方 (相同時由 slot 較小的一方) 檢查，已在同一群的就不必再合併
+    private static void unionAdjacent(int[] owners, int[] candidates, double[] xs, double[] ys, double[] thresholds,
+                                      UnionFind unionFind) {
+        for (int i = owners[0]; i < owners[1]; i++) {
+            for (int j = candidates[0]; j < candidates[1]; j++) {
+                boolean owned = thresholds[j] < thresholds[i] || (thresholds[j] == thresholds[i] && j > i);
+                if (owned && isAdjacent(i, j, xs, ys, thresholds) && unionFind.find(i) != unionFind.find(j)) {
+                    unionFind.union(i, j);
+                }
             }
         }
     }
 
-    private static boolean isAdjacent(StickyNote a, StickyNote b) {
-        double dx = abs(a.getPos().getX() - b.getPos().getX());
-        double dy = abs(a.getPos().getY() - b.getPos().getY());
+    // 取正的有限 threshold 的中位數作為格子邊長，大多數便利貼只需要檢查周圍 3 x 3 格
+    private static double cellSize(double[] thresholds) {
+        double[] positive = Arrays.stream(thresholds)
+                .filter(threshold -> threshold > 0 && Double.isFinite(threshold))
+                .sorted()
+                .toArray();
+        return positive.length == 0 ? 1.0 : positive[positive.length / 2];
+    }
+
+    // 與改寫前相同的判斷：距離 <= 1.5 * max(sizeA, sizeB)，threshold 已預先乘上 1.5
+    private static boolean isAdjacent(int a, int b, double[] xs, double[] ys, double[] thresholds) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
         double dist = Math.sqrt(dx * dx + dy * dy);
+        return dist <= Math.max(thresholds[a], thresholds[b]);
+    }
+
+    private record Cell(long x, long y) {
+    }
+
+    private static final class UnionFind {
+
+        private final int[] parent;
+        private final int[] rank;
 
-        double sizeA = ( a.getGeo().getX() +  a.getGeo().getY()) / 2;
-        double sizeB = ( b.getGeo().getX() +  b.getGeo().getY()) / 2;
-        double threshold = 1.5 * Math.max(sizeA, sizeB);
+        private UnionFind(int size) {
+            parent = new int[size];
+            rank = new int[size];
+            for (int i = 0; i < size; i++) {
+                parent[i] = i;
+            }
+        }
+
+        private int find(int i) {
+            while (parent[i] != i) {
+                parent[i] = parent[parent[i]];
+                i = parent[i];
+            }
+            return i;
+        }
 
-        return dist <= threshold;
+        private void union(int a, int b) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return;
+            }
+            if (rank[rootA] < rank[rootB]) {
+                parent[rootA] = rootB;
+            } else if (rank[rootA] > rank[rootB]) {
+                parent[rootB] = rootA;
+            } else {
+                parent[rootB] = rootA;
+                rank[rootA]++;
+            }
+        }
     }
 }
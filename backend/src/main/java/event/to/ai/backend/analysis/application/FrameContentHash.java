@@ -0,0 +1,59 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.StickyNote;
+
+import java.awt.geom.Point2D;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+// 一個 frame 內所有會影響分類結果的內容的 SHA-256：便利貼的順序、id、文字、位置、尺寸、顏色、tag，以及 frame 大小
+// 字串前面都加上長度，避免不同欄位切分方式得到相同的位元組序列
+final class FrameContentHash {
+
+    private FrameContentHash() {
+    }
+
+    static String of(List<StickyNote> stickyNotes, Point2D frameSize) {
+        MessageDigest digest = sha256();
+        update(digest, frameSize);
+        for (StickyNote note : stickyNotes) {
+            update(digest, note.getId());
+            update(digest, note.getDescription());
+            update(digest, note.getPos());
+            update(digest, note.getGeo());
+            update(digest, note.getColor());
+            update(digest, note.getTag());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(4).putInt(-1).array());
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, Point2D value) {
+        ByteBuffer buffer = ByteBuffer.allocate(17);
+        if (value != null) {
+            buffer.put((byte) 1).putDouble(value.getX()).putDouble(value.getY());
+        }
+        digest.update(buffer.array());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
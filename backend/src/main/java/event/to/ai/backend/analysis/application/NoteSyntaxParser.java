@@ -0,0 +1,337 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.StickyNote;
+import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
+import event.to.ai.backend.analysis.domain.valueobject.Attribute;
+import event.to.ai.backend.analysis.domain.valueobject.NoteSyntaxDiagnostic;
+import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 便利貼上 "Type name: constraint," 小語法的單趟解析器
+// 直接以 index 掃描便利貼內容，只有產生結果的欄位才 substring；格式錯誤的行記錄 diagnostic 後略過，不會拋出例外
+// 解析結果與改寫前以 replace / split 實作的版本相同，包含它的細節：
+//   input 以單一空白切 token (連續空白會得到空字串的 name)，逗號一律忽略
+//   attribute 只以「逗號 + 換行」分行，行內其餘的換行會以 "<br />" 留在結果中
+//   aggregate 在第一個 '{' 與最後一個 '}' 之間以逗號分行
+// 內容含有 "<!-- -->"、"<br />" 或 Unicode 分行字元時，先做與改寫前相同的 replace 再解析，此時 offset 以替換後的內容計算
+final class NoteSyntaxParser {
+
+    private static final String BR = "<br />";
+
+    private NoteSyntaxParser() {
+    }
+
+    // input 便利貼：每行 "Type name"
+    static List<UsecaseInput> parseInputs(StickyNote note, List<NoteSyntaxDiagnostic> diagnostics) {
+        String text = note.getDescription();
+        List<UsecaseInput> inputs = new ArrayList<>();
+
+        // 結尾只剩換行與逗號的行不算一行；完全沒有換行時，即使是空字串也算一行
+        int last = text.length() - 1;
+        while (last >= 0 && (text.charAt(last) == '\n' || text.charAt(last) == ',')) {
+            last--;
+        }
+        boolean multiline = text.indexOf('\n') >= 0;
+        if (multiline && last < 0) {
+            return inputs;
+        }
+
+        int start = 0;
+        while (true) {
+            int newline = text.indexOf('\n', start);
+            int end = newline < 0 ? text.length() : newline;
+            parseInputLine(note, text, start, end, inputs, diagnostics);
+            if (newline < 0 || newline >= last) {
+                return inputs;
+            }
+            start = newline + 1;
+        }
+    }
+
+    private static void parseInputLine(StickyNote note, String text, int start, int end,
+                                       List<UsecaseInput> inputs, List<NoteSyntaxDiagnostic> diagnostics) {
+        int typeEnd = indexOf(text, ' ', start, end);
+        if (typeEnd < 0 || !containsOtherThan(text, typeEnd + 1, end, ' ', ',')) {
+            diagnostics.add(new NoteSyntaxDiagnostic(note.getId(), start, "Expected \"Type name\" in input"));
+            return;
+        }
+        int nameEnd = indexOf(text, ' ', typeEnd + 1, end);
+        if (nameEnd < 0) {
+            nameEnd = end;
+        }
+        inputs.add(new UsecaseInput(withoutCommas(text, typeEnd + 1, nameEnd), withoutCommas(text, start, typeEnd)));
+    }
+
+    // attribute 便利貼：以「逗號 + 換行」分隔的 "Type name: constraint"，type 可以有多個字，constraint 可省略
+    static List<Attribute> parseAttributes(StickyNote note, List<NoteSyntaxDiagnostic> diagnostics) {
+        String text = note.getDescription();
+        if (needsAttributeNormalization(text)) {
+            text = text.replace("<!-- -->", "")
+                    .replace("\u00A0", " ")
+                    .replace("\u2028", "\n")
+                    .replace("\u2029", "\n");
+        }
+        List<Attribute> attributes = new ArrayList<>();
+
+        // 改寫前先把換行換成 "<br />" 再以 ",<br />" 切行，所以原文中的 ",<br />" 也是分隔符號
+        int start = 0;
+        int length = text.length();
+        int i = 0;
+        while (i <= length) {
+            int separatorLength = i == length ? 0 : attributeSeparatorLength(text, i);
+            if (i == length || separatorLength > 0) {
+                parseAttributeLine(note, text, start, i, attributes, diagnostics);
+                if (i == length) {
+                    break;
+                }
+                i += separatorLength;
+                start = i;
+            } else {
+                i++;
+            }
+        }
+        return attributes;
+    }
+
+    private static int attributeSeparatorLength(String text, int i) {
+        if (text.charAt(i) != ',' || i + 1 >= text.length()) {
+            return 0;
+        }
+        if (text.charAt(i + 1) == '\n') {
+            return 2;
+        }
+        return text.startsWith(BR, i + 1) ? 1 + BR.length() : 0;
+    }
+
+    private static void parseAttributeLine(StickyNote note, String text, int start, int end,
+                                           List<Attribute> attributes, List<NoteSyntaxDiagnostic> diagnostics) {
+        // 換行在這裡會變成 "<br />"，不算空白
+        int lineStart = trimStart(text, start, end, true);
+        int lineEnd = trimEnd(text, lineStart, end, true);
+        if (lineStart == lineEnd) {
+            return;
+        }
+        int colon = indexOf(text, ':', lineStart, lineEnd);
+        int headEnd = colon < 0 ? lineEnd : colon;
+        String constraint = "";
+        if (colon >= 0 && containsOtherThan(text, colon + 1, lineEnd, ':', ':')) {
+            int constraintEnd = indexOf(text, ':', colon + 1, lineEnd);
+            constraint = trimmedSlice(text, colon + 1, constraintEnd < 0 ? lineEnd : constraintEnd, true);
+        } else if (colon == lineStart) {
+            diagnostics.add(new NoteSyntaxDiagnostic(note.getId(), lineStart, "Expected \"Type name: constraint\" in attribute"));
+            return;
+        }
+
+        // "type1 type2 name"：最後一個字是 name，前面的字以單一空白連接成 type
+        // 改寫前的換行已是 "<br />"，其中的空白也會切開字，所以含換行時先換成 "<br />" 再切
+        int headStart = trimStart(text, lineStart, headEnd, true);
+        headEnd = trimEnd(text, headStart, headEnd, true);
+        String head = text;
+        if (indexOf(text, '\n', headStart, headEnd) >= 0) {
+            head = slice(text, headStart, headEnd, true);
+            headStart = 0;
+            headEnd = head.length();
+        }
+        int nameStart = headEnd;
+        while (nameStart > headStart && !isRegexWhitespace(head.charAt(nameStart - 1))) {
+            nameStart--;
+        }
+        int typeEnd = nameStart;
+        while (typeEnd > headStart && isRegexWhitespace(head.charAt(typeEnd - 1))) {
+            typeEnd--;
+        }
+        attributes.add(new Attribute(head.substring(nameStart, headEnd), joinedWords(head, headStart, typeEnd), constraint));
+    }
+
+    // aggregate 便利貼："Name{ Type name: constraint, ... }"
+    static AggregateWithAttribute parseAggregate(StickyNote note, List<NoteSyntaxDiagnostic> diagnostics) {
+        String text = note.getDescription();
+        if (needsAggregateNormalization(text)) {
+            text = text.replace("<!-- -->", "")
+                    .replace(BR, "")
+                    .replace("\u2028", "\n")
+                    .replace("\u2029", "\n");
+        }
+        int open = text.indexOf('{');
+        if (open < 0) {
+            diagnostics.add(new NoteSyntaxDiagnostic(note.getId(), 0, "Expected '{' after the aggregate name"));
+            return null;
+        }
+        int close = text.lastIndexOf('}');
+        if (close < open) {
+            diagnostics.add(new NoteSyntaxDiagnostic(note.getId(), text.length(), "Expected '}' after the attributes"));
+            return null;
+        }
+
+        List<Attribute> attributes = new ArrayList<>();
+        int start = open + 1;
+        while (start <= close) {
+            int comma = indexOf(text, ',', start, close);
+            int end = comma < 0 ? close : comma;
+            parseAggregateLine(note, text, start, end, attributes, diagnostics);
+            start = end + 1;
+        }
+        return new AggregateWithAttribute(trimmedSlice(text, 0, open, false), attributes);
+    }
+
+    private static void parseAggregateLine(StickyNote note, String text, int start, int end,
+                                           List<Attribute> attributes, List<NoteSyntaxDiagnostic> diagnostics) {
+        int lineStart = trimStart(text, start, end, false);
+        int lineEnd = trimEnd(text, lineStart, end, false);
+        if (lineStart == lineEnd) {
+            return;
+        }
+        int colon = indexOf(text, ':', lineStart, lineEnd);
+        if (colon < 0 || !containsOtherThan(text, colon + 1, lineEnd, ':', ':')) {
+            diagnostics.add(new NoteSyntaxDiagnostic(note.getId(), lineStart, "Expected \"Type name: constraint\" in aggregate"));
+            return;
+        }
+        int constraintEnd = indexOf(text, ':', colon + 1, lineEnd);
+        String constraint = trimmedSlice(text, colon + 1, constraintEnd < 0 ? lineEnd : constraintEnd, false);
+
+        // "Type name"：第一個字是 type，第二個字是 name，之後的字忽略
+        int headStart = trimStart(text, lineStart, colon, false);
+        int headEnd = trimEnd(text, headStart, colon, false);
+        int typeEnd = headStart;
+        while (typeEnd < headEnd && !isRegexWhitespace(text.charAt(typeEnd))) {
+            typeEnd++;
+        }
+        if (typeEnd == headEnd) {
+            diagnostics.add(new NoteSyntaxDiagnostic(note.getId(), headStart, "Expected \"Type name\" before ':' in aggregate"));
+            return;
+        }
+        int nameStart = typeEnd;
+        while (isRegexWhitespace(text.charAt(nameStart))) {
+            nameStart++;
+        }
+        int nameEnd = nameStart;
+        while (nameEnd < headEnd && !isRegexWhitespace(text.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        attributes.add(new Attribute(text.substring(nameStart, nameEnd), text.substring(headStart, typeEnd), constraint));
+    }
+
+    // 沒有這些標記與字元時，改寫前的 replace 都不會改變內容，可以直接解析原字串
+    private static boolean needsAttributeNormalization(String text) {
+        return text.contains("<!-- -->") || containsAnyOf(text, "\u00A0\u2028\u2029");
+    }
+
+    private static boolean needsAggregateNormalization(String text) {
+        return text.contains("<!-- -->") || text.contains(BR) || containsAnyOf(text, "\u2028\u2029");
+    }
+
+    private static boolean containsAnyOf(String text, String chars) {
+        for (int i = 0; i < text.length(); i++) {
+            if (chars.indexOf(text.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(String text, char c, int from, int to) {
+        int index = text.indexOf(c, from);
+        return index >= 0 && index < to ? index : -1;
+    }
+
+    private static boolean containsOtherThan(String text, int from, int to, char a, char b) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c != a && c != b) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 與 String.trim 相同，只有 keepNewline 時換行不算空白
+    private static boolean isTrimmed(char c, boolean keepNewline) {
+        return c <= ' ' && !(keepNewline && c == '\n');
+    }
+
+    // 與 split("\\s+") 相同的空白字元
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int trimStart(String text, int from, int to, boolean keepNewline) {
+        while (from < to && isTrimmed(text.charAt(from), keepNewline)) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String text, int from, int to, boolean keepNewline) {
+        while (to > from && isTrimmed(text.charAt(to - 1), keepNewline)) {
+            to--;
+        }
+        return to;
+    }
+
+    private static String trimmedSlice(String text, int from, int to, boolean keepNewline) {
+        int start = trimStart(text, from, to, keepNewline);
+        return slice(text, start, trimEnd(text, start, to, keepNewline), keepNewline);
+    }
+
+    // keepNewline 時換行輸出成 "<br />"，只有真的含有換行才建立新的字串
+    private static String slice(String text, int from, int to, boolean keepNewline) {
+        if (!keepNewline || indexOf(text, '\n', from, to) < 0) {
+            return text.substring(from, to);
+        }
+        StringBuilder builder = new StringBuilder(to - from + 8);
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                builder.append(BR);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String withoutCommas(String text, int from, int to) {
+        if (indexOf(text, ',', from, to) < 0) {
+            return text.substring(from, to);
+        }
+        StringBuilder builder = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c != ',') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // attribute 的 type：以空白分隔的多個字以單一空白連接，字與字之間本來就只隔一個空格時直接 substring
+    private static String joinedWords(String text, int from, int to) {
+        boolean simple = true;
+        for (int i = from; i < to && simple; i++) {
+            char c = text.charAt(i);
+            if (isRegexWhitespace(c) && (c != ' ' || isRegexWhitespace(text.charAt(i + 1)))) {
+                simple = false;
+            }
+        }
+        if (simple) {
+            return text.substring(from, to);
+        }
+        StringBuilder builder = new StringBuilder(to - from);
+        boolean inGap = false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (isRegexWhitespace(c)) {
+                inGap = true;
+                continue;
+            }
+            if (inGap) {
+                builder.append(' ');
+                inGap = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.StickyNote;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// 依 Y 座標排序的便利貼索引，每個 frame 建一次
+// 事件與 reactor / policy / attribute 的配對條件都包含 dy / threshold <= multiple，threshold 為兩張便利貼最長邊中較大者，
+// 所以候選者的 Y 一定落在 center.y ± multiple * max(center 最長邊, 索引內最長邊) 之內，只需二分搜尋這個區間
+final class NoteYIndex {
+
+    // 區間放寬一點，避免 dy / threshold 與 dy <= multiple * threshold 在浮點誤差上判斷不一致
+    private static final double BAND_SLACK = 1 + 1e-9;
+
+    private final int size;
+    private final int[] sortedIndexes;
+    private final double[] sortedYs;
+    private final double maxExtent;
+
+    NoteYIndex(List<StickyNote> notes) {
+        this.size = notes.size();
+        // NaN 排在最後，永遠不會落在搜尋區間內；NaN 的便利貼本來就不會滿足任何配對條件
+        this.sortedIndexes = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingDouble(i -> notes.get(i).getPos().getY()))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.sortedYs = new double[size];
+        double extent = 0;
+        for (int i = 0; i < size; i++) {
+            sortedYs[i] = notes.get(sortedIndexes[i]).getPos().getY();
+            double noteExtent = extentOf(notes.get(i));
+            if (noteExtent > extent) {
+                extent = noteExtent;
+            }
+        }
+        this.maxExtent = extent;
+    }
+
+    // 回傳可能與 center 配對的便利貼在原 List 中的 index，依原本順序排列，呼叫端仍須逐一檢查完整條件
+    // center 的最長邊不是正數時 threshold 可能為 0 或負數，區間無法界定，退回全部掃描以維持原本的結果
+    int[] near(StickyNote center, double multiple) {
+        double centerExtent = extentOf(center);
+        double halfBand = multiple * Math.max(centerExtent, maxExtent) * BAND_SLACK;
+        double centerY = center.getPos().getY();
+        if (!(centerExtent > 0) || !Double.isFinite(halfBand) || !Double.isFinite(centerY)) {
+            return IntStream.range(0, size).toArray();
+        }
+
+        // 座標很大時，加減運算本身的捨入也要涵蓋進來
+        double margin = halfBand + 4 * Math.ulp(Math.abs(centerY) + halfBand);
+        double low = centerY - margin;
+        double high = centerY + margin;
+        int from = lowerBound(low);
+        int to = from;
+        while (to < size && sortedYs[to] <= high) {
+            to++;
+        }
+        int[] candidates = Arrays.copyOfRange(sortedIndexes, from, to);
+        Arrays.sort(candidates);
+        return candidates;
+    }
+
+    // 第一個 y >= value 的位置
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedYs[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double extentOf(StickyNote note) {
+        return Math.max(note.getGeo().getX(), note.getGeo().getY());
+    }
+}
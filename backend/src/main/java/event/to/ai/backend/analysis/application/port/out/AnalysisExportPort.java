@@ -0,0 +1,12 @@
+package event.to.ai.backend.analysis.application.port.out;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AnalysisExportPort {
+
+    // 以 Board 為單位寫出分析結果，每個 use case 一份 JSON；boardTitle 只用於命名，呼叫端保證同時只有一個執行緒呼叫
+    void write(UUID boardId, String boardTitle, List<GroupDTO> groups);
+}
@@ -2,6 +2,7 @@ package event.to.ai.backend.analysis.domain;
 
 import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
 import event.to.ai.backend.analysis.domain.valueobject.DomainEvent;
+import event.to.ai.backend.analysis.domain.valueobject.NoteSyntaxDiagnostic;
 import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
 
 import java.awt.geom.Point2D;
@@ -20,6 +21,7 @@ public class Group {
     private String method;
     private Point2D useCasePos;
     private Point2D EventStormingGeo;
+    private List<NoteSyntaxDiagnostic> diagnostics = List.of();
 
     public Group(){
 
@@ -102,4 +104,8 @@ public class Group {
     }
 
     public void setUseCasePos(Point2D useCasePos) { this.useCasePos = useCasePos; }
+
+    public List<NoteSyntaxDiagnostic> getDiagnostics() { return diagnostics; }
+
+    public void setDiagnostics(List<NoteSyntaxDiagnostic> diagnostics) { this.diagnostics = diagnostics; }
 }
@@ -0,0 +1,42 @@
+package event.to.ai.backend.analysis.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 便利貼在 event storming frame 中的角色，由顏色決定
+public enum NoteRole {
+    USE_CASE("blue"),
+    INPUT("green"),
+    AGGREGATE_NAME("light_yellow"),
+    ACTOR("yellow"),
+    COMMENT("gray"),
+    DOMAIN_EVENT("orange"),
+    REACTOR("light_blue"),
+    POLICY("violet"),
+    EVENT_ATTRIBUTE("light_green"),
+    AGGREGATE_WITH_ATTRIBUTE("dark_green"),
+    METHOD("pink");
+
+    private static final Map<String, NoteRole> BY_COLOR = new HashMap<>();
+
+    static {
+        for (NoteRole role : values()) {
+            BY_COLOR.put(role.color, role);
+        }
+    }
+
+    private final String color;
+
+    NoteRole(String color) {
+        this.color = color;
+    }
+
+    // 不屬於任何角色的顏色 (或沒有顏色) 回傳 null
+    public static NoteRole fromColor(String color) {
+        return BY_COLOR.get(color);
+    }
+
+    public String color() {
+        return color;
+    }
+}
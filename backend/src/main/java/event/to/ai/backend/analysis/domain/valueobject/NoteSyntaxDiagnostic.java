@@ -0,0 +1,26 @@
+package event.to.ai.backend.analysis.domain.valueobject;
+
+// 便利貼內容不符合 "Type name: constraint" 語法時的說明，offset 為該便利貼內容中的字元位置
+public class NoteSyntaxDiagnostic {
+    private final String noteId;
+    private final int offset;
+    private final String message;
+
+    public NoteSyntaxDiagnostic(String noteId, int offset, String message) {
+        this.noteId = noteId;
+        this.offset = offset;
+        this.message = message;
+    }
+
+    public String getNoteId() {
+        return noteId;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
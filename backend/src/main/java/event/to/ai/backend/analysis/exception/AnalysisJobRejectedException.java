@@ -0,0 +1,8 @@
+package event.to.ai.backend.analysis.exception;
+
+public class AnalysisJobRejectedException extends RuntimeException {
+
+    public AnalysisJobRejectedException() {
+        super("Too many analysis jobs are queued, please try again later");
+    }
+}
@@ -35,7 +35,7 @@ public class AuthService {
 
     public AuthResponse register(CreateUserRequest request) {
         UserDTO createdUser = userApplicationService.createUser(request);
-        String token = jwtService.generateToken(createdUser.getId());
+        String token = jwtService.generateToken(createdUser.getId(), createdUser.getUsername());
         return new AuthResponse(token, "Bearer", jwtService.getAccessTokenExpirationSeconds(), createdUser);
     }
 
@@ -56,7 +56,7 @@ public class AuthService {
                 user.getUpdatedAt()
         );
 
-        String token = jwtService.generateToken(user.getId());
+        String token = jwtService.generateToken(user.getId(), user.getUsername());
         return new AuthResponse(token, "Bearer", jwtService.getAccessTokenExpirationSeconds(), userDTO);
     }
 }
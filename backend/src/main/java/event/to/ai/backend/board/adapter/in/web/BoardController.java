@@ -3,14 +3,17 @@ package event.to.ai.backend.board.adapter.in.web;
 import event.to.ai.backend.auth.CurrentUserIdProvider;
 import event.to.ai.backend.board.adapter.in.web.dto.*;
 import event.to.ai.backend.board.application.BoardApplicationService;
-import event.to.ai.backend.connector.application.ConnectorApplicationService;
-import event.to.ai.backend.domainmodel.application.DomainModelItemApplicationService;
-import event.to.ai.backend.frame.application.FrameApllicationService;
-import event.to.ai.backend.stickynote.application.StickyNoteApplicationService;
-import event.to.ai.backend.textbox.application.TextBoxApplicationService;
+import event.to.ai.backend.board.application.BoardComponentsSink;
+import event.to.ai.backend.board.application.BoardElementsBatchService;
+import event.to.ai.backend.board.application.BoardMoveCoalescer;
+import event.to.ai.backend.board.application.BoardPurgeService;
+import event.to.ai.backend.board.application.BoardSnapshotQueryService;
+import event.to.ai.backend.board.application.BoardViewport;
+import event.to.ai.backend.board.application.BoardViewportQueryService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,8 +23,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.BufferedOutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,48 +39,125 @@ import java.util.UUID;
 public class BoardController {
 
     private final BoardApplicationService boardApplicationService;
-    private final StickyNoteApplicationService stickyNoteApplicationService;
-    private final TextBoxApplicationService textBoxApplicationService;
-    private final FrameApllicationService frameApllicationService;
-    private final DomainModelItemApplicationService domainModelItemApplicationService;
-    private final ConnectorApplicationService connectorApplicationService;
+    private final BoardSnapshotQueryService boardSnapshotQueryService;
+    private final BoardViewportQueryService boardViewportQueryService;
+    private final BoardMoveCoalescer boardMoveCoalescer;
+    private final BoardElementsBatchService boardElementsBatchService;
+    private final BoardPurgeService boardPurgeService;
     private final CurrentUserIdProvider currentUserIdProvider;
+    private final JsonMapper jsonMapper;
 
     @Autowired
     public BoardController(BoardApplicationService boardApplicationService,
-                           StickyNoteApplicationService stickyNoteApplicationService,
-                           TextBoxApplicationService textBoxApplicationService,
-                           FrameApllicationService frameApllicationService,
-                           DomainModelItemApplicationService domainModelItemApplicationService,
-                           ConnectorApplicationService connectorApplicationService,
-                           CurrentUserIdProvider currentUserIdProvider) {
+                           BoardSnapshotQueryService boardSnapshotQueryService,
+                           BoardViewportQueryService boardViewportQueryService,
+                           BoardMoveCoalescer boardMoveCoalescer,
+                           BoardElementsBatchService boardElementsBatchService,
+                           BoardPurgeService boardPurgeService,
+                           CurrentUserIdProvider currentUserIdProvider,
+                           JsonMapper jsonMapper) {
         this.boardApplicationService = boardApplicationService;
-        this.stickyNoteApplicationService = stickyNoteApplicationService;
-        this.textBoxApplicationService = textBoxApplicationService;
-        this.frameApllicationService = frameApllicationService;
-        this.domainModelItemApplicationService = domainModelItemApplicationService;
-        this.connectorApplicationService = connectorApplicationService;
+        this.boardSnapshotQueryService = boardSnapshotQueryService;
+        this.boardViewportQueryService = boardViewportQueryService;
+        this.boardMoveCoalescer = boardMoveCoalescer;
+        this.boardElementsBatchService = boardElementsBatchService;
+        this.boardPurgeService = boardPurgeService;
         this.currentUserIdProvider = currentUserIdProvider;
+        this.jsonMapper = jsonMapper;
     }
 
+    // 帶上 minX / minY / maxX / maxY 時只回傳 bounding box 與該視窗相交的元件，四個參數需同時提供
     @GetMapping("/{boardId}/components")
-    public ResponseEntity<?> getAllComponentsByBoardId(@PathVariable UUID boardId) {
+    public ResponseEntity<?> getAllComponentsByBoardId(@PathVariable UUID boardId,
+                                                       @RequestParam(required = false) Double minX,
+                                                       @RequestParam(required = false) Double minY,
+                                                       @RequestParam(required = false) Double maxX,
+                                                       @RequestParam(required = false) Double maxY) {
         try {
             UUID currentUserId = currentUserIdProvider.getCurrentUserId();
-            BoardComponentsDTO components = new BoardComponentsDTO(
-                    boardId,
-                    stickyNoteApplicationService.getStickyNotesByBoardId(currentUserId, boardId),
-                    textBoxApplicationService.getTextBoxesByBoardId(currentUserId, boardId),
-                    frameApllicationService.getFramesByBoardId(currentUserId, boardId),
-                    domainModelItemApplicationService.getDomainModelItemsByBoardId(currentUserId, boardId),
-                    connectorApplicationService.getConnectorsByBoardId(currentUserId, boardId)
-            );
+            if (minX != null || minY != null || maxX != null || maxY != null) {
+                if (minX == null || minY == null || maxX == null || maxY == null) {
+                    throw new RuntimeException("minX, minY, maxX and maxY must be given together");
+                }
+                BoardViewport viewport = new BoardViewport(minX, minY, maxX, maxY);
+                return ResponseEntity.ok(boardViewportQueryService.getBoardComponentsInViewport(currentUserId, boardId, viewport));
+            }
+            BoardComponentsDTO components = boardSnapshotQueryService.getBoardComponents(currentUserId, boardId);
             return ResponseEntity.ok(components);
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // 大型 Board 用的串流版本，邊查邊寫，不在記憶體中組出完整的 BoardComponentsDTO
+    // format=ndjson (預設) 每行一個元件；format=json 輸出與 /components 相同結構的 JSON
+    @GetMapping("/{boardId}/components/stream")
+    public ResponseEntity<?> streamAllComponentsByBoardId(@PathVariable UUID boardId,
+                                                          @RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            boolean ndjson = "ndjson".equalsIgnoreCase(format);
+            if (!ndjson && !"json".equalsIgnoreCase(format)) {
+                throw new RuntimeException("Unsupported format: " + format);
+            }
+            UUID currentUserId = currentUserIdProvider.getCurrentUserId();
+            boardSnapshotQueryService.requireBoardReadable(currentUserId, boardId);
+
+            ObjectWriter objectWriter = jsonMapper.writer();
+            StreamingResponseBody body = outputStream -> {
+                BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, 16 * 1024);
+                BoardComponentsSink sink = ndjson
+                        ? new NdjsonBoardComponentsWriter(bufferedOutputStream, objectWriter)
+                        : new JsonArrayBoardComponentsWriter(bufferedOutputStream, objectWriter);
+                boardSnapshotQueryService.streamBoardComponents(boardId, sink);
+                bufferedOutputStream.flush();
+            };
+            return ResponseEntity.ok()
+                    .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                    .body(body);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 重新連線時的增量同步，只回傳 since 之後新增 / 更新 / 刪除的元件
+    @GetMapping("/{boardId}/changes")
+    public ResponseEntity<?> getBoardChanges(@PathVariable UUID boardId,
+                                             @RequestParam long since) {
+        try {
+            UUID currentUserId = currentUserIdProvider.getCurrentUserId();
+            BoardChangesDTO changes = boardSnapshotQueryService.getBoardChanges(currentUserId, boardId, since);
+            return ResponseEntity.ok(changes);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 拖曳中的位置更新，只排入佇列，由 BoardMoveCoalescer 依 tick 批次寫入並廣播 *.moved
+    // 已連上 STOMP 的前端可改送 /app/boards/{boardId}/moves
+    @PostMapping("/{boardId}/moves")
+    public ResponseEntity<?> moveElements(@PathVariable UUID boardId,
+                                          @Valid @RequestBody MoveElementsRequest request) {
+        try {
+            UUID currentUserId = currentUserIdProvider.getCurrentUserId();
+            boardMoveCoalescer.submit(currentUserId, boardId, request.getMoves());
+            return ResponseEntity.accepted().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 貼上、多選操作、復原等一次異動多個元件，整批同一個交易，只廣播一則 elements.batched
+    @PostMapping("/{boardId}/elements:batch")
+    public ResponseEntity<?> applyElementsBatch(@PathVariable UUID boardId,
+                                                @Valid @RequestBody BoardElementsBatchRequest request) {
+        try {
+            UUID currentUserId = currentUserIdProvider.getCurrentUserId();
+            return ResponseEntity.ok(boardElementsBatchService.applyBatch(currentUserId, boardId, request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<BoardDTO>> getAllMyBoards() {
         // 從 Access Token 拿回 UUID
@@ -168,4 +253,15 @@ public class BoardController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    // 大型 Board 刪除後在背景分批清除，擁有者可以輪詢進度
+    @GetMapping("/{boardId}/purge")
+    public ResponseEntity<?> getBoardPurgeProgress(@PathVariable UUID boardId) {
+        try {
+            UUID currentUserId = this.currentUserIdProvider.getCurrentUserId();
+            return ResponseEntity.ok(boardPurgeService.getPurgeProgress(currentUserId, boardId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
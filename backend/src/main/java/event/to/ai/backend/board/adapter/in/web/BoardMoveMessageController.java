@@ -0,0 +1,48 @@
+package event.to.ai.backend.board.adapter.in.web;
+
+import event.to.ai.backend.board.adapter.in.web.dto.MoveElementsRequest;
+import event.to.ai.backend.board.application.BoardMoveCoalescer;
+import event.to.ai.backend.security.AuthUserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.UUID;
+
+// 拖曳時由前端直接透過 STOMP SEND /app/boards/{boardId}/moves 送出位置，省去每次 HTTP 請求的成本
+@Controller
+public class BoardMoveMessageController {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardMoveMessageController.class);
+
+    private final BoardMoveCoalescer boardMoveCoalescer;
+
+    @Autowired
+    public BoardMoveMessageController(BoardMoveCoalescer boardMoveCoalescer) {
+        this.boardMoveCoalescer = boardMoveCoalescer;
+    }
+
+    @MessageMapping("/boards/{boardId}/moves")
+    public void moveElements(@DestinationVariable UUID boardId,
+                             @Payload MoveElementsRequest request,
+                             Principal principal) {
+        if (!(principal instanceof AuthUserPrincipal authUserPrincipal)) {
+            throw new AccessDeniedException("Unauthenticated STOMP sender");
+        }
+        if (request.getMoves() == null || request.getMoves().isEmpty()) {
+            return;
+        }
+
+        try {
+            boardMoveCoalescer.submit(authUserPrincipal.getId(), boardId, request.getMoves());
+        } catch (RuntimeException e) {
+            log.warn("Rejected moves from user {} on board {}: {}", authUserPrincipal.getId(), boardId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package event.to.ai.backend.board.adapter.in.web;
+
+import event.to.ai.backend.board.application.BoardComponentsSink;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 與 BoardComponentsDTO 相同結構的 JSON，但以 chunked 方式邊查邊寫
+// {"boardId":...,"revision":...,"stickyNotes":[...],"textBoxes":[...],...}
+class JsonArrayBoardComponentsWriter implements BoardComponentsSink {
+
+    private static final byte[] COMMA = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ARRAY_END = "]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OBJECT_END = "}".getBytes(StandardCharsets.UTF_8);
+
+    private final OutputStream out;
+    private final ObjectWriter objectWriter;
+    private boolean sectionOpen = false;
+    private boolean firstElement = true;
+
+    JsonArrayBoardComponentsWriter(OutputStream out, ObjectWriter objectWriter) {
+        this.out = out;
+        this.objectWriter = objectWriter;
+    }
+
+    @Override
+    public void begin(UUID boardId, long revision) {
+        write(("{\"boardId\":\"" + boardId + "\",\"revision\":" + revision).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void section(String name) {
+        closeSection();
+        write((",\"" + name + "\":[").getBytes(StandardCharsets.UTF_8));
+        sectionOpen = true;
+        firstElement = true;
+    }
+
+    @Override
+    public void element(Object element) {
+        if (!firstElement) {
+            write(COMMA);
+        }
+        write(objectWriter.writeValueAsBytes(element));
+        firstElement = false;
+    }
+
+    @Override
+    public void end() {
+        closeSection();
+        write(OBJECT_END);
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeSection() {
+        if (sectionOpen) {
+            write(ARRAY_END);
+            sectionOpen = false;
+        }
+    }
+
+    private void write(byte[] bytes) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package event.to.ai.backend.board.adapter.in.web;
+
+import event.to.ai.backend.board.application.BoardComponentsSink;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// application/x-ndjson 格式，每一行是一個獨立的 JSON
+// 第一行 {"boardId":...,"revision":...}，之後每行 {"section":"stickyNotes","data":{...}}
+class NdjsonBoardComponentsWriter implements BoardComponentsSink {
+
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_PREFIX = ",\"data\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] LINE_SUFFIX = "}\n".getBytes(StandardCharsets.UTF_8);
+
+    private final OutputStream out;
+    private final ObjectWriter objectWriter;
+    private byte[] sectionPrefix = new byte[0];
+
+    NdjsonBoardComponentsWriter(OutputStream out, ObjectWriter objectWriter) {
+        this.out = out;
+        this.objectWriter = objectWriter;
+    }
+
+    @Override
+    public void begin(UUID boardId, long revision) {
+        write(("{\"boardId\":\"" + boardId + "\",\"revision\":" + revision + "}").getBytes(StandardCharsets.UTF_8));
+        write(NEW_LINE);
+    }
+
+    @Override
+    public void section(String name) {
+        sectionPrefix = ("{\"section\":\"" + name + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void element(Object element) {
+        write(sectionPrefix);
+        write(DATA_PREFIX);
+        write(objectWriter.writeValueAsBytes(element));
+        write(LINE_SUFFIX);
+    }
+
+    @Override
+    public void end() {
+        flush();
+    }
+
+    private void write(byte[] bytes) {
+        try {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
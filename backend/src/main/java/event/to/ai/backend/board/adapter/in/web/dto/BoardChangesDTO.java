@@ -0,0 +1,83 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+// 從 since 到 revision 之間新增 / 更新 / 刪除的元件
+// client 套用後，下一次以 revision 作為 since 再查詢
+public class BoardChangesDTO {
+
+    private UUID boardId;
+    private long since;
+    private long revision;
+    // since 比目前 revision 還新（例如 Board 被重建），或 since 之後的 tombstone 已被清除，client 需改用完整快照重新載入
+    private boolean fullResyncRequired;
+    private List<StickyNoteDTO> stickyNotes;
+    private List<TextBoxesDTO> textBoxes;
+    private List<FrameDTO> frames;
+    private List<DomainModelItemDTO> domainModelItems;
+    private List<ConnectorDTO> connectors;
+    private List<BoardElementTombstoneDTO> deleted;
+
+    public BoardChangesDTO(UUID boardId, long since, long revision, boolean fullResyncRequired,
+                           List<StickyNoteDTO> stickyNotes, List<TextBoxesDTO> textBoxes,
+                           List<FrameDTO> frames, List<DomainModelItemDTO> domainModelItems,
+                           List<ConnectorDTO> connectors, List<BoardElementTombstoneDTO> deleted) {
+        this.boardId = boardId;
+        this.since = since;
+        this.revision = revision;
+        this.fullResyncRequired = fullResyncRequired;
+        this.stickyNotes = stickyNotes;
+        this.textBoxes = textBoxes;
+        this.frames = frames;
+        this.domainModelItems = domainModelItems;
+        this.connectors = connectors;
+        this.deleted = deleted;
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public long getSince() {
+        return since;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public boolean isFullResyncRequired() {
+        return fullResyncRequired;
+    }
+
+    public List<StickyNoteDTO> getStickyNotes() {
+        return stickyNotes;
+    }
+
+    public List<TextBoxesDTO> getTextBoxes() {
+        return textBoxes;
+    }
+
+    public List<FrameDTO> getFrames() {
+        return frames;
+    }
+
+    public List<DomainModelItemDTO> getDomainModelItems() {
+        return domainModelItems;
+    }
+
+    public List<ConnectorDTO> getConnectors() {
+        return connectors;
+    }
+
+    public List<BoardElementTombstoneDTO> getDeleted() {
+        return deleted;
+    }
+}
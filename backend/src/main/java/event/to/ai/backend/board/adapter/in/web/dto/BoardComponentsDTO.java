@@ -17,6 +17,8 @@ public class BoardComponentsDTO {
     private List<FrameDTO> frames;
     private List<DomainModelItemDTO> domainModelItems;
     private List<ConnectorDTO> connectors;
+    // 讀取快照前的 Board revision，之後可作為 /changes 的 since
+    private long revision;
 
     public BoardComponentsDTO(UUID boardId, List<StickyNoteDTO> stickyNotes, List<TextBoxesDTO> textBoxes,
                               List<FrameDTO> frames, List<DomainModelItemDTO> domainModelItems,
@@ -52,4 +54,12 @@ public class BoardComponentsDTO {
     public List<ConnectorDTO> getConnectors() {
         return connectors;
     }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
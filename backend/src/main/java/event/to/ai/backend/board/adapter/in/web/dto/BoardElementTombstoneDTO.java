@@ -0,0 +1,30 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+
+import java.util.UUID;
+
+public class BoardElementTombstoneDTO {
+
+    private UUID id;
+    private BoardElementType type;
+    private long revision;
+
+    public BoardElementTombstoneDTO(UUID id, BoardElementType type, long revision) {
+        this.id = id;
+        this.type = type;
+        this.revision = revision;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public BoardElementType getType() {
+        return type;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+}
@@ -0,0 +1,46 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import jakarta.validation.Valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// POST /api/boards/{boardId}/elements:batch
+// 貼上、多選操作、復原等一次異動多個元件時使用，整批在同一個交易內成功或失敗
+public class BoardElementsBatchRequest {
+
+    @Valid
+    private ElementCreateOperations create = new ElementCreateOperations();
+
+    @Valid
+    private ElementUpdateOperations update = new ElementUpdateOperations();
+
+    private List<@Valid ElementDeleteOperation> delete = new ArrayList<>();
+
+    public BoardElementsBatchRequest() {
+    }
+
+    public ElementCreateOperations getCreate() {
+        return create;
+    }
+
+    public void setCreate(ElementCreateOperations create) {
+        this.create = create != null ? create : new ElementCreateOperations();
+    }
+
+    public ElementUpdateOperations getUpdate() {
+        return update;
+    }
+
+    public void setUpdate(ElementUpdateOperations update) {
+        this.update = update != null ? update : new ElementUpdateOperations();
+    }
+
+    public List<ElementDeleteOperation> getDelete() {
+        return delete;
+    }
+
+    public void setDelete(List<ElementDeleteOperation> delete) {
+        this.delete = delete != null ? delete : new ArrayList<>();
+    }
+}
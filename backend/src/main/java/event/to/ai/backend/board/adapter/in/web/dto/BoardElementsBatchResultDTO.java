@@ -0,0 +1,68 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 批次異動的結果，同時也是 elements.batched 即時事件的 payload
+// 整批共用同一個 revision，createdIds 為 tempId -> 真正 id 的對照
+// detached 為因 Frame 被刪除而清除 frame_id 的元件，deleted 包含一併刪除的子元件與錨定在其上的 connector
+public class BoardElementsBatchResultDTO {
+
+    private UUID boardId;
+    private long revision;
+    private Map<UUID, UUID> createdIds;
+    private BoardElementsDTO created;
+    private BoardElementsDTO updated;
+    private Map<BoardElementType, List<UUID>> detached;
+    private List<BoardElementTombstoneDTO> deleted;
+
+    public BoardElementsBatchResultDTO(UUID boardId, long revision, Map<UUID, UUID> createdIds,
+                                       BoardElementsDTO created, BoardElementsDTO updated,
+                                       List<BoardElementTombstoneDTO> deleted) {
+        this(boardId, revision, createdIds, created, updated, Map.of(), deleted);
+    }
+
+    public BoardElementsBatchResultDTO(UUID boardId, long revision, Map<UUID, UUID> createdIds,
+                                       BoardElementsDTO created, BoardElementsDTO updated,
+                                       Map<BoardElementType, List<UUID>> detached,
+                                       List<BoardElementTombstoneDTO> deleted) {
+        this.boardId = boardId;
+        this.revision = revision;
+        this.createdIds = createdIds;
+        this.created = created;
+        this.updated = updated;
+        this.detached = detached;
+        this.deleted = deleted;
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public Map<UUID, UUID> getCreatedIds() {
+        return createdIds;
+    }
+
+    public BoardElementsDTO getCreated() {
+        return created;
+    }
+
+    public BoardElementsDTO getUpdated() {
+        return updated;
+    }
+
+    public Map<BoardElementType, List<UUID>> getDetached() {
+        return detached;
+    }
+
+    public List<BoardElementTombstoneDTO> getDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,39 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import java.util.UUID;
+
+// 大型 Board 刪除後背景清除的進度，done 為 true 代表元件與 Board 本身都已刪除
+public class BoardPurgeProgressDTO {
+
+    private UUID boardId;
+    private long totalElements;
+    private long deletedElements;
+    private boolean done;
+
+    public BoardPurgeProgressDTO(UUID boardId, long totalElements, long deletedElements, boolean done) {
+        this.boardId = boardId;
+        this.totalElements = totalElements;
+        this.deletedElements = deletedElements;
+        this.done = done;
+    }
+
+    public static BoardPurgeProgressDTO done(UUID boardId) {
+        return new BoardPurgeProgressDTO(boardId, 0, 0, true);
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public long getDeletedElements() {
+        return deletedElements;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+}
@@ -0,0 +1,41 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+// 批次新增的單一元件，tempId 是前端暫時產生的 UUID
+// 同一批內其他元件的 frameId / fromTargetId / toTargetId 可以直接引用 tempId，後端會換成真正的 id
+// data 的 boardId 可省略，一律以路徑上的 boardId 為準
+public class ElementCreateOperation<T> {
+
+    @NotNull(message = "Temp id is required")
+    private UUID tempId;
+
+    @NotNull(message = "Element data is required")
+    private T data;
+
+    public ElementCreateOperation() {
+    }
+
+    public ElementCreateOperation(UUID tempId, T data) {
+        this.tempId = tempId;
+        this.data = data;
+    }
+
+    public UUID getTempId() {
+        return tempId;
+    }
+
+    public void setTempId(UUID tempId) {
+        this.tempId = tempId;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+}
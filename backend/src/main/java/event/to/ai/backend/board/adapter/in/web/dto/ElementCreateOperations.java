@@ -0,0 +1,73 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.connector.adapter.in.web.dto.CreateConnectorRequest;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.CreateDomainModelItemRequest;
+import event.to.ai.backend.frame.adapter.in.web.dto.CreateFrameRequest;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
+import event.to.ai.backend.textbox.adapter.in.web.dto.CreateTextBoxesRequest;
+import jakarta.validation.Valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 依元件類型分組的批次新增，後端會先建立 frames，再建立其他元件，最後才是 connectors
+public class ElementCreateOperations {
+
+    private List<@Valid ElementCreateOperation<CreateStickyNoteRequest>> stickyNotes = new ArrayList<>();
+
+    private List<@Valid ElementCreateOperation<CreateTextBoxesRequest>> textBoxes = new ArrayList<>();
+
+    private List<@Valid ElementCreateOperation<CreateFrameRequest>> frames = new ArrayList<>();
+
+    private List<@Valid ElementCreateOperation<CreateDomainModelItemRequest>> domainModelItems = new ArrayList<>();
+
+    private List<@Valid ElementCreateOperation<CreateConnectorRequest>> connectors = new ArrayList<>();
+
+    public ElementCreateOperations() {
+    }
+
+    public int size() {
+        return stickyNotes.size() + textBoxes.size() + frames.size()
+                + domainModelItems.size() + connectors.size();
+    }
+
+    public List<ElementCreateOperation<CreateStickyNoteRequest>> getStickyNotes() {
+        return stickyNotes;
+    }
+
+    public void setStickyNotes(List<ElementCreateOperation<CreateStickyNoteRequest>> stickyNotes) {
+        this.stickyNotes = stickyNotes != null ? stickyNotes : new ArrayList<>();
+    }
+
+    public List<ElementCreateOperation<CreateTextBoxesRequest>> getTextBoxes() {
+        return textBoxes;
+    }
+
+    public void setTextBoxes(List<ElementCreateOperation<CreateTextBoxesRequest>> textBoxes) {
+        this.textBoxes = textBoxes != null ? textBoxes : new ArrayList<>();
+    }
+
+    public List<ElementCreateOperation<CreateFrameRequest>> getFrames() {
+        return frames;
+    }
+
+    public void setFrames(List<ElementCreateOperation<CreateFrameRequest>> frames) {
+        this.frames = frames != null ? frames : new ArrayList<>();
+    }
+
+    public List<ElementCreateOperation<CreateDomainModelItemRequest>> getDomainModelItems() {
+        return domainModelItems;
+    }
+
+    public void setDomainModelItems(List<ElementCreateOperation<CreateDomainModelItemRequest>> domainModelItems) {
+        this.domainModelItems = domainModelItems != null ? domainModelItems : new ArrayList<>();
+    }
+
+    public List<ElementCreateOperation<CreateConnectorRequest>> getConnectors() {
+        return connectors;
+    }
+
+    public void setConnectors(List<ElementCreateOperation<CreateConnectorRequest>> connectors) {
+        this.connectors = connectors != null ? connectors : new ArrayList<>();
+    }
+}
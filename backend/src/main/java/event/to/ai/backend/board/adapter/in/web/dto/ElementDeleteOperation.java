@@ -0,0 +1,50 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public class ElementDeleteOperation {
+
+    @NotNull(message = "Element type is required")
+    private BoardElementType type;
+
+    @NotNull(message = "Element id is required")
+    private UUID id;
+
+    // 只用於 FRAME，與 DELETE /frames/{id} 的 mode 相同，預設 detach
+    private String mode;
+
+    public ElementDeleteOperation() {
+    }
+
+    public ElementDeleteOperation(BoardElementType type, UUID id) {
+        this.type = type;
+        this.id = id;
+    }
+
+    public BoardElementType getType() {
+        return type;
+    }
+
+    public void setType(BoardElementType type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+}
@@ -0,0 +1,87 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+// 拖曳 / 縮放時送出的最新位置，width / height 為 null 代表尺寸沒變
+// StickyNote / TextBox 對應 geoX / geoY，Frame 對應 width / height
+public class ElementMoveRequest {
+
+    @NotNull(message = "Element type is required")
+    private BoardElementType type;
+
+    @NotNull(message = "Element id is required")
+    private UUID id;
+
+    @NotNull(message = "PosX is required")
+    private Double posX;
+
+    @NotNull(message = "PosY is required")
+    private Double posY;
+
+    private Double width;
+
+    private Double height;
+
+    public ElementMoveRequest() {
+    }
+
+    public ElementMoveRequest(BoardElementType type, UUID id, Double posX, Double posY, Double width, Double height) {
+        this.type = type;
+        this.id = id;
+        this.posX = posX;
+        this.posY = posY;
+        this.width = width;
+        this.height = height;
+    }
+
+    public BoardElementType getType() {
+        return type;
+    }
+
+    public void setType(BoardElementType type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Double getPosX() {
+        return posX;
+    }
+
+    public void setPosX(Double posX) {
+        this.posX = posX;
+    }
+
+    public Double getPosY() {
+        return posY;
+    }
+
+    public void setPosY(Double posY) {
+        this.posY = posY;
+    }
+
+    public Double getWidth() {
+        return width;
+    }
+
+    public void setWidth(Double width) {
+        this.width = width;
+    }
+
+    public Double getHeight() {
+        return height;
+    }
+
+    public void setHeight(Double height) {
+        this.height = height;
+    }
+}
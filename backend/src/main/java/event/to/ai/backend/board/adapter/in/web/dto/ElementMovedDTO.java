@@ -0,0 +1,47 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import java.util.UUID;
+
+// *.moved 事件中的單一元件，width / height 為 null 代表尺寸沒變
+public class ElementMovedDTO {
+
+    private UUID id;
+    private double posX;
+    private double posY;
+    private Double width;
+    private Double height;
+    private long revision;
+
+    public ElementMovedDTO(UUID id, double posX, double posY, Double width, Double height, long revision) {
+        this.id = id;
+        this.posX = posX;
+        this.posY = posY;
+        this.width = width;
+        this.height = height;
+        this.revision = revision;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public double getPosX() {
+        return posX;
+    }
+
+    public double getPosY() {
+        return posY;
+    }
+
+    public Double getWidth() {
+        return width;
+    }
+
+    public Double getHeight() {
+        return height;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+}
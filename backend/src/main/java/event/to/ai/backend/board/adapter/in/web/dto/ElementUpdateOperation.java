@@ -0,0 +1,41 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+// 批次更新的單一元件，data 與單筆 PUT 的 request 相同，只會套用非 null 的欄位
+public class ElementUpdateOperation<T> {
+
+    @NotNull(message = "Element id is required")
+    private UUID id;
+
+    @Valid
+    @NotNull(message = "Element data is required")
+    private T data;
+
+    public ElementUpdateOperation() {
+    }
+
+    public ElementUpdateOperation(UUID id, T data) {
+        this.id = id;
+        this.data = data;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public T getData() {
+        return data;
+    }
+
+    public void setData(T data) {
+        this.data = data;
+    }
+}
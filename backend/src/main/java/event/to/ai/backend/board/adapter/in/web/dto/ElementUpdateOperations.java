@@ -0,0 +1,72 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import event.to.ai.backend.connector.adapter.in.web.dto.UpdateConnectorRequest;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.UpdateDomainModelItemRequest;
+import event.to.ai.backend.frame.adapter.in.web.dto.UpdateFrameRequest;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.UpdateStickyNoteRequest;
+import event.to.ai.backend.textbox.adapter.in.web.dto.UpdateTextBoxesRequest;
+import jakarta.validation.Valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ElementUpdateOperations {
+
+    private List<@Valid ElementUpdateOperation<UpdateStickyNoteRequest>> stickyNotes = new ArrayList<>();
+
+    private List<@Valid ElementUpdateOperation<UpdateTextBoxesRequest>> textBoxes = new ArrayList<>();
+
+    private List<@Valid ElementUpdateOperation<UpdateFrameRequest>> frames = new ArrayList<>();
+
+    private List<@Valid ElementUpdateOperation<UpdateDomainModelItemRequest>> domainModelItems = new ArrayList<>();
+
+    private List<@Valid ElementUpdateOperation<UpdateConnectorRequest>> connectors = new ArrayList<>();
+
+    public ElementUpdateOperations() {
+    }
+
+    public int size() {
+        return stickyNotes.size() + textBoxes.size() + frames.size()
+                + domainModelItems.size() + connectors.size();
+    }
+
+    public List<ElementUpdateOperation<UpdateStickyNoteRequest>> getStickyNotes() {
+        return stickyNotes;
+    }
+
+    public void setStickyNotes(List<ElementUpdateOperation<UpdateStickyNoteRequest>> stickyNotes) {
+        this.stickyNotes = stickyNotes != null ? stickyNotes : new ArrayList<>();
+    }
+
+    public List<ElementUpdateOperation<UpdateTextBoxesRequest>> getTextBoxes() {
+        return textBoxes;
+    }
+
+    public void setTextBoxes(List<ElementUpdateOperation<UpdateTextBoxesRequest>> textBoxes) {
+        this.textBoxes = textBoxes != null ? textBoxes : new ArrayList<>();
+    }
+
+    public List<ElementUpdateOperation<UpdateFrameRequest>> getFrames() {
+        return frames;
+    }
+
+    public void setFrames(List<ElementUpdateOperation<UpdateFrameRequest>> frames) {
+        this.frames = frames != null ? frames : new ArrayList<>();
+    }
+
+    public List<ElementUpdateOperation<UpdateDomainModelItemRequest>> getDomainModelItems() {
+        return domainModelItems;
+    }
+
+    public void setDomainModelItems(List<ElementUpdateOperation<UpdateDomainModelItemRequest>> domainModelItems) {
+        this.domainModelItems = domainModelItems != null ? domainModelItems : new ArrayList<>();
+    }
+
+    public List<ElementUpdateOperation<UpdateConnectorRequest>> getConnectors() {
+        return connectors;
+    }
+
+    public void setConnectors(List<ElementUpdateOperation<UpdateConnectorRequest>> connectors) {
+        this.connectors = connectors != null ? connectors : new ArrayList<>();
+    }
+}
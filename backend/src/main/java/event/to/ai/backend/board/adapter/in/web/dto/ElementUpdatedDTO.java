@@ -0,0 +1,27 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import java.util.List;
+import java.util.UUID;
+
+// 位置或尺寸有變動的 *.updated 事件：元件本身的欄位攤平在最外層，另外附上錨定在該元件上的 connector id
+public class ElementUpdatedDTO<T> {
+
+    private final T element;
+    private final List<UUID> connectorIds;
+
+    public ElementUpdatedDTO(T element, List<UUID> connectorIds) {
+        this.element = element;
+        this.connectorIds = connectorIds;
+    }
+
+    @JsonUnwrapped
+    public T getElement() {
+        return element;
+    }
+
+    public List<UUID> getConnectorIds() {
+        return connectorIds;
+    }
+}
@@ -0,0 +1,27 @@
+package event.to.ai.backend.board.adapter.in.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class MoveElementsRequest {
+
+    @NotEmpty(message = "Moves are required")
+    private List<@Valid ElementMoveRequest> moves;
+
+    public MoveElementsRequest() {
+    }
+
+    public MoveElementsRequest(List<ElementMoveRequest> moves) {
+        this.moves = moves;
+    }
+
+    public List<ElementMoveRequest> getMoves() {
+        return moves;
+    }
+
+    public void setMoves(List<ElementMoveRequest> moves) {
+        this.moves = moves;
+    }
+}
@@ -1,42 +1,61 @@
 package event.to.ai.backend.board.adapter.out.persistence;
 
 import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
-import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
-import event.to.ai.backend.domainmodel.adapter.out.persistence.DomainModelItemRepository;
-import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
-import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
-import event.to.ai.backend.textbox.adapter.out.persistence.TextBoxesRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
+// 整張 Board 的元件以 JPQL bulk delete 刪除，不經過 derived delete 的「先載入再逐筆刪除」
+// connector 參照其他元件的 id，所以最先刪除；frame_id 只是普通欄位，frame 最後刪除即可
 @Component
 public class BoardContentPersistenceAdapter implements BoardContentRepositoryPort {
 
-    private final ConnectorRepository connectorRepository;
-    private final StickyNoteRepository stickyNoteRepository;
-    private final TextBoxesRepository textBoxesRepository;
-    private final DomainModelItemRepository domainModelItemRepository;
-    private final FrameRepository frameRepository;
-
-    public BoardContentPersistenceAdapter(ConnectorRepository connectorRepository,
-                                          StickyNoteRepository stickyNoteRepository,
-                                          TextBoxesRepository textBoxesRepository,
-                                          DomainModelItemRepository domainModelItemRepository,
-                                          FrameRepository frameRepository) {
-        this.connectorRepository = connectorRepository;
-        this.stickyNoteRepository = stickyNoteRepository;
-        this.textBoxesRepository = textBoxesRepository;
-        this.domainModelItemRepository = domainModelItemRepository;
-        this.frameRepository = frameRepository;
-    }
+    private static final List<String> ELEMENT_ENTITIES =
+            List.of("Connector", "StickyNote", "TextBoxes", "DomainModelItem", "Frame");
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Override
     public void deleteAllByBoardId(UUID boardId) {
-        connectorRepository.deleteAllByBoardId(boardId);
-        stickyNoteRepository.deleteAllByBoardId(boardId);
-        textBoxesRepository.deleteAllByBoardId(boardId);
-        domainModelItemRepository.deleteAllByBoardId(boardId);
-        frameRepository.deleteAllByBoardId(boardId);
+        for (String entity : ELEMENT_ENTITIES) {
+            entityManager.createQuery("delete from " + entity + " e where e.board.id = :boardId")
+                    .setParameter("boardId", boardId)
+                    .executeUpdate();
+        }
+        entityManager.createQuery("delete from BoardElementTombstone t where t.boardId = :boardId")
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+    }
+
+    @Override
+    public long countElementsByBoardId(UUID boardId) {
+        long count = 0;
+        for (String entity : ELEMENT_ENTITIES) {
+            count += entityManager.createQuery("select count(e) from " + entity + " e where e.board.id = :boardId", Long.class)
+                    .setParameter("boardId", boardId)
+                    .getSingleResult();
+        }
+        return count;
+    }
+
+    @Override
+    public int deleteElementChunkByBoardId(UUID boardId, int chunkSize) {
+        // MySQL 不支援 IN 子查詢加 LIMIT，先取一批 id 再依主鍵刪除，每批只鎖住這些列
+        for (String entity : ELEMENT_ENTITIES) {
+            List<UUID> ids = entityManager.createQuery("select e.id from " + entity + " e where e.board.id = :boardId", UUID.class)
+                    .setParameter("boardId", boardId)
+                    .setMaxResults(chunkSize)
+                    .getResultList();
+            if (!ids.isEmpty()) {
+                return entityManager.createQuery("delete from " + entity + " e where e.id in :ids")
+                        .setParameter("ids", ids)
+                        .executeUpdate();
+            }
+        }
+        return 0;
     }
 }
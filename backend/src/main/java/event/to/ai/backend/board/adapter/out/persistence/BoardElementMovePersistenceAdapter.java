@@ -0,0 +1,132 @@
+package event.to.ai.backend.board.adapter.out.persistence;
+
+import event.to.ai.backend.board.application.port.out.BoardElementMoveRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.board.domain.ElementMove;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 拖曳只改位置 / 尺寸，直接用 JDBC batch update，不必先把整個 entity 載入 persistence context
+@Component
+public class BoardElementMovePersistenceAdapter implements BoardElementMoveRepositoryPort {
+
+    private static final String STICKY_NOTE_MOVE_SQL =
+            "update sticky_notes set pos_x = ?, pos_y = ?, geo_x = coalesce(?, geo_x), geo_y = coalesce(?, geo_y), " +
+            "revision = ?, updated_at = ? where id = ? and board_id = ?";
+
+    private static final String TEXT_BOX_MOVE_SQL =
+            "update text_boxes set pos_x = ?, pos_y = ?, geo_x = coalesce(?, geo_x), geo_y = coalesce(?, geo_y), " +
+            "revision = ?, updated_at = ? where id = ? and board_id = ?";
+
+    private static final String FRAME_MOVE_SQL =
+            "update frames set pos_x = ?, pos_y = ?, width = coalesce(?, width), height = coalesce(?, height), " +
+            "revision = ?, updated_at = ? where id = ? and board_id = ?";
+
+    private static final String ANCHORED_CONNECTORS_SQL =
+            "select id, from_target_id, to_target_id from connectors where board_id = ? " +
+            "and (from_target_id in (%1$s) or to_target_id in (%1$s))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public BoardElementMovePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean[] applyMoves(UUID boardId, BoardElementType type, long revision, List<ElementMove> moves) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        byte[] boardIdBytes = toBytes(boardId);
+        List<Object[]> batchArgs = new ArrayList<>(moves.size());
+        for (ElementMove move : moves) {
+            batchArgs.add(new Object[]{
+                    move.posX(), move.posY(),
+                    // width / height 可能為 null，明確指定型別讓 driver 不必推測 coalesce 參數型別
+                    new SqlParameterValue(Types.DOUBLE, move.width()),
+                    new SqlParameterValue(Types.DOUBLE, move.height()),
+                    revision, now, toBytes(move.id()), boardIdBytes
+            });
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(sqlFor(type), batchArgs);
+        boolean[] applied = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            // MySQL rewriteBatchedStatements 時可能只回傳 SUCCESS_NO_INFO
+            applied[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        return applied;
+    }
+
+    @Override
+    public Map<UUID, List<UUID>> findAnchoredConnectorIds(UUID boardId, Collection<UUID> elementIds) {
+        if (elementIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(elementIds.size(), "?"));
+        List<Object> args = new ArrayList<>(elementIds.size() * 2 + 1);
+        args.add(toBytes(boardId));
+        for (int i = 0; i < 2; i++) {
+            for (UUID elementId : elementIds) {
+                args.add(toBytes(elementId));
+            }
+        }
+
+        Set<UUID> targetIds = new HashSet<>(elementIds);
+        Map<UUID, List<UUID>> connectorIdsByElement = new HashMap<>();
+        jdbcTemplate.query(String.format(ANCHORED_CONNECTORS_SQL, placeholders), rs -> {
+            UUID connectorId = fromBytes(rs.getBytes("id"));
+            UUID fromTargetId = fromBytes(rs.getBytes("from_target_id"));
+            UUID toTargetId = fromBytes(rs.getBytes("to_target_id"));
+            // 兩端錨定在不同元件上時，兩個元件各記一次
+            if (fromTargetId != null && targetIds.contains(fromTargetId)) {
+                connectorIdsByElement.computeIfAbsent(fromTargetId, key -> new ArrayList<>()).add(connectorId);
+            }
+            if (toTargetId != null && !toTargetId.equals(fromTargetId) && targetIds.contains(toTargetId)) {
+                connectorIdsByElement.computeIfAbsent(toTargetId, key -> new ArrayList<>()).add(connectorId);
+            }
+        }, args.toArray());
+        return connectorIdsByElement;
+    }
+
+    private String sqlFor(BoardElementType type) {
+        return switch (type) {
+            case STICKY_NOTE -> STICKY_NOTE_MOVE_SQL;
+            case TEXT_BOX -> TEXT_BOX_MOVE_SQL;
+            case FRAME -> FRAME_MOVE_SQL;
+            default -> throw new RuntimeException("Unsupported move element type: " + type);
+        };
+    }
+
+    // id 欄位為 BINARY(16)，與 Hibernate 相同以 big-endian 的 16 bytes 儲存
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
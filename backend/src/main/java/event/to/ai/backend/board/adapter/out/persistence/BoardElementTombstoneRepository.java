@@ -0,0 +1,15 @@
+package event.to.ai.backend.board.adapter.out.persistence;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BoardElementTombstoneRepository extends JpaRepository<BoardElementTombstone, UUID> {
+
+    List<BoardElementTombstone> findAllByBoardIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByRevision(
+            UUID boardId, long sinceRevision, long untilRevision);
+}
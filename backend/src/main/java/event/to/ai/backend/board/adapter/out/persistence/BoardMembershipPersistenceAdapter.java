@@ -1,6 +1,7 @@
 package event.to.ai.backend.board.adapter.out.persistence;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
 import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -38,6 +39,11 @@ public class BoardMembershipPersistenceAdapter implements BoardMembershipReposit
         return boardMembershipRepository.findByBoardIdAndUserId(boardId, userId);
     }
 
+    @Override
+    public Optional<BoardMembershipRole> findRoleByBoardIdAndUserId(UUID boardId, UUID userId) {
+        return boardMembershipRepository.findRoleByBoardIdAndUserId(boardId, userId);
+    }
+
     @Override
     public Optional<BoardMembership> findByBoardIdAndUserEmail(UUID boardId, String userEmail) {
         return boardMembershipRepository.findByBoardIdAndUser_Email(boardId, userEmail);
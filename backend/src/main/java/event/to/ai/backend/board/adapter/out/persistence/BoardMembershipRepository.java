@@ -2,8 +2,11 @@ package event.to.ai.backend.board.adapter.out.persistence;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipId;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
 import event.to.ai.backend.user.adapter.out.persistence.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,6 +22,9 @@ public interface BoardMembershipRepository extends JpaRepository<BoardMembership
 
     Optional<BoardMembership> findByBoardIdAndUserId(UUID boardId, UUID userId);
 
+    @Query("select m.role from BoardMembership m where m.board.id = :boardId and m.user.id = :userId")
+    Optional<BoardMembershipRole> findRoleByBoardIdAndUserId(@Param("boardId") UUID boardId, @Param("userId") UUID userId);
+
     // 因為 BoardMembership 的 entity 上沒有 userEmail 這個欄位
     // 是用關聯的 user 中拿到 email
     // 所以 Spring Data 中規定用 `_` 來表示
@@ -6,6 +6,7 @@ import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -49,4 +50,29 @@ public class BoardPersistenceAdapter implements BoardRepositoryPort {
     public void deleteById(UUID id) {
         boardRepository.deleteById(id);
     }
+
+    @Override
+    public void markPurging(UUID id, long totalElements) {
+        boardRepository.markPurging(id, totalElements);
+    }
+
+    @Override
+    public boolean claimPurge(UUID id, UUID owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return boardRepository.claimPurge(id, owner, now, leaseUntil) > 0;
+    }
+
+    @Override
+    public boolean renewPurgeLease(UUID id, UUID owner, LocalDateTime leaseUntil) {
+        return boardRepository.renewPurgeLease(id, owner, leaseUntil) > 0;
+    }
+
+    @Override
+    public void addPurgedElements(UUID id, long deleted) {
+        boardRepository.addPurgedElements(id, deleted);
+    }
+
+    @Override
+    public List<UUID> findPurgingBoardIds() {
+        return boardRepository.findPurgingIds();
+    }
 }
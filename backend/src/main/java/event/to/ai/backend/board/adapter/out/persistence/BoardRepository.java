@@ -2,8 +2,12 @@ package event.to.ai.backend.board.adapter.out.persistence;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.List;
 
@@ -11,4 +15,28 @@ import java.util.List;
 public interface BoardRepository extends JpaRepository<Board, UUID> {
 
     List<Board> findAllByOwnerId(UUID ownerId);
+
+    @Modifying
+    @Query("update Board b set b.purging = true, b.purgeTotalElements = :totalElements where b.id = :boardId")
+    int markPurging(@Param("boardId") UUID boardId, @Param("totalElements") long totalElements);
+
+    // 沒有人持有、已由自己持有或租約已過期時才取得
+    @Modifying
+    @Query("update Board b set b.purgeOwner = :owner, b.purgeLeaseUntil = :leaseUntil " +
+            "where b.id = :boardId and b.purging = true " +
+            "and (b.purgeOwner is null or b.purgeOwner = :owner or b.purgeLeaseUntil < :now)")
+    int claimPurge(@Param("boardId") UUID boardId, @Param("owner") UUID owner,
+                   @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update Board b set b.purgeLeaseUntil = :leaseUntil where b.id = :boardId and b.purgeOwner = :owner")
+    int renewPurgeLease(@Param("boardId") UUID boardId, @Param("owner") UUID owner,
+                        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("update Board b set b.purgeDeletedElements = b.purgeDeletedElements + :deleted where b.id = :boardId")
+    int addPurgedElements(@Param("boardId") UUID boardId, @Param("deleted") long deleted);
+
+    @Query("select b.id from Board b where b.purging = true")
+    List<UUID> findPurgingIds();
 }
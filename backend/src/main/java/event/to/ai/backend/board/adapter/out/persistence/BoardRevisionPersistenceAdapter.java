@@ -0,0 +1,102 @@
+package event.to.ai.backend.board.adapter.out.persistence;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+public class BoardRevisionPersistenceAdapter implements BoardRevisionRepositoryPort {
+
+    private final BoardElementTombstoneRepository boardElementTombstoneRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public BoardRevisionPersistenceAdapter(BoardElementTombstoneRepository boardElementTombstoneRepository) {
+        this.boardElementTombstoneRepository = boardElementTombstoneRepository;
+    }
+
+    @Override
+    public long incrementRevision(UUID boardId) {
+        // bulk update 直接在資料庫上 +1，不經過 persistence context 裡的 Board entity
+        int updated = entityManager.createQuery(
+                        "update Board b set b.revision = b.revision + 1 where b.id = :boardId")
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+        if (updated == 0) {
+            throw new RuntimeException("Board not found with id: " + boardId);
+        }
+        return findRevision(boardId)
+                .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
+    }
+
+    @Override
+    public Optional<Long> findRevision(UUID boardId) {
+        return entityManager.createQuery("select b.revision from Board b where b.id = :boardId", Long.class)
+                .setParameter("boardId", boardId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Long> findMinRetainedRevision(UUID boardId) {
+        return entityManager.createQuery("select b.minRetainedRevision from Board b where b.id = :boardId", Long.class)
+                .setParameter("boardId", boardId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public BoardElementTombstone saveTombstone(BoardElementTombstone tombstone) {
+        return boardElementTombstoneRepository.save(tombstone);
+    }
+
+    @Override
+    public List<BoardElementTombstone> findTombstones(UUID boardId, long sinceRevision, long untilRevision) {
+        return boardElementTombstoneRepository
+                .findAllByBoardIdAndRevisionGreaterThanAndRevisionLessThanEqualOrderByRevision(
+                        boardId, sinceRevision, untilRevision);
+    }
+
+    @Override
+    public Map<UUID, Long> findPrunableTombstoneRevisions(long retainRevisions, LocalDateTime deletedBefore) {
+        Map<UUID, Long> revisions = new HashMap<>();
+        entityManager.createQuery(
+                        "select t.boardId, max(t.revision) from BoardElementTombstone t, Board b " +
+                        "where b.id = t.boardId " +
+                        "and (t.revision <= b.revision - :retainRevisions or t.deletedAt < :deletedBefore) " +
+                        "group by t.boardId", Object[].class)
+                .setParameter("retainRevisions", retainRevisions)
+                .setParameter("deletedBefore", deletedBefore)
+                .getResultList()
+                .forEach(row -> revisions.put((UUID) row[0], (Long) row[1]));
+        return revisions;
+    }
+
+    @Override
+    public int pruneTombstones(UUID boardId, long untilRevision) {
+        // 先更新 Board 鎖住該列，與 incrementRevision 相同的上鎖順序，避免和同時寫入的交易互相等待
+        entityManager.createQuery(
+                        "update Board b set b.minRetainedRevision = :revision " +
+                        "where b.id = :boardId and b.minRetainedRevision < :revision")
+                .setParameter("revision", untilRevision)
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+        return entityManager.createQuery(
+                        "delete from BoardElementTombstone t where t.boardId = :boardId and t.revision <= :revision")
+                .setParameter("boardId", boardId)
+                .setParameter("revision", untilRevision)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,414 @@
+package event.to.ai.backend.board.adapter.out.persistence;
+
+import event.to.ai.backend.board.application.BoardViewport;
+import event.to.ai.backend.board.application.port.out.BoardSnapshotRepositoryPort;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.connector.domain.ConnectorAnchorSide;
+import event.to.ai.backend.connector.domain.ConnectorArrowType;
+import event.to.ai.backend.connector.domain.ConnectorLineType;
+import event.to.ai.backend.connector.domain.ConnectorTargetType;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainAttributeDTO;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.entity.DomainAttributeData;
+import event.to.ai.backend.domainmodel.domain.DomainModelItemType;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 以 JPQL 欄位投影讀取整張 Board 的元件
+// `x.board.id` 會直接使用 board_id 外鍵欄位，不會 join boards，也不會觸發 Board 的 eager 載入
+@Component
+public class BoardSnapshotPersistenceAdapter implements BoardSnapshotRepositoryPort {
+
+    static final String STICKY_NOTE_QUERY = """
+            select s.id as id, s.board.id as boardId, s.frameId as frameId,
+                   s.pos.x as posX, s.pos.y as posY, s.geo.x as geoX, s.geo.y as geoY,
+                   s.description as description, s.color as color, s.tag as tag,
+                   s.fontColor as fontColor, s.fontSize as fontSize, s.zIndex as zIndex
+            from StickyNote s
+            where s.board.id = :boardId
+            """;
+
+    static final String TEXT_BOX_QUERY = """
+            select t.id as id, t.board.id as boardId, t.frameID as frameId,
+                   t.pos.x as posX, t.pos.y as posY, t.geo.x as geoX, t.geo.y as geoY,
+                   t.description as description, t.tag as tag,
+                   t.fontColor as fontColor, t.fontSize as fontSize, t.zIndex as zIndex
+            from TextBoxes t
+            where t.board.id = :boardId
+            """;
+
+    static final String FRAME_QUERY = """
+            select f.id as id, f.board.id as boardId,
+                   f.pos.x as posX, f.pos.y as posY, f.size.x as width, f.size.y as height,
+                   f.title as title, f.zIndex as zIndex
+            from Frame f
+            where f.board.id = :boardId
+            """;
+
+    static final String DOMAIN_MODEL_ITEM_QUERY = """
+            select d.id as id, d.board.id as boardId, d.frameId as frameId,
+                   d.pos.x as posX, d.pos.y as posY, d.size.x as width, d.size.y as height,
+                   d.name as name, d.type as type, d.description as description,
+                   d.attributes as attributes, d.zIndex as zIndex,
+                   d.createdAt as createdAt, d.updatedAt as updatedAt
+            from DomainModelItem d
+            where d.board.id = :boardId
+            """;
+
+    static final String CONNECTOR_QUERY = """
+            select c.id as id, c.board.id as boardId, c.frameId as frameId,
+                   c.fromTargetType as fromTargetType, c.fromTargetId as fromTargetId,
+                   c.fromSide as fromSide, c.fromOffset as fromOffset,
+                   c.fromPoint.x as fromX, c.fromPoint.y as fromY,
+                   c.toTargetType as toTargetType, c.toTargetId as toTargetId,
+                   c.toSide as toSide, c.toOffset as toOffset,
+                   c.toPoint.x as toX, c.toPoint.y as toY,
+                   c.lineType as lineType, c.label as label,
+                   c.strokeColor as strokeColor, c.strokeWidth as strokeWidth, c.dashed as dashed,
+                   c.startArrow as startArrow, c.endArrow as endArrow, c.zIndex as zIndex
+            from Connector c
+            where c.board.id = :boardId
+            """;
+
+    // 增量同步：只取 revision 落在 (since, until] 的元件
+    static final String STICKY_NOTE_CHANGES_QUERY = STICKY_NOTE_QUERY + "  and s.revision > :since and s.revision <= :until";
+    static final String TEXT_BOX_CHANGES_QUERY = TEXT_BOX_QUERY + "  and t.revision > :since and t.revision <= :until";
+    static final String FRAME_CHANGES_QUERY = FRAME_QUERY + "  and f.revision > :since and f.revision <= :until";
+    static final String DOMAIN_MODEL_ITEM_CHANGES_QUERY = DOMAIN_MODEL_ITEM_QUERY + "  and d.revision > :since and d.revision <= :until";
+    static final String CONNECTOR_CHANGES_QUERY = CONNECTOR_QUERY + "  and c.revision > :since and c.revision <= :until";
+
+    // 視窗查詢：bounding box 與視窗相交
+    // pos_x 同時有上下界：元件的右緣要超過 minX，左緣至少在 minX - (這張 Board 上該種元件的最大寬度)
+    // (board_id, pos_x) 索引因此只掃描視窗附近的範圍；最大寬度由 (board_id, 寬度) 索引取得，不必掃描整張 Board
+    static final String STICKY_NOTE_IN_VIEWPORT =
+            "s.pos.x between :stickyNoteMinX and :maxX and s.pos.x + s.geo.x >= :minX and s.pos.y <= :maxY and s.pos.y + s.geo.y >= :minY";
+    static final String TEXT_BOX_IN_VIEWPORT =
+            "t.pos.x between :textBoxMinX and :maxX and t.pos.x + t.geo.x >= :minX and t.pos.y <= :maxY and t.pos.y + t.geo.y >= :minY";
+    static final String FRAME_IN_VIEWPORT =
+            "f.pos.x between :frameMinX and :maxX and f.pos.x + f.size.x >= :minX and f.pos.y <= :maxY and f.pos.y + f.size.y >= :minY";
+    static final String DOMAIN_MODEL_ITEM_IN_VIEWPORT =
+            "d.pos.x between :domainModelItemMinX and :maxX and d.pos.x + d.size.x >= :minX and d.pos.y <= :maxY and d.pos.y + d.size.y >= :minY";
+
+    static final String STICKY_NOTE_VIEWPORT_QUERY = STICKY_NOTE_QUERY + "  and " + STICKY_NOTE_IN_VIEWPORT;
+    static final String TEXT_BOX_VIEWPORT_QUERY = TEXT_BOX_QUERY + "  and " + TEXT_BOX_IN_VIEWPORT;
+    static final String FRAME_VIEWPORT_QUERY = FRAME_QUERY + "  and " + FRAME_IN_VIEWPORT;
+    static final String DOMAIN_MODEL_ITEM_VIEWPORT_QUERY = DOMAIN_MODEL_ITEM_QUERY + "  and " + DOMAIN_MODEL_ITEM_IN_VIEWPORT;
+
+    static final String STICKY_NOTE_MAX_WIDTH_QUERY = "select max(s.geo.x) from StickyNote s where s.board.id = :boardId";
+    static final String TEXT_BOX_MAX_WIDTH_QUERY = "select max(t.geo.x) from TextBoxes t where t.board.id = :boardId";
+    static final String FRAME_MAX_WIDTH_QUERY = "select max(f.size.x) from Frame f where f.board.id = :boardId";
+    static final String DOMAIN_MODEL_ITEM_MAX_WIDTH_QUERY = "select max(d.size.x) from DomainModelItem d where d.board.id = :boardId";
+
+    // connector 的一端接在視窗內的元件上：以子查詢套用同樣的視窗條件，不必把可見元件的 id 逐一傳回資料庫
+    static final String VISIBLE_TARGET_IDS = Stream.of(
+                    "select s.id from StickyNote s where s.board.id = :boardId and " + STICKY_NOTE_IN_VIEWPORT,
+                    "select t.id from TextBoxes t where t.board.id = :boardId and " + TEXT_BOX_IN_VIEWPORT,
+                    "select f.id from Frame f where f.board.id = :boardId and " + FRAME_IN_VIEWPORT,
+                    "select d.id from DomainModelItem d where d.board.id = :boardId and " + DOMAIN_MODEL_ITEM_IN_VIEWPORT)
+            .flatMap(ids -> Stream.of("c.fromTargetId in (" + ids + ")", "c.toTargetId in (" + ids + ")"))
+            .collect(Collectors.joining("\n           or "));
+    static final String CONNECTOR_FREE_POINT_CONDITION = """
+            (c.fromPoint.x between :minX and :maxX and c.fromPoint.y between :minY and :maxY)
+                   or (c.toPoint.x between :minX and :maxX and c.toPoint.y between :minY and :maxY)""";
+    static final String CONNECTOR_VIEWPORT_QUERY = CONNECTOR_QUERY
+            + "  and (" + VISIBLE_TARGET_IDS + "\n           or " + CONNECTOR_FREE_POINT_CONDITION + ")";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 串流查詢時每次向資料庫取回的列數
+    // MySQL 需在連線字串加上 useCursorFetch=true 才會真的分批取回
+    @Value("${app.board.snapshot.stream-fetch-size:500}")
+    private int streamFetchSize;
+
+    @Override
+    public List<StickyNoteDTO> findStickyNotesByBoardId(UUID boardId) {
+        return query(STICKY_NOTE_QUERY, boardId, BoardSnapshotPersistenceAdapter::toStickyNoteDTO);
+    }
+
+    @Override
+    public List<TextBoxesDTO> findTextBoxesByBoardId(UUID boardId) {
+        return query(TEXT_BOX_QUERY, boardId, BoardSnapshotPersistenceAdapter::toTextBoxesDTO);
+    }
+
+    @Override
+    public List<FrameDTO> findFramesByBoardId(UUID boardId) {
+        return query(FRAME_QUERY, boardId, BoardSnapshotPersistenceAdapter::toFrameDTO);
+    }
+
+    @Override
+    public List<DomainModelItemDTO> findDomainModelItemsByBoardId(UUID boardId) {
+        return query(DOMAIN_MODEL_ITEM_QUERY, boardId, BoardSnapshotPersistenceAdapter::toDomainModelItemDTO);
+    }
+
+    @Override
+    public List<ConnectorDTO> findConnectorsByBoardId(UUID boardId) {
+        return query(CONNECTOR_QUERY, boardId, BoardSnapshotPersistenceAdapter::toConnectorDTO);
+    }
+
+    @Override
+    public Stream<StickyNoteDTO> streamStickyNotesByBoardId(UUID boardId) {
+        return stream(STICKY_NOTE_QUERY, boardId, BoardSnapshotPersistenceAdapter::toStickyNoteDTO);
+    }
+
+    @Override
+    public Stream<TextBoxesDTO> streamTextBoxesByBoardId(UUID boardId) {
+        return stream(TEXT_BOX_QUERY, boardId, BoardSnapshotPersistenceAdapter::toTextBoxesDTO);
+    }
+
+    @Override
+    public Stream<FrameDTO> streamFramesByBoardId(UUID boardId) {
+        return stream(FRAME_QUERY, boardId, BoardSnapshotPersistenceAdapter::toFrameDTO);
+    }
+
+    @Override
+    public Stream<DomainModelItemDTO> streamDomainModelItemsByBoardId(UUID boardId) {
+        return stream(DOMAIN_MODEL_ITEM_QUERY, boardId, BoardSnapshotPersistenceAdapter::toDomainModelItemDTO);
+    }
+
+    @Override
+    public Stream<ConnectorDTO> streamConnectorsByBoardId(UUID boardId) {
+        return stream(CONNECTOR_QUERY, boardId, BoardSnapshotPersistenceAdapter::toConnectorDTO);
+    }
+
+    @Override
+    public List<StickyNoteDTO> findStickyNotesChangedBetween(UUID boardId, long sinceRevision, long untilRevision) {
+        return queryChanges(STICKY_NOTE_CHANGES_QUERY, boardId, sinceRevision, untilRevision,
+                BoardSnapshotPersistenceAdapter::toStickyNoteDTO);
+    }
+
+    @Override
+    public List<TextBoxesDTO> findTextBoxesChangedBetween(UUID boardId, long sinceRevision, long untilRevision) {
+        return queryChanges(TEXT_BOX_CHANGES_QUERY, boardId, sinceRevision, untilRevision,
+                BoardSnapshotPersistenceAdapter::toTextBoxesDTO);
+    }
+
+    @Override
+    public List<FrameDTO> findFramesChangedBetween(UUID boardId, long sinceRevision, long untilRevision) {
+        return queryChanges(FRAME_CHANGES_QUERY, boardId, sinceRevision, untilRevision,
+                BoardSnapshotPersistenceAdapter::toFrameDTO);
+    }
+
+    @Override
+    public List<DomainModelItemDTO> findDomainModelItemsChangedBetween(UUID boardId, long sinceRevision, long untilRevision) {
+        return queryChanges(DOMAIN_MODEL_ITEM_CHANGES_QUERY, boardId, sinceRevision, untilRevision,
+                BoardSnapshotPersistenceAdapter::toDomainModelItemDTO);
+    }
+
+    @Override
+    public List<ConnectorDTO> findConnectorsChangedBetween(UUID boardId, long sinceRevision, long untilRevision) {
+        return queryChanges(CONNECTOR_CHANGES_QUERY, boardId, sinceRevision, untilRevision,
+                BoardSnapshotPersistenceAdapter::toConnectorDTO);
+    }
+
+    @Override
+    public List<StickyNoteDTO> findStickyNotesInViewport(UUID boardId, BoardViewport viewport) {
+        return viewport(entityManager.createQuery(STICKY_NOTE_VIEWPORT_QUERY, Tuple.class), boardId, viewport)
+                .setParameter("stickyNoteMinX", leftmostPosX(STICKY_NOTE_MAX_WIDTH_QUERY, boardId, viewport))
+                .getResultStream()
+                .map(BoardSnapshotPersistenceAdapter::toStickyNoteDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TextBoxesDTO> findTextBoxesInViewport(UUID boardId, BoardViewport viewport) {
+        return viewport(entityManager.createQuery(TEXT_BOX_VIEWPORT_QUERY, Tuple.class), boardId, viewport)
+                .setParameter("textBoxMinX", leftmostPosX(TEXT_BOX_MAX_WIDTH_QUERY, boardId, viewport))
+                .getResultStream()
+                .map(BoardSnapshotPersistenceAdapter::toTextBoxesDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FrameDTO> findFramesInViewport(UUID boardId, BoardViewport viewport) {
+        return viewport(entityManager.createQuery(FRAME_VIEWPORT_QUERY, Tuple.class), boardId, viewport)
+                .setParameter("frameMinX", leftmostPosX(FRAME_MAX_WIDTH_QUERY, boardId, viewport))
+                .getResultStream()
+                .map(BoardSnapshotPersistenceAdapter::toFrameDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<DomainModelItemDTO> findDomainModelItemsInViewport(UUID boardId, BoardViewport viewport) {
+        return viewport(entityManager.createQuery(DOMAIN_MODEL_ITEM_VIEWPORT_QUERY, Tuple.class), boardId, viewport)
+                .setParameter("domainModelItemMinX", leftmostPosX(DOMAIN_MODEL_ITEM_MAX_WIDTH_QUERY, boardId, viewport))
+                .getResultStream()
+                .map(BoardSnapshotPersistenceAdapter::toDomainModelItemDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ConnectorDTO> findConnectorsInViewport(UUID boardId, BoardViewport viewport) {
+        return viewport(entityManager.createQuery(CONNECTOR_VIEWPORT_QUERY, Tuple.class), boardId, viewport)
+                .setParameter("stickyNoteMinX", leftmostPosX(STICKY_NOTE_MAX_WIDTH_QUERY, boardId, viewport))
+                .setParameter("textBoxMinX", leftmostPosX(TEXT_BOX_MAX_WIDTH_QUERY, boardId, viewport))
+                .setParameter("frameMinX", leftmostPosX(FRAME_MAX_WIDTH_QUERY, boardId, viewport))
+                .setParameter("domainModelItemMinX", leftmostPosX(DOMAIN_MODEL_ITEM_MAX_WIDTH_QUERY, boardId, viewport))
+                .getResultStream()
+                .map(BoardSnapshotPersistenceAdapter::toConnectorDTO)
+                .collect(Collectors.toList());
+    }
+
+    private TypedQuery<Tuple> viewport(TypedQuery<Tuple> query, UUID boardId, BoardViewport viewport) {
+        return query.setParameter("boardId", boardId)
+                .setParameter("minX", viewport.minX())
+                .setParameter("minY", viewport.minY())
+                .setParameter("maxX", viewport.maxX())
+                .setParameter("maxY", viewport.maxY());
+    }
+
+    // 與視窗相交的元件 pos_x 不會小於這個值；Board 上沒有該種元件時最大寬度視為 0
+    private double leftmostPosX(String maxWidthJpql, UUID boardId, BoardViewport viewport) {
+        Double maxWidth = entityManager.createQuery(maxWidthJpql, Double.class)
+                .setParameter("boardId", boardId)
+                .getSingleResult();
+        return viewport.minX() - (maxWidth == null ? 0 : maxWidth);
+    }
+
+    private <T> List<T> query(String jpql, UUID boardId, Function<Tuple, T> mapper) {
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("boardId", boardId)
+                .getResultStream()
+                .map(mapper)
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> queryChanges(String jpql, UUID boardId, long sinceRevision, long untilRevision,
+                                     Function<Tuple, T> mapper) {
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("boardId", boardId)
+                .setParameter("since", sinceRevision)
+                .setParameter("until", untilRevision)
+                .getResultStream()
+                .map(mapper)
+                .collect(Collectors.toList());
+    }
+
+    private <T> Stream<T> stream(String jpql, UUID boardId, Function<Tuple, T> mapper) {
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("boardId", boardId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(mapper);
+    }
+
+    static StickyNoteDTO toStickyNoteDTO(Tuple row) {
+        return new StickyNoteDTO(
+                row.get("id", UUID.class),
+                row.get("boardId", UUID.class),
+                row.get("frameId", UUID.class),
+                row.get("posX", Double.class),
+                row.get("posY", Double.class),
+                row.get("geoX", Double.class),
+                row.get("geoY", Double.class),
+                row.get("description", String.class),
+                row.get("color", String.class),
+                row.get("tag", String.class),
+                row.get("fontColor", String.class),
+                row.get("fontSize", String.class),
+                row.get("zIndex", Integer.class)
+        );
+    }
+
+    static TextBoxesDTO toTextBoxesDTO(Tuple row) {
+        TextBoxesDTO dto = new TextBoxesDTO(
+                row.get("id", UUID.class),
+                row.get("boardId", UUID.class),
+                row.get("posX", Double.class),
+                row.get("posY", Double.class),
+                row.get("geoX", Double.class),
+                row.get("geoY", Double.class),
+                row.get("description", String.class),
+                null,
+                row.get("tag", String.class),
+                row.get("fontColor", String.class),
+                row.get("fontSize", String.class),
+                row.get("zIndex", Integer.class)
+        );
+        dto.setFrameID(row.get("frameId", UUID.class));
+        return dto;
+    }
+
+    static FrameDTO toFrameDTO(Tuple row) {
+        return new FrameDTO(
+                row.get("id", UUID.class),
+                row.get("boardId", UUID.class),
+                row.get("posX", Double.class),
+                row.get("posY", Double.class),
+                row.get("width", Double.class),
+                row.get("height", Double.class),
+                row.get("title", String.class),
+                row.get("zIndex", Integer.class)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    static DomainModelItemDTO toDomainModelItemDTO(Tuple row) {
+        List<DomainAttributeData> attributes = (List<DomainAttributeData>) row.get("attributes");
+        List<DomainAttributeDTO> attributeDTOs = attributes == null ? List.of() : attributes.stream()
+                .map(attr -> new DomainAttributeDTO(
+                        attr.getName(), attr.getDataType(), attr.getConstraint(), attr.getDisplayOrder()))
+                .collect(Collectors.toList());
+
+        return new DomainModelItemDTO(
+                row.get("id", UUID.class),
+                row.get("boardId", UUID.class),
+                row.get("frameId", UUID.class),
+                row.get("posX", Double.class),
+                row.get("posY", Double.class),
+                row.get("width", Double.class),
+                row.get("height", Double.class),
+                row.get("name", String.class),
+                row.get("type", DomainModelItemType.class),
+                row.get("description", String.class),
+                attributeDTOs,
+                row.get("zIndex", Integer.class),
+                row.get("createdAt", LocalDateTime.class),
+                row.get("updatedAt", LocalDateTime.class)
+        );
+    }
+
+    static ConnectorDTO toConnectorDTO(Tuple row) {
+        return new ConnectorDTO(
+                row.get("id", UUID.class),
+                row.get("boardId", UUID.class),
+                row.get("frameId", UUID.class),
+                row.get("fromTargetType", ConnectorTargetType.class),
+                row.get("fromTargetId", UUID.class),
+                row.get("fromSide", ConnectorAnchorSide.class),
+                row.get("fromOffset", Double.class),
+                row.get("fromX", Double.class),
+                row.get("fromY", Double.class),
+                row.get("toTargetType", ConnectorTargetType.class),
+                row.get("toTargetId", UUID.class),
+                row.get("toSide", ConnectorAnchorSide.class),
+                row.get("toOffset", Double.class),
+                row.get("toX", Double.class),
+                row.get("toY", Double.class),
+                row.get("lineType", ConnectorLineType.class),
+                row.get("label", String.class),
+                row.get("strokeColor", String.class),
+                row.get("strokeWidth", Double.class),
+                Boolean.TRUE.equals(row.get("dashed", Boolean.class)),
+                row.get("startArrow", ConnectorArrowType.class),
+                row.get("endArrow", ConnectorArrowType.class),
+                row.get("zIndex", Integer.class)
+        );
+    }
+}
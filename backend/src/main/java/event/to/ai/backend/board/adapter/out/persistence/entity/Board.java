@@ -36,6 +36,33 @@ public class Board {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 每次 Board 內元件異動就 +1，只能透過 BoardRevisionRepositoryPort 原子遞增
+    // updatable = false 避免過期的 Board entity 在 flush 時把較新的值覆蓋回去
+    @Column(name = "revision", nullable = false, updatable = false)
+    private long revision;
+
+    // 已刪除但元件仍在背景分批清除中的 Board，只能透過 BoardRepositoryPort.markPurging 設定
+    @Column(name = "purging", nullable = false, updatable = false)
+    private boolean purging;
+
+    // 背景清除的進度與租約存在 Board 上，任何節點都能回報進度，且同一時間只有持有租約的節點在清除
+    @Column(name = "purge_total_elements", nullable = false, updatable = false)
+    private long purgeTotalElements;
+
+    @Column(name = "purge_deleted_elements", nullable = false, updatable = false)
+    private long purgeDeletedElements;
+
+    @Column(name = "purge_owner", columnDefinition = "BINARY(16)", updatable = false)
+    private UUID purgeOwner;
+
+    @Column(name = "purge_lease_until", updatable = false)
+    private LocalDateTime purgeLeaseUntil;
+
+    // revision 不超過這個值的 tombstone 已被清除，since 比它舊的增量同步需改用完整快照
+    // 只能透過 BoardRevisionRepositoryPort.pruneTombstones 推進
+    @Column(name = "min_retained_revision", nullable = false, updatable = false)
+    private long minRetainedRevision;
+
     public Board() {
     }
 
@@ -102,4 +129,24 @@ public class Board {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public boolean isPurging() {
+        return purging;
+    }
+
+    public long getPurgeTotalElements() {
+        return purgeTotalElements;
+    }
+
+    public long getPurgeDeletedElements() {
+        return purgeDeletedElements;
+    }
+
+    public long getMinRetainedRevision() {
+        return minRetainedRevision;
+    }
 }
@@ -0,0 +1,87 @@
+package event.to.ai.backend.board.adapter.out.persistence.entity;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 元件被刪除（或移到別的 Board）時留下的紀錄，讓增量同步能告訴 client 要移除哪些元件
+@Entity
+@Table(
+        name = "board_element_tombstones",
+        indexes = {
+                @Index(name = "idx_board_element_tombstones_board_id_revision", columnList = "board_id,revision")
+        }
+)
+public class BoardElementTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "board_id", nullable = false, columnDefinition = "BINARY(16)", updatable = false)
+    private UUID boardId;
+
+    @Column(name = "element_id", nullable = false, columnDefinition = "BINARY(16)", updatable = false)
+    private UUID elementId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "element_type", nullable = false, length = 30, updatable = false)
+    private BoardElementType elementType;
+
+    @Column(name = "revision", nullable = false, updatable = false)
+    private long revision;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public BoardElementTombstone() {
+    }
+
+    public BoardElementTombstone(UUID boardId, UUID elementId, BoardElementType elementType, long revision) {
+        this.boardId = boardId;
+        this.elementId = elementId;
+        this.elementType = elementType;
+        this.revision = revision;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public UUID getElementId() {
+        return elementId;
+    }
+
+    public BoardElementType getElementType() {
+        return elementType;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+}
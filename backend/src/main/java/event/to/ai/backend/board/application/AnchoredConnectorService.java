@@ -0,0 +1,31 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.ElementUpdatedDTO;
+import event.to.ai.backend.board.application.port.out.BoardElementMoveRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+// 一般的元件更新 (PUT) 也可能是拖曳或縮放，與 *.moved 事件一樣列出錨定在該元件上的 connector id
+@Service
+public class AnchoredConnectorService {
+
+    private final BoardElementMoveRepositoryPort boardElementMoveRepositoryPort;
+
+    @Autowired
+    public AnchoredConnectorService(BoardElementMoveRepositoryPort boardElementMoveRepositoryPort) {
+        this.boardElementMoveRepositoryPort = boardElementMoveRepositoryPort;
+    }
+
+    // 位置與尺寸都沒變時直接回傳原本的 DTO，不必查 connector
+    public Object updatedPayload(UUID boardId, UUID elementId, Object dto, boolean geometryChanged) {
+        if (!geometryChanged) {
+            return dto;
+        }
+        List<UUID> connectorIds = boardElementMoveRepositoryPort.findAnchoredConnectorIds(boardId, List.of(elementId))
+                .getOrDefault(elementId, List.of());
+        return new ElementUpdatedDTO<>(dto, connectorIds);
+    }
+}
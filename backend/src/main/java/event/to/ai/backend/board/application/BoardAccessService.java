@@ -0,0 +1,100 @@
+package event.to.ai.backend.board.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 各 Service 共用的 Board 權限檢查
+// (boardId, userId) -> role 放在有上限、有 TTL 的快取中，拖曳等高頻寫入不必每次都查 board_memberships
+// 非成員也會被快取（Optional.empty），避免重複查詢
+@Service
+public class BoardAccessService implements MeterBinder {
+
+    static final String CACHE_NAME = "boardAccess";
+
+    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final Cache<MemberKey, Optional<BoardMembershipRole>> roles;
+    // 整張 Board 清除的次數；removeIf 看不到正在載入中的 key，載入前後不同時代表載入結果可能早於該次異動
+    private final AtomicLong wholeBoardInvalidations = new AtomicLong();
+
+    @Autowired
+    public BoardAccessService(BoardMembershipRepositoryPort boardMembershipRepositoryPort,
+                              @Value("${app.board.access-cache.ttl-seconds:60}") long ttlSeconds,
+                              @Value("${app.board.access-cache.maximum-size:10000}") long maximumSize) {
+        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.roles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<BoardMembershipRole> findRole(UUID boardId, UUID userId) {
+        MemberKey memberKey = new MemberKey(boardId, userId);
+        long invalidations = wholeBoardInvalidations.get();
+        Optional<BoardMembershipRole> role = roles.get(memberKey,
+                key -> boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(key.boardId(), key.userId()));
+        // 期間有整張 Board 的清除時不保留這次的結果；清除在寫入快取之後發生的情況則由 removeIf 移除
+        if (wholeBoardInvalidations.get() != invalidations) {
+            roles.asMap().remove(memberKey, role);
+        }
+        return role;
+    }
+
+    public boolean isMember(UUID boardId, UUID userId) {
+        return findRole(boardId, userId).isPresent();
+    }
+
+    public BoardMembershipRole getMemberRole(UUID boardId, UUID userId) {
+        return findRole(boardId, userId)
+                .orElseThrow(() -> new RuntimeException("User is not a member of this board"));
+    }
+
+    // 負責管理「讀」
+    public void requireReadPermission(UUID boardId, UUID userId) {
+        getMemberRole(boardId, userId);
+    }
+
+    // 負責管理「寫」
+    public void requireWritePermission(UUID boardId, UUID userId) {
+        if (getMemberRole(boardId, userId) == BoardMembershipRole.VIEWER) {
+            throw new RuntimeException("Viewers are not allowed to perform write operations");
+        }
+    }
+
+    // 交易提交後才清除，避免其他請求在提交前又把舊角色讀回快取
+    // Caffeine 的 invalidate 會等同一個 key 正在進行的載入完成後再移除，因此不會留下提交前讀到的值
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(BoardMembershipChangedEvent event) {
+        if (event.isWholeBoard()) {
+            // 先遞增再清除，清除前就寫入快取的載入會被 removeIf 移除，之後才寫入的會在 findRole 中看到次數改變
+            wholeBoardInvalidations.incrementAndGet();
+            roles.asMap().keySet().removeIf(key -> key.boardId().equals(event.getBoardId()));
+        } else {
+            roles.invalidate(new MemberKey(event.getBoardId(), event.getUserId()));
+        }
+    }
+
+    // 快取命中 / 未命中等統計會以 cache.gets{cache=boardAccess,result=hit|miss} 等 metrics 出現在 /actuator/metrics
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, roles, CACHE_NAME);
+    }
+
+    private record MemberKey(UUID boardId, UUID userId) {
+    }
+}
@@ -3,12 +3,12 @@ package event.to.ai.backend.board.application;
 import event.to.ai.backend.board.adapter.in.web.dto.*;
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
 import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
 import event.to.ai.backend.board.application.port.out.BoardRepositoryPort;
 import event.to.ai.backend.board.application.port.out.UserRepositoryPort;
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,18 +21,21 @@ public class BoardApplicationService {
 
     private final BoardRepositoryPort boardRepositoryPort;
     private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
-    private final BoardContentRepositoryPort boardContentRepositoryPort;
+    private final BoardPurgeService boardPurgeService;
     private final UserRepositoryPort userRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public BoardApplicationService(BoardRepositoryPort boardRepositoryPort,
                                    BoardMembershipRepositoryPort boardMembershipRepositoryPort,
-                                   BoardContentRepositoryPort boardContentRepositoryPort,
-                                   UserRepositoryPort userRepositoryPort) {
+                                   BoardPurgeService boardPurgeService,
+                                   UserRepositoryPort userRepositoryPort,
+                                   ApplicationEventPublisher eventPublisher) {
         this.boardRepositoryPort = boardRepositoryPort;
         this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
-        this.boardContentRepositoryPort = boardContentRepositoryPort;
+        this.boardPurgeService = boardPurgeService;
         this.userRepositoryPort = userRepositoryPort;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<BoardDTO> getAllMyBoards(UUID userId) {
@@ -104,6 +107,7 @@ public class BoardApplicationService {
 
         BoardMembership boardMembership = new BoardMembership(board, targetUser, request.getRole());
         BoardMembership savedBoardMember = boardMembershipRepositoryPort.save(boardMembership);
+        eventPublisher.publishEvent(BoardMembershipChangedEvent.member(board.getId(), targetUser.getId()));
         return toBoardMembershipDTO(savedBoardMember);
     }
 
@@ -143,6 +147,7 @@ public class BoardApplicationService {
 
         membership.setRole(request.getRole());
         BoardMembership updatedMembership = boardMembershipRepositoryPort.save(membership);
+        eventPublisher.publishEvent(BoardMembershipChangedEvent.member(boardId, membership.getUser().getId()));
         return toBoardMembershipDTO(updatedMembership);
     }
 
@@ -159,6 +164,7 @@ public class BoardApplicationService {
         }
 
         boardMembershipRepositoryPort.deleteByBoardIdAndUserId(boardId, userId);
+        eventPublisher.publishEvent(BoardMembershipChangedEvent.member(boardId, userId));
     }
 
     @Transactional
@@ -168,12 +174,14 @@ public class BoardApplicationService {
         if (!boardRepositoryPort.existsById(id)) {
             throw new RuntimeException("Board not found with id: " + id);
         }
-        boardContentRepositoryPort.deleteAllByBoardId(id);
+        // 先移除成員讓 Board 立即無法存取，元件與 Board 本身由 BoardPurgeService 視大小同步或背景刪除
         boardMembershipRepositoryPort.deleteAllByBoardId(id);
-        boardRepositoryPort.deleteById(id);
+        boardPurgeService.purgeBoard(id);
+        eventPublisher.publishEvent(BoardMembershipChangedEvent.wholeBoard(id));
     }
 
     // 查詢發 API 的 user 是否有權限
+    // 成員管理屬於低頻操作，直接讀資料庫而不經過 BoardAccessService 的快取
     private BoardMembershipRole getMemberRole(UUID boardId, UUID userId) {
         return boardMembershipRepositoryPort
                 .findByBoardIdAndUserId(boardId, userId)
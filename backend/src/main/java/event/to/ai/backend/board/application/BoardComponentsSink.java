@@ -0,0 +1,18 @@
+package event.to.ai.backend.board.application;
+
+import java.util.UUID;
+
+// 串流輸出 Board 元件時的接收端
+// 依序收到 begin -> (section -> element*)* -> end，不需要先把整張 Board 載入記憶體
+public interface BoardComponentsSink {
+
+    // revision 為讀取元件前的 Board revision
+    void begin(UUID boardId, long revision);
+
+    // section 名稱與 BoardComponentsDTO 的欄位名稱一致，例如 stickyNotes、textBoxes
+    void section(String name);
+
+    void element(Object element);
+
+    void end();
+}
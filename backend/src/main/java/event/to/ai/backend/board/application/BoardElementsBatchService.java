@@ -0,0 +1,270 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementTombstoneDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsBatchRequest;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsBatchResultDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementCreateOperation;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementCreateOperations;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementDeleteOperation;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementUpdateOperation;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementUpdateOperations;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.application.port.out.BoardRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.connector.application.ConnectorApplicationService;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.domainmodel.application.DomainModelItemApplicationService;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.frame.application.FrameApllicationService;
+import event.to.ai.backend.frame.domain.FrameDeleteMode;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.stickynote.application.StickyNoteApplicationService;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+import event.to.ai.backend.textbox.application.TextBoxApplicationService;
+import event.to.ai.backend.websocket.BoardRealtimeEventType;
+import event.to.ai.backend.websocket.BoardRealtimePublisher;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// 一次新增 / 更新 / 刪除多個元件（貼上、多選操作、復原）
+// 整批只查一次 Board、檢查一次寫入權限、遞增一次 revision，INSERT / UPDATE / DELETE 交給 Hibernate 的 JDBC batch
+// 元件 id 由 GenerationType.UUID 在 persist 時產生，不必等資料庫回傳，batch 不會因此被拆開
+// 最後只廣播一則 elements.batched，而不是每個元件各一則
+@Service
+public class BoardElementsBatchService {
+
+    private final BoardRepositoryPort boardRepositoryPort;
+    private final BoardAccessService boardAccessService;
+    private final BoardRevisionService boardRevisionService;
+    private final StickyNoteApplicationService stickyNoteApplicationService;
+    private final TextBoxApplicationService textBoxApplicationService;
+    private final FrameApllicationService frameApllicationService;
+    private final DomainModelItemApplicationService domainModelItemApplicationService;
+    private final ConnectorApplicationService connectorApplicationService;
+    private final BoardRealtimePublisher boardRealtimePublisher;
+    private final Validator validator;
+    private final int maxOperations;
+
+    @Autowired
+    public BoardElementsBatchService(BoardRepositoryPort boardRepositoryPort,
+                                     BoardAccessService boardAccessService,
+                                     BoardRevisionService boardRevisionService,
+                                     StickyNoteApplicationService stickyNoteApplicationService,
+                                     TextBoxApplicationService textBoxApplicationService,
+                                     FrameApllicationService frameApllicationService,
+                                     DomainModelItemApplicationService domainModelItemApplicationService,
+                                     ConnectorApplicationService connectorApplicationService,
+                                     BoardRealtimePublisher boardRealtimePublisher,
+                                     Validator validator,
+                                     @Value("${app.board.batch.max-operations:500}") int maxOperations) {
+        this.boardRepositoryPort = boardRepositoryPort;
+        this.boardAccessService = boardAccessService;
+        this.boardRevisionService = boardRevisionService;
+        this.stickyNoteApplicationService = stickyNoteApplicationService;
+        this.textBoxApplicationService = textBoxApplicationService;
+        this.frameApllicationService = frameApllicationService;
+        this.domainModelItemApplicationService = domainModelItemApplicationService;
+        this.connectorApplicationService = connectorApplicationService;
+        this.boardRealtimePublisher = boardRealtimePublisher;
+        this.validator = validator;
+        this.maxOperations = maxOperations;
+    }
+
+    @Transactional
+    public BoardElementsBatchResultDTO applyBatch(UUID actorUserId, UUID boardId, BoardElementsBatchRequest request) {
+        ElementCreateOperations creates = request.getCreate();
+        ElementUpdateOperations updates = request.getUpdate();
+        List<ElementDeleteOperation> deletes = request.getDelete();
+        int operationCount = creates.size() + updates.size() + deletes.size();
+        if (operationCount == 0) {
+            throw new RuntimeException("Batch must contain at least one operation");
+        }
+        if (operationCount > maxOperations) {
+            throw new RuntimeException("Batch must not exceed " + maxOperations + " operations");
+        }
+
+        Board board = boardRepositoryPort.findById(boardId)
+                .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
+        boardAccessService.requireWritePermission(boardId, actorUserId);
+
+        long revision = boardRevisionService.nextRevision(boardId);
+        Map<UUID, UUID> createdIds = new LinkedHashMap<>();
+
+        // Frame 先建立，同一批內其他元件的 frameId 才能從 tempId 換成真正的 id
+        List<FrameDTO> createdFrames = frameApllicationService.createFramesInBatch(board,
+                prepareCreates(creates.getFrames(), data -> data.setBoardId(boardId)), revision);
+        recordCreatedIds(creates.getFrames(), createdFrames, FrameDTO::getId, createdIds);
+
+        List<StickyNoteDTO> createdStickyNotes = stickyNoteApplicationService.createStickyNotesInBatch(board,
+                prepareCreates(creates.getStickyNotes(), data -> {
+                    data.setBoardId(boardId);
+                    data.setFrameId(resolve(data.getFrameId(), createdIds));
+                }), revision);
+        recordCreatedIds(creates.getStickyNotes(), createdStickyNotes, StickyNoteDTO::getId, createdIds);
+
+        List<TextBoxesDTO> createdTextBoxes = textBoxApplicationService.createTextBoxesInBatch(board,
+                prepareCreates(creates.getTextBoxes(), data -> {
+                    data.setBoardId(boardId);
+                    data.setFrameID(resolve(data.getFrameID(), createdIds));
+                }), revision);
+        recordCreatedIds(creates.getTextBoxes(), createdTextBoxes, TextBoxesDTO::getId, createdIds);
+
+        List<DomainModelItemDTO> createdDomainModelItems = domainModelItemApplicationService.createDomainModelItemsInBatch(board,
+                prepareCreates(creates.getDomainModelItems(), data -> {
+                    data.setBoardId(boardId);
+                    data.setFrameId(resolve(data.getFrameId(), createdIds));
+                }), revision);
+        recordCreatedIds(creates.getDomainModelItems(), createdDomainModelItems, DomainModelItemDTO::getId, createdIds);
+
+        // Connector 最後建立，兩端才能連到同一批新增的元件
+        List<ConnectorDTO> createdConnectors = connectorApplicationService.createConnectorsInBatch(board,
+                prepareCreates(creates.getConnectors(), data -> {
+                    data.setBoardId(boardId);
+                    data.setFrameId(resolve(data.getFrameId(), createdIds));
+                    data.setFromTargetId(resolve(data.getFromTargetId(), createdIds));
+                    data.setToTargetId(resolve(data.getToTargetId(), createdIds));
+                }), revision);
+        recordCreatedIds(creates.getConnectors(), createdConnectors, ConnectorDTO::getId, createdIds);
+
+        List<FrameDTO> updatedFrames = frameApllicationService.updateFramesInBatch(boardId,
+                prepareUpdates(updates.getFrames(), data -> { }), revision);
+        List<StickyNoteDTO> updatedStickyNotes = stickyNoteApplicationService.updateStickyNotesInBatch(boardId,
+                prepareUpdates(updates.getStickyNotes(),
+                        data -> data.setFrameId(resolve(data.getFrameId(), createdIds))), revision);
+        List<TextBoxesDTO> updatedTextBoxes = textBoxApplicationService.updateTextBoxesInBatch(boardId,
+                prepareUpdates(updates.getTextBoxes(),
+                        data -> data.setFrameID(resolve(data.getFrameID(), createdIds))), revision);
+        List<DomainModelItemDTO> updatedDomainModelItems = domainModelItemApplicationService.updateDomainModelItemsInBatch(boardId,
+                prepareUpdates(updates.getDomainModelItems(),
+                        data -> data.setFrameId(resolve(data.getFrameId(), createdIds))), revision);
+        List<ConnectorDTO> updatedConnectors = connectorApplicationService.updateConnectorsInBatch(boardId,
+                prepareUpdates(updates.getConnectors(), data -> {
+                    data.setFrameId(resolve(data.getFrameId(), createdIds));
+                    data.setFromTargetId(resolve(data.getFromTargetId(), createdIds));
+                    data.setToTargetId(resolve(data.getToTargetId(), createdIds));
+                }), revision);
+
+        Map<BoardElementType, List<UUID>> detached = new EnumMap<>(BoardElementType.class);
+        List<BoardElementTombstoneDTO> deleted = deleteElements(boardId, deletes, revision, detached);
+
+        BoardElementsBatchResultDTO result = new BoardElementsBatchResultDTO(boardId, revision, createdIds,
+                new BoardElementsDTO(createdStickyNotes, createdTextBoxes, createdFrames,
+                        createdDomainModelItems, createdConnectors),
+                new BoardElementsDTO(updatedStickyNotes, updatedTextBoxes, updatedFrames,
+                        updatedDomainModelItems, updatedConnectors),
+                detached, deleted);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.ELEMENTS_BATCHED, actorUserId, boardId, result);
+        return result;
+    }
+
+    // Frame 最後刪除，同一批明確刪除的子元件不會先被 detach 或連帶刪除而重複出現在結果中
+    private List<BoardElementTombstoneDTO> deleteElements(UUID boardId, List<ElementDeleteOperation> deletes, long revision,
+                                                          Map<BoardElementType, List<UUID>> detached) {
+        Map<BoardElementType, Set<UUID>> idsByType = new EnumMap<>(BoardElementType.class);
+        Map<FrameDeleteMode, Set<UUID>> frameIdsByMode = new EnumMap<>(FrameDeleteMode.class);
+        for (ElementDeleteOperation operation : deletes) {
+            if (operation.getType() == BoardElementType.FRAME) {
+                FrameDeleteMode mode = operation.getMode() == null
+                        ? FrameDeleteMode.DETACH
+                        : FrameDeleteMode.fromValue(operation.getMode());
+                frameIdsByMode.computeIfAbsent(mode, key -> new LinkedHashSet<>()).add(operation.getId());
+            } else {
+                idsByType.computeIfAbsent(operation.getType(), key -> new LinkedHashSet<>()).add(operation.getId());
+            }
+        }
+
+        List<BoardElementTombstoneDTO> deleted = new ArrayList<>();
+        idsByType.forEach((type, ids) -> {
+            switch (type) {
+                case STICKY_NOTE -> stickyNoteApplicationService.deleteStickyNotesInBatch(boardId, ids);
+                case TEXT_BOX -> textBoxApplicationService.deleteTextBoxesInBatch(boardId, ids);
+                case DOMAIN_MODEL_ITEM -> domainModelItemApplicationService.deleteDomainModelItemsInBatch(boardId, ids);
+                case CONNECTOR -> connectorApplicationService.deleteConnectorsInBatch(boardId, ids);
+            }
+            recordDeletions(boardId, type, ids, revision, deleted);
+        });
+        frameIdsByMode.forEach((mode, ids) -> {
+            frameApllicationService.deleteFramesInBatch(boardId, ids, mode, revision, detached, deleted);
+            recordDeletions(boardId, BoardElementType.FRAME, ids, revision, deleted);
+        });
+        return deleted;
+    }
+
+    private void recordDeletions(UUID boardId, BoardElementType type, Set<UUID> ids, long revision,
+                                 List<BoardElementTombstoneDTO> deleted) {
+        boardRevisionService.recordDeletions(boardId, type, ids, revision);
+        ids.forEach(id -> deleted.add(new BoardElementTombstoneDTO(id, type, revision)));
+    }
+
+    // boardId 由路徑補上後才驗證，所以新增的 data 不在 controller 的 @Valid 範圍內
+    private <T> List<T> prepareCreates(List<ElementCreateOperation<T>> operations, Consumer<T> prepare) {
+        List<T> requests = new ArrayList<>(operations.size());
+        for (ElementCreateOperation<T> operation : operations) {
+            T data = operation.getData();
+            prepare.accept(data);
+            Set<ConstraintViolation<T>> violations = validator.validate(data);
+            if (!violations.isEmpty()) {
+                throw new RuntimeException("Invalid element " + operation.getTempId() + ": "
+                        + violations.iterator().next().getMessage());
+            }
+            requests.add(data);
+        }
+        return requests;
+    }
+
+    private <T> Map<UUID, T> prepareUpdates(List<ElementUpdateOperation<T>> operations, Consumer<T> prepare) {
+        Map<UUID, T> requests = new LinkedHashMap<>();
+        for (ElementUpdateOperation<T> operation : operations) {
+            prepare.accept(operation.getData());
+            if (requests.put(operation.getId(), operation.getData()) != null) {
+                throw new RuntimeException("Duplicate update for element: " + operation.getId());
+            }
+        }
+        return requests;
+    }
+
+    // saveAll 依傳入順序回傳，第 i 個結果對應第 i 個 operation 的 tempId
+    private <T, D> void recordCreatedIds(List<ElementCreateOperation<T>> operations, List<D> created,
+                                         Function<D, UUID> idOf, Map<UUID, UUID> createdIds) {
+        for (int i = 0; i < operations.size(); i++) {
+            UUID tempId = operations.get(i).getTempId();
+            if (createdIds.put(tempId, idOf.apply(created.get(i))) != null) {
+                throw new RuntimeException("Duplicate temp id: " + tempId);
+            }
+        }
+    }
+
+    // 引用到同一批新增元件的 tempId 時換成真正的 id，其餘原樣保留
+    private static UUID resolve(UUID id, Map<UUID, UUID> createdIds) {
+        return id == null ? null : createdIds.getOrDefault(id, id);
+    }
+
+    // 更新 request 的 frameId 是字串，"null" 代表移出 Frame，格式錯誤交給各元件原本的檢查
+    private static String resolve(String id, Map<UUID, UUID> createdIds) {
+        if (id == null || id.equals("null")) {
+            return id;
+        }
+        try {
+            return resolve(UUID.fromString(id), createdIds).toString();
+        } catch (IllegalArgumentException e) {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package event.to.ai.backend.board.application;
+
+import java.util.UUID;
+
+// Board 成員或角色異動時發布，BoardAccessService 收到後清掉對應的權限快取
+// userId 為 null 代表整張 Board 的成員都要失效（例如刪除 Board）
+public class BoardMembershipChangedEvent {
+
+    private final UUID boardId;
+    private final UUID userId;
+
+    private BoardMembershipChangedEvent(UUID boardId, UUID userId) {
+        this.boardId = boardId;
+        this.userId = userId;
+    }
+
+    public static BoardMembershipChangedEvent member(UUID boardId, UUID userId) {
+        return new BoardMembershipChangedEvent(boardId, userId);
+    }
+
+    public static BoardMembershipChangedEvent wholeBoard(UUID boardId) {
+        return new BoardMembershipChangedEvent(boardId, null);
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public boolean isWholeBoard() {
+        return userId == null;
+    }
+}
@@ -0,0 +1,186 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.ElementMoveRequest;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementMovedDTO;
+import event.to.ai.backend.board.application.port.out.BoardElementMoveRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.board.domain.ElementMove;
+import event.to.ai.backend.websocket.BoardRealtimeEventType;
+import event.to.ai.backend.websocket.BoardRealtimePublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 拖曳時的高頻位置更新
+// 每個元件只保留最新一筆待寫入的位置，固定週期 (tick) 以 JDBC batch 寫回並廣播合併後的 *.moved 事件
+// 寫入次數因此從「滑鼠事件數」降為「tick 數」，每個 tick 每張 Board 只遞增一次 revision
+// *.moved 事件同時列出錨定在這些元件上的 connector id，前端只需重新繞線受影響的 connector
+@Service
+public class BoardMoveCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardMoveCoalescer.class);
+
+    private static final Set<BoardElementType> MOVABLE_TYPES =
+            Set.of(BoardElementType.STICKY_NOTE, BoardElementType.TEXT_BOX, BoardElementType.FRAME);
+
+    private final BoardAccessService boardAccessService;
+    private final BoardElementMoveRepositoryPort boardElementMoveRepositoryPort;
+    private final BoardRevisionService boardRevisionService;
+    private final BoardRealtimePublisher boardRealtimePublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxPendingMoves;
+
+    // (boardId, elementId) -> 尚未寫入的最新位置
+    // 以 boardId 一起作為 key，送到別張 Board 的同一個 element id 不會覆蓋或改寫這張 Board 的待寫入位置
+    private final ConcurrentHashMap<MoveKey, PendingMove> pendingMoves = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BoardMoveCoalescer(BoardAccessService boardAccessService,
+                              BoardElementMoveRepositoryPort boardElementMoveRepositoryPort,
+                              BoardRevisionService boardRevisionService,
+                              BoardRealtimePublisher boardRealtimePublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.board.move.max-pending:50000}") int maxPendingMoves) {
+        this.boardAccessService = boardAccessService;
+        this.boardElementMoveRepositoryPort = boardElementMoveRepositoryPort;
+        this.boardRevisionService = boardRevisionService;
+        this.boardRealtimePublisher = boardRealtimePublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxPendingMoves = maxPendingMoves;
+    }
+
+    public void submit(UUID actorUserId, UUID boardId, List<ElementMoveRequest> moves) {
+        boardAccessService.requireWritePermission(boardId, actorUserId);
+        for (ElementMoveRequest request : moves) {
+            if (!MOVABLE_TYPES.contains(request.getType())) {
+                throw new RuntimeException("Unsupported move element type: " + request.getType());
+            }
+            // STOMP 訊息不會經過 @Valid，這裡再檢查一次必填欄位
+            if (request.getId() == null || request.getPosX() == null || request.getPosY() == null) {
+                throw new RuntimeException("Element id and position are required");
+            }
+        }
+        if (pendingMoves.size() + moves.size() > maxPendingMoves) {
+            throw new RuntimeException("Too many pending moves, please retry later");
+        }
+
+        for (ElementMoveRequest request : moves) {
+            ElementMove move = new ElementMove(request.getType(), request.getId(),
+                    request.getPosX(), request.getPosY(), request.getWidth(), request.getHeight());
+            pendingMoves.merge(new MoveKey(boardId, request.getId()), new PendingMove(boardId, actorUserId, move),
+                    (previous, latest) -> latest.mergeOnto(previous));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.move.flush-interval-ms:50}")
+    public void flush() {
+        if (pendingMoves.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, List<PendingMove>> movesByBoard = new LinkedHashMap<>();
+        for (MoveKey key : pendingMoves.keySet()) {
+            PendingMove pendingMove = pendingMoves.remove(key);
+            if (pendingMove != null) {
+                movesByBoard.computeIfAbsent(pendingMove.boardId(), key -> new ArrayList<>()).add(pendingMove);
+            }
+        }
+
+        movesByBoard.forEach((boardId, moves) -> {
+            try {
+                flushBoard(boardId, moves);
+            } catch (RuntimeException e) {
+                // 拖曳中的中間位置遺失可以接受，下一個 tick 或放開滑鼠時的 PUT 會補上最終位置
+                log.warn("Failed to flush {} moves for board {}", moves.size(), boardId, e);
+            }
+        });
+    }
+
+    private void flushBoard(UUID boardId, List<PendingMove> moves) {
+        Map<BoardElementType, List<PendingMove>> movesByType = new EnumMap<>(BoardElementType.class);
+        for (PendingMove move : moves) {
+            movesByType.computeIfAbsent(move.move().type(), key -> new ArrayList<>()).add(move);
+        }
+
+        Map<UUID, List<UUID>> anchoredConnectorIds = new LinkedHashMap<>();
+        Map<BoardElementType, Map<UUID, List<ElementMovedDTO>>> applied = transactionTemplate.execute(status -> {
+            long revision = boardRevisionService.nextRevision(boardId);
+            Map<BoardElementType, Map<UUID, List<ElementMovedDTO>>> result = new EnumMap<>(BoardElementType.class);
+            movesByType.forEach((type, typedMoves) -> {
+                boolean[] updated = boardElementMoveRepositoryPort.applyMoves(boardId, type, revision,
+                        typedMoves.stream().map(PendingMove::move).toList());
+                for (int i = 0; i < updated.length; i++) {
+                    if (!updated[i]) {
+                        continue;
+                    }
+                    PendingMove pendingMove = typedMoves.get(i);
+                    ElementMove move = pendingMove.move();
+                    result.computeIfAbsent(type, key -> new LinkedHashMap<>())
+                            .computeIfAbsent(pendingMove.actorUserId(), key -> new ArrayList<>())
+                            .add(new ElementMovedDTO(move.id(), move.posX(), move.posY(),
+                                    move.width(), move.height(), revision));
+                }
+            });
+            // 元件都已刪除或不在這張 Board 上時回滾，revision 不會因為沒有任何異動而遞增
+            if (result.isEmpty()) {
+                status.setRollbackOnly();
+                return result;
+            }
+            List<UUID> movedIds = result.values().stream()
+                    .flatMap(movesByUser -> movesByUser.values().stream())
+                    .flatMap(List::stream)
+                    .map(ElementMovedDTO::getId)
+                    .toList();
+            anchoredConnectorIds.putAll(boardElementMoveRepositoryPort.findAnchoredConnectorIds(boardId, movedIds));
+            return result;
+        });
+
+        // 交易提交後才廣播，依拖曳者分組讓前端可以略過自己送出的位置
+        applied.forEach((type, movesByUser) -> movesByUser.forEach((userId, movedElements) ->
+                boardRealtimePublisher.publish(movedEventType(type), userId, boardId, Map.of(
+                        "moves", movedElements,
+                        "connectorIds", connectorIdsOf(movedElements, anchoredConnectorIds)))));
+    }
+
+    private List<UUID> connectorIdsOf(List<ElementMovedDTO> movedElements, Map<UUID, List<UUID>> anchoredConnectorIds) {
+        Set<UUID> connectorIds = new LinkedHashSet<>();
+        for (ElementMovedDTO moved : movedElements) {
+            connectorIds.addAll(anchoredConnectorIds.getOrDefault(moved.getId(), List.of()));
+        }
+        return List.copyOf(connectorIds);
+    }
+
+    private BoardRealtimeEventType movedEventType(BoardElementType type) {
+        return switch (type) {
+            case STICKY_NOTE -> BoardRealtimeEventType.STICKY_NOTE_MOVED;
+            case TEXT_BOX -> BoardRealtimeEventType.TEXT_BOX_MOVED;
+            case FRAME -> BoardRealtimeEventType.FRAME_MOVED;
+            default -> throw new RuntimeException("Unsupported move element type: " + type);
+        };
+    }
+
+    private record MoveKey(UUID boardId, UUID elementId) {
+    }
+
+    private record PendingMove(UUID boardId, UUID actorUserId, ElementMove move) {
+
+        PendingMove mergeOnto(PendingMove previous) {
+            return new PendingMove(boardId, actorUserId, move.mergeOnto(previous.move()));
+        }
+    }
+}
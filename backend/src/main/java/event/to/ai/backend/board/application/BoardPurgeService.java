@@ -0,0 +1,136 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardPurgeProgressDTO;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+// 刪除 Board 的元件
+// 元件數不超過 sync-limit 時在刪除 Board 的交易內以 bulk delete 完成；
+// 超過時只把 Board 標記為 purging，由背景工作每批刪除 chunk-size 個元件、各自提交，避免單一交易長時間持有大量鎖
+// 每個節點都會執行背景工作，先取得 Board 上的租約才清除；進度也寫在 Board 上，任何節點都能回報
+@Service
+public class BoardPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardPurgeService.class);
+
+    private final BoardRepositoryPort boardRepositoryPort;
+    private final BoardContentRepositoryPort boardContentRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    private final long syncDeleteLimit;
+    private final int chunkSize;
+    private final Duration leaseDuration;
+    private final UUID nodeId = UUID.randomUUID();
+
+    @Autowired
+    public BoardPurgeService(BoardRepositoryPort boardRepositoryPort,
+                             BoardContentRepositoryPort boardContentRepositoryPort,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.board.purge.sync-limit:2000}") long syncDeleteLimit,
+                             @Value("${app.board.purge.chunk-size:1000}") int chunkSize,
+                             @Value("${app.board.purge.lease-seconds:60}") long leaseSeconds) {
+        this.boardRepositoryPort = boardRepositoryPort;
+        this.boardContentRepositoryPort = boardContentRepositoryPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.syncDeleteLimit = syncDeleteLimit;
+        this.chunkSize = chunkSize;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    // 呼叫端已移除所有成員，Board 在交易提交後就無法再被存取
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void purgeBoard(UUID boardId) {
+        long elements = boardContentRepositoryPort.countElementsByBoardId(boardId);
+        if (elements <= syncDeleteLimit) {
+            boardContentRepositoryPort.deleteAllByBoardId(boardId);
+            boardRepositoryPort.deleteById(boardId);
+            return;
+        }
+        boardRepositoryPort.markPurging(boardId, elements);
+        log.info("Board {} has {} elements, scheduled for background purge", boardId, elements);
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.purge.interval-ms:1000}")
+    public void purgePendingBoards() {
+        for (UUID boardId : boardRepositoryPort.findPurgingBoardIds()) {
+            try {
+                purgeInChunks(boardId);
+            } catch (RuntimeException e) {
+                // 已刪除的批次不會回復，下一輪從剩下的元件繼續
+                log.warn("Failed to purge board {}", boardId, e);
+            }
+        }
+    }
+
+    // 只有 Board 的擁有者可以查詢；Board 已不存在代表清除完成 (或從未存在)
+    public BoardPurgeProgressDTO getPurgeProgress(UUID actorUserId, UUID boardId) {
+        Optional<Board> board = boardRepositoryPort.findById(boardId);
+        if (board.isEmpty()) {
+            return BoardPurgeProgressDTO.done(boardId);
+        }
+        if (!board.get().getOwnerId().equals(actorUserId)) {
+            throw new RuntimeException("Only the board owner can perform this action");
+        }
+        if (!board.get().isPurging()) {
+            throw new RuntimeException("Board is not being deleted: " + boardId);
+        }
+        return new BoardPurgeProgressDTO(boardId, board.get().getPurgeTotalElements(),
+                board.get().getPurgeDeletedElements(), false);
+    }
+
+    private void purgeInChunks(UUID boardId) {
+        boolean claimed = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                boardRepositoryPort.claimPurge(boardId, nodeId, LocalDateTime.now(), leaseUntil())));
+        if (!claimed) {
+            log.debug("Board {} is being purged by another node", boardId);
+            return;
+        }
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                renewLease(boardId);
+                int count = boardContentRepositoryPort.deleteElementChunkByBoardId(boardId, chunkSize);
+                boardRepositoryPort.addPurgedElements(boardId, count);
+                return count;
+            });
+            purged += deleted;
+            log.debug("Purging board {}: {} elements deleted", boardId, purged);
+        } while (deleted > 0);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            renewLease(boardId);
+            // tombstone 與清除期間才寫入的零星元件一併刪除
+            boardContentRepositoryPort.deleteAllByBoardId(boardId);
+            boardRepositoryPort.deleteById(boardId);
+        });
+        log.info("Board {} purged, {} elements deleted by this node", boardId, purged);
+    }
+
+    // 先更新 Board 上的租約再刪除元件；租約過期並已被其他節點接手時，這一批回滾交給對方繼續
+    private void renewLease(UUID boardId) {
+        if (!boardRepositoryPort.renewPurgeLease(boardId, nodeId, leaseUntil())) {
+            throw new RuntimeException("Purge of board " + boardId + " was taken over by another node");
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plus(leaseDuration);
+    }
+}
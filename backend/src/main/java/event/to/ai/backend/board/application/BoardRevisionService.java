@@ -0,0 +1,47 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+// 管理每張 Board 單調遞增的 revision
+// 必須在元件寫入的同一個交易內呼叫，revision 才會與元件異動一起提交或一起回滾
+@Service
+public class BoardRevisionService {
+
+    private final BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+
+    @Autowired
+    public BoardRevisionService(BoardRevisionRepositoryPort boardRevisionRepositoryPort) {
+        this.boardRevisionRepositoryPort = boardRevisionRepositoryPort;
+    }
+
+    // 建立或更新元件前呼叫，回傳的值寫進元件的 revision 欄位
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextRevision(UUID boardId) {
+        return boardRevisionRepositoryPort.incrementRevision(boardId);
+    }
+
+    // 元件被刪除或移出 Board 時呼叫，留下 tombstone 讓增量同步知道要移除
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long recordDeletion(UUID boardId, UUID elementId, BoardElementType elementType) {
+        long revision = boardRevisionRepositoryPort.incrementRevision(boardId);
+        boardRevisionRepositoryPort.saveTombstone(new BoardElementTombstone(boardId, elementId, elementType, revision));
+        return revision;
+    }
+
+    // 批次刪除時呼叫，revision 已由 nextRevision 取得，整批 tombstone 共用同一個 revision
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletions(UUID boardId, BoardElementType elementType, Collection<UUID> elementIds, long revision) {
+        for (UUID elementId : elementIds) {
+            boardRevisionRepositoryPort.saveTombstone(new BoardElementTombstone(boardId, elementId, elementType, revision));
+        }
+    }
+}
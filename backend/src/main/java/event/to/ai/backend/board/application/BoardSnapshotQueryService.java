@@ -0,0 +1,239 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardChangesDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementTombstoneDTO;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardSnapshotRepositoryPort;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// 一次讀出整張 Board 的所有元件
+// 權限只檢查一次，五種元件各用一條投影查詢，不經過各元件 Service 的逐筆轉換
+@Service
+public class BoardSnapshotQueryService {
+
+    private final BoardSnapshotRepositoryPort boardSnapshotRepositoryPort;
+    private final BoardAccessService boardAccessService;
+    private final BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // true 時五種元件改在 virtual thread 上平行讀取，每個查詢各自擁有唯讀交易與連線
+    @Value("${app.board.snapshot.parallel:false}")
+    private boolean parallel;
+
+    // 單一請求同時佔用的連線上限，需小於連線池大小
+    @Value("${app.board.snapshot.max-concurrency:5}")
+    private int maxConcurrency;
+
+    @Autowired
+    public BoardSnapshotQueryService(BoardSnapshotRepositoryPort boardSnapshotRepositoryPort,
+                                     BoardAccessService boardAccessService,
+                                     BoardRevisionRepositoryPort boardRevisionRepositoryPort,
+                                     PlatformTransactionManager transactionManager) {
+        this.boardSnapshotRepositoryPort = boardSnapshotRepositoryPort;
+        this.boardAccessService = boardAccessService;
+        this.boardRevisionRepositoryPort = boardRevisionRepositoryPort;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public BoardComponentsDTO getBoardComponents(UUID actorUserId, UUID boardId) {
+        return parallel
+                ? getBoardComponentsInParallel(actorUserId, boardId, maxConcurrency)
+                : getBoardComponentsSequentially(actorUserId, boardId);
+    }
+
+    // 同一個唯讀交易內依序執行五條查詢
+    // revision 在元件之前讀取：之後才發生的異動最多被重複送一次，不會漏掉
+    public BoardComponentsDTO getBoardComponentsSequentially(UUID actorUserId, UUID boardId) {
+        return readOnlyTransaction.execute(status -> {
+            boardAccessService.requireReadPermission(boardId, actorUserId);
+            long revision = currentRevision(boardId);
+            BoardComponentsDTO components = new BoardComponentsDTO(
+                    boardId,
+                    boardSnapshotRepositoryPort.findStickyNotesByBoardId(boardId),
+                    boardSnapshotRepositoryPort.findTextBoxesByBoardId(boardId),
+                    boardSnapshotRepositoryPort.findFramesByBoardId(boardId),
+                    boardSnapshotRepositoryPort.findDomainModelItemsByBoardId(boardId),
+                    boardSnapshotRepositoryPort.findConnectorsByBoardId(boardId)
+            );
+            components.setRevision(revision);
+            return components;
+        });
+    }
+
+    // 五條查詢各自在一條 virtual thread 上執行，以 Semaphore 限制同時使用的連線數
+    // 任一查詢失敗時取消其餘查詢，並把原始例外往外拋
+    public BoardComponentsDTO getBoardComponentsInParallel(UUID actorUserId, UUID boardId, int concurrency) {
+        long revision = readOnlyTransaction.execute(status -> {
+            boardAccessService.requireReadPermission(boardId, actorUserId);
+            return currentRevision(boardId);
+        });
+
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<List<StickyNoteDTO>> stickyNotes =
+                    executor.submit(readOnly(permits, () -> boardSnapshotRepositoryPort.findStickyNotesByBoardId(boardId)));
+            Future<List<TextBoxesDTO>> textBoxes =
+                    executor.submit(readOnly(permits, () -> boardSnapshotRepositoryPort.findTextBoxesByBoardId(boardId)));
+            Future<List<FrameDTO>> frames =
+                    executor.submit(readOnly(permits, () -> boardSnapshotRepositoryPort.findFramesByBoardId(boardId)));
+            Future<List<DomainModelItemDTO>> domainModelItems =
+                    executor.submit(readOnly(permits, () -> boardSnapshotRepositoryPort.findDomainModelItemsByBoardId(boardId)));
+            Future<List<ConnectorDTO>> connectors =
+                    executor.submit(readOnly(permits, () -> boardSnapshotRepositoryPort.findConnectorsByBoardId(boardId)));
+
+            try {
+                BoardComponentsDTO components = new BoardComponentsDTO(
+                        boardId,
+                        join(stickyNotes),
+                        join(textBoxes),
+                        join(frames),
+                        join(domainModelItems),
+                        join(connectors)
+                );
+                components.setRevision(revision);
+                return components;
+            } catch (RuntimeException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    // 串流版本：先檢查權限，再於同一個唯讀交易內逐表逐列交給 sink 輸出
+    // 記憶體用量只跟單一元件有關，與 Board 大小無關
+    public void streamBoardComponents(UUID boardId, BoardComponentsSink sink) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            sink.begin(boardId, currentRevision(boardId));
+            writeSection(sink, "stickyNotes", boardSnapshotRepositoryPort.streamStickyNotesByBoardId(boardId));
+            writeSection(sink, "textBoxes", boardSnapshotRepositoryPort.streamTextBoxesByBoardId(boardId));
+            writeSection(sink, "frames", boardSnapshotRepositoryPort.streamFramesByBoardId(boardId));
+            writeSection(sink, "domainModelItems", boardSnapshotRepositoryPort.streamDomainModelItemsByBoardId(boardId));
+            writeSection(sink, "connectors", boardSnapshotRepositoryPort.streamConnectorsByBoardId(boardId));
+            sink.end();
+        });
+    }
+
+    // 增量同步：回傳 (sinceRevision, 目前 revision] 之間異動的元件與 tombstone
+    // 查詢量只跟異動數量有關，與 Board 大小無關
+    public BoardChangesDTO getBoardChanges(UUID actorUserId, UUID boardId, long sinceRevision) {
+        return readOnlyTransaction.execute(status -> {
+            boardAccessService.requireReadPermission(boardId, actorUserId);
+            long revision = currentRevision(boardId);
+            if (sinceRevision >= revision) {
+                return new BoardChangesDTO(boardId, sinceRevision, revision, sinceRevision > revision,
+                        List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+            }
+            if (tombstonesPruned(boardId, sinceRevision)) {
+                return fullResync(boardId, sinceRevision, revision);
+            }
+
+            List<StickyNoteDTO> stickyNotes =
+                    boardSnapshotRepositoryPort.findStickyNotesChangedBetween(boardId, sinceRevision, revision);
+            List<TextBoxesDTO> textBoxes =
+                    boardSnapshotRepositoryPort.findTextBoxesChangedBetween(boardId, sinceRevision, revision);
+            List<FrameDTO> frames =
+                    boardSnapshotRepositoryPort.findFramesChangedBetween(boardId, sinceRevision, revision);
+            List<DomainModelItemDTO> domainModelItems =
+                    boardSnapshotRepositoryPort.findDomainModelItemsChangedBetween(boardId, sinceRevision, revision);
+            List<ConnectorDTO> connectors =
+                    boardSnapshotRepositoryPort.findConnectorsChangedBetween(boardId, sinceRevision, revision);
+
+            // 元件移出後又移回同一張 Board 時，目前仍存在的元件不應再被當成刪除
+            Set<UUID> present = new HashSet<>();
+            stickyNotes.forEach(note -> present.add(note.getId()));
+            textBoxes.forEach(textBox -> present.add(textBox.getId()));
+            frames.forEach(frame -> present.add(frame.getId()));
+            domainModelItems.forEach(item -> present.add(item.getId()));
+            connectors.forEach(connector -> present.add(connector.getId()));
+            List<BoardElementTombstoneDTO> deleted = boardRevisionRepositoryPort
+                    .findTombstones(boardId, sinceRevision, revision).stream()
+                    .filter(tombstone -> !present.contains(tombstone.getElementId()))
+                    .map(tombstone -> new BoardElementTombstoneDTO(
+                            tombstone.getElementId(), tombstone.getElementType(), tombstone.getRevision()))
+                    .toList();
+            // 讀完 tombstone 後再檢查一次，期間才提交的清除也不會讓 client 漏掉刪除
+            if (tombstonesPruned(boardId, sinceRevision)) {
+                return fullResync(boardId, sinceRevision, revision);
+            }
+
+            return new BoardChangesDTO(boardId, sinceRevision, revision, false,
+                    stickyNotes, textBoxes, frames, domainModelItems, connectors, deleted);
+        });
+    }
+
+    // 串流開始前先做權限檢查，讓無權限的請求仍能收到一般的錯誤回應
+    public void requireBoardReadable(UUID actorUserId, UUID boardId) {
+        readOnlyTransaction.executeWithoutResult(status -> boardAccessService.requireReadPermission(boardId, actorUserId));
+    }
+
+    private void writeSection(BoardComponentsSink sink, String name, Stream<?> elements) {
+        sink.section(name);
+        try (elements) {
+            elements.forEach(sink::element);
+        }
+    }
+
+    private <T> Callable<T> readOnly(Semaphore permits, Supplier<T> query) {
+        return () -> {
+            permits.acquire();
+            try {
+                return readOnlyTransaction.execute(status -> query.get());
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading board components", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    // (sinceRevision, min retained revision] 之間的 tombstone 已被清除，無法得知這段期間刪除了哪些元件
+    private boolean tombstonesPruned(UUID boardId, long sinceRevision) {
+        return sinceRevision < boardRevisionRepositoryPort.findMinRetainedRevision(boardId).orElse(0L);
+    }
+
+    private static BoardChangesDTO fullResync(UUID boardId, long sinceRevision, long revision) {
+        return new BoardChangesDTO(boardId, sinceRevision, revision, true,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+
+    private long currentRevision(UUID boardId) {
+        return boardRevisionRepositoryPort.findRevision(boardId)
+                .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
+    }
+}
@@ -0,0 +1,320 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// 單張 Board 的元件依 bounding box 放進邊長 cellSize 的格子，視窗查詢只走訪與視窗重疊的格子
+// 跨越超過 MAX_CELLS_PER_ENTRY 格的大元件 (例如大型 frame) 與位置無法確定的元件放在 unbounded，每次查詢逐一比對
+// connector 接在元件上的一端取該元件目前的 bounding box，元件移動或刪除時一併重新放置
+// revision 為最後套用的 Board revision；不是 thread-safe，由呼叫端同步
+final class BoardSpatialIndex {
+
+    private static final int MAX_CELLS_PER_ENTRY = 64;
+    private static final int MAX_CELL_INDEX = 1 << 30;
+
+    private final double cellSize;
+    private long revision;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    // cell key -> 與該格重疊的元件
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Set<Entry> unbounded = new HashSet<>();
+    // 元件 id -> 接在該元件上的 connector id
+    private final Map<UUID, Set<UUID>> connectorsByTarget = new HashMap<>();
+    // 每次查詢遞增，避免跨多格的元件被重複加入結果
+    private long queryStamp;
+
+    BoardSpatialIndex(double cellSize, long revision) {
+        this.cellSize = cellSize;
+        this.revision = revision;
+    }
+
+    long revision() {
+        return revision;
+    }
+
+    void advanceTo(long revision) {
+        this.revision = Math.max(this.revision, revision);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    void put(StickyNoteDTO note) {
+        putElement(note.getId(), Kind.STICKY_NOTE, note, note.getPosX(), note.getPosY(), note.getGeoX(), note.getGeoY());
+    }
+
+    void put(TextBoxesDTO textBox) {
+        putElement(textBox.getId(), Kind.TEXT_BOX, textBox,
+                textBox.getPosX(), textBox.getPosY(), textBox.getGeoX(), textBox.getGeoY());
+    }
+
+    void put(FrameDTO frame) {
+        putElement(frame.getId(), Kind.FRAME, frame, frame.getPosX(), frame.getPosY(), frame.getWidth(), frame.getHeight());
+    }
+
+    void put(DomainModelItemDTO item) {
+        putElement(item.getId(), Kind.DOMAIN_MODEL_ITEM, item, item.getPosX(), item.getPosY(), item.getWidth(), item.getHeight());
+    }
+
+    void put(ConnectorDTO connector) {
+        Entry previous = entries.get(connector.getId());
+        if (previous != null) {
+            removeEntry(previous);
+        }
+        Entry entry = new Entry(connector.getId(), Kind.CONNECTOR, connector);
+        entries.put(entry.id, entry);
+        linkTarget(connector.getFromTargetId(), entry.id);
+        linkTarget(connector.getToTargetId(), entry.id);
+        placeConnector(entry);
+    }
+
+    void remove(UUID id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return;
+        }
+        removeEntry(entry);
+        if (entry.kind != Kind.CONNECTOR) {
+            replaceConnectorsOf(id);
+        }
+    }
+
+    BoardComponentsDTO query(UUID boardId, BoardViewport viewport) {
+        List<StickyNoteDTO> stickyNotes = new ArrayList<>();
+        List<TextBoxesDTO> textBoxes = new ArrayList<>();
+        List<FrameDTO> frames = new ArrayList<>();
+        List<DomainModelItemDTO> domainModelItems = new ArrayList<>();
+        List<ConnectorDTO> connectors = new ArrayList<>();
+        List<Entry> hits = new ArrayList<>();
+
+        long stamp = ++queryStamp;
+        int minCellX = cell(viewport.minX());
+        int maxCellX = cell(viewport.maxX());
+        int minCellY = cell(viewport.minY());
+        int maxCellY = cell(viewport.maxY());
+        // 視窗涵蓋的格子比元件還多時 (例如縮到很小)，直接逐一比對比走訪空格子便宜
+        if ((double) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) > entries.size()) {
+            for (Entry entry : entries.values()) {
+                collect(entry, viewport, stamp, hits);
+            }
+        } else {
+            for (int x = minCellX; x <= maxCellX; x++) {
+                for (int y = minCellY; y <= maxCellY; y++) {
+                    List<Entry> cell = cells.get(key(x, y));
+                    if (cell != null) {
+                        for (Entry entry : cell) {
+                            collect(entry, viewport, stamp, hits);
+                        }
+                    }
+                }
+            }
+            for (Entry entry : unbounded) {
+                collect(entry, viewport, stamp, hits);
+            }
+        }
+
+        for (Entry entry : hits) {
+            switch (entry.kind) {
+                case STICKY_NOTE -> stickyNotes.add((StickyNoteDTO) entry.element);
+                case TEXT_BOX -> textBoxes.add((TextBoxesDTO) entry.element);
+                case FRAME -> frames.add((FrameDTO) entry.element);
+                case DOMAIN_MODEL_ITEM -> domainModelItems.add((DomainModelItemDTO) entry.element);
+                case CONNECTOR -> connectors.add((ConnectorDTO) entry.element);
+            }
+        }
+        return new BoardComponentsDTO(boardId, stickyNotes, textBoxes, frames, domainModelItems, connectors);
+    }
+
+    private void collect(Entry entry, BoardViewport viewport, long stamp, List<Entry> hits) {
+        if (entry.stamp == stamp) {
+            return;
+        }
+        entry.stamp = stamp;
+        if (entry.unknownBounds || viewport.intersects(entry.minX, entry.minY, entry.maxX, entry.maxY)) {
+            hits.add(entry);
+        }
+    }
+
+    private void putElement(UUID id, Kind kind, Object element, Double posX, Double posY, Double width, Double height) {
+        Entry previous = entries.get(id);
+        if (previous != null) {
+            removeEntry(previous);
+        }
+        Entry entry = new Entry(id, kind, element);
+        double x = valueOf(posX);
+        double y = valueOf(posY);
+        double right = x + valueOf(width);
+        double bottom = y + valueOf(height);
+        entry.setBounds(Math.min(x, right), Math.min(y, bottom), Math.max(x, right), Math.max(y, bottom));
+        entries.put(id, entry);
+        place(entry);
+        replaceConnectorsOf(id);
+    }
+
+    // 兩端都能確定位置時以兩端合起來的範圍放置；任一端無法確定時每次查詢都會回傳
+    private void placeConnector(Entry entry) {
+        ConnectorDTO connector = (ConnectorDTO) entry.element;
+        double[] from = endpoint(connector.getFromTargetId(), connector.getFromX(), connector.getFromY());
+        double[] to = endpoint(connector.getToTargetId(), connector.getToX(), connector.getToY());
+        if (from == null || to == null) {
+            entry.unknownBounds = true;
+        } else {
+            entry.setBounds(Math.min(from[0], to[0]), Math.min(from[1], to[1]), Math.max(from[2], to[2]), Math.max(from[3], to[3]));
+        }
+        place(entry);
+    }
+
+    private double[] endpoint(UUID targetId, Double x, Double y) {
+        Entry target = targetId != null ? entries.get(targetId) : null;
+        if (target != null && target.kind != Kind.CONNECTOR) {
+            return target.unknownBounds ? null : new double[]{target.minX, target.minY, target.maxX, target.maxY};
+        }
+        if (x == null || y == null) {
+            return null;
+        }
+        return new double[]{x, y, x, y};
+    }
+
+    private void replaceConnectorsOf(UUID targetId) {
+        Set<UUID> connectorIds = connectorsByTarget.get(targetId);
+        if (connectorIds == null) {
+            return;
+        }
+        for (UUID connectorId : connectorIds) {
+            Entry connector = entries.get(connectorId);
+            if (connector != null) {
+                unplace(connector);
+                connector.unknownBounds = false;
+                placeConnector(connector);
+            }
+        }
+    }
+
+    private void removeEntry(Entry entry) {
+        unplace(entry);
+        entries.remove(entry.id);
+        if (entry.kind == Kind.CONNECTOR) {
+            ConnectorDTO connector = (ConnectorDTO) entry.element;
+            unlinkTarget(connector.getFromTargetId(), entry.id);
+            unlinkTarget(connector.getToTargetId(), entry.id);
+        }
+    }
+
+    private void place(Entry entry) {
+        if (entry.unknownBounds) {
+            unbounded.add(entry);
+            return;
+        }
+        entry.minCellX = cell(entry.minX);
+        entry.maxCellX = cell(entry.maxX);
+        entry.minCellY = cell(entry.minY);
+        entry.maxCellY = cell(entry.maxY);
+        if ((long) (entry.maxCellX - entry.minCellX + 1) * (entry.maxCellY - entry.minCellY + 1) > MAX_CELLS_PER_ENTRY) {
+            unbounded.add(entry);
+            return;
+        }
+        for (int x = entry.minCellX; x <= entry.maxCellX; x++) {
+            for (int y = entry.minCellY; y <= entry.maxCellY; y++) {
+                cells.computeIfAbsent(key(x, y), k -> new ArrayList<>()).add(entry);
+            }
+        }
+        entry.inCells = true;
+    }
+
+    private void unplace(Entry entry) {
+        if (!entry.inCells) {
+            unbounded.remove(entry);
+            return;
+        }
+        for (int x = entry.minCellX; x <= entry.maxCellX; x++) {
+            for (int y = entry.minCellY; y <= entry.maxCellY; y++) {
+                long key = key(x, y);
+                List<Entry> cell = cells.get(key);
+                cell.remove(entry);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+        entry.inCells = false;
+    }
+
+    private void linkTarget(UUID targetId, UUID connectorId) {
+        if (targetId != null) {
+            connectorsByTarget.computeIfAbsent(targetId, k -> new HashSet<>()).add(connectorId);
+        }
+    }
+
+    private void unlinkTarget(UUID targetId, UUID connectorId) {
+        if (targetId == null) {
+            return;
+        }
+        Set<UUID> connectorIds = connectorsByTarget.get(targetId);
+        if (connectorIds != null && connectorIds.remove(connectorId) && connectorIds.isEmpty()) {
+            connectorsByTarget.remove(targetId);
+        }
+    }
+
+    private int cell(double value) {
+        double index = Math.floor(value / cellSize);
+        return (int) Math.max(-MAX_CELL_INDEX, Math.min(MAX_CELL_INDEX, index));
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : 0.0;
+    }
+
+    private enum Kind {
+        STICKY_NOTE, TEXT_BOX, FRAME, DOMAIN_MODEL_ITEM, CONNECTOR
+    }
+
+    private static final class Entry {
+
+        private final UUID id;
+        private final Kind kind;
+        private final Object element;
+        private double minX;
+        private double minY;
+        private double maxX;
+        private double maxY;
+        // 座標含 NaN / 無限大，或 connector 有一端找不到位置
+        private boolean unknownBounds;
+        private boolean inCells;
+        private int minCellX;
+        private int minCellY;
+        private int maxCellX;
+        private int maxCellY;
+        private long stamp;
+
+        private Entry(UUID id, Kind kind, Object element) {
+            this.id = id;
+            this.kind = kind;
+            this.element = element;
+        }
+
+        private void setBounds(double minX, double minY, double maxX, double maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.unknownBounds = !(Double.isFinite(minX) && Double.isFinite(minY) && Double.isFinite(maxX) && Double.isFinite(maxY));
+        }
+    }
+}
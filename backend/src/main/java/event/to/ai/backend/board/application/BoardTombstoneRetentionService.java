@@ -0,0 +1,56 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+// 定期清除過舊的 tombstone：落後 Board 目前 revision 超過 retain-revisions，或已保留超過 retain-days 天
+// 每張 Board 各自一個交易，並推進 Board 的 min retained revision，讓 since 更舊的增量同步改用完整快照
+@Service
+public class BoardTombstoneRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardTombstoneRetentionService.class);
+
+    private final BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    private final long retainRevisions;
+    private final long retainDays;
+
+    @Autowired
+    public BoardTombstoneRetentionService(BoardRevisionRepositoryPort boardRevisionRepositoryPort,
+                                          PlatformTransactionManager transactionManager,
+                                          @Value("${app.board.tombstone.retain-revisions:10000}") long retainRevisions,
+                                          @Value("${app.board.tombstone.retain-days:7}") long retainDays) {
+        this.boardRevisionRepositoryPort = boardRevisionRepositoryPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retainRevisions = retainRevisions;
+        this.retainDays = retainDays;
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.tombstone.prune-interval-ms:3600000}")
+    public void pruneTombstones() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minusDays(retainDays);
+        Map<UUID, Long> prunableRevisions = transactionTemplate.execute(status ->
+                boardRevisionRepositoryPort.findPrunableTombstoneRevisions(retainRevisions, deletedBefore));
+        prunableRevisions.forEach((boardId, untilRevision) -> {
+            try {
+                int deleted = transactionTemplate.execute(status ->
+                        boardRevisionRepositoryPort.pruneTombstones(boardId, untilRevision));
+                log.debug("Pruned {} tombstones of board {} up to revision {}", deleted, boardId, untilRevision);
+            } catch (RuntimeException e) {
+                // 清除是冪等的，下一輪會再試
+                log.warn("Failed to prune tombstones of board {}", boardId, e);
+            }
+        });
+    }
+}
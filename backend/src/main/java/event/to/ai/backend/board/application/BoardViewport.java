@@ -0,0 +1,16 @@
+package event.to.ai.backend.board.application;
+
+// 畫布上的可視範圍 (含邊界)，元件的 bounding box 為 pos 到 pos + 尺寸
+public record BoardViewport(double minX, double minY, double maxX, double maxY) {
+
+    public BoardViewport {
+        if (!(minX <= maxX) || !(minY <= maxY) || Double.isInfinite(minX) || Double.isInfinite(minY)
+                || Double.isInfinite(maxX) || Double.isInfinite(maxY)) {
+            throw new RuntimeException("Invalid viewport: minX/minY must not exceed maxX/maxY and all bounds must be finite");
+        }
+    }
+
+    public boolean intersects(double otherMinX, double otherMinY, double otherMaxX, double otherMaxY) {
+        return otherMinX <= maxX && otherMaxX >= minX && otherMinY <= maxY && otherMaxY >= minY;
+    }
+}
@@ -0,0 +1,152 @@
+package event.to.ai.backend.board.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardSnapshotRepositoryPort;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 只回傳 bounding box 與視窗相交的元件，開啟 Board 與平移畫面的成本只跟畫面上的元件數有關
+// 每張 Board 第一次查詢時讀出所有元件建立 BoardSpatialIndex，之後依 revision 以增量同步的查詢 (異動的元件與 tombstone) 追上最新狀態
+// 元件超過 index.max-elements 或停用索引時，改以資料庫的範圍查詢回答
+@Service
+public class BoardViewportQueryService {
+
+    static final String CACHE_NAME = "boardViewportIndex";
+
+    private final BoardSnapshotRepositoryPort boardSnapshotRepositoryPort;
+    private final BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+    private final BoardContentRepositoryPort boardContentRepositoryPort;
+    private final BoardAccessService boardAccessService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<UUID, BoardSpatialIndex> indexes;
+    private final boolean indexEnabled;
+    private final long maxIndexedElements;
+    private final double cellSize;
+
+    @Autowired
+    public BoardViewportQueryService(BoardSnapshotRepositoryPort boardSnapshotRepositoryPort,
+                                     BoardRevisionRepositoryPort boardRevisionRepositoryPort,
+                                     BoardContentRepositoryPort boardContentRepositoryPort,
+                                     BoardAccessService boardAccessService,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.board.viewport.index.enabled:true}") boolean indexEnabled,
+                                     @Value("${app.board.viewport.index.maximum-boards:50}") long maximumBoards,
+                                     @Value("${app.board.viewport.index.ttl-seconds:600}") long ttlSeconds,
+                                     @Value("${app.board.viewport.index.max-elements:200000}") long maxIndexedElements,
+                                     @Value("${app.board.viewport.index.cell-size:512}") double cellSize) {
+        this.boardSnapshotRepositoryPort = boardSnapshotRepositoryPort;
+        this.boardRevisionRepositoryPort = boardRevisionRepositoryPort;
+        this.boardContentRepositoryPort = boardContentRepositoryPort;
+        this.boardAccessService = boardAccessService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumBoards)
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.indexEnabled = indexEnabled;
+        this.maxIndexedElements = maxIndexedElements;
+        this.cellSize = cellSize;
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, CACHE_NAME);
+    }
+
+    // revision 在元件之前讀取，與 /components 相同，可作為之後 /changes 的 since
+    public BoardComponentsDTO getBoardComponentsInViewport(UUID actorUserId, UUID boardId, BoardViewport viewport) {
+        return readOnlyTransaction.execute(status -> {
+            boardAccessService.requireReadPermission(boardId, actorUserId);
+            long revision = boardRevisionRepositoryPort.findRevision(boardId)
+                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + boardId));
+
+            BoardSpatialIndex index = indexEnabled ? indexFor(boardId, revision) : null;
+            BoardComponentsDTO components;
+            if (index == null) {
+                components = queryDatabase(boardId, viewport);
+            } else {
+                synchronized (index) {
+                    components = index.query(boardId, viewport);
+                }
+            }
+            components.setRevision(revision);
+            return components;
+        });
+    }
+
+    // 呼叫端必須在唯讀交易內
+    private BoardSpatialIndex indexFor(UUID boardId, long revision) {
+        BoardSpatialIndex index = indexes.getIfPresent(boardId);
+        if (index == null) {
+            if (boardContentRepositoryPort.countElementsByBoardId(boardId) > maxIndexedElements) {
+                return null;
+            }
+            index = indexes.get(boardId, key -> build(boardId, revision));
+        }
+        synchronized (index) {
+            if (index.revision() < revision) {
+                catchUp(index, boardId, revision);
+            }
+            // 追上之後超過上限的 Board 不再保留索引
+            if (index.size() > maxIndexedElements) {
+                indexes.invalidate(boardId);
+                return null;
+            }
+        }
+        return index;
+    }
+
+    private BoardSpatialIndex build(UUID boardId, long revision) {
+        BoardSpatialIndex index = new BoardSpatialIndex(cellSize, revision);
+        boardSnapshotRepositoryPort.findStickyNotesByBoardId(boardId).forEach(index::put);
+        boardSnapshotRepositoryPort.findTextBoxesByBoardId(boardId).forEach(index::put);
+        boardSnapshotRepositoryPort.findFramesByBoardId(boardId).forEach(index::put);
+        boardSnapshotRepositoryPort.findDomainModelItemsByBoardId(boardId).forEach(index::put);
+        boardSnapshotRepositoryPort.findConnectorsByBoardId(boardId).forEach(index::put);
+        return index;
+    }
+
+    // 與 getBoardChanges 相同：先移除 tombstone 對應的元件，再放入 (since, revision] 之間異動的元件
+    // 移出後又移回同一張 Board 的元件會在第二步重新放入
+    private void catchUp(BoardSpatialIndex index, UUID boardId, long revision) {
+        long since = index.revision();
+        for (BoardElementTombstone tombstone : boardRevisionRepositoryPort.findTombstones(boardId, since, revision)) {
+            index.remove(tombstone.getElementId());
+        }
+        boardSnapshotRepositoryPort.findStickyNotesChangedBetween(boardId, since, revision).forEach(index::put);
+        boardSnapshotRepositoryPort.findTextBoxesChangedBetween(boardId, since, revision).forEach(index::put);
+        boardSnapshotRepositoryPort.findFramesChangedBetween(boardId, since, revision).forEach(index::put);
+        boardSnapshotRepositoryPort.findDomainModelItemsChangedBetween(boardId, since, revision).forEach(index::put);
+        boardSnapshotRepositoryPort.findConnectorsChangedBetween(boardId, since, revision).forEach(index::put);
+        index.advanceTo(revision);
+    }
+
+    // 沒有索引時的 fallback；兩端都在視窗外、只是從畫面中間穿過的 connector 不會被回傳
+    private BoardComponentsDTO queryDatabase(UUID boardId, BoardViewport viewport) {
+        List<StickyNoteDTO> stickyNotes = boardSnapshotRepositoryPort.findStickyNotesInViewport(boardId, viewport);
+        List<TextBoxesDTO> textBoxes = boardSnapshotRepositoryPort.findTextBoxesInViewport(boardId, viewport);
+        List<FrameDTO> frames = boardSnapshotRepositoryPort.findFramesInViewport(boardId, viewport);
+        List<DomainModelItemDTO> domainModelItems = boardSnapshotRepositoryPort.findDomainModelItemsInViewport(boardId, viewport);
+        List<ConnectorDTO> connectors = boardSnapshotRepositoryPort.findConnectorsInViewport(boardId, viewport);
+
+        return new BoardComponentsDTO(boardId, stickyNotes, textBoxes, frames, domainModelItems, connectors);
+    }
+}
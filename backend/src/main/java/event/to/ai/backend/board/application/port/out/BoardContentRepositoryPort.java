@@ -4,5 +4,11 @@ import java.util.UUID;
 
 public interface BoardContentRepositoryPort {
 
+    // 以 DELETE ... WHERE board_id = ? 一次刪除整張 Board 的元件與 tombstone，不把 entity 載入 persistence context
     void deleteAllByBoardId(UUID boardId);
+
+    long countElementsByBoardId(UUID boardId);
+
+    // 刪除最多 chunkSize 個元件，回傳實際刪除的數量；回傳 0 表示元件已清空
+    int deleteElementChunkByBoardId(UUID boardId, int chunkSize);
 }
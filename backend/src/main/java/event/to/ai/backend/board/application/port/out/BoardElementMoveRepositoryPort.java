@@ -0,0 +1,19 @@
+package event.to.ai.backend.board.application.port.out;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.board.domain.ElementMove;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface BoardElementMoveRepositoryPort {
+
+    // 以單一 batch 更新同一種元件的位置 / 尺寸與 revision，只會更新屬於 boardId 的元件
+    // 回傳值與 moves 一一對應，元件已刪除或已不在這張 Board 上時為 false
+    boolean[] applyMoves(UUID boardId, BoardElementType type, long revision, List<ElementMove> moves);
+
+    // elementId -> 起點或終點錨定在該元件上的 connector id，沒有錨定的元件不會出現在結果中
+    Map<UUID, List<UUID>> findAnchoredConnectorIds(UUID boardId, Collection<UUID> elementIds);
+}
@@ -1,6 +1,7 @@
 package event.to.ai.backend.board.application.port.out;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,6 +17,9 @@ public interface BoardMembershipRepositoryPort {
 
     Optional<BoardMembership> findByBoardIdAndUserId(UUID boardId, UUID userId);
 
+    // 權限檢查只需要角色，不必載入 membership 與關聯的 Board / User
+    Optional<BoardMembershipRole> findRoleByBoardIdAndUserId(UUID boardId, UUID userId);
+
     boolean existsByBoardIdAndUserId(UUID boardId, UUID userId);
     
     boolean existsByBoardIdAndUserEmail(UUID boardId, String userEmail);
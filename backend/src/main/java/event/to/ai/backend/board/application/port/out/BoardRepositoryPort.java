@@ -2,6 +2,7 @@ package event.to.ai.backend.board.application.port.out;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +20,17 @@ public interface BoardRepositoryPort {
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    // 標記為背景清除中，並記下開始時的元件數作為進度的分母
+    void markPurging(UUID id, long totalElements);
+
+    // 取得背景清除的租約；其他節點持有尚未過期的租約時回傳 false
+    boolean claimPurge(UUID id, UUID owner, LocalDateTime now, LocalDateTime leaseUntil);
+
+    // 只有仍持有租約時才延長，租約已被其他節點接手時回傳 false
+    boolean renewPurgeLease(UUID id, UUID owner, LocalDateTime leaseUntil);
+
+    void addPurgedElements(UUID id, long deleted);
+
+    List<UUID> findPurgingBoardIds();
 }
@@ -0,0 +1,33 @@
+package event.to.ai.backend.board.application.port.out;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BoardRevisionRepositoryPort {
+
+    // 原子地把 Board 的 revision +1 並回傳新值
+    // 會鎖住該 Board 的資料列直到交易結束，同一張 Board 的寫入因此依 revision 順序提交
+    long incrementRevision(UUID boardId);
+
+    Optional<Long> findRevision(UUID boardId);
+
+    // revision 不超過此值的 tombstone 已被清除
+    Optional<Long> findMinRetainedRevision(UUID boardId);
+
+    BoardElementTombstone saveTombstone(BoardElementTombstone tombstone);
+
+    // 回傳 (sinceRevision, untilRevision] 範圍內的 tombstone
+    List<BoardElementTombstone> findTombstones(UUID boardId, long sinceRevision, long untilRevision);
+
+    // 落後 Board 目前 revision 超過 retainRevisions，或刪除時間早於 deletedBefore 的 tombstone
+    // 回傳 boardId -> 其中最大的 revision
+    Map<UUID, Long> findPrunableTombstoneRevisions(long retainRevisions, LocalDateTime deletedBefore);
+
+    // 先推進 Board 的 min retained revision 再刪除 revision 不超過 untilRevision 的 tombstone，回傳刪除筆數
+    int pruneTombstones(UUID boardId, long untilRevision);
+}
@@ -0,0 +1,62 @@
+package event.to.ai.backend.board.application.port.out;
+
+import event.to.ai.backend.board.application.BoardViewport;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+// 給整張 Board 快照用的唯讀 Port
+// 直接以 board_id 查出扁平的欄位投影，不載入 Board entity，也不做逐筆權限檢查
+public interface BoardSnapshotRepositoryPort {
+
+    List<StickyNoteDTO> findStickyNotesByBoardId(UUID boardId);
+
+    List<TextBoxesDTO> findTextBoxesByBoardId(UUID boardId);
+
+    List<FrameDTO> findFramesByBoardId(UUID boardId);
+
+    List<DomainModelItemDTO> findDomainModelItemsByBoardId(UUID boardId);
+
+    List<ConnectorDTO> findConnectorsByBoardId(UUID boardId);
+
+    // 以下 stream 版本逐列讀取，不會一次把整張表放進記憶體
+    // 必須在交易內使用，並在用完後關閉 Stream 以釋放 ResultSet
+    Stream<StickyNoteDTO> streamStickyNotesByBoardId(UUID boardId);
+
+    Stream<TextBoxesDTO> streamTextBoxesByBoardId(UUID boardId);
+
+    Stream<FrameDTO> streamFramesByBoardId(UUID boardId);
+
+    Stream<DomainModelItemDTO> streamDomainModelItemsByBoardId(UUID boardId);
+
+    Stream<ConnectorDTO> streamConnectorsByBoardId(UUID boardId);
+
+    // 增量同步用：只回傳 revision 落在 (sinceRevision, untilRevision] 的元件
+    List<StickyNoteDTO> findStickyNotesChangedBetween(UUID boardId, long sinceRevision, long untilRevision);
+
+    List<TextBoxesDTO> findTextBoxesChangedBetween(UUID boardId, long sinceRevision, long untilRevision);
+
+    List<FrameDTO> findFramesChangedBetween(UUID boardId, long sinceRevision, long untilRevision);
+
+    List<DomainModelItemDTO> findDomainModelItemsChangedBetween(UUID boardId, long sinceRevision, long untilRevision);
+
+    List<ConnectorDTO> findConnectorsChangedBetween(UUID boardId, long sinceRevision, long untilRevision);
+
+    // 視窗查詢用：bounding box (pos 到 pos + 尺寸) 與視窗相交的元件
+    List<StickyNoteDTO> findStickyNotesInViewport(UUID boardId, BoardViewport viewport);
+
+    List<TextBoxesDTO> findTextBoxesInViewport(UUID boardId, BoardViewport viewport);
+
+    List<FrameDTO> findFramesInViewport(UUID boardId, BoardViewport viewport);
+
+    List<DomainModelItemDTO> findDomainModelItemsInViewport(UUID boardId, BoardViewport viewport);
+
+    // connector 的位置取決於兩端的元件，只回傳一端接在視窗內的元件上、或自由端點落在視窗內的 connector
+    List<ConnectorDTO> findConnectorsInViewport(UUID boardId, BoardViewport viewport);
+}
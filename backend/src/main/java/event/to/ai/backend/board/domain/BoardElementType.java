@@ -0,0 +1,9 @@
+package event.to.ai.backend.board.domain;
+
+public enum BoardElementType {
+    STICKY_NOTE,
+    TEXT_BOX,
+    FRAME,
+    DOMAIN_MODEL_ITEM,
+    CONNECTOR
+}
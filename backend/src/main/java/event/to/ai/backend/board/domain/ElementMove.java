@@ -0,0 +1,17 @@
+package event.to.ai.backend.board.domain;
+
+import java.util.UUID;
+
+// 一次拖曳 / 縮放後元件的最新位置，width / height 為 null 代表尺寸沒變
+public record ElementMove(BoardElementType type, UUID id, double posX, double posY, Double width, Double height) {
+
+    // 同一個 tick 內後到的 move 覆蓋先到的，但只帶位置的 move 不應把先前的尺寸變更丟掉
+    public ElementMove mergeOnto(ElementMove previous) {
+        if (previous == null || (width != null && height != null)) {
+            return this;
+        }
+        return new ElementMove(type, id, posX, posY,
+                width != null ? width : previous.width(),
+                height != null ? height : previous.height());
+    }
+}
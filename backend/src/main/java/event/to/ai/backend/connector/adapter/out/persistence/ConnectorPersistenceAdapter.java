@@ -5,6 +5,7 @@ import event.to.ai.backend.connector.application.port.out.ConnectorRepositoryPor
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,6 +40,16 @@ public class ConnectorPersistenceAdapter implements ConnectorRepositoryPort {
         return connectorRepository.save(connector);
     }
 
+    @Override
+    public List<Connector> findAllById(Collection<UUID> ids) {
+        return connectorRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Connector> saveAll(List<Connector> connectors) {
+        return connectorRepository.saveAll(connectors);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return connectorRepository.existsById(id);
@@ -48,4 +59,9 @@ public class ConnectorPersistenceAdapter implements ConnectorRepositoryPort {
     public void deleteById(UUID id) {
         connectorRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteAll(List<Connector> connectors) {
+        connectorRepository.deleteAll(connectors);
+    }
 }
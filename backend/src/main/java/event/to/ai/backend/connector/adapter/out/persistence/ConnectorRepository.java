@@ -11,6 +11,4 @@ import java.util.UUID;
 public interface ConnectorRepository extends JpaRepository<Connector, UUID> {
 
     List<Connector> findByBoardId(UUID boardId);
-
-    void deleteAllByBoardId(UUID boardId);
 }
@@ -15,6 +15,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -25,7 +26,15 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "connectors")
+@Table(
+        name = "connectors",
+        indexes = {
+                @Index(name = "idx_connectors_board_id_revision", columnList = "board_id,revision"),
+                @Index(name = "idx_connectors_board_id_frame_id", columnList = "board_id,frame_id"),
+                @Index(name = "idx_connectors_from_target_id", columnList = "from_target_id"),
+                @Index(name = "idx_connectors_to_target_id", columnList = "to_target_id")
+        }
+)
 public class Connector {
 
     @Id
@@ -115,6 +124,10 @@ public class Connector {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 最後一次異動時 Board 的 revision，供增量同步查詢
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     public Connector() {
     }
 
@@ -312,4 +325,12 @@ public class Connector {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
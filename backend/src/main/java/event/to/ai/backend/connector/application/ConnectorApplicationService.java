@@ -1,8 +1,9 @@
 package event.to.ai.backend.connector.application;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardRevisionService;
+import event.to.ai.backend.board.domain.BoardElementType;
 import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
 import event.to.ai.backend.connector.adapter.in.web.dto.CreateConnectorRequest;
 import event.to.ai.backend.connector.adapter.in.web.dto.UpdateConnectorRequest;
@@ -10,11 +11,19 @@ import event.to.ai.backend.connector.adapter.out.persistence.entity.Connector;
 import event.to.ai.backend.connector.adapter.out.persistence.entity.Point2D;
 import event.to.ai.backend.connector.application.port.out.BoardRepositoryPort;
 import event.to.ai.backend.connector.application.port.out.ConnectorRepositoryPort;
+import event.to.ai.backend.websocket.BoardRealtimeEventType;
+import event.to.ai.backend.websocket.BoardRealtimePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -22,23 +31,28 @@ import java.util.stream.Collectors;
 public class ConnectorApplicationService {
 
     private final ConnectorRepositoryPort connectorRepositoryPort;
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final BoardRepositoryPort boardRepositoryPort;
+    private final BoardRevisionService boardRevisionService;
+    private final BoardRealtimePublisher boardRealtimePublisher;
 
     @Autowired
     public ConnectorApplicationService(ConnectorRepositoryPort connectorRepositoryPort,
-                                       BoardMembershipRepositoryPort boardMembershipRepositoryPort,
-                                       BoardRepositoryPort boardRepositoryPort) {
+                                       BoardAccessService boardAccessService,
+                                       BoardRepositoryPort boardRepositoryPort,
+                                       BoardRevisionService boardRevisionService,
+                                       BoardRealtimePublisher boardRealtimePublisher) {
         this.connectorRepositoryPort = connectorRepositoryPort;
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.boardRepositoryPort = boardRepositoryPort;
+        this.boardRevisionService = boardRevisionService;
+        this.boardRealtimePublisher = boardRealtimePublisher;
     }
 
     public List<ConnectorDTO> getAllConnectors(UUID actorUserId) {
         return connectorRepositoryPort.findAll().stream()
                 .filter(connector -> connector.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                connector.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(connector.getBoard().getId(), actorUserId))
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -46,14 +60,13 @@ public class ConnectorApplicationService {
     public List<ConnectorDTO> getConnectorsById(UUID actorUserId, UUID id) {
         return connectorRepositoryPort.findById(id)
                 .filter(connector -> connector.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                connector.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(connector.getBoard().getId(), actorUserId))
                 .map(connector -> List.of(convertToDTO(connector)))
                 .orElseGet(List::of);
     }
 
     public List<ConnectorDTO> getConnectorsByBoardId(UUID actorUserId, UUID boardId) {
-        requireReadPermission(boardId, actorUserId);
+        boardAccessService.requireReadPermission(boardId, actorUserId);
         return connectorRepositoryPort.findByBoardId(boardId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -64,8 +77,114 @@ public class ConnectorApplicationService {
         Board board = boardRepositoryPort.findById(request.getBoardId())
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
 
-        requireWritePermission(board.getId(), actorUserId);
+        boardAccessService.requireWritePermission(board.getId(), actorUserId);
 
+        Connector connector = newConnector(board, request);
+        connector.setRevision(boardRevisionService.nextRevision(board.getId()));
+        Connector savedConnector = connectorRepositoryPort.save(connector);
+        ConnectorDTO dto = convertToDTO(savedConnector);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.CONNECTOR_CREATED, actorUserId, dto.getBoardId(), dto);
+        return dto;
+    }
+
+    @Transactional
+    public ConnectorDTO updateConnector(UUID actorUserId, UUID id, UpdateConnectorRequest request) {
+        Connector connector = connectorRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("Connector not found with id: " + id));
+
+        UUID previousBoardId = connector.getBoard().getId();
+        boardAccessService.requireWritePermission(previousBoardId, actorUserId);
+
+        if (request.getBoardId() != null) {
+            Board board = boardRepositoryPort.findById(request.getBoardId())
+                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
+            boardAccessService.requireWritePermission(board.getId(), actorUserId);
+            connector.setBoard(board);
+        }
+        applyChanges(connector, request);
+
+        // 移到其他 Board 時，原 Board 要留下 tombstone，原 Board 的協作者也要收到刪除事件
+        boolean movedToAnotherBoard = !previousBoardId.equals(connector.getBoard().getId());
+        if (movedToAnotherBoard) {
+            boardRevisionService.recordDeletion(previousBoardId, id, BoardElementType.CONNECTOR);
+        }
+        connector.setRevision(boardRevisionService.nextRevision(connector.getBoard().getId()));
+
+        Connector updatedConnector = connectorRepositoryPort.save(connector);
+        ConnectorDTO dto = convertToDTO(updatedConnector);
+        if (movedToAnotherBoard) {
+            boardRealtimePublisher.publish(BoardRealtimeEventType.CONNECTOR_DELETED, actorUserId, previousBoardId, Map.of("id", id));
+        }
+        boardRealtimePublisher.publish(BoardRealtimeEventType.CONNECTOR_UPDATED, actorUserId, dto.getBoardId(), dto);
+        return dto;
+    }
+
+    @Transactional
+    public void deleteConnector(UUID actorUserId, UUID id) {
+        Connector connector = connectorRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("Connector not found with id: " + id));
+
+        UUID boardId = connector.getBoard().getId();
+        boardAccessService.requireWritePermission(boardId, actorUserId);
+
+        connectorRepositoryPort.deleteById(id);
+        boardRevisionService.recordDeletion(boardId, id, BoardElementType.CONNECTOR);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.CONNECTOR_DELETED, actorUserId, boardId, Map.of("id", id));
+    }
+
+    // 以下三個方法給 BoardElementsBatchService 使用
+    // 呼叫端已檢查過整張 Board 的寫入權限、取得這一批的 revision，並負責廣播彙整後的即時事件
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<ConnectorDTO> createConnectorsInBatch(Board board, List<CreateConnectorRequest> requests, long revision) {
+        List<Connector> connectors = new ArrayList<>(requests.size());
+        for (CreateConnectorRequest request : requests) {
+            Connector connector = newConnector(board, request);
+            connector.setRevision(revision);
+            connectors.add(connector);
+        }
+        return connectorRepositoryPort.saveAll(connectors).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<ConnectorDTO> updateConnectorsInBatch(UUID boardId, Map<UUID, UpdateConnectorRequest> requests, long revision) {
+        List<Connector> connectors = findAllOnBoard(boardId, requests.keySet());
+        for (Connector connector : connectors) {
+            UpdateConnectorRequest request = requests.get(connector.getId());
+            if (request.getBoardId() != null && !request.getBoardId().equals(boardId)) {
+                throw new RuntimeException("Moving a connector to another board is not supported in batch: " + connector.getId());
+            }
+            applyChanges(connector, request);
+            connector.setRevision(revision);
+        }
+        return connectorRepositoryPort.saveAll(connectors).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteConnectorsInBatch(UUID boardId, Collection<UUID> ids) {
+        connectorRepositoryPort.deleteAll(findAllOnBoard(boardId, ids));
+    }
+
+    // 一次查回整批元件，任何一個不存在或不屬於這張 Board 都讓整批失敗
+    private List<Connector> findAllOnBoard(UUID boardId, Collection<UUID> ids) {
+        List<Connector> connectors = connectorRepositoryPort.findAllById(ids);
+        Set<UUID> missingIds = new HashSet<>(ids);
+        for (Connector connector : connectors) {
+            if (!connector.getBoard().getId().equals(boardId)) {
+                throw new RuntimeException("Connector not found with id: " + connector.getId());
+            }
+            missingIds.remove(connector.getId());
+        }
+        if (!missingIds.isEmpty()) {
+            throw new RuntimeException("Connector not found with id: " + missingIds.iterator().next());
+        }
+        return connectors;
+    }
+
+    private Connector newConnector(Board board, CreateConnectorRequest request) {
         Connector connector = new Connector();
         connector.setBoard(board);
         connector.setFrameId(request.getFrameId());
@@ -88,23 +207,10 @@ public class ConnectorApplicationService {
         connector.setEndArrow(request.getEndArrow());
         connector.setZIndex(request.getZIndex());
 
-        Connector savedConnector = connectorRepositoryPort.save(connector);
-        return convertToDTO(savedConnector);
+        return connector;
     }
 
-    @Transactional
-    public ConnectorDTO updateConnector(UUID actorUserId, UUID id, UpdateConnectorRequest request) {
-        Connector connector = connectorRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("Connector not found with id: " + id));
-
-        requireWritePermission(connector.getBoard().getId(), actorUserId);
-
-        if (request.getBoardId() != null) {
-            Board board = boardRepositoryPort.findById(request.getBoardId())
-                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
-            requireWritePermission(board.getId(), actorUserId);
-            connector.setBoard(board);
-        }
+    private void applyChanges(Connector connector, UpdateConnectorRequest request) {
         if (request.getFrameId() != null) {
             if(request.getFrameId().equals("null")){
                 connector.setFrameId(null);
@@ -171,37 +277,6 @@ public class ConnectorApplicationService {
         if (request.getZIndex() != null) {
             connector.setZIndex(request.getZIndex());
         }
-
-        Connector updatedConnector = connectorRepositoryPort.save(connector);
-        return convertToDTO(updatedConnector);
-    }
-
-    @Transactional
-    public void deleteConnector(UUID actorUserId, UUID id) {
-        Connector connector = connectorRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("Connector not found with id: " + id));
-
-        requireWritePermission(connector.getBoard().getId(), actorUserId);
-
-        connectorRepositoryPort.deleteById(id);
-    }
-
-    private BoardMembershipRole getMemberRole(UUID boardId, UUID actorUserId) {
-        return boardMembershipRepositoryPort
-                .findByBoardIdAndUserId(boardId, actorUserId)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this board"))
-                .getRole();
-    }
-
-    private void requireReadPermission(UUID boardId, UUID actorUserId) {
-        getMemberRole(boardId, actorUserId);
-    }
-
-    private void requireWritePermission(UUID boardId, UUID actorUserId) {
-        BoardMembershipRole role = getMemberRole(boardId, actorUserId);
-        if (role == BoardMembershipRole.VIEWER) {
-            throw new RuntimeException("Viewers are not allowed to perform write operations");
-        }
     }
 
     private ConnectorDTO convertToDTO(Connector connector) {
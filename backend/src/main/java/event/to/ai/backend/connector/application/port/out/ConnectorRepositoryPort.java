@@ -2,6 +2,7 @@ package event.to.ai.backend.connector.application.port.out;
 
 import event.to.ai.backend.connector.adapter.out.persistence.entity.Connector;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +17,13 @@ public interface ConnectorRepositoryPort {
 
     Connector save(Connector connector);
 
+    List<Connector> findAllById(Collection<UUID> ids);
+
+    List<Connector> saveAll(List<Connector> connectors);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    void deleteAll(List<Connector> connectors);
 }
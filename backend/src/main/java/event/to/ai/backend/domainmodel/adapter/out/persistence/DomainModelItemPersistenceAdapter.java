@@ -5,6 +5,7 @@ import event.to.ai.backend.domainmodel.application.port.out.DomainModelItemRepos
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,6 +40,16 @@ public class DomainModelItemPersistenceAdapter implements DomainModelItemReposit
         return domainModelItemRepository.save(domainModelItem);
     }
 
+    @Override
+    public List<DomainModelItem> findAllById(Collection<UUID> ids) {
+        return domainModelItemRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<DomainModelItem> saveAll(List<DomainModelItem> domainModelItems) {
+        return domainModelItemRepository.saveAll(domainModelItems);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return domainModelItemRepository.existsById(id);
@@ -48,4 +59,9 @@ public class DomainModelItemPersistenceAdapter implements DomainModelItemReposit
     public void deleteById(UUID id) {
         domainModelItemRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteAll(List<DomainModelItem> domainModelItems) {
+        domainModelItemRepository.deleteAll(domainModelItems);
+    }
 }
@@ -13,6 +13,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -25,7 +26,15 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "domain_entities")
+@Table(
+        name = "domain_entities",
+        indexes = {
+                @Index(name = "idx_domain_entities_board_id_revision", columnList = "board_id,revision"),
+                @Index(name = "idx_domain_entities_board_id_frame_id", columnList = "board_id,frame_id"),
+                @Index(name = "idx_domain_entities_board_id_pos_x", columnList = "board_id,pos_x"),
+                @Index(name = "idx_domain_entities_board_id_width", columnList = "board_id,width")
+        }
+)
 public class DomainModelItem {
 
     @Id
@@ -78,6 +87,10 @@ public class DomainModelItem {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 最後一次異動時 Board 的 revision，供增量同步查詢
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     public DomainModelItem() {
     }
 
@@ -198,4 +211,12 @@ public class DomainModelItem {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
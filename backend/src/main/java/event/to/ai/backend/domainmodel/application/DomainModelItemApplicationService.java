@@ -1,8 +1,10 @@
 package event.to.ai.backend.domainmodel.application;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.AnchoredConnectorService;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardRevisionService;
+import event.to.ai.backend.board.domain.BoardElementType;
 import event.to.ai.backend.domainmodel.adapter.in.web.dto.CreateDomainModelItemRequest;
 import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainAttributeDTO;
 import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
@@ -17,10 +19,16 @@ import event.to.ai.backend.websocket.BoardRealtimeEventType;
 import event.to.ai.backend.websocket.BoardRealtimePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -29,26 +37,31 @@ import java.util.stream.Collectors;
 public class DomainModelItemApplicationService {
 
     private final DomainModelItemRepositoryPort domainModelItemRepositoryPort;
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final BoardRepositoryPort boardRepositoryPort;
     private final BoardRealtimePublisher boardRealtimePublisher;
+    private final BoardRevisionService boardRevisionService;
+    private final AnchoredConnectorService anchoredConnectorService;
 
     @Autowired
     public DomainModelItemApplicationService(DomainModelItemRepositoryPort domainModelItemRepositoryPort,
-                                             BoardMembershipRepositoryPort boardMembershipRepositoryPort,
+                                             BoardAccessService boardAccessService,
                                              BoardRepositoryPort boardRepositoryPort,
-                                             BoardRealtimePublisher boardRealtimePublisher) {
+                                             BoardRealtimePublisher boardRealtimePublisher,
+                                             BoardRevisionService boardRevisionService,
+                                             AnchoredConnectorService anchoredConnectorService) {
         this.domainModelItemRepositoryPort = domainModelItemRepositoryPort;
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.boardRepositoryPort = boardRepositoryPort;
         this.boardRealtimePublisher = boardRealtimePublisher;
+        this.boardRevisionService = boardRevisionService;
+        this.anchoredConnectorService = anchoredConnectorService;
     }
 
     public List<DomainModelItemDTO> getAllDomainModelItems(UUID actorUserId) {
         return domainModelItemRepositoryPort.findAll().stream()
                 .filter(domainModelItem -> domainModelItem.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                domainModelItem.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(domainModelItem.getBoard().getId(), actorUserId))
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -56,14 +69,13 @@ public class DomainModelItemApplicationService {
     public List<DomainModelItemDTO> getDomainModelItemById(UUID actorUserId, UUID id) {
         return domainModelItemRepositoryPort.findById(id)
                 .filter(domainModelItem -> domainModelItem.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                domainModelItem.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(domainModelItem.getBoard().getId(), actorUserId))
                 .map(domainModelItem -> List.of(convertToDTO(domainModelItem)))
                 .orElseGet(List::of);
     }
 
     public List<DomainModelItemDTO> getDomainModelItemsByBoardId(UUID actorUserId, UUID boardId) {
-        requireReadPermission(boardId, actorUserId);
+        boardAccessService.requireReadPermission(boardId, actorUserId);
         return domainModelItemRepositoryPort.findByBoardId(boardId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -74,8 +86,97 @@ public class DomainModelItemApplicationService {
         Board board = boardRepositoryPort.findById(request.getBoardId())
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
 
-        requireWritePermission(board.getId(), actorUserId);
+        boardAccessService.requireWritePermission(board.getId(), actorUserId);
 
+        DomainModelItem domainModelItem = newDomainModelItem(board, request);
+        domainModelItem.setRevision(boardRevisionService.nextRevision(board.getId()));
+        DomainModelItem savedDomainModelItem = domainModelItemRepositoryPort.save(domainModelItem);
+        DomainModelItemDTO dto = convertToDTO(savedDomainModelItem);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_CREATED, actorUserId, dto.getBoardId(), dto);
+        return dto;
+    }
+
+    @Transactional
+    public DomainModelItemDTO updateDomainModelItem(UUID actorUserId, UUID id, UpdateDomainModelItemRequest request) {
+        DomainModelItem domainModelItem = domainModelItemRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("DomainModelItem not found with id: " + id));
+
+        boardAccessService.requireWritePermission(domainModelItem.getBoard().getId(), actorUserId);
+
+        List<Double> previousGeometry = geometryOf(domainModelItem);
+        applyChanges(domainModelItem, request);
+
+        domainModelItem.setRevision(boardRevisionService.nextRevision(domainModelItem.getBoard().getId()));
+        DomainModelItem updatedDomainModelItem = domainModelItemRepositoryPort.save(domainModelItem);
+        DomainModelItemDTO dto = convertToDTO(updatedDomainModelItem);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_UPDATED, actorUserId, dto.getBoardId(),
+                anchoredConnectorService.updatedPayload(dto.getBoardId(), id, dto, !previousGeometry.equals(geometryOf(domainModelItem))));
+        return dto;
+    }
+
+    @Transactional
+    public void deleteDomainModelItem(UUID actorUserId, UUID id) {
+        DomainModelItem domainModelItem = domainModelItemRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("DomainModelItem not found with id: " + id));
+
+        boardAccessService.requireWritePermission(domainModelItem.getBoard().getId(), actorUserId);
+
+        UUID boardId = domainModelItem.getBoard().getId();
+        domainModelItemRepositoryPort.deleteById(id);
+        boardRevisionService.recordDeletion(boardId, id, BoardElementType.DOMAIN_MODEL_ITEM);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_DELETED, actorUserId, boardId, Map.of("id", id));
+    }
+
+    // 以下三個方法給 BoardElementsBatchService 使用
+    // 呼叫端已檢查過整張 Board 的寫入權限、取得這一批的 revision，並負責廣播彙整後的即時事件
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<DomainModelItemDTO> createDomainModelItemsInBatch(Board board, List<CreateDomainModelItemRequest> requests, long revision) {
+        List<DomainModelItem> domainModelItems = new ArrayList<>(requests.size());
+        for (CreateDomainModelItemRequest request : requests) {
+            DomainModelItem domainModelItem = newDomainModelItem(board, request);
+            domainModelItem.setRevision(revision);
+            domainModelItems.add(domainModelItem);
+        }
+        return domainModelItemRepositoryPort.saveAll(domainModelItems).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<DomainModelItemDTO> updateDomainModelItemsInBatch(UUID boardId, Map<UUID, UpdateDomainModelItemRequest> requests, long revision) {
+        List<DomainModelItem> domainModelItems = findAllOnBoard(boardId, requests.keySet());
+        for (DomainModelItem domainModelItem : domainModelItems) {
+            UpdateDomainModelItemRequest request = requests.get(domainModelItem.getId());
+            applyChanges(domainModelItem, request);
+            domainModelItem.setRevision(revision);
+        }
+        return domainModelItemRepositoryPort.saveAll(domainModelItems).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteDomainModelItemsInBatch(UUID boardId, Collection<UUID> ids) {
+        domainModelItemRepositoryPort.deleteAll(findAllOnBoard(boardId, ids));
+    }
+
+    // 一次查回整批元件，任何一個不存在或不屬於這張 Board 都讓整批失敗
+    private List<DomainModelItem> findAllOnBoard(UUID boardId, Collection<UUID> ids) {
+        List<DomainModelItem> domainModelItems = domainModelItemRepositoryPort.findAllById(ids);
+        Set<UUID> missingIds = new HashSet<>(ids);
+        for (DomainModelItem domainModelItem : domainModelItems) {
+            if (!domainModelItem.getBoard().getId().equals(boardId)) {
+                throw new RuntimeException("DomainModelItem not found with id: " + domainModelItem.getId());
+            }
+            missingIds.remove(domainModelItem.getId());
+        }
+        if (!missingIds.isEmpty()) {
+            throw new RuntimeException("DomainModelItem not found with id: " + missingIds.iterator().next());
+        }
+        return domainModelItems;
+    }
+
+    private DomainModelItem newDomainModelItem(Board board, CreateDomainModelItemRequest request) {
         DomainModelItem domainModelItem = new DomainModelItem();
         domainModelItem.setBoard(board);
         domainModelItem.setFrameId(request.getFrameId());
@@ -107,19 +208,16 @@ public class DomainModelItemApplicationService {
             domainModelItem.setAttributes(attributes);
         }
 
-        DomainModelItem savedDomainModelItem = domainModelItemRepositoryPort.save(domainModelItem);
-        DomainModelItemDTO dto = convertToDTO(savedDomainModelItem);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_CREATED, actorUserId, dto.getBoardId(), dto);
-        return dto;
+        return domainModelItem;
     }
 
-    @Transactional
-    public DomainModelItemDTO updateDomainModelItem(UUID actorUserId, UUID id, UpdateDomainModelItemRequest request) {
-        DomainModelItem domainModelItem = domainModelItemRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("DomainModelItem not found with id: " + id));
-
-        requireWritePermission(domainModelItem.getBoard().getId(), actorUserId);
+    // 位置與尺寸，用來判斷這次更新是否為拖曳或縮放
+    private List<Double> geometryOf(DomainModelItem domainModelItem) {
+        return Arrays.asList(domainModelItem.getPos().getX(), domainModelItem.getPos().getY(),
+                domainModelItem.getSize().getX(), domainModelItem.getSize().getY());
+    }
 
+    private void applyChanges(DomainModelItem domainModelItem, UpdateDomainModelItemRequest request) {
         if (request.getFrameId() != null) {
             if (request.getFrameId().equals("null")) {
                 domainModelItem.setFrameId(null);
@@ -167,41 +265,6 @@ public class DomainModelItemApplicationService {
             }
             domainModelItem.setAttributes(attributes);
         }
-
-        DomainModelItem updatedDomainModelItem = domainModelItemRepositoryPort.save(domainModelItem);
-        DomainModelItemDTO dto = convertToDTO(updatedDomainModelItem);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_UPDATED, actorUserId, dto.getBoardId(), dto);
-        return dto;
-    }
-
-    @Transactional
-    public void deleteDomainModelItem(UUID actorUserId, UUID id) {
-        DomainModelItem domainModelItem = domainModelItemRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("DomainModelItem not found with id: " + id));
-
-        requireWritePermission(domainModelItem.getBoard().getId(), actorUserId);
-
-        UUID boardId = domainModelItem.getBoard().getId();
-        domainModelItemRepositoryPort.deleteById(id);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_DELETED, actorUserId, boardId, Map.of("id", id));
-    }
-
-    private BoardMembershipRole getMemberRole(UUID boardId, UUID actorUserId) {
-        return boardMembershipRepositoryPort
-                .findByBoardIdAndUserId(boardId, actorUserId)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this board"))
-                .getRole();
-    }
-
-    private void requireReadPermission(UUID boardId, UUID actorUserId) {
-        getMemberRole(boardId, actorUserId);
-    }
-
-    private void requireWritePermission(UUID boardId, UUID actorUserId) {
-        BoardMembershipRole role = getMemberRole(boardId, actorUserId);
-        if (role == BoardMembershipRole.VIEWER) {
-            throw new RuntimeException("Viewers are not allowed to perform write operations");
-        }
     }
 
     private DomainModelItemDTO convertToDTO(DomainModelItem domainModelItem) {
@@ -2,6 +2,7 @@ package event.to.ai.backend.domainmodel.application.port.out;
 
 import event.to.ai.backend.domainmodel.adapter.out.persistence.entity.DomainModelItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +17,13 @@ public interface DomainModelItemRepositoryPort {
 
     DomainModelItem save(DomainModelItem domainModelItem);
 
+    List<DomainModelItem> findAllById(Collection<UUID> ids);
+
+    List<DomainModelItem> saveAll(List<DomainModelItem> domainModelItems);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    void deleteAll(List<DomainModelItem> domainModelItems);
 }
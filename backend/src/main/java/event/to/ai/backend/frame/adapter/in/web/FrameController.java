@@ -3,6 +3,7 @@ package event.to.ai.backend.frame.adapter.in.web;
 import event.to.ai.backend.auth.CurrentUserIdProvider;
 import event.to.ai.backend.frame.adapter.in.web.dto.*;
 import event.to.ai.backend.frame.application.FrameApllicationService;
+import event.to.ai.backend.frame.domain.FrameDeleteMode;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -98,12 +99,20 @@ public class FrameController {
         }
     }
 
+    // mode=detach (預設) 保留子元件並清除其 frame_id；mode=delete 連同子元件一起刪除
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteFrame(@PathVariable UUID id) {
+    public ResponseEntity<?> deleteFrame(@PathVariable UUID id,
+                                         @RequestParam(defaultValue = "detach") String mode) {
+        FrameDeleteMode deleteMode;
+        try {
+            deleteMode = FrameDeleteMode.fromValue(mode);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
         try {
             UUID currentUserId = currentUserIdProvider.getCurrentUserId();
-            frameApplicationService.deleteFrame(currentUserId, id);
-            return ResponseEntity.noContent().build();
+            FrameDeletedDTO deletedFrame = frameApplicationService.deleteFrame(currentUserId, id, deleteMode);
+            return ResponseEntity.ok(deletedFrame);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
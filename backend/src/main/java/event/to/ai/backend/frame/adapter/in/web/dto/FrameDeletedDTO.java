@@ -0,0 +1,56 @@
+package event.to.ai.backend.frame.adapter.in.web.dto;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementTombstoneDTO;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.frame.domain.FrameDeleteMode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// frame.deleted 即時事件的 payload，Frame 與所有子元件的異動彙整成一則事件
+// detached 為 frame_id 被清為 null 的子元件，deleted 包含 Frame 本身與一併刪除的子元件
+public class FrameDeletedDTO {
+
+    private UUID id;
+    private UUID boardId;
+    private FrameDeleteMode mode;
+    private long revision;
+    private Map<BoardElementType, List<UUID>> detached;
+    private List<BoardElementTombstoneDTO> deleted;
+
+    public FrameDeletedDTO(UUID id, UUID boardId, FrameDeleteMode mode, long revision,
+                           Map<BoardElementType, List<UUID>> detached,
+                           List<BoardElementTombstoneDTO> deleted) {
+        this.id = id;
+        this.boardId = boardId;
+        this.mode = mode;
+        this.revision = revision;
+        this.detached = detached;
+        this.deleted = deleted;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getBoardId() {
+        return boardId;
+    }
+
+    public FrameDeleteMode getMode() {
+        return mode;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public Map<BoardElementType, List<UUID>> getDetached() {
+        return detached;
+    }
+
+    public List<BoardElementTombstoneDTO> getDeleted() {
+        return deleted;
+    }
+}
@@ -0,0 +1,168 @@
+package event.to.ai.backend.frame.adapter.out.persistence;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.frame.application.port.out.FrameChildrenRepositoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 以 JDBC 直接對每張元件表下一個 statement，走 (board_id, frame_id) 索引
+// 批次 API 會在同一個交易內先以 Hibernate 新增 / 更新元件，下 statement 前先 flush，才看得到這些異動
+@Component
+public class FrameChildrenPersistenceAdapter implements FrameChildrenRepositoryPort {
+
+    private static final Map<BoardElementType, String> CHILD_TABLES = new EnumMap<>(Map.of(
+            BoardElementType.STICKY_NOTE, "sticky_notes",
+            BoardElementType.TEXT_BOX, "text_boxes",
+            BoardElementType.DOMAIN_MODEL_ITEM, "domain_entities",
+            BoardElementType.CONNECTOR, "connectors"
+    ));
+
+    // connector 可以錨定的子元件 id，%1$s 為 frame id 的 placeholders
+    private static final String ANCHOR_CHILD_IDS_SQL =
+            "select id from sticky_notes where board_id = ? and frame_id in (%1$s) " +
+            "union all select id from text_boxes where board_id = ? and frame_id in (%1$s) " +
+            "union all select id from domain_entities where board_id = ? and frame_id in (%1$s)";
+
+    // 本身是子元件的 connector 由 frame_id 的刪除處理，這裡只找其他 connector
+    private static final String ANCHORED_CONNECTORS_CONDITION =
+            "board_id = ? and (frame_id is null or frame_id not in (%1$s)) " +
+            "and (from_target_id in (" + ANCHOR_CHILD_IDS_SQL + ") or to_target_id in (" + ANCHOR_CHILD_IDS_SQL + "))";
+
+    // 直接錨定在 Frame 本身的 connector，%1$s 為 frame id 的 placeholders
+    private static final String FRAME_ANCHORED_CONNECTORS_CONDITION =
+            "board_id = ? and (from_target_id in (%1$s) or to_target_id in (%1$s))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public FrameChildrenPersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<BoardElementType, List<UUID>> findChildIds(UUID boardId, Collection<UUID> frameIds) {
+        Map<BoardElementType, List<UUID>> childIds = new EnumMap<>(BoardElementType.class);
+        if (frameIds.isEmpty()) {
+            return childIds;
+        }
+        entityManager.flush();
+        CHILD_TABLES.forEach((type, table) -> {
+            List<UUID> ids = jdbcTemplate.query("select id from " + table + " where board_id = ? and frame_id in ("
+                            + placeholders(frameIds) + ")",
+                    (rs, rowNum) -> fromBytes(rs.getBytes("id")), boardAndFrameArgs(boardId, frameIds).toArray());
+            if (!ids.isEmpty()) {
+                childIds.put(type, ids);
+            }
+        });
+        return childIds;
+    }
+
+    @Override
+    public void detachChildren(UUID boardId, Collection<UUID> frameIds, long revision) {
+        if (frameIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (String table : CHILD_TABLES.values()) {
+            List<Object> args = new ArrayList<>();
+            args.add(revision);
+            args.add(now);
+            args.addAll(boardAndFrameArgs(boardId, frameIds));
+            jdbcTemplate.update("update " + table + " set frame_id = null, revision = ?, updated_at = ? " +
+                    "where board_id = ? and frame_id in (" + placeholders(frameIds) + ")", args.toArray());
+        }
+    }
+
+    @Override
+    public List<UUID> deleteConnectorsAnchoredOnFrames(UUID boardId, Collection<UUID> frameIds) {
+        if (frameIds.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        String condition = String.format(FRAME_ANCHORED_CONNECTORS_CONDITION, placeholders(frameIds));
+        List<Object> args = boardAndFrameArgs(boardId, frameIds);
+        frameIds.forEach(frameId -> args.add(toBytes(frameId)));
+        Object[] conditionArgs = args.toArray();
+        List<UUID> connectorIds = jdbcTemplate.query("select id from connectors where " + condition,
+                (rs, rowNum) -> fromBytes(rs.getBytes("id")), conditionArgs);
+        if (!connectorIds.isEmpty()) {
+            jdbcTemplate.update("delete from connectors where " + condition, conditionArgs);
+        }
+        return connectorIds;
+    }
+
+    @Override
+    public List<UUID> deleteChildren(UUID boardId, Collection<UUID> frameIds) {
+        if (frameIds.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        // 錨定的 connector 要在子元件之前刪除，條件中的子查詢才找得到子元件
+        String anchoredCondition = String.format(ANCHORED_CONNECTORS_CONDITION, placeholders(frameIds));
+        Object[] anchoredArgs = anchoredConnectorArgs(boardId, frameIds);
+        List<UUID> anchoredConnectorIds = jdbcTemplate.query("select id from connectors where " + anchoredCondition,
+                (rs, rowNum) -> fromBytes(rs.getBytes("id")), anchoredArgs);
+        if (!anchoredConnectorIds.isEmpty()) {
+            jdbcTemplate.update("delete from connectors where " + anchoredCondition, anchoredArgs);
+        }
+
+        for (String table : CHILD_TABLES.values()) {
+            jdbcTemplate.update("delete from " + table + " where board_id = ? and frame_id in ("
+                    + placeholders(frameIds) + ")", boardAndFrameArgs(boardId, frameIds).toArray());
+        }
+        return anchoredConnectorIds;
+    }
+
+    // board_id、frame_id not in、以及兩個子查詢中各三張表的 board_id 與 frame_id in
+    private static Object[] anchoredConnectorArgs(UUID boardId, Collection<UUID> frameIds) {
+        List<Object> args = new ArrayList<>(boardAndFrameArgs(boardId, frameIds));
+        for (int i = 0; i < 6; i++) {
+            args.addAll(boardAndFrameArgs(boardId, frameIds));
+        }
+        return args.toArray();
+    }
+
+    private static List<Object> boardAndFrameArgs(UUID boardId, Collection<UUID> frameIds) {
+        List<Object> args = new ArrayList<>(frameIds.size() + 1);
+        args.add(toBytes(boardId));
+        for (UUID frameId : frameIds) {
+            args.add(toBytes(frameId));
+        }
+        return args;
+    }
+
+    private static String placeholders(Collection<UUID> ids) {
+        return String.join(", ", Collections.nCopies(ids.size(), "?"));
+    }
+
+    // id 欄位為 BINARY(16)，與 Hibernate 相同以 big-endian 的 16 bytes 儲存
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -5,6 +5,7 @@ import event.to.ai.backend.frame.application.port.out.FrameRepositoryPort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,6 +40,16 @@ public class FramePersistenceAdapter implements FrameRepositoryPort {
         return frameRepository.save(frame);
     }
 
+    @Override
+    public List<Frame> findAllById(Collection<UUID> ids) {
+        return frameRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Frame> saveAll(List<Frame> frames) {
+        return frameRepository.saveAll(frames);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return frameRepository.existsById(id);
@@ -48,4 +59,9 @@ public class FramePersistenceAdapter implements FrameRepositoryPort {
     public void deleteById(UUID id) {
         frameRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteAll(List<Frame> frames) {
+        frameRepository.deleteAll(frames);
+    }
 }
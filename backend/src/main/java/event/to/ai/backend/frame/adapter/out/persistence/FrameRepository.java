@@ -11,6 +11,4 @@ import java.util.UUID;
 public interface FrameRepository extends JpaRepository<Frame, UUID> {
 
     List<Frame> findByBoardId(UUID boardId);
-
-    void deleteAllByBoardId(UUID boardId);
 }
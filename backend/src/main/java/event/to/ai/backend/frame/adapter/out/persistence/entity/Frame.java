@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -19,7 +20,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "frames")
+@Table(
+        name = "frames",
+        indexes = {
+                @Index(name = "idx_frames_board_id_revision", columnList = "board_id,revision"),
+                @Index(name = "idx_frames_board_id_pos_x", columnList = "board_id,pos_x"),
+                @Index(name = "idx_frames_board_id_width", columnList = "board_id,width")
+        }
+)
 public class Frame {
 
     @Id
@@ -57,6 +65,10 @@ public class Frame {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 最後一次異動時 Board 的 revision，供增量同步查詢
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     public Frame() {
     }
 
@@ -134,4 +146,12 @@ public class Frame {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
 }
@@ -1,13 +1,20 @@
 package event.to.ai.backend.frame.application;
 
 import event.to.ai.backend.analysis.domain.StickyNote;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsBatchResultDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementTombstoneDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsDTO;
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.AnchoredConnectorService;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardRevisionService;
+import event.to.ai.backend.board.domain.BoardElementType;
 import event.to.ai.backend.frame.adapter.in.web.dto.*;
 import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
 import event.to.ai.backend.frame.adapter.out.persistence.entity.Point2D;
+import event.to.ai.backend.frame.domain.FrameDeleteMode;
 import event.to.ai.backend.frame.application.port.out.BoardRepositoryPort;
+import event.to.ai.backend.frame.application.port.out.FrameChildrenRepositoryPort;
 import event.to.ai.backend.frame.application.port.out.FrameRepositoryPort;
 import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
 import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
@@ -16,11 +23,17 @@ import event.to.ai.backend.websocket.BoardRealtimeEventType;
 import event.to.ai.backend.websocket.BoardRealtimePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,29 +41,37 @@ import java.util.stream.Collectors;
 public class FrameApllicationService {
 
     private final FrameRepositoryPort frameRepositoryPort;
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final BoardRepositoryPort boardRepositoryPort;
     private final StickyNoteApplicationService stickyNoteApplicationService;
     private final BoardRealtimePublisher boardRealtimePublisher;
+    private final BoardRevisionService boardRevisionService;
+    private final FrameChildrenRepositoryPort frameChildrenRepositoryPort;
+    private final AnchoredConnectorService anchoredConnectorService;
 
     @Autowired
     public FrameApllicationService(FrameRepositoryPort frameRepositoryPort,
-                                   BoardMembershipRepositoryPort boardMembershipRepositoryPort,
+                                   BoardAccessService boardAccessService,
                                    BoardRepositoryPort boardRepositoryPort,
                                    StickyNoteApplicationService stickyNoteApplicationService,
-                                   BoardRealtimePublisher boardRealtimePublisher) {
+                                   BoardRealtimePublisher boardRealtimePublisher,
+                                   BoardRevisionService boardRevisionService,
+                                   FrameChildrenRepositoryPort frameChildrenRepositoryPort,
+                                   AnchoredConnectorService anchoredConnectorService) {
         this.frameRepositoryPort = frameRepositoryPort;
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.boardRepositoryPort = boardRepositoryPort;
         this.stickyNoteApplicationService = stickyNoteApplicationService;
         this.boardRealtimePublisher = boardRealtimePublisher;
+        this.boardRevisionService = boardRevisionService;
+        this.frameChildrenRepositoryPort = frameChildrenRepositoryPort;
+        this.anchoredConnectorService = anchoredConnectorService;
     }
 
     public List<FrameDTO> getAllFrames(UUID actorUserId) {
         return frameRepositoryPort.findAll().stream()
                 .filter(frame -> frame.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                frame.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(frame.getBoard().getId(), actorUserId))
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -58,14 +79,13 @@ public class FrameApllicationService {
     public List<FrameDTO> getFramesById(UUID actorUserId, UUID id) {
         return frameRepositoryPort.findById(id)
                 .filter(frame -> frame.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                frame.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(frame.getBoard().getId(), actorUserId))
                 .map(frame -> List.of(convertToDTO(frame)))
                 .orElseGet(List::of);
     }
 
     public List<FrameDTO> getFramesByBoardId(UUID actorUserId, UUID boardId) {
-        requireReadPermission(boardId, actorUserId);
+        boardAccessService.requireReadPermission(boardId, actorUserId);
         return frameRepositoryPort.findByBoardId(boardId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -76,17 +96,10 @@ public class FrameApllicationService {
         Board board = boardRepositoryPort.findById(request.getBoardId())
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
 
-        requireWritePermission(board.getId(), actorUserId);
-
-        Frame frame = new Frame();
-        frame.setBoard(board);
-        frame.setPos(new Point2D(request.getPosX(), request.getPosY()));
-        frame.setSize(new Point2D(request.getWidth(), request.getHeight()));
-        frame.setTitle(request.getTitle());
-        if (request.getZIndex() != null) {
-            frame.setZIndex(request.getZIndex());
-        }
+        boardAccessService.requireWritePermission(board.getId(), actorUserId);
 
+        Frame frame = newFrame(board, request);
+        frame.setRevision(boardRevisionService.nextRevision(board.getId()));
         Frame savedFrame = frameRepositoryPort.save(frame);
         FrameDTO dto = convertToDTO(savedFrame);
         boardRealtimePublisher.publish(BoardRealtimeEventType.FRAME_CREATED, actorUserId, dto.getBoardId(), dto);
@@ -98,7 +111,7 @@ public class FrameApllicationService {
         Board board = boardRepositoryPort.findById(request.getBoardId())
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
 
-        requireWritePermission(board.getId(), actorUserId);
+        boardAccessService.requireWritePermission(board.getId(), actorUserId);
 
         double x = request.getPosX();
         double y = request.getPosY();
@@ -108,14 +121,15 @@ public class FrameApllicationService {
         frame.setSize(new Point2D(1200.0, 800.0));
         frame.setTitle("Event Storming Template");
 
-        // 先將 frame 存進資料庫，確保 savedFrame.getId() 有值後再建立 StickyNotes
+        // 整個樣板共用一個 revision，frame 的 UUID 在 persist 時就會產生，StickyNotes 才能引用
+        long revision = boardRevisionService.nextRevision(board.getId());
+        frame.setRevision(revision);
         Frame savedFrame = frameRepositoryPort.save(frame);
         FrameDTO savedFrameDto = convertToDTO(savedFrame);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.FRAME_CREATED, actorUserId, savedFrameDto.getBoardId(), savedFrameDto);
 
         UUID boardId = board.getId();
         UUID frameId = savedFrame.getId();
-        List<StickyNoteDTO> stickyNotes = List.of(
+        List<CreateStickyNoteRequest> notes = List.of(
                 buildNote(boardId, frameId, x + 150,  y + 400, 250.0, 150.0, "TypeA var1,\nTypeB var2",                    "green"),
                 buildNote(boardId, frameId, x + 300,  y + 550, 100.0, 100.0, "Actor",                                      "yellow"),
                 buildNote(boardId, frameId, x + 400,  y + 100, 150.0, 150.0, "comment",                                    "gray"),
@@ -126,9 +140,14 @@ public class FrameApllicationService {
                 buildNote(boardId, frameId, x + 700,  y + 400, 200.0, 150.0, "TypeA varA:constraint,\nTypeB varB:constraint", "light_green"),
                 buildNote(boardId, frameId, x + 900,  y + 325, 150.0, 150.0, "Domain Event's Reactor",                     "light_blue"),
                 buildNote(boardId, frameId, x + 900,  y + 475, 150.0, 150.0, "Domain Event's Policy",                      "violet")
-        ).stream()
-                .map(note -> stickyNoteApplicationService.createStickyNote(actorUserId, note))
-                .collect(Collectors.toList());
+        );
+        // 10 張便利貼以 batch insert 寫入，也不再各自查 Board、檢查權限與廣播
+        List<StickyNoteDTO> stickyNotes = stickyNoteApplicationService.createStickyNotesInBatch(board, notes, revision);
+
+        boardRealtimePublisher.publish(BoardRealtimeEventType.ELEMENTS_BATCHED, actorUserId, boardId,
+                new BoardElementsBatchResultDTO(boardId, revision, Map.of(),
+                        new BoardElementsDTO(stickyNotes, List.of(), List.of(savedFrameDto), List.of(), List.of()),
+                        BoardElementsDTO.empty(), List.of()));
 
         return new BoardComponentsDTO(
                 board.getId(),
@@ -153,61 +172,172 @@ public class FrameApllicationService {
         Frame frame = frameRepositoryPort.findById(id)
                 .orElseThrow(() -> new RuntimeException("Frame not found with id: " + id));
 
-        requireWritePermission(frame.getBoard().getId(), actorUserId);
+        UUID previousBoardId = frame.getBoard().getId();
+        boardAccessService.requireWritePermission(previousBoardId, actorUserId);
 
         if (request.getBoardId() != null) {
             Board board = boardRepositoryPort.findById(request.getBoardId())
                     .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
-            requireWritePermission(board.getId(), actorUserId);
+            boardAccessService.requireWritePermission(board.getId(), actorUserId);
             frame.setBoard(board);
         }
 
-        if (request.getPosX() != null && request.getPosY() != null) {
-            frame.setPos(new Point2D(request.getPosX(), request.getPosY()));
-        }
-        if (request.getWidth() != null && request.getHeight() != null) {
-            frame.setSize(new Point2D(request.getWidth(), request.getHeight()));
-        }
-        if (request.getTitle() != null) {
-            frame.setTitle(request.getTitle());
-        }
-        if (request.getZIndex() != null) {
-            frame.setZIndex(request.getZIndex());
+        List<Double> previousGeometry = geometryOf(frame);
+        applyChanges(frame, request);
+
+        // 移到其他 Board 時，原 Board 要留下 tombstone
+        if (!previousBoardId.equals(frame.getBoard().getId())) {
+            boardRevisionService.recordDeletion(previousBoardId, id, BoardElementType.FRAME);
         }
+        frame.setRevision(boardRevisionService.nextRevision(frame.getBoard().getId()));
 
         Frame updatedFrame = frameRepositoryPort.save(frame);
         FrameDTO dto = convertToDTO(updatedFrame);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.FRAME_UPDATED, actorUserId, dto.getBoardId(), dto);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.FRAME_UPDATED, actorUserId, dto.getBoardId(),
+                anchoredConnectorService.updatedPayload(dto.getBoardId(), id, dto, !previousGeometry.equals(geometryOf(frame))));
         return dto;
     }
 
+    // 子元件依 mode 清除 frame_id 或一併刪除，每種元件各一個 statement
+    // Frame 與子元件共用同一個 revision，只廣播一則 frame.deleted
     @Transactional
-    public void deleteFrame(UUID actorUserId, UUID id) {
+    public FrameDeletedDTO deleteFrame(UUID actorUserId, UUID id, FrameDeleteMode mode) {
         Frame frame = frameRepositoryPort.findById(id)
                 .orElseThrow(() -> new RuntimeException("Frame not found with id: " + id));
 
         UUID boardId = frame.getBoard().getId();
-        requireWritePermission(boardId, actorUserId);
+        boardAccessService.requireWritePermission(boardId, actorUserId);
+
+        long revision = boardRevisionService.nextRevision(boardId);
+        Map<BoardElementType, List<UUID>> detached = new EnumMap<>(BoardElementType.class);
+        List<BoardElementTombstoneDTO> deleted = new ArrayList<>();
+        removeChildren(boardId, List.of(id), mode, revision, detached, deleted);
 
         frameRepositoryPort.deleteById(id);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.FRAME_DELETED, actorUserId, boardId, Map.of("id", id));
+        boardRevisionService.recordDeletions(boardId, BoardElementType.FRAME, List.of(id), revision);
+        deleted.add(new BoardElementTombstoneDTO(id, BoardElementType.FRAME, revision));
+
+        FrameDeletedDTO dto = new FrameDeletedDTO(id, boardId, mode, revision, detached, deleted);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.FRAME_DELETED, actorUserId, boardId, dto);
+        return dto;
     }
 
-    private BoardMembershipRole getMemberRole(UUID boardId, UUID actorUserId) {
-        return boardMembershipRepositoryPort
-                .findByBoardIdAndUserId(boardId, actorUserId)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this board"))
-                .getRole();
+    // 兩種 mode 都先刪除錨定在 Frame 本身的 connector，之後查子元件時就不會再算到它們
+    // DETACH 時清除子元件的 frame_id 並記在 detached
+    // DELETE 時刪除子元件與錨定在子元件上的 connector，並為它們記錄 tombstone
+    private void removeChildren(UUID boardId, Collection<UUID> frameIds, FrameDeleteMode mode, long revision,
+                                Map<BoardElementType, List<UUID>> detached, List<BoardElementTombstoneDTO> deleted) {
+        recordDeletions(boardId, BoardElementType.CONNECTOR,
+                frameChildrenRepositoryPort.deleteConnectorsAnchoredOnFrames(boardId, frameIds), revision, deleted);
+
+        Map<BoardElementType, List<UUID>> childIds = frameChildrenRepositoryPort.findChildIds(boardId, frameIds);
+        if (mode == FrameDeleteMode.DETACH) {
+            frameChildrenRepositoryPort.detachChildren(boardId, frameIds, revision);
+            childIds.forEach((type, ids) -> detached.computeIfAbsent(type, key -> new ArrayList<>()).addAll(ids));
+            return;
+        }
+
+        List<UUID> anchoredConnectorIds = frameChildrenRepositoryPort.deleteChildren(boardId, frameIds);
+        childIds.forEach((type, ids) -> recordDeletions(boardId, type, ids, revision, deleted));
+        recordDeletions(boardId, BoardElementType.CONNECTOR, anchoredConnectorIds, revision, deleted);
     }
 
-    private void requireReadPermission(UUID boardId, UUID actorUserId) {
-        getMemberRole(boardId, actorUserId);
+    private void recordDeletions(UUID boardId, BoardElementType type, List<UUID> ids, long revision,
+                                 List<BoardElementTombstoneDTO> deleted) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        boardRevisionService.recordDeletions(boardId, type, ids, revision);
+        ids.forEach(id -> deleted.add(new BoardElementTombstoneDTO(id, type, revision)));
+    }
+
+    // 以下三個方法給 BoardElementsBatchService 使用
+    // 呼叫端已檢查過整張 Board 的寫入權限、取得這一批的 revision，並負責廣播彙整後的即時事件
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<FrameDTO> createFramesInBatch(Board board, List<CreateFrameRequest> requests, long revision) {
+        List<Frame> frames = new ArrayList<>(requests.size());
+        for (CreateFrameRequest request : requests) {
+            Frame frame = newFrame(board, request);
+            frame.setRevision(revision);
+            frames.add(frame);
+        }
+        return frameRepositoryPort.saveAll(frames).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
     }
 
-    private void requireWritePermission(UUID boardId, UUID actorUserId) {
-        BoardMembershipRole role = getMemberRole(boardId, actorUserId);
-        if (role == BoardMembershipRole.VIEWER) {
-            throw new RuntimeException("Viewers are not allowed to perform write operations");
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<FrameDTO> updateFramesInBatch(UUID boardId, Map<UUID, UpdateFrameRequest> requests, long revision) {
+        List<Frame> frames = findAllOnBoard(boardId, requests.keySet());
+        for (Frame frame : frames) {
+            UpdateFrameRequest request = requests.get(frame.getId());
+            if (request.getBoardId() != null && !request.getBoardId().equals(boardId)) {
+                throw new RuntimeException("Moving a frame to another board is not supported in batch: " + frame.getId());
+            }
+            applyChanges(frame, request);
+            frame.setRevision(revision);
+        }
+        return frameRepositoryPort.saveAll(frames).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    // 子元件與 deleteFrame 相同依 mode 處理，結果加進整批的 detached / deleted；Frame 本身的 tombstone 由呼叫端記錄
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteFramesInBatch(UUID boardId, Collection<UUID> ids, FrameDeleteMode mode, long revision,
+                                    Map<BoardElementType, List<UUID>> detached, List<BoardElementTombstoneDTO> deleted) {
+        List<Frame> frames = findAllOnBoard(boardId, ids);
+        removeChildren(boardId, ids, mode, revision, detached, deleted);
+        frameRepositoryPort.deleteAll(frames);
+    }
+
+    // 一次查回整批元件，任何一個不存在或不屬於這張 Board 都讓整批失敗
+    private List<Frame> findAllOnBoard(UUID boardId, Collection<UUID> ids) {
+        List<Frame> frames = frameRepositoryPort.findAllById(ids);
+        Set<UUID> missingIds = new HashSet<>(ids);
+        for (Frame frame : frames) {
+            if (!frame.getBoard().getId().equals(boardId)) {
+                throw new RuntimeException("Frame not found with id: " + frame.getId());
+            }
+            missingIds.remove(frame.getId());
+        }
+        if (!missingIds.isEmpty()) {
+            throw new RuntimeException("Frame not found with id: " + missingIds.iterator().next());
+        }
+        return frames;
+    }
+
+    private Frame newFrame(Board board, CreateFrameRequest request) {
+        Frame frame = new Frame();
+        frame.setBoard(board);
+        frame.setPos(new Point2D(request.getPosX(), request.getPosY()));
+        frame.setSize(new Point2D(request.getWidth(), request.getHeight()));
+        frame.setTitle(request.getTitle());
+        if (request.getZIndex() != null) {
+            frame.setZIndex(request.getZIndex());
+        }
+
+        return frame;
+    }
+
+    // 位置與尺寸，用來判斷這次更新是否為拖曳或縮放
+    private List<Double> geometryOf(Frame frame) {
+        return Arrays.asList(frame.getPos().getX(), frame.getPos().getY(),
+                frame.getSize().getX(), frame.getSize().getY());
+    }
+
+    private void applyChanges(Frame frame, UpdateFrameRequest request) {
+        if (request.getPosX() != null && request.getPosY() != null) {
+            frame.setPos(new Point2D(request.getPosX(), request.getPosY()));
+        }
+        if (request.getWidth() != null && request.getHeight() != null) {
+            frame.setSize(new Point2D(request.getWidth(), request.getHeight()));
+        }
+        if (request.getTitle() != null) {
+            frame.setTitle(request.getTitle());
+        }
+        if (request.getZIndex() != null) {
+            frame.setZIndex(request.getZIndex());
         }
     }
 
@@ -0,0 +1,26 @@
+package event.to.ai.backend.frame.application.port.out;
+
+import event.to.ai.backend.board.domain.BoardElementType;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// frame_id 指向某些 Frame 的元件 (sticky note、text box、domain model item、connector)
+// 每種元件各以一個 set-based statement 處理，不逐筆載入 entity
+public interface FrameChildrenRepositoryPort {
+
+    // 元件類型 -> 子元件 id，沒有子元件的類型不會出現在結果中
+    Map<BoardElementType, List<UUID>> findChildIds(UUID boardId, Collection<UUID> frameIds);
+
+    // 把子元件的 frame_id 清為 null 並寫入新的 revision
+    void detachChildren(UUID boardId, Collection<UUID> frameIds, long revision);
+
+    // 刪除 from_target_id / to_target_id 為這些 Frame 本身的 connector，回傳其 id
+    List<UUID> deleteConnectorsAnchoredOnFrames(UUID boardId, Collection<UUID> frameIds);
+
+    // 刪除子元件，以及一端錨定在被刪除的 sticky note / text box / domain model item 上的 connector
+    // 回傳後者中本身不是這些 Frame 子元件的 connector id
+    List<UUID> deleteChildren(UUID boardId, Collection<UUID> frameIds);
+}
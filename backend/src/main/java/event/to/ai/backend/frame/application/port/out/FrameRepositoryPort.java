@@ -2,6 +2,7 @@ package event.to.ai.backend.frame.application.port.out;
 
 import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +17,13 @@ public interface FrameRepositoryPort {
 
     Frame save(Frame frame);
 
+    List<Frame> findAllById(Collection<UUID> ids);
+
+    List<Frame> saveAll(List<Frame> frames);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    void deleteAll(List<Frame> frames);
 }
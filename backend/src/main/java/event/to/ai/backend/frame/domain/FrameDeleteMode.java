@@ -0,0 +1,31 @@
+package event.to.ai.backend.frame.domain;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+// 刪除 Frame 時如何處理 frame_id 指向它的元件
+public enum FrameDeleteMode {
+    // 子元件留在 Board 上，frame_id 清為 null
+    DETACH("detach"),
+    // 子元件與 Frame 一起刪除
+    DELETE("delete");
+
+    private final String value;
+
+    FrameDeleteMode(String value) {
+        this.value = value;
+    }
+
+    public static FrameDeleteMode fromValue(String value) {
+        for (FrameDeleteMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new RuntimeException("Unsupported frame delete mode: " + value);
+    }
+
+    @JsonValue
+    public String value() {
+        return value;
+    }
+}
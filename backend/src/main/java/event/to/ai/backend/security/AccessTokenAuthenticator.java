@@ -0,0 +1,37 @@
+package event.to.ai.backend.security;
+
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+// HTTP 與 STOMP CONNECT 共用的 Access Token 驗證
+// token 簽章已保證 userId / username 是我們簽發的，因此直接由 claims 組出 principal，不再每個請求查 users 表
+@Component
+public class AccessTokenAuthenticator {
+
+    private final JwtService jwtService;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    public AccessTokenAuthenticator(JwtService jwtService,
+                                    CustomUserDetailsService userDetailsService,
+                                    TokenRevocationService tokenRevocationService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    // token 無效、過期或已撤銷時丟出 JwtException / IllegalArgumentException；舊版 token 的使用者不存在時丟出 UsernameNotFoundException
+    public AuthUserPrincipal authenticate(String token) {
+        JwtService.AccessTokenClaims claims = jwtService.parseAccessToken(token);
+        if (tokenRevocationService.isRevoked(claims.userId())) {
+            throw new JwtException("Token has been revoked");
+        }
+        if (claims.hasUsername()) {
+            return new AuthUserPrincipal(claims.userId(), claims.username(), null);
+        }
+        // 舊版 token 沒有 username claim，仍回資料庫查詢，等這批 token 過期後就不會再走到這裡
+        return userDetailsService.loadUserById(claims.userId());
+    }
+}
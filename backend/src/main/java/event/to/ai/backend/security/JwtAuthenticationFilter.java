@@ -8,23 +8,22 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
-    private final CustomUserDetailsService userDetailsService;
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     @Autowired
-    public JwtAuthenticationFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
-        this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+    public JwtAuthenticationFilter(AccessTokenAuthenticator accessTokenAuthenticator) {
+        this.accessTokenAuthenticator = accessTokenAuthenticator;
     }
 
     @Override
@@ -38,27 +37,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = authHeader.substring(7);
-        UUID userId;
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = authHeader.substring(7);
+            AuthUserPrincipal userDetails;
 
-        try {
-            userId = jwtService.extractUserId(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            AuthUserPrincipal userDetails = userDetailsService.loadUserById(userId);
-            if (jwtService.isTokenValid(token, userDetails.getId())) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            try {
+                // 只解析一次 token，不查資料庫
+                userDetails = accessTokenAuthenticator.authenticate(token);
+            } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+                filterChain.doFilter(request, response);
+                return;
             }
+
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authToken.setDetails(authenticationDetailsSource.buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
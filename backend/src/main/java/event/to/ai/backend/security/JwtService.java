@@ -1,8 +1,10 @@
 package event.to.ai.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -15,58 +17,65 @@ import java.util.UUID;
 @Service
 public class JwtService {
 
-    @Value("${app.jwt.secret:replace-with-a-32-byte-minimum-dev-secret-key}")
-    private String secret;
+    static final String USERNAME_CLAIM = "username";
 
-    @Value("${app.jwt.access-token-expiration-seconds:3600}")
-    private long accessTokenExpirationSeconds;
+    private final long accessTokenExpirationSeconds;
+    // 金鑰與 parser 都是 thread-safe，啟動時建立一次，避免每個請求重建 HMAC key
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
 
-    public String generateToken(UUID userId) {
+    @Autowired
+    public JwtService(@Value("${app.jwt.secret:replace-with-a-32-byte-minimum-dev-secret-key}") String secret,
+                      @Value("${app.jwt.access-token-expiration-seconds:3600}") long accessTokenExpirationSeconds) {
+        this.accessTokenExpirationSeconds = accessTokenExpirationSeconds;
+        this.signingKey = createSigningKey(secret);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    public String generateToken(UUID userId, String username) {
         Instant now = Instant.now();
         Instant expiration = now.plusSeconds(accessTokenExpirationSeconds);
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
+                .claim(USERNAME_CLAIM, username)
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public UUID extractUserId(String token) {
+    // 只解析一次：簽章與過期時間都由 parser 驗證，失敗時丟出 JwtException
+    public AccessTokenClaims parseAccessToken(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        UUID userId;
         try {
-            return UUID.fromString(extractAllClaims(token).getSubject());
-        } catch (IllegalArgumentException e) {
+            userId = UUID.fromString(claims.getSubject());
+        } catch (IllegalArgumentException | NullPointerException e) {
             throw new IllegalArgumentException("Invalid user id in token", e);
         }
+        return new AccessTokenClaims(userId, claims.get(USERNAME_CLAIM, String.class));
     }
 
     public long getAccessTokenExpirationSeconds() {
         return accessTokenExpirationSeconds;
     }
 
-    public boolean isTokenValid(String token, UUID userId) {
-        UUID tokenUserId = extractUserId(token);
-        return tokenUserId.equals(userId) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
+    private static SecretKey createSigningKey(String secret) {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         if (keyBytes.length < 32) {
             throw new IllegalStateException("JWT secret must be at least 32 bytes");
         }
         return Keys.hmacShaKeyFor(keyBytes);
     }
+
+    // username 為 null 代表舊版 token（沒有 username claim），需要回資料庫補查
+    public record AccessTokenClaims(UUID userId, String username) {
+
+        public boolean hasUsername() {
+            return username != null && !username.isBlank();
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package event.to.ai.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import event.to.ai.backend.user.application.UserDeletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// JWT 驗證不再查 users 表，已刪除的使用者改由這份黑名單擋下
+// 保留時間等於 Access Token 的有效期限，過了之後該使用者手上的 token 也都已過期，不必再記住
+// 黑名單只存在單一 instance 的記憶體中，relay 模式下由 ClusterCacheInvalidationListener 同步到其他節點
+@Service
+public class TokenRevocationService {
+
+    private final Cache<UUID, Boolean> revokedUserIds;
+
+    @Autowired
+    public TokenRevocationService(@Value("${app.jwt.access-token-expiration-seconds:3600}") long accessTokenExpirationSeconds,
+                                  @Value("${app.jwt.revocation-cache.maximum-size:100000}") long maximumSize) {
+        this.revokedUserIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(accessTokenExpirationSeconds))
+                .build();
+    }
+
+    public void revokeUser(UUID userId) {
+        revokedUserIds.put(userId, Boolean.TRUE);
+    }
+
+    public boolean isRevoked(UUID userId) {
+        return revokedUserIds.getIfPresent(userId) != null;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        revokeUser(event.getUserId());
+    }
+}
@@ -5,6 +5,7 @@ import event.to.ai.backend.stickynote.application.port.out.StickyNoteRepositoryP
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -49,6 +50,16 @@ public class StickyNotePersistenceAdapter implements StickyNoteRepositoryPort {
         return stickyNoteRepository.save(stickyNote);
     }
 
+    @Override
+    public List<StickyNote> findAllById(Collection<UUID> ids) {
+        return stickyNoteRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<StickyNote> saveAll(List<StickyNote> stickyNotes) {
+        return stickyNoteRepository.saveAll(stickyNotes);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return stickyNoteRepository.existsById(id);
@@ -58,4 +69,9 @@ public class StickyNotePersistenceAdapter implements StickyNoteRepositoryPort {
     public void deleteById(UUID id) {
         stickyNoteRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteAll(List<StickyNote> stickyNotes) {
+        stickyNoteRepository.deleteAll(stickyNotes);
+    }
 }
@@ -7,7 +7,16 @@ import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "sticky_notes")
+@Table(
+        name = "sticky_notes",
+        indexes = {
+                @Index(name = "idx_sticky_notes_board_id_revision", columnList = "board_id,revision"),
+                @Index(name = "idx_sticky_notes_board_id_frame_id", columnList = "board_id,frame_id"),
+                @Index(name = "idx_sticky_notes_board_id_color", columnList = "board_id,color"),
+                @Index(name = "idx_sticky_notes_board_id_pos_x", columnList = "board_id,pos_x"),
+                @Index(name = "idx_sticky_notes_board_id_geo_x", columnList = "board_id,geo_x")
+        }
+)
 public class StickyNote {
 
     @Id
@@ -61,6 +70,10 @@ public class StickyNote {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 最後一次異動時 Board 的 revision，供增量同步查詢
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
 
     // Constructors
     public StickyNote() {
@@ -180,6 +193,14 @@ public class StickyNote {
         this.updatedAt = updatedAt;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
 
     @Override
     public String toString() {
@@ -1,8 +1,10 @@
 package event.to.ai.backend.stickynote.application;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.AnchoredConnectorService;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardRevisionService;
+import event.to.ai.backend.board.domain.BoardElementType;
 import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
 import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
 import event.to.ai.backend.stickynote.adapter.in.web.dto.UpdateStickyNoteRequest;
@@ -14,10 +16,16 @@ import event.to.ai.backend.websocket.BoardRealtimeEventType;
 import event.to.ai.backend.websocket.BoardRealtimePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,19 +33,25 @@ import java.util.stream.Collectors;
 public class StickyNoteApplicationService {
 
     private final StickyNoteRepositoryPort stickyNoteRepositoryPort;
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final BoardRepositoryPort boardRepositoryPort;
     private final BoardRealtimePublisher boardRealtimePublisher; ;
+    private final BoardRevisionService boardRevisionService;
+    private final AnchoredConnectorService anchoredConnectorService;
 
     @Autowired
     public StickyNoteApplicationService(StickyNoteRepositoryPort stickyNoteRepositoryPort,
-                                        BoardMembershipRepositoryPort boardMembershipRepositoryPort,
+                                        BoardAccessService boardAccessService,
                                         BoardRepositoryPort boardRepositoryPort,
-                                        BoardRealtimePublisher boardRealtimePublisher) {
+                                        BoardRealtimePublisher boardRealtimePublisher,
+                                        BoardRevisionService boardRevisionService,
+                                        AnchoredConnectorService anchoredConnectorService) {
         this.stickyNoteRepositoryPort = stickyNoteRepositoryPort;
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.boardRepositoryPort = boardRepositoryPort;
         this.boardRealtimePublisher = boardRealtimePublisher;
+        this.boardRevisionService = boardRevisionService;
+        this.anchoredConnectorService = anchoredConnectorService;
     }
 
     public List<StickyNoteDTO> getAllStickyNotes(UUID actorUserId) {
@@ -47,8 +61,7 @@ public class StickyNoteApplicationService {
     public List<StickyNoteDTO> getStickyNotesById(UUID actorUserId, UUID id) {
         return stickyNoteRepositoryPort.findById(id)
                 .filter(stickyNote -> stickyNote.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                stickyNote.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(stickyNote.getBoard().getId(), actorUserId))
                 .map(stickyNote -> List.of(convertToDTO(stickyNote)))
                 .orElseGet(List::of);
     }
@@ -58,14 +71,14 @@ public class StickyNoteApplicationService {
     }
 
     public List<StickyNoteDTO> getStickyNotesByBoardId(UUID actorUserId, UUID boardId) {
-        requireReadPermission(boardId, actorUserId);
+        boardAccessService.requireReadPermission(boardId, actorUserId);
         return stickyNoteRepositoryPort.findByBoardId(boardId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     public List<StickyNoteDTO> getStickyNotesByBoardIdAndColor(UUID actorUserId, UUID boardId, String color) {
-        requireReadPermission(boardId, actorUserId);
+        boardAccessService.requireReadPermission(boardId, actorUserId);
         return stickyNoteRepositoryPort.findByBoardIdAndColor(boardId, color).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -76,8 +89,113 @@ public class StickyNoteApplicationService {
         Board board = boardRepositoryPort.findById(request.getBoardId())
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
 
-        requireWritePermission(board.getId(), actorUserId);
+        boardAccessService.requireWritePermission(board.getId(), actorUserId);
 
+        StickyNote stickyNote = newStickyNote(board, request);
+        stickyNote.setRevision(boardRevisionService.nextRevision(board.getId()));
+        StickyNote savedNote = stickyNoteRepositoryPort.save(stickyNote);
+        StickyNoteDTO dto = convertToDTO(savedNote);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.STICKY_NOTE_CREATED, actorUserId, dto.getBoardId(), dto);
+        return dto;
+    }
+
+    @Transactional
+    public StickyNoteDTO updateStickyNote(UUID actorUserId, UUID id, UpdateStickyNoteRequest request) {
+        StickyNote stickyNote = stickyNoteRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("StickyNote not found with id: " + id));
+
+        UUID previousBoardId = stickyNote.getBoard().getId();
+        boardAccessService.requireWritePermission(previousBoardId, actorUserId);
+
+        if (request.getBoardId() != null) {
+            Board board = boardRepositoryPort.findById(request.getBoardId())
+                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
+            boardAccessService.requireWritePermission(board.getId(), actorUserId);
+            stickyNote.setBoard(board);
+        }
+
+        List<Double> previousGeometry = geometryOf(stickyNote);
+        applyChanges(stickyNote, request);
+
+        // 移到其他 Board 時，原 Board 要留下 tombstone
+        if (!previousBoardId.equals(stickyNote.getBoard().getId())) {
+            boardRevisionService.recordDeletion(previousBoardId, id, BoardElementType.STICKY_NOTE);
+        }
+        stickyNote.setRevision(boardRevisionService.nextRevision(stickyNote.getBoard().getId()));
+
+        StickyNote updatedNote = stickyNoteRepositoryPort.save(stickyNote);
+        StickyNoteDTO dto = convertToDTO(updatedNote);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.STICKY_NOTE_UPDATED, actorUserId, dto.getBoardId(),
+                anchoredConnectorService.updatedPayload(dto.getBoardId(), id, dto, !previousGeometry.equals(geometryOf(stickyNote))));
+        return dto;
+    }
+
+    @Transactional
+    public void deleteStickyNote(UUID actorUserId, UUID id) {
+        StickyNote stickyNote = stickyNoteRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("StickyNote not found with id: " + id));
+
+        UUID boardId = stickyNote.getBoard().getId();
+        boardAccessService.requireWritePermission(boardId, actorUserId);
+
+        stickyNoteRepositoryPort.deleteById(id);
+        boardRevisionService.recordDeletion(boardId, id, BoardElementType.STICKY_NOTE);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.STICKY_NOTE_DELETED, actorUserId, boardId, Map.of("id", id));
+    }
+
+    // 以下三個方法給 BoardElementsBatchService 使用
+    // 呼叫端已檢查過整張 Board 的寫入權限、取得這一批的 revision，並負責廣播彙整後的即時事件
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<StickyNoteDTO> createStickyNotesInBatch(Board board, List<CreateStickyNoteRequest> requests, long revision) {
+        List<StickyNote> stickyNotes = new ArrayList<>(requests.size());
+        for (CreateStickyNoteRequest request : requests) {
+            StickyNote stickyNote = newStickyNote(board, request);
+            stickyNote.setRevision(revision);
+            stickyNotes.add(stickyNote);
+        }
+        return stickyNoteRepositoryPort.saveAll(stickyNotes).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<StickyNoteDTO> updateStickyNotesInBatch(UUID boardId, Map<UUID, UpdateStickyNoteRequest> requests, long revision) {
+        List<StickyNote> stickyNotes = findAllOnBoard(boardId, requests.keySet());
+        for (StickyNote stickyNote : stickyNotes) {
+            UpdateStickyNoteRequest request = requests.get(stickyNote.getId());
+            if (request.getBoardId() != null && !request.getBoardId().equals(boardId)) {
+                throw new RuntimeException("Moving a sticky note to another board is not supported in batch: " + stickyNote.getId());
+            }
+            applyChanges(stickyNote, request);
+            stickyNote.setRevision(revision);
+        }
+        return stickyNoteRepositoryPort.saveAll(stickyNotes).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteStickyNotesInBatch(UUID boardId, Collection<UUID> ids) {
+        stickyNoteRepositoryPort.deleteAll(findAllOnBoard(boardId, ids));
+    }
+
+    // 一次查回整批元件，任何一個不存在或不屬於這張 Board 都讓整批失敗
+    private List<StickyNote> findAllOnBoard(UUID boardId, Collection<UUID> ids) {
+        List<StickyNote> stickyNotes = stickyNoteRepositoryPort.findAllById(ids);
+        Set<UUID> missingIds = new HashSet<>(ids);
+        for (StickyNote stickyNote : stickyNotes) {
+            if (!stickyNote.getBoard().getId().equals(boardId)) {
+                throw new RuntimeException("StickyNote not found with id: " + stickyNote.getId());
+            }
+            missingIds.remove(stickyNote.getId());
+        }
+        if (!missingIds.isEmpty()) {
+            throw new RuntimeException("StickyNote not found with id: " + missingIds.iterator().next());
+        }
+        return stickyNotes;
+    }
+
+    private StickyNote newStickyNote(Board board, CreateStickyNoteRequest request) {
         StickyNote stickyNote = new StickyNote();
         stickyNote.setBoard(board);
         stickyNote.setFrameId(request.getFrameId());
@@ -96,26 +214,16 @@ public class StickyNoteApplicationService {
             stickyNote.setFrameId(request.getFrameId());
         }
 
-        StickyNote savedNote = stickyNoteRepositoryPort.save(stickyNote);
-        StickyNoteDTO dto = convertToDTO(savedNote);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.STICKY_NOTE_CREATED, actorUserId, dto.getBoardId(), dto);
-        return dto;
+        return stickyNote;
     }
 
-    @Transactional
-    public StickyNoteDTO updateStickyNote(UUID actorUserId, UUID id, UpdateStickyNoteRequest request) {
-        StickyNote stickyNote = stickyNoteRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("StickyNote not found with id: " + id));
-
-        requireWritePermission(stickyNote.getBoard().getId(), actorUserId);
-
-        if (request.getBoardId() != null) {
-            Board board = boardRepositoryPort.findById(request.getBoardId())
-                    .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
-            requireWritePermission(board.getId(), actorUserId);
-            stickyNote.setBoard(board);
-        }
+    // 位置與尺寸，用來判斷這次更新是否為拖曳或縮放
+    private List<Double> geometryOf(StickyNote stickyNote) {
+        return Arrays.asList(stickyNote.getPos().getX(), stickyNote.getPos().getY(),
+                stickyNote.getGeo().getX(), stickyNote.getGeo().getY());
+    }
 
+    private void applyChanges(StickyNote stickyNote, UpdateStickyNoteRequest request) {
         if (request.getPosX() != null && request.getPosY() != null) {
             stickyNote.setPos(new Point2D(request.getPosX(), request.getPosY()));
         }
@@ -155,23 +263,6 @@ public class StickyNoteApplicationService {
                 }
             }
         }
-
-        StickyNote updatedNote = stickyNoteRepositoryPort.save(stickyNote);
-        StickyNoteDTO dto = convertToDTO(updatedNote);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.STICKY_NOTE_UPDATED, actorUserId, dto.getBoardId(), dto);
-        return dto;
-    }
-
-    @Transactional
-    public void deleteStickyNote(UUID actorUserId, UUID id) {
-        StickyNote stickyNote = stickyNoteRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("StickyNote not found with id: " + id));
-
-        UUID boardId = stickyNote.getBoard().getId();
-        requireWritePermission(boardId, actorUserId);
-
-        stickyNoteRepositoryPort.deleteById(id);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.STICKY_NOTE_DELETED, actorUserId, boardId, Map.of("id", id));
     }
 
     // 將 stickyNotes 內的所有 stickyNote 過濾掉 actorUserId 沒有權限的
@@ -179,33 +270,11 @@ public class StickyNoteApplicationService {
     private List<StickyNoteDTO> filterAndConvert(List<StickyNote> stickyNotes, UUID actorUserId) {
         return stickyNotes.stream()
                 .filter(stickyNote -> stickyNote.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                stickyNote.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(stickyNote.getBoard().getId(), actorUserId))
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    // 查詢發 API 的 user 是否有權限
-    private BoardMembershipRole getMemberRole(UUID boardId, UUID actorUserId) {
-        return boardMembershipRepositoryPort
-                .findByBoardIdAndUserId(boardId, actorUserId)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this board"))
-                .getRole();
-    }
-
-    // 負責管理「讀」
-    private void requireReadPermission(UUID boardId, UUID actorUserId) {
-        getMemberRole(boardId, actorUserId);
-    }
-
-    // 負責管理「寫」
-    private void requireWritePermission(UUID boardId, UUID actorUserId) {
-        BoardMembershipRole role = getMemberRole(boardId, actorUserId);
-        if (role == BoardMembershipRole.VIEWER) {
-            throw new RuntimeException("Viewers are not allowed to perform write operations");
-        }
-    }
-
     private StickyNoteDTO convertToDTO(StickyNote stickyNote) {
         StickyNoteDTO dto = new StickyNoteDTO(
                 stickyNote.getId(),
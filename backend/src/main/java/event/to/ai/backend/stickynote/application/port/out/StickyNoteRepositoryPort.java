@@ -2,6 +2,7 @@ package event.to.ai.backend.stickynote.application.port.out;
 
 import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,7 +21,13 @@ public interface StickyNoteRepositoryPort {
 
     StickyNote save(StickyNote stickyNote);
 
+    List<StickyNote> findAllById(Collection<UUID> ids);
+
+    List<StickyNote> saveAll(List<StickyNote> stickyNotes);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    void deleteAll(List<StickyNote> stickyNotes);
 }
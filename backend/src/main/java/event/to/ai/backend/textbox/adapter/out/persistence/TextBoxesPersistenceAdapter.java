@@ -5,6 +5,7 @@ import event.to.ai.backend.textbox.application.port.out.TextBoxesRepositoryPort;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -39,6 +40,16 @@ public class TextBoxesPersistenceAdapter implements TextBoxesRepositoryPort {
         return textBoxesRepository.save(textBoxes);
     }
 
+    @Override
+    public List<TextBoxes> findAllById(Collection<UUID> ids) {
+        return textBoxesRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<TextBoxes> saveAll(List<TextBoxes> textBoxesList) {
+        return textBoxesRepository.saveAll(textBoxesList);
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return textBoxesRepository.existsById(id);
@@ -48,4 +59,9 @@ public class TextBoxesPersistenceAdapter implements TextBoxesRepositoryPort {
     public void deleteById(UUID id) {
         textBoxesRepository.deleteById(id);
     }
+
+    @Override
+    public void deleteAll(List<TextBoxes> textBoxesList) {
+        textBoxesRepository.deleteAll(textBoxesList);
+    }
 }
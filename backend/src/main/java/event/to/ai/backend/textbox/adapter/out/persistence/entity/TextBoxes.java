@@ -7,7 +7,15 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "text_boxes")
+@Table(
+        name = "text_boxes",
+        indexes = {
+                @Index(name = "idx_text_boxes_board_id_revision", columnList = "board_id,revision"),
+                @Index(name = "idx_text_boxes_board_id_frame_id", columnList = "board_id,frame_id"),
+                @Index(name = "idx_text_boxes_board_id_pos_x", columnList = "board_id,pos_x"),
+                @Index(name = "idx_text_boxes_board_id_geo_x", columnList = "board_id,geo_x")
+        }
+)
 public class TextBoxes {
 
     @Id
@@ -61,6 +69,10 @@ public class TextBoxes {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 最後一次異動時 Board 的 revision，供增量同步查詢
+    @Column(name = "revision", nullable = false)
+    private long revision;
+
     // Constructors
     public TextBoxes() {
     }
@@ -180,6 +192,14 @@ public class TextBoxes {
         this.updatedAt = updatedAt;
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
     @Override
     public String toString() {
         return "textBoxes{" +
@@ -1,8 +1,10 @@
 package event.to.ai.backend.textbox.application;
 
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.AnchoredConnectorService;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardRevisionService;
+import event.to.ai.backend.board.domain.BoardElementType;
 import event.to.ai.backend.textbox.adapter.in.web.dto.CreateTextBoxesRequest;
 import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
 import event.to.ai.backend.textbox.adapter.in.web.dto.UpdateTextBoxesRequest;
@@ -14,10 +16,16 @@ import event.to.ai.backend.websocket.BoardRealtimeEventType;
 import event.to.ai.backend.websocket.BoardRealtimePublisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,18 +34,24 @@ public class TextBoxApplicationService {
 
     private final TextBoxesRepositoryPort textBoxesRepositoryPort;
     private final BoardRepositoryPort boardRepositoryPort;
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final BoardRealtimePublisher boardRealtimePublisher;
+    private final BoardRevisionService boardRevisionService;
+    private final AnchoredConnectorService anchoredConnectorService;
 
     @Autowired
     public TextBoxApplicationService(TextBoxesRepositoryPort textBoxesRepositoryPort,
                                      BoardRepositoryPort boardRepositoryPort,
-                                     BoardMembershipRepositoryPort boardMembershipRepositoryPort,
-                                     BoardRealtimePublisher boardRealtimePublisher) {
+                                     BoardAccessService boardAccessService,
+                                     BoardRealtimePublisher boardRealtimePublisher,
+                                     BoardRevisionService boardRevisionService,
+                                     AnchoredConnectorService anchoredConnectorService) {
         this.textBoxesRepositoryPort = textBoxesRepositoryPort;
         this.boardRepositoryPort = boardRepositoryPort;
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.boardRealtimePublisher = boardRealtimePublisher;
+        this.boardRevisionService = boardRevisionService;
+        this.anchoredConnectorService = anchoredConnectorService;
     }
 
     public List<TextBoxesDTO> getAllTextBoxes(UUID actorUserId) {
@@ -47,14 +61,13 @@ public class TextBoxApplicationService {
     public List<TextBoxesDTO> getTextBoxesById(UUID actorUserId, UUID id) {
         return textBoxesRepositoryPort.findById(id)
                 .filter(textBox -> textBox.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                textBox.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(textBox.getBoard().getId(), actorUserId))
                 .map(textBox -> List.of(convertToDTO(textBox)))
                 .orElseGet(List::of);
     }
 
     public List<TextBoxesDTO> getTextBoxesByBoardId(UUID actorUserId, UUID boardId) {
-        requireReadPermission(boardId, actorUserId);
+        boardAccessService.requireReadPermission(boardId, actorUserId);
         return textBoxesRepositoryPort.findByBoardId(boardId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -65,23 +78,10 @@ public class TextBoxApplicationService {
         Board board = boardRepositoryPort.findById(request.getBoardId())
                 .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
 
-        requireWritePermission(board.getId(), actorUserId);
-
-        TextBoxes textBoxes = new TextBoxes();
-        textBoxes.setBoard(board);
-        textBoxes.setPos(new Point2D(request.getPosX(), request.getPosY()));
-        textBoxes.setGeo(new Point2D(request.getGeoX(), request.getGeoY()));
-        textBoxes.setDescription(request.getDescription());
-        textBoxes.setTag(request.getTag());
-        textBoxes.setFontColor(request.getFontColor());
-        textBoxes.setFontSize(request.getFontSize());
-        if (request.getZIndex() != null) {
-            textBoxes.setZIndex(request.getZIndex());
-        }
-        if (request.getFrameID() != null) {
-            textBoxes.setFrameID(request.getFrameID());
-        }
+        boardAccessService.requireWritePermission(board.getId(), actorUserId);
 
+        TextBoxes textBoxes = newTextBox(board, request);
+        textBoxes.setRevision(boardRevisionService.nextRevision(board.getId()));
         TextBoxes saved = textBoxesRepositoryPort.save(textBoxes);
         TextBoxesDTO dto = convertToDTO(saved);
         boardRealtimePublisher.publish(BoardRealtimeEventType.TEXT_BOX_CREATED, actorUserId, dto.getBoardId(), dto);
@@ -93,15 +93,123 @@ public class TextBoxApplicationService {
         TextBoxes textBoxes = textBoxesRepositoryPort.findById(id)
                 .orElseThrow(() -> new RuntimeException("TextBox not found with id: " + id));
 
-        requireWritePermission(textBoxes.getBoard().getId(), actorUserId);
+        UUID previousBoardId = textBoxes.getBoard().getId();
+        boardAccessService.requireWritePermission(previousBoardId, actorUserId);
 
         if (request.getBoardId() != null) {
             Board board = boardRepositoryPort.findById(request.getBoardId())
                     .orElseThrow(() -> new RuntimeException("Board not found with id: " + request.getBoardId()));
-            requireWritePermission(board.getId(), actorUserId);
+            boardAccessService.requireWritePermission(board.getId(), actorUserId);
             textBoxes.setBoard(board);
         }
 
+        List<Double> previousGeometry = geometryOf(textBoxes);
+        applyChanges(textBoxes, request);
+
+        // 移到其他 Board 時，原 Board 要留下 tombstone
+        if (!previousBoardId.equals(textBoxes.getBoard().getId())) {
+            boardRevisionService.recordDeletion(previousBoardId, id, BoardElementType.TEXT_BOX);
+        }
+        textBoxes.setRevision(boardRevisionService.nextRevision(textBoxes.getBoard().getId()));
+
+        TextBoxes updated = textBoxesRepositoryPort.save(textBoxes);
+        TextBoxesDTO dto = convertToDTO(updated);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.TEXT_BOX_UPDATED, actorUserId, dto.getBoardId(),
+                anchoredConnectorService.updatedPayload(dto.getBoardId(), id, dto, !previousGeometry.equals(geometryOf(textBoxes))));
+        return dto;
+    }
+
+    @Transactional
+    public void deleteTextBox(UUID actorUserId, UUID id) {
+        TextBoxes textBoxes = textBoxesRepositoryPort.findById(id)
+                .orElseThrow(() -> new RuntimeException("TextBox not found with id: " + id));
+
+        UUID boardId = textBoxes.getBoard().getId();
+        boardAccessService.requireWritePermission(boardId, actorUserId);
+
+        textBoxesRepositoryPort.deleteById(id);
+        boardRevisionService.recordDeletion(boardId, id, BoardElementType.TEXT_BOX);
+        boardRealtimePublisher.publish(BoardRealtimeEventType.TEXT_BOX_DELETED, actorUserId, boardId, Map.of("id", id));
+    }
+
+    // 以下三個方法給 BoardElementsBatchService 使用
+    // 呼叫端已檢查過整張 Board 的寫入權限、取得這一批的 revision，並負責廣播彙整後的即時事件
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<TextBoxesDTO> createTextBoxesInBatch(Board board, List<CreateTextBoxesRequest> requests, long revision) {
+        List<TextBoxes> textBoxesList = new ArrayList<>(requests.size());
+        for (CreateTextBoxesRequest request : requests) {
+            TextBoxes textBoxes = newTextBox(board, request);
+            textBoxes.setRevision(revision);
+            textBoxesList.add(textBoxes);
+        }
+        return textBoxesRepositoryPort.saveAll(textBoxesList).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<TextBoxesDTO> updateTextBoxesInBatch(UUID boardId, Map<UUID, UpdateTextBoxesRequest> requests, long revision) {
+        List<TextBoxes> textBoxesList = findAllOnBoard(boardId, requests.keySet());
+        for (TextBoxes textBoxes : textBoxesList) {
+            UpdateTextBoxesRequest request = requests.get(textBoxes.getId());
+            if (request.getBoardId() != null && !request.getBoardId().equals(boardId)) {
+                throw new RuntimeException("Moving a text box to another board is not supported in batch: " + textBoxes.getId());
+            }
+            applyChanges(textBoxes, request);
+            textBoxes.setRevision(revision);
+        }
+        return textBoxesRepositoryPort.saveAll(textBoxesList).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteTextBoxesInBatch(UUID boardId, Collection<UUID> ids) {
+        textBoxesRepositoryPort.deleteAll(findAllOnBoard(boardId, ids));
+    }
+
+    // 一次查回整批元件，任何一個不存在或不屬於這張 Board 都讓整批失敗
+    private List<TextBoxes> findAllOnBoard(UUID boardId, Collection<UUID> ids) {
+        List<TextBoxes> textBoxesList = textBoxesRepositoryPort.findAllById(ids);
+        Set<UUID> missingIds = new HashSet<>(ids);
+        for (TextBoxes textBoxes : textBoxesList) {
+            if (!textBoxes.getBoard().getId().equals(boardId)) {
+                throw new RuntimeException("TextBox not found with id: " + textBoxes.getId());
+            }
+            missingIds.remove(textBoxes.getId());
+        }
+        if (!missingIds.isEmpty()) {
+            throw new RuntimeException("TextBox not found with id: " + missingIds.iterator().next());
+        }
+        return textBoxesList;
+    }
+
+    private TextBoxes newTextBox(Board board, CreateTextBoxesRequest request) {
+        TextBoxes textBoxes = new TextBoxes();
+        textBoxes.setBoard(board);
+        textBoxes.setPos(new Point2D(request.getPosX(), request.getPosY()));
+        textBoxes.setGeo(new Point2D(request.getGeoX(), request.getGeoY()));
+        textBoxes.setDescription(request.getDescription());
+        textBoxes.setTag(request.getTag());
+        textBoxes.setFontColor(request.getFontColor());
+        textBoxes.setFontSize(request.getFontSize());
+        if (request.getZIndex() != null) {
+            textBoxes.setZIndex(request.getZIndex());
+        }
+        if (request.getFrameID() != null) {
+            textBoxes.setFrameID(request.getFrameID());
+        }
+
+        return textBoxes;
+    }
+
+    // 位置與尺寸，用來判斷這次更新是否為拖曳或縮放
+    private List<Double> geometryOf(TextBoxes textBoxes) {
+        return Arrays.asList(textBoxes.getPos().getX(), textBoxes.getPos().getY(),
+                textBoxes.getGeo().getX(), textBoxes.getGeo().getY());
+    }
+
+    private void applyChanges(TextBoxes textBoxes, UpdateTextBoxesRequest request) {
         if (request.getPosX() != null && request.getPosY() != null) {
             textBoxes.setPos(new Point2D(request.getPosX(), request.getPosY()));
         }
@@ -126,55 +234,16 @@ public class TextBoxApplicationService {
         if (request.getFrameID() != null) {
             textBoxes.setFrameID(request.getFrameID());
         }
-
-        TextBoxes updated = textBoxesRepositoryPort.save(textBoxes);
-        TextBoxesDTO dto = convertToDTO(updated);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.TEXT_BOX_UPDATED, actorUserId, dto.getBoardId(), dto);
-        return dto;
-    }
-
-    @Transactional
-    public void deleteTextBox(UUID actorUserId, UUID id) {
-        TextBoxes textBoxes = textBoxesRepositoryPort.findById(id)
-                .orElseThrow(() -> new RuntimeException("TextBox not found with id: " + id));
-
-        UUID boardId = textBoxes.getBoard().getId();
-        requireWritePermission(boardId, actorUserId);
-
-        textBoxesRepositoryPort.deleteById(id);
-        boardRealtimePublisher.publish(BoardRealtimeEventType.TEXT_BOX_DELETED, actorUserId, boardId, Map.of("id", id));
     }
 
     private List<TextBoxesDTO> filterAndConvert(List<TextBoxes> textBoxes, UUID actorUserId) {
         return textBoxes.stream()
                 .filter(textBox -> textBox.getBoard() != null &&
-                        boardMembershipRepositoryPort.existsByBoardIdAndUserId(
-                                textBox.getBoard().getId(), actorUserId))
+                        boardAccessService.isMember(textBox.getBoard().getId(), actorUserId))
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
-    // 查詢發 API 的 user 是否有權限
-    private BoardMembershipRole getMemberRole(UUID boardId, UUID actorUserId) {
-        return boardMembershipRepositoryPort
-                .findByBoardIdAndUserId(boardId, actorUserId)
-                .orElseThrow(() -> new RuntimeException("User is not a member of this board"))
-                .getRole();
-    }
-
-    // 負責管理「讀」
-    private void requireReadPermission(UUID boardId, UUID actorUserId) {
-        getMemberRole(boardId, actorUserId);
-    }
-
-    // 負責管理「寫」
-    private void requireWritePermission(UUID boardId, UUID actorUserId) {
-        BoardMembershipRole role = getMemberRole(boardId, actorUserId);
-        if (role == BoardMembershipRole.VIEWER) {
-            throw new RuntimeException("Viewers are not allowed to perform write operations");
-        }
-    }
-
     private TextBoxesDTO convertToDTO(TextBoxes textBoxes) {
         TextBoxesDTO dto = new TextBoxesDTO(
                 textBoxes.getId(),
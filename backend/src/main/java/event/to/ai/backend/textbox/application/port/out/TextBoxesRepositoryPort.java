@@ -2,6 +2,7 @@ package event.to.ai.backend.textbox.application.port.out;
 
 import event.to.ai.backend.textbox.adapter.out.persistence.entity.TextBoxes;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +17,13 @@ public interface TextBoxesRepositoryPort {
 
     TextBoxes save(TextBoxes textBoxes);
 
+    List<TextBoxes> findAllById(Collection<UUID> ids);
+
+    List<TextBoxes> saveAll(List<TextBoxes> textBoxesList);
+
     boolean existsById(UUID id);
 
     void deleteById(UUID id);
+
+    void deleteAll(List<TextBoxes> textBoxesList);
 }
@@ -6,6 +6,7 @@ import event.to.ai.backend.user.adapter.in.web.dto.UserDTO;
 import event.to.ai.backend.user.adapter.out.persistence.entity.User;
 import event.to.ai.backend.user.application.port.out.UserRepositoryPort;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,11 +20,15 @@ public class UserApplicationService {
 
     private final UserRepositoryPort userRepositoryPort;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserApplicationService(UserRepositoryPort userRepositoryPort, PasswordEncoder passwordEncoder) {
+    public UserApplicationService(UserRepositoryPort userRepositoryPort,
+                                  PasswordEncoder passwordEncoder,
+                                  ApplicationEventPublisher eventPublisher) {
         this.userRepositoryPort = userRepositoryPort;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -130,6 +135,8 @@ public class UserApplicationService {
             throw new RuntimeException("User not found with id: " + id);
         }
         userRepositoryPort.deleteById(id);
+        // JWT 驗證不再查 users 表，需通知黑名單擋下該使用者尚未過期的 token
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     /**
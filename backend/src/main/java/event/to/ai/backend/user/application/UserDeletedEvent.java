@@ -0,0 +1,17 @@
+package event.to.ai.backend.user.application;
+
+import java.util.UUID;
+
+// 使用者被刪除時發布，TokenRevocationService 收到後讓該使用者尚未過期的 Access Token 失效
+public class UserDeletedEvent {
+
+    private final UUID userId;
+
+    public UserDeletedEvent(UUID userId) {
+        this.userId = userId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+}
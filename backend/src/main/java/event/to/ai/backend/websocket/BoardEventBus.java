@@ -0,0 +1,19 @@
+package event.to.ai.backend.websocket;
+
+import org.springframework.messaging.Message;
+
+import java.util.function.Consumer;
+
+// Board 即時事件送往各節點訂閱者的出口。
+// publisher 每則事件只呼叫一次 publish，由實作負責讓叢集中每個節點的訂閱者都收到，且每個節點只收到一次。
+// 節點本地快取的失效通知也走同一個 bus，讓其他節點清掉同一筆快取。
+public interface BoardEventBus {
+
+    void publish(String destination, Message<byte[]> message);
+
+    // 送給叢集中的其他節點；單節點部署時不做任何事
+    void broadcastInvalidation(CacheInvalidation invalidation);
+
+    // 收到其他節點的失效通知時呼叫；listener 必須可重複套用，同一則通知可能被送達不只一次
+    void onInvalidation(Consumer<CacheInvalidation> listener);
+}
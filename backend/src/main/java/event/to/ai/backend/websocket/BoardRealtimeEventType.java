@@ -6,15 +6,29 @@ public enum BoardRealtimeEventType {
     STICKY_NOTE_CREATED("stickyNote.created"),
     STICKY_NOTE_UPDATED("stickyNote.updated"),
     STICKY_NOTE_DELETED("stickyNote.deleted"),
+    STICKY_NOTE_MOVED("stickyNote.moved"),
     TEXT_BOX_CREATED("textBox.created"),
     TEXT_BOX_UPDATED("textBox.updated"),
     TEXT_BOX_DELETED("textBox.deleted"),
+    TEXT_BOX_MOVED("textBox.moved"),
     FRAME_CREATED("frame.created"),
     FRAME_UPDATED("frame.updated"),
     FRAME_DELETED("frame.deleted"),
+    FRAME_MOVED("frame.moved"),
     DOMAIN_MODEL_ITEM_CREATED("domainModelItem.created"),
     DOMAIN_MODEL_ITEM_UPDATED("domainModelItem.updated"),
-    DOMAIN_MODEL_ITEM_DELETED("domainModelItem.deleted");
+    DOMAIN_MODEL_ITEM_DELETED("domainModelItem.deleted"),
+    CONNECTOR_CREATED("connector.created"),
+    CONNECTOR_UPDATED("connector.updated"),
+    CONNECTOR_DELETED("connector.deleted"),
+    // 批次 API 的彙整事件，payload 為 BoardElementsBatchResultDTO
+    ELEMENTS_BATCHED("elements.batched"),
+    // 非同步分析工作的進度，payload 為 AnalysisProgressDTO；完成或失敗時 payload 為不含 groups 的 AnalysisJobDTO
+    ANALYSIS_PROGRESS("analysis.progress"),
+    ANALYSIS_COMPLETED("analysis.completed"),
+    ANALYSIS_FAILED("analysis.failed"),
+    // 同一時間窗內合併送出的事件，payload 為 { events: [...] }
+    BOARD_BATCH("board.batch");
 
     private final String value;
 
@@ -1,25 +1,132 @@
 package event.to.ai.backend.websocket;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+// 元件異動的即時事件先放進每張 Board 的待送清單，交易提交後才會進入清單，回滾的異動不會被廣播
+// 每個 window (app.realtime.batch.window-ms) 或累積到 max-events 筆時，把同一張 Board 的事件合併成一則 board.batch 送出
+// 繁忙的 Board 因此從「每次異動一個 STOMP frame」降為「每個 window 一個 frame」
+// 每則事件只交給 BoardEventBus 一次，跨節點的轉送由 bus (broker relay) 負責
+// 送出前先用綁定 BoardRealtimeEvent 的 ObjectWriter 編碼成 byte[]，broker 對所有訂閱者共用同一份 payload，不再經過 message converter
 @Component
 public class BoardRealtimePublisher {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private static final int LOCK_STRIPES = 64;
 
-    public BoardRealtimePublisher(SimpMessagingTemplate messagingTemplate) {
-        this.messagingTemplate = messagingTemplate;
+    private final BoardEventBus boardEventBus;
+    private final ObjectWriter eventWriter;
+    private final boolean batchEnabled;
+    private final int maxEventsPerBatch;
+
+    // boardId -> 尚未送出的事件，依發生順序排列
+    private final ConcurrentHashMap<UUID, List<BoardRealtimeEvent>> pendingEvents = new ConcurrentHashMap<>();
+    // 同一張 Board 的 flush 必須依序送出，以 boardId 分段上鎖
+    private final Object[] flushLocks = new Object[LOCK_STRIPES];
+
+    @Autowired
+    public BoardRealtimePublisher(BoardEventBus boardEventBus,
+                                  JsonMapper jsonMapper,
+                                  @Value("${app.realtime.batch.enabled:true}") boolean batchEnabled,
+                                  @Value("${app.realtime.batch.max-events:100}") int maxEventsPerBatch) {
+        this.boardEventBus = boardEventBus;
+        this.eventWriter = jsonMapper.writerFor(BoardRealtimeEvent.class);
+        this.batchEnabled = batchEnabled;
+        this.maxEventsPerBatch = maxEventsPerBatch;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            flushLocks[i] = new Object();
+        }
     }
 
     // 所有 board realtime 訊息都統一送到同一個 topic，由前端用 type 分流。
     public void publish(BoardRealtimeEventType type, UUID userId, UUID boardId, Object payload) {
-        messagingTemplate.convertAndSend(topicFor(boardId), new BoardRealtimeEvent(type, userId, boardId, payload));
+        BoardRealtimeEvent event = new BoardRealtimeEvent(type, userId, boardId, payload);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(event);
+            }
+        });
     }
 
     public String topicFor(UUID boardId) {
         return "/topic/boards/" + boardId + "/events";
     }
+
+    @Scheduled(fixedDelayString = "${app.realtime.batch.window-ms:50}")
+    public void flush() {
+        for (UUID boardId : pendingEvents.keySet()) {
+            flushBoard(boardId);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void enqueue(BoardRealtimeEvent event) {
+        if (!batchEnabled) {
+            send(event.getBoardId(), event);
+            return;
+        }
+
+        boolean[] full = new boolean[1];
+        pendingEvents.compute(event.getBoardId(), (boardId, events) -> {
+            List<BoardRealtimeEvent> pending = events != null ? events : new ArrayList<>();
+            pending.add(event);
+            full[0] = pending.size() >= maxEventsPerBatch;
+            return pending;
+        });
+        if (full[0]) {
+            flushBoard(event.getBoardId());
+        }
+    }
+
+    private void flushBoard(UUID boardId) {
+        synchronized (flushLocks[Math.floorMod(boardId.hashCode(), LOCK_STRIPES)]) {
+            List<BoardRealtimeEvent> events = pendingEvents.remove(boardId);
+            if (events == null || events.isEmpty()) {
+                return;
+            }
+            // 只有一筆時直接送出原事件，省去 envelope
+            BoardRealtimeEvent message = events.size() == 1
+                    ? events.getFirst()
+                    : new BoardRealtimeEvent(BoardRealtimeEventType.BOARD_BATCH, null, boardId, Map.of("events", events));
+            send(boardId, message);
+        }
+    }
+
+    private void send(UUID boardId, BoardRealtimeEvent event) {
+        boardEventBus.publish(topicFor(boardId), encode(event));
+    }
+
+    // 每個事件只序列化一次；header 保持可變，讓 template 補上 destination 時不必再複製一次 message
+    Message<byte[]> encode(BoardRealtimeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(eventWriter.writeValueAsBytes(event), accessor.getMessageHeaders());
+    }
 }
@@ -0,0 +1,195 @@
+package event.to.ai.backend.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 交給 WebSocketConfig 設定的 broker：
+// simple 模式只送到本節點的 in-process broker (單節點部署)；
+// relay 模式經 STOMP broker relay 送到外部 broker，由外部 broker 轉送給所有節點的訂閱者。
+// relay 模式下快取失效通知只走另一條專用的 STOMP client 連線 (送出與訂閱 INVALIDATION_DESTINATION)，不經過前端共用的 broker relay；
+// 這條連線可用 cluster-virtual-host 連到前端連線碰不到的 virtual host，前端對 CLUSTER_DESTINATION_PREFIX 的 SEND / SUBSCRIBE
+// 另由 BrokerDestinationChannelInterceptor 拒絕。
+// 連線中斷期間送出的通知會遺失，此時各快取仍以自己的 TTL 為上限，斷線後每 RECONNECT_DELAY_SECONDS 秒重連一次
+@Component
+public class BrokerBoardEventBus implements BoardEventBus, SmartLifecycle {
+
+    public static final String CLUSTER_DESTINATION_PREFIX = "/topic/cluster.";
+    static final String INVALIDATION_DESTINATION = CLUSTER_DESTINATION_PREFIX + "cache-invalidations";
+    static final String NODE_ID_HEADER = "x-node-id";
+
+    private static final Logger log = LoggerFactory.getLogger(BrokerBoardEventBus.class);
+    private static final long RECONNECT_DELAY_SECONDS = 5;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    // simple 模式為 null
+    private final ReactorNettyTcpStompClient stompClient;
+    private final StompHeaders connectHeaders;
+    private final ObjectWriter invalidationWriter;
+    private final ObjectReader invalidationReader;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidation>> invalidationListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    // 專用連線建立後才有值，斷線時清除
+    private volatile StompSession session;
+
+    @Autowired
+    public BrokerBoardEventBus(SimpMessagingTemplate messagingTemplate,
+                               JsonMapper jsonMapper,
+                               @Value("${app.realtime.broker:simple}") String brokerMode,
+                               @Value("${app.realtime.relay.host:localhost}") String relayHost,
+                               @Value("${app.realtime.relay.port:61613}") int relayPort,
+                               @Value("${app.realtime.relay.login:guest}") String relayLogin,
+                               @Value("${app.realtime.relay.passcode:guest}") String relayPasscode,
+                               @Value("${app.realtime.relay.virtual-host:}") String relayVirtualHost,
+                               @Value("${app.realtime.relay.cluster-virtual-host:}") String clusterVirtualHost) {
+        this(messagingTemplate, jsonMapper,
+                "relay".equals(brokerMode) ? new ReactorNettyTcpStompClient(relayHost, relayPort) : null,
+                connectHeaders(relayLogin, relayPasscode,
+                        clusterVirtualHost.isBlank() ? relayVirtualHost : clusterVirtualHost));
+    }
+
+    BrokerBoardEventBus(SimpMessagingTemplate messagingTemplate, JsonMapper jsonMapper,
+                        ReactorNettyTcpStompClient stompClient, StompHeaders connectHeaders) {
+        this.messagingTemplate = messagingTemplate;
+        this.stompClient = stompClient;
+        this.connectHeaders = connectHeaders;
+        this.invalidationWriter = jsonMapper.writerFor(CacheInvalidation.class);
+        this.invalidationReader = jsonMapper.readerFor(CacheInvalidation.class);
+    }
+
+    @Override
+    public void publish(String destination, Message<byte[]> message) {
+        messagingTemplate.send(destination, message);
+    }
+
+    @Override
+    public void broadcastInvalidation(CacheInvalidation invalidation) {
+        if (stompClient == null) {
+            return;
+        }
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination(INVALIDATION_DESTINATION);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.set(NODE_ID_HEADER, nodeId);
+        sendInvalidation(headers, invalidationWriter.writeValueAsBytes(invalidation));
+    }
+
+    void sendInvalidation(StompHeaders headers, byte[] payload) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            log.warn("Cache invalidation connection is down, dropping invalidation");
+            return;
+        }
+        current.send(headers, payload);
+    }
+
+    @Override
+    public void onInvalidation(Consumer<CacheInvalidation> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    // 本節點送出的通知也會被 broker 送回來，略過即可
+    void receiveInvalidation(String senderNodeId, byte[] payload) {
+        if (nodeId.equals(senderNodeId)) {
+            return;
+        }
+        try {
+            CacheInvalidation invalidation = invalidationReader.readValue(payload);
+            invalidationListeners.forEach(listener -> listener.accept(invalidation));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply cache invalidation from node {}", senderNodeId, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (stompClient == null || running) {
+            return;
+        }
+        running = true;
+        connect();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (stompClient != null) {
+            stompClient.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void connect() {
+        if (running) {
+            stompClient.connectAsync(connectHeaders, new InvalidationSessionHandler());
+        }
+    }
+
+    private static StompHeaders connectHeaders(String login, String passcode, String virtualHost) {
+        StompHeaders headers = new StompHeaders();
+        headers.setLogin(login);
+        headers.setPasscode(passcode);
+        if (!virtualHost.isBlank()) {
+            headers.setHost(virtualHost);
+        }
+        return headers;
+    }
+
+    private final class InvalidationSessionHandler extends StompSessionHandlerAdapter {
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            session.subscribe(INVALIDATION_DESTINATION, this);
+            BrokerBoardEventBus.this.session = session;
+            log.info("Subscribed to cache invalidations of other nodes");
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            receiveInvalidation(headers.getFirst(NODE_ID_HEADER), (byte[]) payload);
+        }
+
+        // 連線失敗或中斷都會走到這裡
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            BrokerBoardEventBus.this.session = null;
+            if (!running) {
+                return;
+            }
+            log.warn("Cache invalidation connection lost, reconnecting in {}s: {}", RECONNECT_DELAY_SECONDS, exception.getMessage());
+            CompletableFuture.runAsync(BrokerBoardEventBus.this::connect,
+                    CompletableFuture.delayedExecutor(RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package event.to.ai.backend.websocket;
+
+import java.util.UUID;
+
+// 節點本地快取的失效通知，relay 模式下經外部 broker 送到其他節點
+// BOARD_ACCESS：Board 權限快取，userId 為 null 代表整張 Board；REVOKED_USER：token 黑名單，只有 userId
+public record CacheInvalidation(Type type, UUID boardId, UUID userId) {
+
+    public enum Type {
+        BOARD_ACCESS,
+        REVOKED_USER
+    }
+
+    public static CacheInvalidation boardAccess(UUID boardId, UUID userId) {
+        return new CacheInvalidation(Type.BOARD_ACCESS, boardId, userId);
+    }
+
+    public static CacheInvalidation revokedUser(UUID userId) {
+        return new CacheInvalidation(Type.REVOKED_USER, null, userId);
+    }
+}
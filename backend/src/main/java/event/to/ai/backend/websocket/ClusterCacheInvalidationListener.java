@@ -0,0 +1,49 @@
+package event.to.ai.backend.websocket;
+
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardMembershipChangedEvent;
+import event.to.ai.backend.security.TokenRevocationService;
+import event.to.ai.backend.user.application.UserDeletedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Board 權限快取與 token 黑名單都只存在各節點的記憶體中，本地事件只會清掉本節點的快取
+// 交易提交後把同一份失效通知經 BoardEventBus 送到其他節點，收到其他節點的通知時套用到本節點
+@Component
+public class ClusterCacheInvalidationListener {
+
+    private final BoardEventBus boardEventBus;
+    private final BoardAccessService boardAccessService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    public ClusterCacheInvalidationListener(BoardEventBus boardEventBus,
+                                            BoardAccessService boardAccessService,
+                                            TokenRevocationService tokenRevocationService) {
+        this.boardEventBus = boardEventBus;
+        this.boardAccessService = boardAccessService;
+        this.tokenRevocationService = tokenRevocationService;
+        boardEventBus.onInvalidation(this::apply);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(BoardMembershipChangedEvent event) {
+        boardEventBus.broadcastInvalidation(CacheInvalidation.boardAccess(event.getBoardId(), event.getUserId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        boardEventBus.broadcastInvalidation(CacheInvalidation.revokedUser(event.getUserId()));
+    }
+
+    void apply(CacheInvalidation invalidation) {
+        switch (invalidation.type()) {
+            case BOARD_ACCESS -> boardAccessService.onMembershipChanged(invalidation.userId() == null
+                    ? BoardMembershipChangedEvent.wholeBoard(invalidation.boardId())
+                    : BoardMembershipChangedEvent.member(invalidation.boardId(), invalidation.userId()));
+            case REVOKED_USER -> tokenRevocationService.revokeUser(invalidation.userId());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package event.to.ai.backend.websocket;
 
 import event.to.ai.backend.websocket.interceptor.BoardSubscriptionAuthorizationChannelInterceptor;
+import event.to.ai.backend.websocket.interceptor.BrokerDestinationChannelInterceptor;
 import event.to.ai.backend.websocket.interceptor.StompJwtConnectChannelInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -9,17 +11,47 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+// app.realtime.broker=simple：in-process broker，只適用單節點部署
+// app.realtime.broker=relay：轉送到外部 STOMP broker (RabbitMQ / ActiveMQ)，多個節點共用同一組 topic，可水平擴充
+// relay 模式下各節點的權限快取與 token 黑名單經 BrokerBoardEventBus 的專用連線互相通知失效，不經過這裡設定的 relay
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String SIMPLE_BROKER = "simple";
+    private static final String BROKER_RELAY = "relay";
+
     private final StompJwtConnectChannelInterceptor stompJwtConnectChannelInterceptor;
     private final BoardSubscriptionAuthorizationChannelInterceptor boardSubscriptionAuthorizationChannelInterceptor;
+    private final BrokerDestinationChannelInterceptor brokerDestinationChannelInterceptor;
+    private final String brokerMode;
+    private final String relayHost;
+    private final int relayPort;
+    private final String relayLogin;
+    private final String relayPasscode;
+    private final String relayVirtualHost;
 
     public WebSocketConfig(StompJwtConnectChannelInterceptor stompJwtConnectChannelInterceptor,
-                           BoardSubscriptionAuthorizationChannelInterceptor boardSubscriptionAuthorizationChannelInterceptor) {
+                           BoardSubscriptionAuthorizationChannelInterceptor boardSubscriptionAuthorizationChannelInterceptor,
+                           BrokerDestinationChannelInterceptor brokerDestinationChannelInterceptor,
+                           @Value("${app.realtime.broker:simple}") String brokerMode,
+                           @Value("${app.realtime.relay.host:localhost}") String relayHost,
+                           @Value("${app.realtime.relay.port:61613}") int relayPort,
+                           @Value("${app.realtime.relay.login:guest}") String relayLogin,
+                           @Value("${app.realtime.relay.passcode:guest}") String relayPasscode,
+                           @Value("${app.realtime.relay.virtual-host:}") String relayVirtualHost) {
+        if (!SIMPLE_BROKER.equals(brokerMode) && !BROKER_RELAY.equals(brokerMode)) {
+            throw new RuntimeException("Unsupported realtime broker mode: " + brokerMode);
+        }
         this.stompJwtConnectChannelInterceptor = stompJwtConnectChannelInterceptor;
         this.boardSubscriptionAuthorizationChannelInterceptor = boardSubscriptionAuthorizationChannelInterceptor;
+        this.brokerDestinationChannelInterceptor = brokerDestinationChannelInterceptor;
+        this.brokerMode = brokerMode;
+        this.relayHost = relayHost;
+        this.relayPort = relayPort;
+        this.relayLogin = relayLogin;
+        this.relayPasscode = relayPasscode;
+        this.relayVirtualHost = relayVirtualHost;
     }
 
     @Override
@@ -31,13 +63,29 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/app");
-        registry.enableSimpleBroker("/topic");
+        if (SIMPLE_BROKER.equals(brokerMode)) {
+            registry.enableSimpleBroker("/topic");
+            return;
+        }
+
+        // client 與 system 連線共用同一組帳號；訂閱授權仍由 inbound interceptor 在本節點檢查
+        var relay = registry.enableStompBrokerRelay("/topic")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(relayLogin)
+                .setClientPasscode(relayPasscode)
+                .setSystemLogin(relayLogin)
+                .setSystemPasscode(relayPasscode);
+        if (!relayVirtualHost.isBlank()) {
+            relay.setVirtualHost(relayVirtualHost);
+        }
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(
                 stompJwtConnectChannelInterceptor,
+                brokerDestinationChannelInterceptor,
                 boardSubscriptionAuthorizationChannelInterceptor
         );
     }
@@ -1,6 +1,6 @@
 package event.to.ai.backend.websocket.interceptor;
 
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.BoardAccessService;
 import event.to.ai.backend.security.AuthUserPrincipal;
 import event.to.ai.backend.user.application.port.out.UserRepositoryPort;
 import org.springframework.messaging.Message;
@@ -25,12 +25,12 @@ public class BoardSubscriptionAuthorizationChannelInterceptor implements Channel
     private static final Pattern BOARD_TOPIC_PATTERN = Pattern.compile("^/topic/boards/([^/]+)(?:/events)?$");
     private static final Logger log = LoggerFactory.getLogger(BoardSubscriptionAuthorizationChannelInterceptor.class);
 
-    private final BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private final BoardAccessService boardAccessService;
     private final UserRepositoryPort userRepositoryPort;
 
-    public BoardSubscriptionAuthorizationChannelInterceptor(BoardMembershipRepositoryPort boardMembershipRepositoryPort,
+    public BoardSubscriptionAuthorizationChannelInterceptor(BoardAccessService boardAccessService,
                                                            UserRepositoryPort userRepositoryPort) {
-        this.boardMembershipRepositoryPort = boardMembershipRepositoryPort;
+        this.boardAccessService = boardAccessService;
         this.userRepositoryPort = userRepositoryPort;
     }
 
@@ -59,7 +59,7 @@ public class BoardSubscriptionAuthorizationChannelInterceptor implements Channel
                 principal == null ? null : principal.getName());
 
         UUID userId = resolveUserId(principal);
-        boolean isMember = boardMembershipRepositoryPort.existsByBoardIdAndUserId(boardId, userId);
+        boolean isMember = boardAccessService.isMember(boardId, userId);
         log.info("STOMP SUBSCRIBE authorization boardId={}, userId={}, isMember={}", boardId, userId, isMember);
 
         if (!isMember) {
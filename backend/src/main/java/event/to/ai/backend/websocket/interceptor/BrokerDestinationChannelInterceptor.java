@@ -0,0 +1,33 @@
+package event.to.ai.backend.websocket.interceptor;
+
+import event.to.ai.backend.websocket.BrokerBoardEventBus;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+// 前端只能 SEND 到 /app (由 @MessageMapping 處理)，broker destination 只由後端送出，避免前端直接經 relay 發布到 /topic
+// 叢集內部的 /topic/cluster.* 也不允許前端訂閱
+@Component
+public class BrokerDestinationChannelInterceptor implements ChannelInterceptor {
+
+    private static final String APPLICATION_DESTINATION_PREFIX = "/app/";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getCommand() == StompCommand.SEND
+                && (destination == null || !destination.startsWith(APPLICATION_DESTINATION_PREFIX))) {
+            throw new AccessDeniedException("Clients may only send to application destinations: " + destination);
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE
+                && destination != null && destination.startsWith(BrokerBoardEventBus.CLUSTER_DESTINATION_PREFIX)) {
+            throw new AccessDeniedException("Cluster destinations cannot be subscribed: " + destination);
+        }
+        return message;
+    }
+}
@@ -1,8 +1,7 @@
 package event.to.ai.backend.websocket.interceptor;
 
+import event.to.ai.backend.security.AccessTokenAuthenticator;
 import event.to.ai.backend.security.AuthUserPrincipal;
-import event.to.ai.backend.security.CustomUserDetailsService;
-import event.to.ai.backend.security.JwtService;
 import io.jsonwebtoken.JwtException;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -14,18 +13,13 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class StompJwtConnectChannelInterceptor implements ChannelInterceptor {
 
-    private final JwtService jwtService;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final AccessTokenAuthenticator accessTokenAuthenticator;
 
-    public StompJwtConnectChannelInterceptor(JwtService jwtService,
-                                             CustomUserDetailsService customUserDetailsService) {
-        this.jwtService = jwtService;
-        this.customUserDetailsService = customUserDetailsService;
+    public StompJwtConnectChannelInterceptor(AccessTokenAuthenticator accessTokenAuthenticator) {
+        this.accessTokenAuthenticator = accessTokenAuthenticator;
     }
 
     @Override
@@ -47,12 +41,7 @@ public class StompJwtConnectChannelInterceptor implements ChannelInterceptor {
         }
 
         try {
-            UUID userId = jwtService.extractUserId(token);
-            AuthUserPrincipal principal = customUserDetailsService.loadUserById(userId);
-            if (!jwtService.isTokenValid(token, principal.getId())) {
-                throw new AccessDeniedException("Invalid STOMP token");
-            }
-            return principal;
+            return accessTokenAuthenticator.authenticate(token);
         } catch (UsernameNotFoundException | JwtException | IllegalArgumentException e) {
             throw new AccessDeniedException("Invalid STOMP token", e);
         }
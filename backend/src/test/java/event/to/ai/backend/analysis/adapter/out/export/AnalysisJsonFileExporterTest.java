@@ -0,0 +1,148 @@
+package event.to.ai.backend.analysis.adapter.out.export;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalysisJsonFileExporterTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000901");
+    private static final UUID OTHER_BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000902");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void onlyChangedUseCasesShouldBeRewritten() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AnalysisJsonFileExporter exporter = new AnalysisJsonFileExporter(jsonMapper, meterRegistry, directory.toString(), "files");
+
+        exporter.write(BOARD_ID, "Shop", List.of(group("Place Order", "Order"), group("Ship Order", "Shipment"), failed("frame-3")));
+        exporter.write(BOARD_ID, "Shop", List.of(group("Place Order", "Order"), group("Ship Order", "Parcel")));
+
+        Path board = directory.resolve("Shop_" + BOARD_ID);
+        assertEquals(List.of("Place_Order.json", "Ship_Order.json"), jsonFiles(board));
+        assertTrue(Files.readString(board.resolve("Ship_Order.json")).contains("Parcel"));
+        assertEquals(3.0, count(meterRegistry, "written"));
+        assertEquals(1.0, count(meterRegistry, "skipped"));
+
+        // 重新啟動後以磁碟上的內容比對；已不在結果中的 use case 被移除，不留下暫存檔
+        SimpleMeterRegistry restarted = new SimpleMeterRegistry();
+        new AnalysisJsonFileExporter(jsonMapper, restarted, directory.toString(), "files")
+                .write(BOARD_ID, "Shop", List.of(group("Place Order", "Order")));
+
+        assertEquals(List.of("Place_Order.json"), jsonFiles(board));
+        try (Stream<Path> files = Files.list(board)) {
+            assertEquals(1, files.count());
+        }
+        assertEquals(0.0, count(restarted, "written"));
+        assertEquals(1.0, count(restarted, "skipped"));
+    }
+
+    @Test
+    void zipFormatShouldHoldEveryUseCaseInOneArchive() throws IOException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AnalysisJsonFileExporter exporter = new AnalysisJsonFileExporter(jsonMapper, meterRegistry, directory.toString(), "zip");
+        List<GroupDTO> groups = List.of(group("Place Order", "Order"), group("Place Order", "Cart"), group(null, "Order"));
+
+        exporter.write(BOARD_ID, "Shop", groups);
+        exporter.write(BOARD_ID, "Shop", groups);
+
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(directory.resolve("Shop_" + BOARD_ID + ".zip")))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals(List.of("Place_Order.json", "Place_Order_2.json", "use_case.json"), entries);
+        assertEquals(1.0, count(meterRegistry, "written"));
+        assertEquals(1.0, count(meterRegistry, "skipped"));
+    }
+
+    @Test
+    void boardsWithTheSameTitleShouldNotOverwriteEachOther() throws IOException {
+        AnalysisJsonFileExporter exporter = new AnalysisJsonFileExporter(jsonMapper, new SimpleMeterRegistry(), directory.toString(), "files");
+
+        exporter.write(BOARD_ID, "Shop", List.of(group("Place Order", "Order")));
+        exporter.write(OTHER_BOARD_ID, "Shop", List.of(group("Ship Order", "Shipment")));
+
+        assertEquals(List.of("Place_Order.json"), jsonFiles(directory.resolve("Shop_" + BOARD_ID)));
+        assertEquals(List.of("Ship_Order.json"), jsonFiles(directory.resolve("Shop_" + OTHER_BOARD_ID)));
+    }
+
+    @Test
+    void renamedBoardShouldRemoveOnlyItsOwnPreviousExport() throws IOException {
+        AnalysisJsonFileExporter exporter = new AnalysisJsonFileExporter(jsonMapper, new SimpleMeterRegistry(), directory.toString(), "files");
+        exporter.write(BOARD_ID, "Shop", List.of(group("Place Order", "Order")));
+        exporter.write(OTHER_BOARD_ID, "Shop", List.of(group("Ship Order", "Shipment")));
+        Path previous = directory.resolve("Shop_" + BOARD_ID);
+        Files.writeString(previous.resolve("notes.txt"), "kept");
+
+        exporter.write(BOARD_ID, "Store", List.of(group("Place Order", "Order")));
+
+        assertEquals(List.of("Place_Order.json"), jsonFiles(directory.resolve("Store_" + BOARD_ID)));
+        // 舊目錄只刪掉 exporter 寫出的 JSON，其他檔案與其他 Board 的輸出不動
+        assertEquals(List.of(), jsonFiles(previous));
+        assertTrue(Files.exists(previous.resolve("notes.txt")));
+        assertEquals(List.of("Ship_Order.json"), jsonFiles(directory.resolve("Shop_" + OTHER_BOARD_ID)));
+
+        AnalysisJsonFileExporter zipExporter = new AnalysisJsonFileExporter(jsonMapper, new SimpleMeterRegistry(), directory.toString(), "zip");
+        zipExporter.write(BOARD_ID, "Store", List.of(group("Place Order", "Order")));
+        zipExporter.write(BOARD_ID, "Market", List.of(group("Place Order", "Order")));
+
+        assertFalse(Files.exists(directory.resolve("Store_" + BOARD_ID + ".zip")));
+        assertTrue(Files.exists(directory.resolve("Market_" + BOARD_ID + ".zip")));
+        assertTrue(Files.isDirectory(directory.resolve("Store_" + BOARD_ID)));
+    }
+
+    @Test
+    void boardTitlesShouldNotEscapeTheExportDirectory() {
+        assertEquals("board", AnalysisJsonFileExporter.fileName("..", "board"));
+        assertEquals(".._etc_passwd", AnalysisJsonFileExporter.fileName("../etc/passwd", "board"));
+        assertEquals("My_Board", AnalysisJsonFileExporter.fileName("  My   Board ", "board"));
+        assertFalse(AnalysisJsonFileExporter.fileName("a\\b:c", "board").contains("\\"));
+    }
+
+    private static List<String> jsonFiles(Path board) throws IOException {
+        try (Stream<Path> files = Files.list(board)) {
+            return files.map(file -> file.getFileName().toString()).filter(name -> name.endsWith(".json")).sorted().toList();
+        }
+    }
+
+    private static double count(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("board.analysis.export.files").tag("result", result).counter().count();
+    }
+
+    private static GroupDTO group(String useCaseName, String aggregateName) {
+        GroupDTO group = new GroupDTO();
+        group.setGroupId("note-" + useCaseName);
+        group.setUseCaseName(useCaseName);
+        group.setAggregateName(aggregateName);
+        return group;
+    }
+
+    private static GroupDTO failed(String frameId) {
+        GroupDTO group = new GroupDTO();
+        group.setGroupId(frameId);
+        group.setError("Failed to analyse frame " + frameId);
+        return group;
+    }
+}
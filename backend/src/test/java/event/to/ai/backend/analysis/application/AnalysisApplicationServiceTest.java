@@ -0,0 +1,288 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+import event.to.ai.backend.analysis.application.port.out.FrameRepositoryPort;
+import event.to.ai.backend.analysis.application.port.out.StickyNoteRepositoryPort;
+import event.to.ai.backend.analysis.application.port.out.TextBoxRepositoryPort;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.Point2D;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.Mockito;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisApplicationServiceTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000901");
+
+    private StickyNoteRepositoryPort stickyNoteRepositoryPort;
+    private BoardAccessService boardAccessService;
+    private BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+    private SimpleMeterRegistry meterRegistry;
+    private AnalysisApplicationService analysisApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        stickyNoteRepositoryPort = Mockito.mock(StickyNoteRepositoryPort.class);
+        boardAccessService = Mockito.mock(BoardAccessService.class);
+        boardRevisionRepositoryPort = Mockito.mock(BoardRevisionRepositoryPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        analysisApplicationService = new AnalysisApplicationService(stickyNoteRepositoryPort,
+                Mockito.mock(TextBoxRepositoryPort.class), boardAccessService,
+                Mockito.mock(FrameRepositoryPort.class), boardRevisionRepositoryPort, Mockito.mock(AnalysisExportService.class),
+                meterRegistry, 600, 100, 100, 4, 2);
+    }
+
+    @EzScenario
+    public void unchangedBoardShouldBeServedFromCache() {
+        Feature.New("Analysis Application Service")
+                .newScenario("Repeated analyses at the same revision compute once, a new revision recomputes")
+                .Given("a board at revision 7", env ->
+                        when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(7L)))
+                .When("the board is analysed twice, then once more after the revision moves to 8", env -> {
+                    env.put("first", analysisApplicationService.analyse(USER_ID, BOARD_ID));
+                    env.put("second", analysisApplicationService.analyse(USER_ID, BOARD_ID));
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(8L));
+                    analysisApplicationService.analyse(USER_ID, BOARD_ID);
+                })
+                .Then("elements are loaded twice and the metrics record one hit and two computations", env -> {
+                    @SuppressWarnings("unchecked")
+                    List<GroupDTO> first = env.get("first", List.class);
+                    assertSame(first, env.get("second", List.class));
+                    verify(stickyNoteRepositoryPort, times(2)).findByBoardId(BOARD_ID);
+                    verify(boardAccessService, times(3)).requireReadPermission(BOARD_ID, USER_ID);
+                    assertEquals(1.0, meterRegistry.get("cache.gets")
+                            .tag("cache", AnalysisApplicationService.CACHE_NAME).tag("result", "hit")
+                            .functionCounter().count());
+                    assertEquals(2L, meterRegistry.get("board.analysis.compute").timer().count());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void onlyChangedFramesShouldBeReclassified() {
+        Feature.New("Analysis Application Service")
+                .newScenario("After a note in one frame changes, only that frame is classified again")
+                .Given("two event storming frames analysed at revision 1", env -> {
+                    UUID frameA = UUID.fromString("00000000-0000-0000-0000-00000000a001");
+                    UUID frameB = UUID.fromString("00000000-0000-0000-0000-00000000b001");
+                    List<StickyNote> notes = List.of(
+                            note(1, frameA, "blue", "Create Order"), note(2, frameA, "green", "String name"),
+                            note(3, frameA, "light_yellow", "Order"),
+                            note(4, frameB, "blue", "Ship Order"), note(5, frameB, "green", "UUID orderId"),
+                            note(6, frameB, "light_yellow", "Shipment"));
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(1L));
+                    when(stickyNoteRepositoryPort.findByBoardId(BOARD_ID)).thenReturn(notes);
+                    env.put("notes", notes);
+                    env.put("before", analysisApplicationService.analyse(USER_ID, BOARD_ID));
+                })
+                .When("the use case of the second frame is renamed and the board moves to revision 2", env -> {
+                    @SuppressWarnings("unchecked")
+                    List<StickyNote> notes = env.get("notes", List.class);
+                    notes.get(3).setDescription("Ship Order Now");
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(2L));
+                    env.put("after", analysisApplicationService.analyse(USER_ID, BOARD_ID));
+                })
+                .Then("the first frame's group is reused and the second one is rebuilt", env -> {
+                    @SuppressWarnings("unchecked")
+                    List<GroupDTO> before = env.get("before", List.class);
+                    @SuppressWarnings("unchecked")
+                    List<GroupDTO> after = env.get("after", List.class);
+                    assertSame(before.get(0), after.get(0));
+                    assertNotSame(before.get(1), after.get(1));
+                    assertEquals("Ship Order Now", after.get(1).getUseCaseName());
+                    assertEquals(3.0, meterRegistry.get("cache.gets")
+                            .tag("cache", AnalysisApplicationService.FRAME_CACHE_NAME).tag("result", "miss")
+                            .functionCounter().count());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void manyFramesShouldBeClassifiedInParallelAndKeepFailuresPerFrame() {
+        Feature.New("Analysis Application Service")
+                .newScenario("A board above the parallel threshold is classified concurrently, a broken frame does not abort the run")
+                .Given("six frames where the fourth one has no input note", env -> {
+                    List<StickyNote> notes = new ArrayList<>();
+                    for (int frame = 0; frame < 6; frame++) {
+                        UUID frameId = new UUID(0xf000L, frame);
+                        notes.add(note(frame * 10 + 1, frameId, "blue", "Use Case " + frame));
+                        if (frame != 3) {
+                            notes.add(note(frame * 10 + 2, frameId, "green", "String name"));
+                        }
+                        notes.add(note(frame * 10 + 3, frameId, "light_yellow", "Aggregate" + frame));
+                    }
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(1L));
+                    when(stickyNoteRepositoryPort.findByBoardId(BOARD_ID)).thenReturn(notes);
+                })
+                .When("the board is analysed", env ->
+                        env.put("groups", analysisApplicationService.analyse(USER_ID, BOARD_ID)))
+                .Then("every frame has an entry in frame order and only the broken one carries an error", env -> {
+                    @SuppressWarnings("unchecked")
+                    List<GroupDTO> groups = env.get("groups", List.class);
+                    assertEquals(6, groups.size());
+                    for (int frame = 0; frame < 6; frame++) {
+                        GroupDTO group = groups.get(frame);
+                        if (frame == 3) {
+                            assertEquals(new UUID(0xf000L, frame).toString(), group.getGroupId());
+                            assertNull(group.getUseCaseName());
+                            assertTrue(group.getError().startsWith("Failed to analyse frame"));
+                        } else {
+                            assertEquals("Use Case " + frame, group.getUseCaseName());
+                            assertNull(group.getError());
+                        }
+                    }
+                    // 失敗的 frame 不會被快取，下一個 revision 只有它需要重新分類
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(2L));
+                    analysisApplicationService.analyse(USER_ID, BOARD_ID);
+                    assertEquals(7.0, meterRegistry.get("cache.gets")
+                            .tag("cache", AnalysisApplicationService.FRAME_CACHE_NAME).tag("result", "miss")
+                            .functionCounter().count());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void resultWithAFailedFrameShouldNotBeCached() {
+        Feature.New("Analysis Application Service")
+                .newScenario("An analysis containing a failed frame is computed again at the same revision")
+                .Given("a board at revision 5 whose only frame has no input note", env -> {
+                    UUID frameId = new UUID(0xf000L, 0);
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(5L));
+                    when(stickyNoteRepositoryPort.findByBoardId(BOARD_ID)).thenReturn(List.of(
+                            note(1, frameId, "blue", "Use Case"), note(2, frameId, "light_yellow", "Aggregate")));
+                })
+                .When("the board is analysed twice", env -> {
+                    env.put("first", analysisApplicationService.analyse(USER_ID, BOARD_ID));
+                    analysisApplicationService.analyse(USER_ID, BOARD_ID);
+                })
+                .Then("both requests compute the analysis", env -> {
+                    @SuppressWarnings("unchecked")
+                    List<GroupDTO> first = env.get("first", List.class);
+                    assertTrue(first.getFirst().getError().startsWith("Failed to analyse frame"));
+                    verify(stickyNoteRepositoryPort, times(2)).findByBoardId(BOARD_ID);
+                    assertEquals(2L, meterRegistry.get("board.analysis.compute").timer().count());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void progressShouldBeReportedPerFrameAndReplayedFromCache() {
+        Feature.New("Analysis Application Service")
+                .newScenario("A listener hears every frame while computing and again, in order, when the result is cached")
+                .Given("a board with six frames at revision 4", env -> {
+                    List<StickyNote> notes = new ArrayList<>();
+                    for (int frame = 0; frame < 6; frame++) {
+                        UUID frameId = new UUID(0xf000L, frame);
+                        notes.add(note(frame * 10 + 1, frameId, "blue", "Use Case " + frame));
+                        notes.add(note(frame * 10 + 2, frameId, "green", "String name"));
+                    }
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(4L));
+                    when(stickyNoteRepositoryPort.findByBoardId(BOARD_ID)).thenReturn(notes);
+                })
+                .When("the board is analysed twice with a recording listener", env -> {
+                    List<Integer> computed = Collections.synchronizedList(new ArrayList<>());
+                    List<Integer> replayed = new ArrayList<>();
+                    long revision = analysisApplicationService.readRevision(USER_ID, BOARD_ID);
+                    analysisApplicationService.analyse(BOARD_ID, revision, new AnalysisProgressListener() {
+                        @Override
+                        public void frameAnalysed(int frameIndex, GroupDTO group) {
+                            computed.add(frameIndex);
+                        }
+                    });
+                    analysisApplicationService.analyse(BOARD_ID, revision, new AnalysisProgressListener() {
+                        @Override
+                        public void started(int totalFrames) {
+                            replayed.add(-totalFrames);
+                        }
+
+                        @Override
+                        public void frameAnalysed(int frameIndex, GroupDTO group) {
+                            replayed.add(frameIndex);
+                        }
+                    });
+                    env.put("computed", computed);
+                    env.put("replayed", replayed);
+                })
+                .Then("each frame is reported once while computing and the cached result is replayed in frame order", env -> {
+                    @SuppressWarnings("unchecked")
+                    List<Integer> computed = env.get("computed", List.class);
+                    @SuppressWarnings("unchecked")
+                    List<Integer> replayed = env.get("replayed", List.class);
+                    assertEquals(List.of(0, 1, 2, 3, 4, 5), computed.stream().sorted().toList());
+                    assertEquals(List.of(-6, 0, 1, 2, 3, 4, 5), replayed);
+                    verify(stickyNoteRepositoryPort, times(1)).findByBoardId(BOARD_ID);
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void permissionShouldBeCheckedBeforeTheCache() {
+        Feature.New("Analysis Application Service")
+                .newScenario("A non-member cannot read a cached analysis")
+                .Given("an analysis cached by a member", env -> {
+                    when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(3L));
+                    analysisApplicationService.analyse(USER_ID, BOARD_ID);
+                    UUID outsider = UUID.randomUUID();
+                    doThrow(new RuntimeException("User is not a member of this board"))
+                            .when(boardAccessService).requireReadPermission(BOARD_ID, outsider);
+                    env.put("outsider", outsider);
+                })
+                .When("an outsider asks for the same board", env -> { })
+                .Then("the request is rejected without reading the revision again", env -> {
+                    UUID outsider = env.get("outsider", UUID.class);
+                    assertThrows(RuntimeException.class, () -> analysisApplicationService.analyse(outsider, BOARD_ID));
+                    verify(boardRevisionRepositoryPort, times(1)).findRevision(BOARD_ID);
+                    verify(stickyNoteRepositoryPort, times(1)).findByBoardId(BOARD_ID);
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void missingBoardShouldNotBeAnalysed() {
+        Feature.New("Analysis Application Service")
+                .newScenario("Analysing a board that no longer exists fails")
+                .Given("no board row", env ->
+                        when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.empty()))
+                .When("the board is analysed", env -> { })
+                .Then("an error is raised and nothing is loaded", env -> {
+                    assertThrows(RuntimeException.class, () -> analysisApplicationService.analyse(USER_ID, BOARD_ID));
+                    verify(stickyNoteRepositoryPort, never()).findByBoardId(BOARD_ID);
+                })
+                .Execute();
+    }
+
+    private static StickyNote note(int index, UUID frameId, String color, String description) {
+        StickyNote stickyNote = new StickyNote();
+        stickyNote.setId(new UUID(0L, index));
+        stickyNote.setFrameId(frameId);
+        stickyNote.setPos(new Point2D(index * 10.0, 0.0));
+        stickyNote.setGeo(new Point2D(100.0, 100.0));
+        stickyNote.setDescription(description);
+        stickyNote.setColor(color);
+        stickyNote.setTag("sticky-note");
+        return stickyNote;
+    }
+}
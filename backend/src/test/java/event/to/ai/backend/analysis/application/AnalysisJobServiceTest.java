@@ -0,0 +1,187 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.adapter.in.web.dto.AnalysisJobDTO;
+import event.to.ai.backend.analysis.adapter.in.web.dto.AnalysisProgressDTO;
+import event.to.ai.backend.analysis.adapter.in.web.dto.GroupDTO;
+import event.to.ai.backend.analysis.exception.AnalysisJobRejectedException;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.websocket.BoardRealtimeEventType;
+import event.to.ai.backend.websocket.BoardRealtimePublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalysisJobServiceTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000901");
+    private static final UUID OTHER_BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000902");
+
+    private AnalysisApplicationService analysisApplicationService;
+    private BoardRealtimePublisher boardRealtimePublisher;
+    private AnalysisJobService analysisJobService;
+    // 讓分析停在第一個 frame 之後，直到測試放行
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        analysisApplicationService = Mockito.mock(AnalysisApplicationService.class);
+        boardRealtimePublisher = Mockito.mock(BoardRealtimePublisher.class);
+        release = new CountDownLatch(1);
+        when(analysisApplicationService.analyse(eq(BOARD_ID), anyLong(), any())).thenAnswer(invocation -> {
+            AnalysisProgressListener listener = invocation.getArgument(2);
+            List<GroupDTO> groups = List.of(group("frame-1"), group("frame-2"));
+            listener.started(groups.size());
+            listener.frameAnalysed(0, groups.get(0));
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            listener.frameAnalysed(1, groups.get(1));
+            return groups;
+        });
+        analysisJobService = new AnalysisJobService(analysisApplicationService, Mockito.mock(BoardAccessService.class),
+                boardRealtimePublisher, new SimpleMeterRegistry(), 1, 1, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        analysisJobService.shutdown();
+    }
+
+    @EzScenario
+    public void secondSubmissionShouldJoinTheRunningJob() {
+        Feature.New("Analysis Job Service")
+                .newScenario("Submitting the same board revision twice runs the analysis once and streams per-frame progress")
+                .Given("a board at revision 5", env ->
+                        when(analysisApplicationService.readRevision(USER_ID, BOARD_ID)).thenReturn(5L))
+                .When("the board is submitted twice while the first job is running, then the job finishes", env -> {
+                    AnalysisJobDTO first = analysisJobService.submit(USER_ID, BOARD_ID);
+                    AnalysisJobDTO second = analysisJobService.submit(USER_ID, BOARD_ID);
+                    release.countDown();
+                    env.put("first", first);
+                    env.put("second", second);
+                    env.put("finished", awaitFinished(first.getJobId()));
+                })
+                .Then("both submissions share one job whose progress and result reach the board topic", env -> {
+                    AnalysisJobDTO first = env.get("first", AnalysisJobDTO.class);
+                    AnalysisJobDTO finished = env.get("finished", AnalysisJobDTO.class);
+                    assertEquals(first.getJobId(), env.get("second", AnalysisJobDTO.class).getJobId());
+                    verify(analysisApplicationService, times(1)).analyse(eq(BOARD_ID), eq(5L), any());
+                    assertEquals(AnalysisJobDTO.Status.COMPLETED, finished.getStatus());
+                    assertEquals(2, finished.getCompletedFrames());
+                    assertEquals(List.of("frame-1", "frame-2"),
+                            finished.getGroups().stream().map(GroupDTO::getGroupId).toList());
+
+                    ArgumentCaptor<Object> progress = ArgumentCaptor.forClass(Object.class);
+                    verify(boardRealtimePublisher, times(2)).publish(
+                            eq(BoardRealtimeEventType.ANALYSIS_PROGRESS), isNull(), eq(BOARD_ID), progress.capture());
+                    AnalysisProgressDTO last = (AnalysisProgressDTO) progress.getAllValues().get(1);
+                    assertEquals(1, last.getFrameIndex());
+                    assertEquals(2, last.getTotalFrames());
+                    assertEquals("frame-2", last.getGroup().getGroupId());
+                    verify(boardRealtimePublisher, Mockito.timeout(5000)).publish(
+                            eq(BoardRealtimeEventType.ANALYSIS_COMPLETED), isNull(), eq(BOARD_ID), any());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void newerRevisionShouldSupersedeTheQueuedJob() {
+        Feature.New("Analysis Job Service")
+                .newScenario("A queued job is moved to the newest revision instead of queueing one job per revision")
+                .Given("one job running at revision 1 and one queued at revision 2", env -> {
+                    when(analysisApplicationService.readRevision(USER_ID, BOARD_ID)).thenReturn(1L);
+                    env.put("running", analysisJobService.submit(USER_ID, BOARD_ID));
+                    verify(analysisApplicationService, Mockito.timeout(5000)).analyse(eq(BOARD_ID), eq(1L), any());
+                    when(analysisApplicationService.readRevision(USER_ID, BOARD_ID)).thenReturn(2L);
+                    env.put("queued", analysisJobService.submit(USER_ID, BOARD_ID));
+                })
+                .When("the board moves to revision 3 and is submitted again", env -> {
+                    when(analysisApplicationService.readRevision(USER_ID, BOARD_ID)).thenReturn(3L);
+                    env.put("latest", analysisJobService.submit(USER_ID, BOARD_ID));
+                    release.countDown();
+                })
+                .Then("the queued job analyses revision 3 and revision 2 is never analysed", env -> {
+                    AnalysisJobDTO queued = env.get("queued", AnalysisJobDTO.class);
+                    AnalysisJobDTO latest = env.get("latest", AnalysisJobDTO.class);
+                    assertEquals(queued.getJobId(), latest.getJobId());
+                    assertEquals(3L, latest.getRevision());
+
+                    AnalysisJobDTO finished = awaitFinished(queued.getJobId());
+                    assertEquals(AnalysisJobDTO.Status.COMPLETED, finished.getStatus());
+                    assertEquals(3L, finished.getRevision());
+                    assertEquals(AnalysisJobDTO.Status.COMPLETED,
+                            awaitFinished(env.get("running", AnalysisJobDTO.class).getJobId()).getStatus());
+                    verify(analysisApplicationService, times(1)).analyse(eq(BOARD_ID), eq(1L), any());
+                    verify(analysisApplicationService, times(1)).analyse(eq(BOARD_ID), eq(3L), any());
+                    verify(analysisApplicationService, never()).analyse(eq(BOARD_ID), eq(2L), any());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void submissionsBeyondTheQueueShouldBeRejected() {
+        Feature.New("Analysis Job Service")
+                .newScenario("With one worker and one queue slot, a second board waiting for a worker is rejected")
+                .Given("one job running at revision 1 and one queued at revision 2 on the same board", env -> {
+                    when(analysisApplicationService.readRevision(USER_ID, BOARD_ID)).thenReturn(1L);
+                    analysisJobService.submit(USER_ID, BOARD_ID);
+                    verify(analysisApplicationService, Mockito.timeout(5000)).analyse(eq(BOARD_ID), eq(1L), any());
+                    when(analysisApplicationService.readRevision(USER_ID, BOARD_ID)).thenReturn(2L);
+                    analysisJobService.submit(USER_ID, BOARD_ID);
+                })
+                .When("another board is submitted", env ->
+                        when(analysisApplicationService.readRevision(USER_ID, OTHER_BOARD_ID)).thenReturn(7L))
+                .Then("the submission is rejected but a new one is accepted once the queue drains", env -> {
+                    assertThrows(AnalysisJobRejectedException.class, () -> analysisJobService.submit(USER_ID, OTHER_BOARD_ID));
+                    release.countDown();
+                    verify(analysisApplicationService, Mockito.timeout(5000)).analyse(eq(BOARD_ID), eq(2L), any());
+                    AnalysisJobDTO accepted = analysisJobService.submit(USER_ID, OTHER_BOARD_ID);
+                    assertEquals(7L, accepted.getRevision());
+                    assertEquals(AnalysisJobDTO.Status.COMPLETED, awaitFinished(accepted.getJobId()).getStatus());
+                })
+                .Execute();
+    }
+
+    private AnalysisJobDTO awaitFinished(UUID jobId) {
+        for (int attempt = 0; attempt < 500; attempt++) {
+            AnalysisJobDTO job = analysisJobService.getJob(USER_ID, jobId);
+            if (job.getStatus() == AnalysisJobDTO.Status.COMPLETED || job.getStatus() == AnalysisJobDTO.Status.FAILED) {
+                return job;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+        throw new AssertionError("Analysis job did not finish: " + jobId);
+    }
+
+    private static GroupDTO group(String groupId) {
+        GroupDTO group = new GroupDTO();
+        group.setGroupId(groupId);
+        return group;
+    }
+}
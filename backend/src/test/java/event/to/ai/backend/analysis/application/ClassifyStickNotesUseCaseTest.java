@@ -0,0 +1,132 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.Group;
+import event.to.ai.backend.analysis.domain.StickyNote;
+import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
+import event.to.ai.backend.analysis.domain.valueobject.Attribute;
+import event.to.ai.backend.analysis.domain.valueobject.DomainEvent;
+import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 以隨機產生的 frame 比對改寫後的分類器與改寫前 (LegacyClassifyStickNotesUseCase) 的結果
+class ClassifyStickNotesUseCaseTest {
+
+    private static final String FRAME_ID = "frame-1";
+    private static final List<String> COLORS = List.of("blue", "green", "light_yellow", "yellow", "gray", "orange",
+            "light_blue", "violet", "light_green", "dark_green", "pink", "red");
+
+    @Test
+    void bucketedClassifierShouldMatchTheLegacyClassifier() {
+        Random random = new Random(20240518L);
+        Map<String, Point2D> frameSizes = Map.of(FRAME_ID, new Point2D.Double(1200.0, 800.0));
+        for (int round = 0; round < 500; round++) {
+            List<StickyNote> notes = randomFrame(random, 3 + random.nextInt(60));
+
+            Group expected = new LegacyClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+            Group actual = new ClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+
+            assertEquals(describe(expected), describe(actual), "round " + round);
+        }
+    }
+
+    // 事件配對改用 Y 排序索引後，對大量且幾何條件刁鑽的事件 / reactor / policy / attribute 仍須與逐一比對的結果一致
+    @Test
+    void spatialIndexShouldMatchTheLegacyEventMatchingOnDenseStorms() {
+        Random random = new Random(7L);
+        Map<String, Point2D> frameSizes = Map.of(FRAME_ID, new Point2D.Double(4000.0, 3000.0));
+        for (int round = 0; round < 300; round++) {
+            List<StickyNote> notes = randomStorm(random, 3 + random.nextInt(400));
+
+            Group expected = new LegacyClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+            Group actual = new ClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+
+            assertEquals(describe(expected), describe(actual), "round " + round);
+        }
+    }
+
+    static List<StickyNote> randomFrame(Random random, int size) {
+        List<StickyNote> notes = new ArrayList<>(size);
+        // 每個 frame 至少要有 use case、input 與 aggregate name，否則兩個版本都會拋出例外
+        notes.add(note(random, 0, "blue"));
+        notes.add(note(random, 1, "green"));
+        notes.add(note(random, 2, "light_yellow"));
+        for (int i = 3; i < size; i++) {
+            notes.add(note(random, i, COLORS.get(random.nextInt(COLORS.size()))));
+        }
+        Collections.shuffle(notes, random);
+        return notes;
+    }
+
+    // 以事件相關顏色為主，座標含小數與大位移，尺寸含 0、負數與極小值，檢查索引的邊界條件
+    static List<StickyNote> randomStorm(Random random, int size) {
+        List<StickyNote> notes = new ArrayList<>(randomFrame(random, 3));
+        List<String> eventColors = List.of("orange", "light_blue", "violet", "light_green");
+        double[] extents = {0.0, -50.0, 1e-6, 40.0, 100.0, 150.0, 333.3};
+        for (int i = 3; i < size; i++) {
+            StickyNote note = note(random, i, eventColors.get(random.nextInt(eventColors.size())));
+            double offset = random.nextInt(20) == 0 ? 1e9 : 0.0;
+            note.setPos(new Point2D.Double(random.nextDouble() * 3000.0, offset + random.nextDouble() * 2000.0));
+            note.setGeo(new Point2D.Double(extents[random.nextInt(extents.length)], extents[random.nextInt(extents.length)]));
+            notes.add(note);
+        }
+        Collections.shuffle(notes, random);
+        return notes;
+    }
+
+    private static StickyNote note(Random random, int index, String color) {
+        String description = switch (color) {
+            case "green" -> "TypeA var" + index + ",\nTypeB other" + index;
+            case "light_green" -> "String name" + index + ": not null,\nint count" + index;
+            case "dark_green" -> "Aggregate" + index + "{ String id: unique, int size: positive }";
+            default -> color + " note " + index + (random.nextBoolean() ? "\nsecond line" : "");
+        };
+        // 位置集中在小範圍內，事件與 reactor / policy / attribute 的距離判斷才會同時出現成立與不成立
+        Point2D pos = new Point2D.Double(random.nextInt(8) * 100.0, random.nextInt(6) * 100.0);
+        Point2D geo = new Point2D.Double(100.0 + random.nextInt(3) * 50.0, 100.0 + random.nextInt(3) * 50.0);
+        return new StickyNote("note-" + index, description, pos, geo, color, "sticky-note", FRAME_ID);
+    }
+
+    static String describe(Group group) {
+        return String.join("\n",
+                group.getGroupId(),
+                group.getUseCaseName(),
+                String.valueOf(group.getUseCasePos()),
+                String.valueOf(group.getEventStormingGeo()),
+                group.getInput().stream().map(ClassifyStickNotesUseCaseTest::describe).collect(Collectors.joining(";")),
+                group.getAggregateName(),
+                String.valueOf(group.getActor()),
+                String.valueOf(group.getComment()),
+                group.getPublishEvents().stream().map(ClassifyStickNotesUseCaseTest::describe).collect(Collectors.joining(";")),
+                group.getAggregateWithAttributes().stream().map(ClassifyStickNotesUseCaseTest::describe).collect(Collectors.joining(";")),
+                group.getMethod());
+    }
+
+    private static String describe(UsecaseInput input) {
+        return input.getType() + " " + input.getName();
+    }
+
+    private static String describe(DomainEvent event) {
+        return event.getEventName() + "|" + event.getReactor() + "|" + event.getPolicy() + "|"
+                + event.getAttributes().stream().map(ClassifyStickNotesUseCaseTest::describe).collect(Collectors.joining(","));
+    }
+
+    private static String describe(AggregateWithAttribute aggregate) {
+        return aggregate.getAggregateName() + "{"
+                + aggregate.getAttributes().stream().map(ClassifyStickNotesUseCaseTest::describe).collect(Collectors.joining(","))
+                + "}";
+    }
+
+    private static String describe(Attribute attribute) {
+        return attribute.getType() + " " + attribute.getName() + ":" + attribute.getConstraint();
+    }
+}
@@ -0,0 +1,108 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.StickyNote;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 以隨機產生的便利貼比對格子 + union-find 版本與改寫前遞迴 DFS (LegacyClusterStickyNotesUseCase) 的分群結果
+class ClusterStickyNotesUseCaseTest {
+
+    @Test
+    void gridClusteringShouldMatchTheLegacyDfs() {
+        Random random = new Random(20240601L);
+        for (int round = 0; round < 300; round++) {
+            List<StickyNote> notes = randomBoard(random, 1 + random.nextInt(600));
+
+            LegacyClusterStickyNotesUseCase legacy = new LegacyClusterStickyNotesUseCase();
+            legacy.cluster(notes);
+            ClusterStickyNotesUseCase grid = new ClusterStickyNotesUseCase();
+            grid.cluster(notes);
+
+            assertEquals(legacy.getGroupAmount(), grid.getGroupAmount(), "round " + round);
+            assertEquals(describe(legacy.getAllGroup()), describe(grid.getAllGroup()), "round " + round);
+        }
+    }
+
+    // 尺寸含 0、負數、NaN 與無限大，座標含極大值，走逐一比對的便利貼也要與 DFS 一致
+    @Test
+    void degenerateNotesShouldMatchTheLegacyDfs() {
+        Random random = new Random(11L);
+        double[] extents = {0.0, -80.0, 1e-9, 60.0, 120.0, 5000.0, Double.NaN, Double.POSITIVE_INFINITY};
+        double[] offsets = {0.0, 0.0, 0.0, 1e17, Double.NaN, Double.NEGATIVE_INFINITY};
+        for (int round = 0; round < 200; round++) {
+            List<StickyNote> notes = randomBoard(random, 1 + random.nextInt(200));
+            for (StickyNote note : notes) {
+                if (random.nextInt(4) == 0) {
+                    note.setGeo(new Point2D.Double(extents[random.nextInt(extents.length)], extents[random.nextInt(extents.length)]));
+                }
+                if (random.nextInt(10) == 0) {
+                    note.setPos(new Point2D.Double(note.getPos().getX() + offsets[random.nextInt(offsets.length)], note.getPos().getY()));
+                }
+            }
+
+            LegacyClusterStickyNotesUseCase legacy = new LegacyClusterStickyNotesUseCase();
+            legacy.cluster(notes);
+            ClusterStickyNotesUseCase grid = new ClusterStickyNotesUseCase();
+            grid.cluster(notes);
+
+            assertEquals(describe(legacy.getAllGroup()), describe(grid.getAllGroup()), "round " + round);
+        }
+    }
+
+    // 遞迴 DFS 在一條很長的便利貼鏈上會 StackOverflowError，union-find 不受群組大小影響
+    @Test
+    void longChainShouldFormASingleGroupWithoutRecursion() {
+        List<StickyNote> notes = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            notes.add(note(i, i * 100.0, (i % 2) * 50.0, 100.0));
+        }
+
+        ClusterStickyNotesUseCase grid = new ClusterStickyNotesUseCase();
+        grid.cluster(notes);
+
+        assertEquals(1, grid.getGroupAmount());
+        assertEquals(notes, grid.getGroupByGroupIdx(0));
+    }
+
+    // 便利貼集中成數個小堆，堆內距離多半在閾值附近，尺寸不一，產生大小不同的群組
+    static List<StickyNote> randomBoard(Random random, int size) {
+        int piles = 1 + size / 20;
+        double[][] centers = new double[piles][];
+        for (int i = 0; i < piles; i++) {
+            centers[i] = new double[]{random.nextDouble() * 20_000.0, random.nextDouble() * 20_000.0};
+        }
+        List<StickyNote> notes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double[] center = centers[random.nextInt(piles)];
+            double x = center[0] + random.nextGaussian() * 300.0;
+            double y = center[1] + random.nextGaussian() * 300.0;
+            // 一部分便利貼對齊 50 的倍數，讓距離剛好等於閾值的情況也會出現
+            if (random.nextBoolean()) {
+                x = Math.rint(x / 50.0) * 50.0;
+                y = Math.rint(y / 50.0) * 50.0;
+            }
+            notes.add(note(i, x, y, 40.0 + random.nextInt(5) * 40.0));
+        }
+        return notes;
+    }
+
+    private static StickyNote note(int index, double x, double y, double extent) {
+        return new StickyNote("note-" + index, "note " + index, new Point2D.Double(x, y),
+                new Point2D.Double(extent, extent), "yellow", "sticky-note", "frame-1");
+    }
+
+    // DFS 的群內順序是走訪順序，union-find 則是輸入順序，因此群內以集合比較，群組之間比較順序
+    private static List<Set<String>> describe(List<List<StickyNote>> groups) {
+        return groups.stream()
+                .map(group -> group.stream().map(StickyNote::getId).collect(Collectors.toSet()))
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package event.to.ai.backend.analysis.application;
+
+import event.to.ai.backend.analysis.domain.Group;
+import event.to.ai.backend.analysis.domain.StickyNote;
+import event.to.ai.backend.analysis.domain.valueobject.AggregateWithAttribute;
+import event.to.ai.backend.analysis.domain.valueobject.Attribute;
+import event.to.ai.backend.analysis.domain.valueobject.NoteSyntaxDiagnostic;
+import event.to.ai.backend.analysis.domain.valueobject.UsecaseInput;
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NoteSyntaxParserTest {
+
+    private static final String FRAME_ID = "frame-1";
+    private static final List<String> FRAGMENTS = List.of("String", "int", "name", "a", "List<T>", " ", "  ", "\t", "\r",
+            "\n", ",", ", ", ",\n", ":", "::", "{", "}", "<br />", "<!-- -->", "<br ", "/>", "<!--", " -->",
+            "\u00A0", "\u2028", "\u2029", "not null", "");
+
+    @Test
+    void malformedLinesShouldBeReportedWithNoteIdAndOffset() {
+        List<NoteSyntaxDiagnostic> diagnostics = new ArrayList<>();
+
+        List<UsecaseInput> inputs = NoteSyntaxParser.parseInputs(note("input-1", "String name,\nbroken\nint count"), diagnostics);
+        AggregateWithAttribute aggregate = NoteSyntaxParser.parseAggregate(note("aggregate-1", "Order{ String id: unique, size }"), diagnostics);
+        AggregateWithAttribute missingBrace = NoteSyntaxParser.parseAggregate(note("aggregate-2", "Order String id: unique"), diagnostics);
+
+        assertEquals(List.of("String name", "int count"), inputs.stream().map(input -> input.getType() + " " + input.getName()).toList());
+        assertEquals(List.of("String id:unique"), aggregate.getAttributes().stream().map(NoteSyntaxParserTest::describe).toList());
+        assertNull(missingBrace);
+        assertEquals(3, diagnostics.size());
+        assertEquals("input-1", diagnostics.get(0).getNoteId());
+        assertEquals(13, diagnostics.get(0).getOffset());
+        assertEquals("aggregate-1", diagnostics.get(1).getNoteId());
+        assertEquals(26, diagnostics.get(1).getOffset());
+        assertEquals("aggregate-2", diagnostics.get(2).getNoteId());
+    }
+
+    @Test
+    void attributeTypesShouldKeepEveryWordBeforeTheName() {
+        List<NoteSyntaxDiagnostic> diagnostics = new ArrayList<>();
+
+        List<Attribute> attributes = NoteSyntaxParser.parseAttributes(
+                note("attribute-1", "Map<String,  Integer> counts: not null,\nint\ttotal"), diagnostics);
+
+        assertEquals(List.of("Map<String, Integer> counts:not null", "int total:"),
+                attributes.stream().map(NoteSyntaxParserTest::describe).toList());
+        assertTrue(diagnostics.isEmpty());
+    }
+
+    // 隨機組合語法片段 (含 HTML 標記、Unicode 分行、多餘的冒號與逗號) 寫進 input / attribute / aggregate 便利貼
+    // 改寫前的版本能解析時結果必須相同且沒有 diagnostic；改寫前會拋出例外時，新的版本不拋例外並回報 diagnostic
+    @Test
+    void fuzzedNotesShouldMatchTheLegacyParserOrReportDiagnostics() {
+        Random random = new Random(20240622L);
+        Map<String, Point2D> frameSizes = Map.of(FRAME_ID, new Point2D.Double(1200.0, 800.0));
+        int legacyFailures = 0;
+        for (int round = 0; round < 20_000; round++) {
+            String input = random.nextInt(3) == 0 ? "String name,\nint count" : fuzz(random);
+            String attribute = random.nextInt(3) == 0 ? "String name: not null,\nint count" : fuzz(random);
+            String aggregate = random.nextBoolean() ? "Order{" + fuzz(random) + "}" : fuzz(random);
+            List<StickyNote> notes = List.of(
+                    frameNote("use-case", "Place Order", "blue", 0.0),
+                    frameNote("input", input, "green", 200.0),
+                    frameNote("aggregate-name", "Order", "light_yellow", 400.0),
+                    frameNote("aggregate", aggregate, "dark_green", 600.0),
+                    frameNote("event", "Order Placed", "orange", 800.0),
+                    frameNote("attribute", attribute, "light_green", 800.0));
+
+            Group expected;
+            try {
+                expected = new LegacyClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+            } catch (RuntimeException e) {
+                expected = null;
+            }
+            Group actual = new ClassifyStickNotesUseCase().classifyFrame(notes, frameSizes);
+
+            String context = "round " + round + ": " + List.of(input, attribute, aggregate);
+            if (expected != null) {
+                assertEquals(ClassifyStickNotesUseCaseTest.describe(expected), ClassifyStickNotesUseCaseTest.describe(actual), context);
+                assertTrue(actual.getDiagnostics().isEmpty(), context);
+            } else {
+                legacyFailures++;
+                assertFalse(actual.getDiagnostics().isEmpty(), context);
+            }
+        }
+        // 兩種情況都要被充分測到
+        assertTrue(legacyFailures > 1_000 && legacyFailures < 19_000, "legacy failures: " + legacyFailures);
+    }
+
+    private static String fuzz(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int fragments = random.nextInt(12);
+        for (int i = 0; i < fragments; i++) {
+            builder.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+        }
+        return builder.toString();
+    }
+
+    private static StickyNote note(String id, String description) {
+        return new StickyNote(id, description, new Point2D.Double(), new Point2D.Double(100.0, 100.0),
+                "green", "sticky-note", FRAME_ID);
+    }
+
+    private static StickyNote frameNote(String id, String description, String color, double x) {
+        return new StickyNote(id, description, new Point2D.Double(x, 0.0), new Point2D.Double(100.0, 100.0),
+                color, "sticky-note", FRAME_ID);
+    }
+
+    private static String describe(Attribute attribute) {
+        return attribute.getType() + " " + attribute.getName() + ":" + attribute.getConstraint();
+    }
+}
@@ -0,0 +1,65 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.ElementUpdatedDTO;
+import event.to.ai.backend.board.application.port.out.BoardElementMoveRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnchoredConnectorServiceTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000801");
+    private static final UUID ELEMENT_ID = UUID.fromString("00000000-0000-0000-0000-000000000802");
+    private static final UUID CONNECTOR_ID = UUID.fromString("00000000-0000-0000-0000-000000000803");
+
+    private final BoardElementMoveRepositoryPort boardElementMoveRepositoryPort = Mockito.mock(BoardElementMoveRepositoryPort.class);
+    private final AnchoredConnectorService service = new AnchoredConnectorService(boardElementMoveRepositoryPort);
+
+    @Test
+    void unchangedGeometryShouldKeepThePlainPayload() {
+        Map<String, Object> dto = Map.of("id", ELEMENT_ID);
+
+        assertSame(dto, service.updatedPayload(BOARD_ID, ELEMENT_ID, dto, false));
+        verify(boardElementMoveRepositoryPort, never()).findAnchoredConnectorIds(any(), any());
+    }
+
+    @Test
+    void movedElementShouldListAnchoredConnectorsNextToItsFields() {
+        when(boardElementMoveRepositoryPort.findAnchoredConnectorIds(BOARD_ID, List.of(ELEMENT_ID)))
+                .thenReturn(Map.of(ELEMENT_ID, List.of(CONNECTOR_ID)));
+
+        Object payload = service.updatedPayload(BOARD_ID, ELEMENT_ID, new Element(ELEMENT_ID, 12.5), true);
+
+        assertInstanceOf(ElementUpdatedDTO.class, payload);
+        // 前端照舊讀取元件欄位，connectorIds 與這些欄位並列
+        Map<?, ?> json = JsonMapper.builder().build().convertValue(payload, Map.class);
+        assertEquals(ELEMENT_ID.toString(), json.get("id"));
+        assertEquals(12.5, json.get("posX"));
+        assertEquals(List.of(CONNECTOR_ID.toString()), json.get("connectorIds"));
+    }
+
+    @Test
+    void elementWithoutAnchoredConnectorsShouldPublishAnEmptyList() {
+        when(boardElementMoveRepositoryPort.findAnchoredConnectorIds(BOARD_ID, List.of(ELEMENT_ID))).thenReturn(Map.of());
+
+        ElementUpdatedDTO<?> payload = assertInstanceOf(ElementUpdatedDTO.class,
+                service.updatedPayload(BOARD_ID, ELEMENT_ID, new Element(ELEMENT_ID, 0), true));
+
+        assertEquals(List.of(), payload.getConnectorIds());
+    }
+
+    public record Element(UUID id, double posX) {
+    }
+}
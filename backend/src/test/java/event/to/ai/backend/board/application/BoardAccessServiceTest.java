@@ -0,0 +1,109 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardAccessServiceTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000301");
+    private static final UUID OTHER_BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000302");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private BoardAccessService boardAccessService;
+
+    @BeforeEach
+    void setUp() {
+        boardMembershipRepositoryPort = Mockito.mock(BoardMembershipRepositoryPort.class);
+        boardAccessService = new BoardAccessService(boardMembershipRepositoryPort, 60, 100);
+    }
+
+    @Test
+    void repeatedChecksShouldHitTheDatabaseOnce() {
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(BOARD_ID, USER_ID))
+                .thenReturn(Optional.of(BoardMembershipRole.EDITOR));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        boardAccessService.bindTo(registry);
+
+        boardAccessService.requireWritePermission(BOARD_ID, USER_ID);
+        boardAccessService.requireReadPermission(BOARD_ID, USER_ID);
+        assertTrue(boardAccessService.isMember(BOARD_ID, USER_ID));
+
+        verify(boardMembershipRepositoryPort, times(1)).findRoleByBoardIdAndUserId(BOARD_ID, USER_ID);
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", BoardAccessService.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", BoardAccessService.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void viewerShouldNotBeAllowedToWrite() {
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(BOARD_ID, USER_ID))
+                .thenReturn(Optional.of(BoardMembershipRole.VIEWER));
+
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> boardAccessService.requireWritePermission(BOARD_ID, USER_ID));
+
+        assertEquals("Viewers are not allowed to perform write operations", error.getMessage());
+    }
+
+    @Test
+    void memberChangeShouldReloadTheRole() {
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(BOARD_ID, USER_ID))
+                .thenReturn(Optional.of(BoardMembershipRole.VIEWER))
+                .thenReturn(Optional.of(BoardMembershipRole.EDITOR));
+        assertEquals(BoardMembershipRole.VIEWER, boardAccessService.getMemberRole(BOARD_ID, USER_ID));
+
+        boardAccessService.onMembershipChanged(BoardMembershipChangedEvent.member(BOARD_ID, USER_ID));
+
+        assertEquals(BoardMembershipRole.EDITOR, boardAccessService.getMemberRole(BOARD_ID, USER_ID));
+    }
+
+    @Test
+    void wholeBoardChangeShouldOnlyEvictThatBoard() {
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(BOARD_ID, USER_ID))
+                .thenReturn(Optional.of(BoardMembershipRole.OWNER))
+                .thenReturn(Optional.empty());
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(OTHER_BOARD_ID, USER_ID))
+                .thenReturn(Optional.of(BoardMembershipRole.EDITOR));
+        assertTrue(boardAccessService.isMember(BOARD_ID, USER_ID));
+        assertTrue(boardAccessService.isMember(OTHER_BOARD_ID, USER_ID));
+
+        boardAccessService.onMembershipChanged(BoardMembershipChangedEvent.wholeBoard(BOARD_ID));
+
+        assertFalse(boardAccessService.isMember(BOARD_ID, USER_ID));
+        assertTrue(boardAccessService.isMember(OTHER_BOARD_ID, USER_ID));
+        verify(boardMembershipRepositoryPort, times(1)).findRoleByBoardIdAndUserId(OTHER_BOARD_ID, USER_ID);
+    }
+
+    @Test
+    void loadRacingAWholeBoardChangeShouldNotBeCached() {
+        // 載入讀到舊角色的同時，整張 Board 的異動提交並清除快取
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(BOARD_ID, USER_ID))
+                .thenAnswer(invocation -> {
+                    boardAccessService.onMembershipChanged(BoardMembershipChangedEvent.wholeBoard(BOARD_ID));
+                    return Optional.of(BoardMembershipRole.OWNER);
+                })
+                .thenReturn(Optional.empty());
+
+        assertTrue(boardAccessService.isMember(BOARD_ID, USER_ID));
+
+        assertFalse(boardAccessService.isMember(BOARD_ID, USER_ID));
+        verify(boardMembershipRepositoryPort, times(2)).findRoleByBoardIdAndUserId(BOARD_ID, USER_ID);
+    }
+}
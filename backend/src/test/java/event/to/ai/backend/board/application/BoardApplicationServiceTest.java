@@ -6,7 +6,6 @@ import event.to.ai.backend.board.adapter.in.web.dto.UpdateBoardRequest;
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
 import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
 import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
 import event.to.ai.backend.board.application.port.out.BoardRepositoryPort;
 import event.to.ai.backend.board.application.port.out.UserRepositoryPort;
@@ -15,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import tw.teddysoft.ezspec.extension.junit5.EzScenario;
 import tw.teddysoft.ezspec.keyword.Feature;
 
@@ -41,11 +41,14 @@ class BoardApplicationServiceTest {
     private BoardMembershipRepositoryPort boardMembershipRepositoryPort;
 
     @Mock
-    private BoardContentRepositoryPort boardContentRepositoryPort;
+    private BoardPurgeService boardPurgeService;
 
     @Mock
     private UserRepositoryPort userRepositoryPort;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BoardApplicationService boardApplicationService;
 
@@ -239,17 +242,16 @@ class BoardApplicationServiceTest {
                 })
                 .And("delete should not be called", env -> {
                     UUID boardId = env.get("boardId", UUID.class);
-                    verify(boardContentRepositoryPort, never()).deleteAllByBoardId(boardId);
-                    verify(boardRepositoryPort, never()).deleteById(boardId);
+                    verify(boardPurgeService, never()).purgeBoard(boardId);
                     verify(boardMembershipRepositoryPort, never()).deleteAllByBoardId(boardId);
                 })
                 .Execute();
     }
 
     @EzScenario
-    public void deleteBoardShouldDeleteContentBeforeMembershipsAndBoard() {
+    public void deleteBoardShouldRemoveMembershipsBeforePurgingContent() {
         Feature.New("Board Application Service")
-                .newScenario("Delete board removes board content before memberships and board row")
+                .newScenario("Delete board removes memberships before purging content and board row")
                 .Given("an existing owned board", env -> {
                     UUID actorUserId = UUID.fromString("00000000-0000-0000-0000-000000000001");
                     UUID boardId = UUID.randomUUID();
@@ -267,12 +269,18 @@ class BoardApplicationServiceTest {
                     UUID boardId = env.get("boardId", UUID.class);
                     boardApplicationService.deleteBoard(actorUserId, boardId);
                 })
-                .Then("content, memberships, and board should be deleted in order", env -> {
+                .Then("memberships should be deleted before the board is purged", env -> {
                     UUID boardId = env.get("boardId", UUID.class);
-                    var inOrder = inOrder(boardContentRepositoryPort, boardMembershipRepositoryPort, boardRepositoryPort);
-                    inOrder.verify(boardContentRepositoryPort).deleteAllByBoardId(boardId);
+                    var inOrder = inOrder(boardMembershipRepositoryPort, boardPurgeService);
                     inOrder.verify(boardMembershipRepositoryPort).deleteAllByBoardId(boardId);
-                    inOrder.verify(boardRepositoryPort).deleteById(boardId);
+                    inOrder.verify(boardPurgeService).purgeBoard(boardId);
+                })
+                .And("cached access for the whole board should be invalidated", env -> {
+                    UUID boardId = env.get("boardId", UUID.class);
+                    verify(eventPublisher).publishEvent(argThat((Object event) ->
+                            event instanceof BoardMembershipChangedEvent changed
+                                    && changed.isWholeBoard()
+                                    && changed.getBoardId().equals(boardId)));
                 })
                 .Execute();
     }
@@ -0,0 +1,177 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.ElementMoveRequest;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementMovedDTO;
+import event.to.ai.backend.board.application.port.out.BoardElementMoveRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.board.domain.ElementMove;
+import event.to.ai.backend.websocket.BoardRealtimeEventType;
+import event.to.ai.backend.websocket.BoardRealtimePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BoardMoveCoalescerTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000301");
+    private static final UUID OTHER_BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000302");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID NOTE_ID = UUID.fromString("00000000-0000-0000-0000-000000000401");
+    private static final UUID FRAME_ID = UUID.fromString("00000000-0000-0000-0000-000000000402");
+
+    private BoardElementMoveRepositoryPort moveRepositoryPort;
+    private BoardRevisionService boardRevisionService;
+    private BoardRealtimePublisher boardRealtimePublisher;
+    private SimpleTransactionStatus transactionStatus;
+    private BoardMoveCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        moveRepositoryPort = Mockito.mock(BoardElementMoveRepositoryPort.class);
+        boardRevisionService = Mockito.mock(BoardRevisionService.class);
+        boardRealtimePublisher = Mockito.mock(BoardRealtimePublisher.class);
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        transactionStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        coalescer = new BoardMoveCoalescer(Mockito.mock(BoardAccessService.class), moveRepositoryPort,
+                boardRevisionService, boardRealtimePublisher, transactionManager, 100);
+        when(moveRepositoryPort.applyMoves(any(), any(), anyLong(), anyList()))
+                .thenAnswer(invocation -> {
+                    List<?> moves = invocation.getArgument(3);
+                    boolean[] applied = new boolean[moves.size()];
+                    Arrays.fill(applied, true);
+                    return applied;
+                });
+    }
+
+    @Test
+    void burstOfMovesShouldBeWrittenOnceWithTheLatestPosition() {
+        when(boardRevisionService.nextRevision(BOARD_ID)).thenReturn(7L);
+        for (int i = 1; i <= 50; i++) {
+            coalescer.submit(USER_ID, BOARD_ID, List.of(
+                    new ElementMoveRequest(BoardElementType.STICKY_NOTE, NOTE_ID, (double) i, (double) i, null, null)));
+        }
+
+        coalescer.flush();
+
+        verify(boardRevisionService, times(1)).nextRevision(BOARD_ID);
+        verify(moveRepositoryPort, times(1)).applyMoves(BOARD_ID, BoardElementType.STICKY_NOTE, 7L,
+                List.of(new ElementMove(BoardElementType.STICKY_NOTE, NOTE_ID, 50.0, 50.0, null, null)));
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(boardRealtimePublisher).publish(eq(BoardRealtimeEventType.STICKY_NOTE_MOVED), eq(USER_ID), eq(BOARD_ID), payload.capture());
+        List<?> moved = (List<?>) ((Map<?, ?>) payload.getValue()).get("moves");
+        assertEquals(1, moved.size());
+        assertEquals(7L, ((ElementMovedDTO) moved.getFirst()).getRevision());
+    }
+
+    @Test
+    void positionOnlyMoveShouldKeepThePendingResize() {
+        when(boardRevisionService.nextRevision(BOARD_ID)).thenReturn(1L);
+        coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.FRAME, FRAME_ID, 0.0, 0.0, 800.0, 600.0)));
+        coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.FRAME, FRAME_ID, 10.0, 20.0, null, null)));
+
+        coalescer.flush();
+
+        verify(moveRepositoryPort).applyMoves(BOARD_ID, BoardElementType.FRAME, 1L,
+                List.of(new ElementMove(BoardElementType.FRAME, FRAME_ID, 10.0, 20.0, 800.0, 600.0)));
+    }
+
+    @Test
+    void eachBoardShouldGetOneRevisionPerTick() {
+        when(boardRevisionService.nextRevision(any())).thenReturn(3L);
+        coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.STICKY_NOTE, NOTE_ID, 1.0, 1.0, null, null),
+                new ElementMoveRequest(BoardElementType.FRAME, FRAME_ID, 2.0, 2.0, null, null)));
+        coalescer.submit(USER_ID, OTHER_BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.TEXT_BOX, UUID.randomUUID(), 3.0, 3.0, null, null)));
+
+        coalescer.flush();
+        coalescer.flush();
+
+        verify(boardRevisionService, times(1)).nextRevision(BOARD_ID);
+        verify(boardRevisionService, times(1)).nextRevision(OTHER_BOARD_ID);
+        verify(boardRealtimePublisher, times(3)).publish(any(), eq(USER_ID), any(), any());
+    }
+
+    @Test
+    void sameElementIdOnAnotherBoardShouldNotReplaceThePendingMove() {
+        when(boardRevisionService.nextRevision(any())).thenReturn(4L);
+        coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.STICKY_NOTE, NOTE_ID, 1.0, 1.0, null, null)));
+        coalescer.submit(USER_ID, OTHER_BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.STICKY_NOTE, NOTE_ID, 9.0, 9.0, null, null)));
+
+        coalescer.flush();
+
+        verify(moveRepositoryPort).applyMoves(BOARD_ID, BoardElementType.STICKY_NOTE, 4L,
+                List.of(new ElementMove(BoardElementType.STICKY_NOTE, NOTE_ID, 1.0, 1.0, null, null)));
+        verify(moveRepositoryPort).applyMoves(OTHER_BOARD_ID, BoardElementType.STICKY_NOTE, 4L,
+                List.of(new ElementMove(BoardElementType.STICKY_NOTE, NOTE_ID, 9.0, 9.0, null, null)));
+    }
+
+    @Test
+    void tickWithoutUpdatedRowsShouldRollBackTheRevision() {
+        when(boardRevisionService.nextRevision(BOARD_ID)).thenReturn(5L);
+        when(moveRepositoryPort.applyMoves(any(), any(), anyLong(), anyList())).thenReturn(new boolean[]{false});
+        coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.STICKY_NOTE, NOTE_ID, 1.0, 1.0, null, null)));
+
+        coalescer.flush();
+
+        assertTrue(transactionStatus.isRollbackOnly());
+        verify(moveRepositoryPort, never()).findAnchoredConnectorIds(any(), any());
+        verifyNoInteractions(boardRealtimePublisher);
+    }
+
+    @Test
+    void movedEventShouldListTheConnectorsAnchoredToTheMovedElements() {
+        UUID connectorId = UUID.fromString("00000000-0000-0000-0000-000000000501");
+        when(boardRevisionService.nextRevision(BOARD_ID)).thenReturn(2L);
+        when(moveRepositoryPort.findAnchoredConnectorIds(BOARD_ID, List.of(NOTE_ID)))
+                .thenReturn(Map.of(NOTE_ID, List.of(connectorId)));
+        coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.STICKY_NOTE, NOTE_ID, 5.0, 5.0, null, null)));
+
+        coalescer.flush();
+
+        assertFalse(transactionStatus.isRollbackOnly());
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(boardRealtimePublisher).publish(eq(BoardRealtimeEventType.STICKY_NOTE_MOVED), eq(USER_ID), eq(BOARD_ID), payload.capture());
+        assertEquals(List.of(connectorId), ((Map<?, ?>) payload.getValue()).get("connectorIds"));
+    }
+
+    @Test
+    void unsupportedTypeShouldBeRejectedWithoutQueueing() {
+        assertThrows(RuntimeException.class, () -> coalescer.submit(USER_ID, BOARD_ID, List.of(
+                new ElementMoveRequest(BoardElementType.CONNECTOR, UUID.randomUUID(), 1.0, 1.0, null, null))));
+
+        coalescer.flush();
+
+        verify(boardRevisionService, never()).nextRevision(any());
+        verifyNoInteractions(boardRealtimePublisher);
+    }
+}
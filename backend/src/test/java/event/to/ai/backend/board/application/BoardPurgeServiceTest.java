@@ -0,0 +1,129 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardPurgeProgressDTO;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardPurgeServiceTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000801");
+    private static final UUID OWNER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private BoardRepositoryPort boardRepositoryPort;
+    private BoardContentRepositoryPort boardContentRepositoryPort;
+    private BoardPurgeService boardPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        boardRepositoryPort = Mockito.mock(BoardRepositoryPort.class);
+        boardContentRepositoryPort = Mockito.mock(BoardContentRepositoryPort.class);
+        boardPurgeService = new BoardPurgeService(boardRepositoryPort, boardContentRepositoryPort,
+                Mockito.mock(PlatformTransactionManager.class), 100, 40, 60);
+        when(boardRepositoryPort.claimPurge(eq(BOARD_ID), any(), any(), any())).thenReturn(true);
+        when(boardRepositoryPort.renewPurgeLease(eq(BOARD_ID), any(), any())).thenReturn(true);
+    }
+
+    @Test
+    void smallBoardShouldBeDeletedInTheCallersTransaction() {
+        when(boardContentRepositoryPort.countElementsByBoardId(BOARD_ID)).thenReturn(100L);
+
+        boardPurgeService.purgeBoard(BOARD_ID);
+
+        InOrder inOrder = inOrder(boardContentRepositoryPort, boardRepositoryPort);
+        inOrder.verify(boardContentRepositoryPort).deleteAllByBoardId(BOARD_ID);
+        inOrder.verify(boardRepositoryPort).deleteById(BOARD_ID);
+        verify(boardRepositoryPort, never()).markPurging(eq(BOARD_ID), anyLong());
+    }
+
+    @Test
+    void largeBoardShouldOnlyBeMarkedAndThenPurgedInChunks() {
+        when(boardContentRepositoryPort.countElementsByBoardId(BOARD_ID)).thenReturn(101L);
+
+        boardPurgeService.purgeBoard(BOARD_ID);
+
+        verify(boardRepositoryPort).markPurging(BOARD_ID, 101L);
+        verify(boardContentRepositoryPort, never()).deleteAllByBoardId(BOARD_ID);
+        verify(boardRepositoryPort, never()).deleteById(BOARD_ID);
+
+        when(boardRepositoryPort.findPurgingBoardIds()).thenReturn(List.of(BOARD_ID));
+        when(boardContentRepositoryPort.deleteElementChunkByBoardId(BOARD_ID, 40)).thenReturn(40, 40, 21, 0);
+
+        boardPurgeService.purgePendingBoards();
+
+        InOrder inOrder = inOrder(boardContentRepositoryPort, boardRepositoryPort);
+        inOrder.verify(boardContentRepositoryPort, times(4)).deleteElementChunkByBoardId(BOARD_ID, 40);
+        inOrder.verify(boardContentRepositoryPort).deleteAllByBoardId(BOARD_ID);
+        inOrder.verify(boardRepositoryPort).deleteById(BOARD_ID);
+        verify(boardRepositoryPort, times(2)).addPurgedElements(BOARD_ID, 40);
+        verify(boardRepositoryPort).addPurgedElements(BOARD_ID, 21);
+    }
+
+    @Test
+    void boardClaimedByAnotherNodeShouldBeLeftAlone() {
+        when(boardRepositoryPort.findPurgingBoardIds()).thenReturn(List.of(BOARD_ID));
+        when(boardRepositoryPort.claimPurge(eq(BOARD_ID), any(), any(), any())).thenReturn(false);
+
+        boardPurgeService.purgePendingBoards();
+
+        verify(boardContentRepositoryPort, never()).deleteElementChunkByBoardId(eq(BOARD_ID), anyInt());
+        verify(boardRepositoryPort, never()).deleteById(BOARD_ID);
+    }
+
+    @Test
+    void lostLeaseShouldStopThePurgeBeforeTheNextChunk() {
+        when(boardRepositoryPort.findPurgingBoardIds()).thenReturn(List.of(BOARD_ID));
+        when(boardRepositoryPort.renewPurgeLease(eq(BOARD_ID), any(), any())).thenReturn(true, false);
+        when(boardContentRepositoryPort.deleteElementChunkByBoardId(BOARD_ID, 40)).thenReturn(40);
+
+        boardPurgeService.purgePendingBoards();
+
+        verify(boardContentRepositoryPort, times(1)).deleteElementChunkByBoardId(BOARD_ID, 40);
+        verify(boardContentRepositoryPort, never()).deleteAllByBoardId(BOARD_ID);
+        verify(boardRepositoryPort, never()).deleteById(BOARD_ID);
+    }
+
+    @Test
+    void progressShouldOnlyBeVisibleToTheOwnerOfAPurgingBoard() {
+        when(boardContentRepositoryPort.countElementsByBoardId(BOARD_ID)).thenReturn(500L);
+        boardPurgeService.purgeBoard(BOARD_ID);
+        verify(boardRepositoryPort).markPurging(BOARD_ID, 500L);
+        Board board = Mockito.mock(Board.class);
+        when(board.getOwnerId()).thenReturn(OWNER_ID);
+        when(board.isPurging()).thenReturn(true);
+        when(board.getPurgeTotalElements()).thenReturn(500L);
+        when(board.getPurgeDeletedElements()).thenReturn(120L);
+        when(boardRepositoryPort.findById(BOARD_ID)).thenReturn(Optional.of(board));
+
+        BoardPurgeProgressDTO progress = boardPurgeService.getPurgeProgress(OWNER_ID, BOARD_ID);
+
+        assertEquals(500L, progress.getTotalElements());
+        assertEquals(120L, progress.getDeletedElements());
+        assertThrows(RuntimeException.class, () -> boardPurgeService.getPurgeProgress(UUID.randomUUID(), BOARD_ID));
+
+        when(boardRepositoryPort.findById(BOARD_ID)).thenReturn(Optional.empty());
+        assertTrue(boardPurgeService.getPurgeProgress(OWNER_ID, BOARD_ID).isDone());
+    }
+}
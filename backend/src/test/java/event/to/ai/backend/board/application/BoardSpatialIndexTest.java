@@ -0,0 +1,210 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardSpatialIndexTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000901");
+
+    @Test
+    void queryShouldOnlyReturnElementsIntersectingTheViewport() {
+        BoardSpatialIndex index = new BoardSpatialIndex(100, 1);
+        StickyNoteDTO inside = note(10, 10, 50, 50);
+        StickyNoteDTO outside = note(500, 500, 50, 50);
+        StickyNoteDTO touching = note(-50, -50, 50, 50);
+        index.put(inside);
+        index.put(outside);
+        index.put(touching);
+
+        assertEquals(Set.of(inside.getId(), touching.getId()), ids(index.query(BOARD_ID, new BoardViewport(0, 0, 100, 100))));
+    }
+
+    @Test
+    void connectorShouldFollowItsTargetWhenTheTargetMovesOrIsRemoved() {
+        BoardSpatialIndex index = new BoardSpatialIndex(100, 1);
+        StickyNoteDTO from = note(0, 0, 50, 50);
+        StickyNoteDTO to = note(1000, 0, 50, 50);
+        index.put(from);
+        index.put(to);
+        ConnectorDTO connector = connector(from.getId(), to.getId(), 2000.0, 2000.0);
+        index.put(connector);
+
+        // 兩端之間的區域也算在 connector 的範圍內
+        BoardViewport middle = new BoardViewport(400, 0, 600, 50);
+        assertEquals(Set.of(connector.getId()), ids(index.query(BOARD_ID, middle)));
+
+        index.put(note(to.getId(), 100, 0, 50, 50));
+        assertEquals(Set.of(), ids(index.query(BOARD_ID, middle)));
+
+        // 目標被刪除後改用 connector 自己記錄的座標
+        index.remove(to.getId());
+        assertEquals(Set.of(connector.getId()), ids(index.query(BOARD_ID, new BoardViewport(1900, 1900, 2100, 2100))));
+    }
+
+    @Test
+    void randomEditsShouldMatchABruteForceScan() {
+        Random random = new Random(42);
+        BoardSpatialIndex index = new BoardSpatialIndex(64, 1);
+        Map<UUID, StickyNoteDTO> notes = new HashMap<>();
+        Map<UUID, FrameDTO> frames = new HashMap<>();
+        Map<UUID, ConnectorDTO> connectors = new HashMap<>();
+
+        for (int step = 0; step < 3000; step++) {
+            int action = random.nextInt(10);
+            if (action < 4 || notes.isEmpty()) {
+                StickyNoteDTO note = note(existingOrNew(random, notes.keySet()), coordinate(random), coordinate(random),
+                        random.nextInt(200), random.nextInt(200));
+                notes.put(note.getId(), note);
+                index.put(note);
+            } else if (action < 5) {
+                // 大型 frame 會放到 unbounded
+                FrameDTO frame = frame(existingOrNew(random, frames.keySet()), coordinate(random), coordinate(random),
+                        random.nextInt(5000), random.nextInt(5000));
+                frames.put(frame.getId(), frame);
+                index.put(frame);
+            } else if (action < 7) {
+                List<UUID> targets = new ArrayList<>(notes.keySet());
+                targets.addAll(frames.keySet());
+                UUID fromTarget = random.nextBoolean() ? targets.get(random.nextInt(targets.size())) : null;
+                UUID toTarget = random.nextBoolean() ? targets.get(random.nextInt(targets.size())) : null;
+                ConnectorDTO connector = connector(fromTarget, toTarget, coordinate(random), coordinate(random));
+                connector.setId(existingOrNew(random, connectors.keySet()));
+                connectors.put(connector.getId(), connector);
+                index.put(connector);
+            } else {
+                List<UUID> ids = new ArrayList<>(notes.keySet());
+                ids.addAll(frames.keySet());
+                ids.addAll(connectors.keySet());
+                UUID id = ids.get(random.nextInt(ids.size()));
+                notes.remove(id);
+                frames.remove(id);
+                connectors.remove(id);
+                index.remove(id);
+            }
+
+            if (step % 10 == 0) {
+                double x = coordinate(random);
+                double y = coordinate(random);
+                BoardViewport viewport = new BoardViewport(x, y, x + random.nextInt(3000), y + random.nextInt(3000));
+                assertEquals(bruteForce(notes, frames, connectors, viewport), ids(index.query(BOARD_ID, viewport)));
+            }
+        }
+        assertEquals(notes.size() + frames.size() + connectors.size(), index.size());
+    }
+
+    @Test
+    void invalidViewportShouldBeRejected() {
+        assertThrows(RuntimeException.class, () -> new BoardViewport(10, 0, 0, 10));
+        assertThrows(RuntimeException.class, () -> new BoardViewport(0, Double.NaN, 10, 10));
+        assertThrows(RuntimeException.class, () -> new BoardViewport(0, 0, Double.POSITIVE_INFINITY, 10));
+    }
+
+    private static Set<UUID> bruteForce(Map<UUID, StickyNoteDTO> notes, Map<UUID, FrameDTO> frames,
+                                        Map<UUID, ConnectorDTO> connectors, BoardViewport viewport) {
+        Map<UUID, double[]> bounds = new HashMap<>();
+        notes.values().forEach(note -> bounds.put(note.getId(),
+                box(note.getPosX(), note.getPosY(), note.getGeoX(), note.getGeoY())));
+        frames.values().forEach(frame -> bounds.put(frame.getId(),
+                box(frame.getPosX(), frame.getPosY(), frame.getWidth(), frame.getHeight())));
+
+        Set<UUID> result = new HashSet<>();
+        bounds.forEach((id, box) -> {
+            if (viewport.intersects(box[0], box[1], box[2], box[3])) {
+                result.add(id);
+            }
+        });
+        for (ConnectorDTO connector : connectors.values()) {
+            double[] from = endpoint(bounds, connector.getFromTargetId(), connector.getFromX(), connector.getFromY());
+            double[] to = endpoint(bounds, connector.getToTargetId(), connector.getToX(), connector.getToY());
+            if (from == null || to == null || viewport.intersects(Math.min(from[0], to[0]), Math.min(from[1], to[1]),
+                    Math.max(from[2], to[2]), Math.max(from[3], to[3]))) {
+                result.add(connector.getId());
+            }
+        }
+        return result;
+    }
+
+    private static double[] endpoint(Map<UUID, double[]> bounds, UUID targetId, Double x, Double y) {
+        if (targetId != null && bounds.containsKey(targetId)) {
+            return bounds.get(targetId);
+        }
+        return x == null || y == null ? null : new double[]{x, y, x, y};
+    }
+
+    private static double[] box(double x, double y, double width, double height) {
+        return new double[]{x, y, x + width, y + height};
+    }
+
+    private static Set<UUID> ids(BoardComponentsDTO components) {
+        Set<UUID> ids = new HashSet<>();
+        components.getStickyNotes().forEach(note -> ids.add(note.getId()));
+        components.getTextBoxes().forEach(textBox -> ids.add(textBox.getId()));
+        components.getFrames().forEach(frame -> ids.add(frame.getId()));
+        components.getDomainModelItems().forEach(item -> ids.add(item.getId()));
+        components.getConnectors().forEach(connector -> ids.add(connector.getId()));
+        return ids;
+    }
+
+    private static UUID existingOrNew(Random random, Set<UUID> existing) {
+        if (existing.isEmpty() || random.nextBoolean()) {
+            return UUID.randomUUID();
+        }
+        return new ArrayList<>(existing).get(random.nextInt(existing.size()));
+    }
+
+    private static double coordinate(Random random) {
+        return random.nextInt(10000) - 5000;
+    }
+
+    private static StickyNoteDTO note(double x, double y, double width, double height) {
+        return note(UUID.randomUUID(), x, y, width, height);
+    }
+
+    private static StickyNoteDTO note(UUID id, double x, double y, double width, double height) {
+        StickyNoteDTO note = new StickyNoteDTO();
+        note.setId(id);
+        note.setPosX(x);
+        note.setPosY(y);
+        note.setGeoX(width);
+        note.setGeoY(height);
+        return note;
+    }
+
+    private static FrameDTO frame(UUID id, double x, double y, double width, double height) {
+        FrameDTO frame = new FrameDTO();
+        frame.setId(id);
+        frame.setPosX(x);
+        frame.setPosY(y);
+        frame.setWidth(width);
+        frame.setHeight(height);
+        return frame;
+    }
+
+    private static ConnectorDTO connector(UUID fromTargetId, UUID toTargetId, Double x, Double y) {
+        ConnectorDTO connector = new ConnectorDTO();
+        connector.setId(UUID.randomUUID());
+        connector.setFromTargetId(fromTargetId);
+        connector.setFromX(fromTargetId == null ? x : null);
+        connector.setFromY(fromTargetId == null ? y : null);
+        connector.setToTargetId(toTargetId);
+        connector.setToX(x);
+        connector.setToY(y);
+        return connector;
+    }
+}
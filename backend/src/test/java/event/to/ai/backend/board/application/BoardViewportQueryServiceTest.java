@@ -0,0 +1,127 @@
+package event.to.ai.backend.board.application;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import event.to.ai.backend.board.application.port.out.BoardContentRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import event.to.ai.backend.board.application.port.out.BoardSnapshotRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BoardViewportQueryServiceTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000902");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final BoardViewport VIEWPORT = new BoardViewport(0, 0, 100, 100);
+
+    private BoardSnapshotRepositoryPort boardSnapshotRepositoryPort;
+    private BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+    private BoardContentRepositoryPort boardContentRepositoryPort;
+    private BoardAccessService boardAccessService;
+
+    @BeforeEach
+    void setUp() {
+        boardSnapshotRepositoryPort = Mockito.mock(BoardSnapshotRepositoryPort.class);
+        boardRevisionRepositoryPort = Mockito.mock(BoardRevisionRepositoryPort.class);
+        boardContentRepositoryPort = Mockito.mock(BoardContentRepositoryPort.class);
+        boardAccessService = Mockito.mock(BoardAccessService.class);
+    }
+
+    @Test
+    void indexShouldCatchUpWithChangesAndTombstonesInsteadOfBeingRebuilt() {
+        StickyNoteDTO visible = note(10, 10);
+        StickyNoteDTO moved = note(500, 500);
+        when(boardContentRepositoryPort.countElementsByBoardId(BOARD_ID)).thenReturn(2L);
+        when(boardSnapshotRepositoryPort.findStickyNotesByBoardId(BOARD_ID)).thenReturn(List.of(visible, moved));
+        when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(3L), Optional.of(5L));
+        BoardViewportQueryService service = service(true, 100);
+
+        BoardComponentsDTO first = service.getBoardComponentsInViewport(USER_ID, BOARD_ID, VIEWPORT);
+        assertEquals(Set.of(visible.getId()), noteIds(first));
+        assertEquals(3L, first.getRevision());
+
+        StickyNoteDTO movedIn = note(moved.getId(), 50, 50);
+        when(boardSnapshotRepositoryPort.findStickyNotesChangedBetween(BOARD_ID, 3L, 5L)).thenReturn(List.of(movedIn));
+        when(boardRevisionRepositoryPort.findTombstones(BOARD_ID, 3L, 5L)).thenReturn(List.of(
+                new BoardElementTombstone(BOARD_ID, visible.getId(), BoardElementType.STICKY_NOTE, 4L)));
+
+        BoardComponentsDTO second = service.getBoardComponentsInViewport(USER_ID, BOARD_ID, VIEWPORT);
+        assertEquals(Set.of(moved.getId()), noteIds(second));
+        assertEquals(5L, second.getRevision());
+
+        verify(boardSnapshotRepositoryPort, times(1)).findStickyNotesByBoardId(BOARD_ID);
+        verify(boardSnapshotRepositoryPort, never()).findStickyNotesInViewport(any(), any());
+        verify(boardAccessService, times(2)).requireReadPermission(BOARD_ID, USER_ID);
+    }
+
+    @Test
+    void largeBoardShouldBeQueriedFromTheDatabase() {
+        StickyNoteDTO visible = note(10, 10);
+        when(boardContentRepositoryPort.countElementsByBoardId(BOARD_ID)).thenReturn(101L);
+        when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(7L));
+        when(boardSnapshotRepositoryPort.findStickyNotesInViewport(BOARD_ID, VIEWPORT)).thenReturn(List.of(visible));
+        BoardViewportQueryService service = service(true, 100);
+
+        BoardComponentsDTO components = service.getBoardComponentsInViewport(USER_ID, BOARD_ID, VIEWPORT);
+
+        assertEquals(Set.of(visible.getId()), noteIds(components));
+        assertEquals(7L, components.getRevision());
+        verify(boardSnapshotRepositoryPort, never()).findStickyNotesByBoardId(any());
+        verify(boardSnapshotRepositoryPort).findConnectorsInViewport(BOARD_ID, VIEWPORT);
+    }
+
+    @Test
+    void disabledIndexShouldAlwaysQueryTheDatabase() {
+        when(boardRevisionRepositoryPort.findRevision(BOARD_ID)).thenReturn(Optional.of(1L));
+        BoardViewportQueryService service = service(false, 100);
+
+        service.getBoardComponentsInViewport(USER_ID, BOARD_ID, VIEWPORT);
+
+        verify(boardContentRepositoryPort, never()).countElementsByBoardId(any());
+        verify(boardSnapshotRepositoryPort).findStickyNotesInViewport(BOARD_ID, VIEWPORT);
+        verify(boardRevisionRepositoryPort, never()).findTombstones(eq(BOARD_ID), anyLong(), anyLong());
+    }
+
+    private BoardViewportQueryService service(boolean indexEnabled, long maxIndexedElements) {
+        return new BoardViewportQueryService(boardSnapshotRepositoryPort, boardRevisionRepositoryPort,
+                boardContentRepositoryPort, boardAccessService, Mockito.mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), indexEnabled, 10, 600, maxIndexedElements, 64);
+    }
+
+    private static Set<UUID> noteIds(BoardComponentsDTO components) {
+        return Set.copyOf(components.getStickyNotes().stream().map(StickyNoteDTO::getId).toList());
+    }
+
+    private static StickyNoteDTO note(double x, double y) {
+        return note(UUID.randomUUID(), x, y);
+    }
+
+    private static StickyNoteDTO note(UUID id, double x, double y) {
+        StickyNoteDTO note = new StickyNoteDTO();
+        note.setId(id);
+        note.setPosX(x);
+        note.setPosY(y);
+        note.setGeoX(20.0);
+        note.setGeoY(20.0);
+        return note;
+    }
+}
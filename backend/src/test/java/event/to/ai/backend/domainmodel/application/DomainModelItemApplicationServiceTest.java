@@ -1,9 +1,10 @@
 package event.to.ai.backend.domainmodel.application;
 
+import event.to.ai.backend.board.adapter.in.web.dto.ElementUpdatedDTO;
 import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
-import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
-import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.board.application.AnchoredConnectorService;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardRevisionService;
 import event.to.ai.backend.domainmodel.adapter.in.web.dto.CreateDomainModelItemRequest;
 import event.to.ai.backend.domainmodel.adapter.in.web.dto.DomainModelItemDTO;
 import event.to.ai.backend.domainmodel.adapter.in.web.dto.UpdateDomainModelItemRequest;
@@ -40,7 +41,7 @@ class DomainModelItemApplicationServiceTest {
     private DomainModelItemRepositoryPort domainModelItemRepositoryPort;
 
     @Mock
-    private BoardMembershipRepositoryPort boardMembershipRepositoryPort;
+    private BoardAccessService boardAccessService;
 
     @Mock
     private BoardRepositoryPort boardRepositoryPort;
@@ -48,6 +49,12 @@ class DomainModelItemApplicationServiceTest {
     @Mock
     private BoardRealtimePublisher boardRealtimePublisher;
 
+    @Mock
+    private BoardRevisionService boardRevisionService;
+
+    @Mock
+    private AnchoredConnectorService anchoredConnectorService;
+
     @InjectMocks
     private DomainModelItemApplicationService domainModelItemApplicationService;
 
@@ -78,8 +85,6 @@ class DomainModelItemApplicationServiceTest {
         );
 
         when(boardRepositoryPort.findById(boardId)).thenReturn(Optional.of(board));
-        when(boardMembershipRepositoryPort.findByBoardIdAndUserId(boardId, actorUserId))
-                .thenReturn(Optional.of(createMembership(board, BoardMembershipRole.EDITOR)));
         when(domainModelItemRepositoryPort.save(any(DomainModelItem.class))).thenReturn(saved);
 
         domainModelItemApplicationService.createDomainModelItem(actorUserId, request);
@@ -132,9 +137,9 @@ class DomainModelItemApplicationServiceTest {
         );
 
         when(domainModelItemRepositoryPort.findById(domainModelItemId)).thenReturn(Optional.of(existing));
-        when(boardMembershipRepositoryPort.findByBoardIdAndUserId(boardId, actorUserId))
-                .thenReturn(Optional.of(createMembership(board, BoardMembershipRole.EDITOR)));
         when(domainModelItemRepositoryPort.save(any(DomainModelItem.class))).thenReturn(updated);
+        when(anchoredConnectorService.updatedPayload(eq(boardId), eq(domainModelItemId), any(), eq(false)))
+                .thenAnswer(invocation -> invocation.getArgument(2));
 
         domainModelItemApplicationService.updateDomainModelItem(actorUserId, domainModelItemId, request);
 
@@ -153,6 +158,53 @@ class DomainModelItemApplicationServiceTest {
         assertEquals("Payment entity", payload.getDescription());
     }
 
+    @Test
+    void movingDomainModelItemShouldPublishAnchoredConnectorIds() {
+        UUID actorUserId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+        UUID boardId = UUID.fromString("00000000-0000-0000-0000-000000000102");
+        UUID domainModelItemId = UUID.fromString("00000000-0000-0000-0000-000000000203");
+        UUID connectorId = UUID.fromString("00000000-0000-0000-0000-000000000303");
+
+        Board board = createBoard(boardId);
+        DomainModelItem existing = createDomainModelItem(
+                domainModelItemId,
+                board,
+                "Order",
+                DomainModelItemType.AGGREGATE,
+                "Order aggregate"
+        );
+        UpdateDomainModelItemRequest request = new UpdateDomainModelItemRequest(
+                300.0,
+                400.0,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        when(domainModelItemRepositoryPort.findById(domainModelItemId)).thenReturn(Optional.of(existing));
+        when(domainModelItemRepositoryPort.save(any(DomainModelItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(anchoredConnectorService.updatedPayload(eq(boardId), eq(domainModelItemId), any(), eq(true)))
+                .thenAnswer(invocation -> new ElementUpdatedDTO<>(invocation.getArgument(2), List.of(connectorId)));
+
+        domainModelItemApplicationService.updateDomainModelItem(actorUserId, domainModelItemId, request);
+
+        ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(boardRealtimePublisher).publish(
+                eq(BoardRealtimeEventType.DOMAIN_MODEL_ITEM_UPDATED),
+                eq(actorUserId),
+                eq(boardId),
+                payloadCaptor.capture()
+        );
+
+        ElementUpdatedDTO<?> payload = assertInstanceOf(ElementUpdatedDTO.class, payloadCaptor.getValue());
+        DomainModelItemDTO element = assertInstanceOf(DomainModelItemDTO.class, payload.getElement());
+        assertEquals(300.0, element.getPosX());
+        assertEquals(List.of(connectorId), payload.getConnectorIds());
+    }
+
     @Test
     void deleteDomainModelItemShouldPublishDeletedEvent() {
         UUID actorUserId = UUID.fromString("00000000-0000-0000-0000-000000000003");
@@ -169,8 +221,6 @@ class DomainModelItemApplicationServiceTest {
         );
 
         when(domainModelItemRepositoryPort.findById(domainModelItemId)).thenReturn(Optional.of(domainModelItem));
-        when(boardMembershipRepositoryPort.findByBoardIdAndUserId(boardId, actorUserId))
-                .thenReturn(Optional.of(createMembership(board, BoardMembershipRole.EDITOR)));
 
         domainModelItemApplicationService.deleteDomainModelItem(actorUserId, domainModelItemId);
 
@@ -193,13 +243,6 @@ class DomainModelItemApplicationServiceTest {
         return board;
     }
 
-    private BoardMembership createMembership(Board board, BoardMembershipRole role) {
-        BoardMembership membership = new BoardMembership();
-        membership.setBoard(board);
-        membership.setRole(role);
-        return membership;
-    }
-
     private DomainModelItem createDomainModelItem(
             UUID domainModelItemId,
             Board board,
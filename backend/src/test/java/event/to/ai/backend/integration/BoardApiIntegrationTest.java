@@ -100,7 +100,7 @@ class BoardApiIntegrationTest {
                 .Given("an existing user and valid JWT token", env -> {
                     User user = new User("alice", "alice@example.com", passwordEncoder.encode("mySecret123"));
                     user = userRepository.save(user);
-                    String token = jwtService.generateToken(user.getId());
+                    String token = jwtService.generateToken(user.getId(), user.getUsername());
                     env.put("userId", user.getId());
                     env.put("token", token);
                 })
@@ -0,0 +1,200 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardChangesDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementTombstoneDTO;
+import event.to.ai.backend.board.adapter.out.persistence.BoardElementTombstoneRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardSnapshotQueryService;
+import event.to.ai.backend.board.application.BoardTombstoneRetentionService;
+import event.to.ai.backend.board.application.port.out.BoardRevisionRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.UpdateStickyNoteRequest;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.application.StickyNoteApplicationService;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardChangesIntegrationTest {
+
+    @Autowired
+    private BoardSnapshotQueryService boardSnapshotQueryService;
+
+    @Autowired
+    private StickyNoteApplicationService stickyNoteApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private BoardElementTombstoneRepository boardElementTombstoneRepository;
+
+    @Autowired
+    private BoardRevisionRepositoryPort boardRevisionRepositoryPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID userId;
+    private UUID boardId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+        Board board = new Board("Team Board", "planning");
+        board.setOwnerId(user.getId());
+        board = boardRepository.save(board);
+        boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+        userId = user.getId();
+        boardId = board.getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        boardElementTombstoneRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        boardMembershipRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void changesShouldOnlyContainElementsModifiedAfterSince() {
+        Feature.New("Board Changes")
+                .newScenario("Changes since a snapshot revision contain only updated, created and deleted elements")
+                .Given("a snapshot taken after three sticky notes were created", env -> {
+                    StickyNoteDTO first = createNote("first");
+                    StickyNoteDTO second = createNote("second");
+                    createNote("third");
+                    env.put("first", first.getId());
+                    env.put("second", second.getId());
+                    env.put("since", boardSnapshotQueryService.getBoardComponents(userId, boardId).getRevision());
+                })
+                .When("one note is updated, one is deleted and one is created", env -> {
+                    UpdateStickyNoteRequest update = new UpdateStickyNoteRequest();
+                    update.setColor("pink");
+                    stickyNoteApplicationService.updateStickyNote(userId, env.get("first", UUID.class), update);
+                    stickyNoteApplicationService.deleteStickyNote(userId, env.get("second", UUID.class));
+                    env.put("created", createNote("fourth").getId());
+
+                    env.put("changes", boardSnapshotQueryService.getBoardChanges(
+                            userId, boardId, env.get("since", Long.class)));
+                })
+                .Then("only the three changes are returned with the new revision", env -> {
+                    BoardChangesDTO changes = env.get("changes", BoardChangesDTO.class);
+                    long since = env.get("since", Long.class);
+                    assertEquals(3L, since);
+                    assertEquals(since + 3, changes.getRevision());
+                    assertFalse(changes.isFullResyncRequired());
+
+                    Set<UUID> upserted = changes.getStickyNotes().stream()
+                            .map(StickyNoteDTO::getId)
+                            .collect(Collectors.toSet());
+                    assertEquals(Set.of(env.get("first", UUID.class), env.get("created", UUID.class)), upserted);
+
+                    List<BoardElementTombstoneDTO> deleted = changes.getDeleted();
+                    assertEquals(1, deleted.size());
+                    assertEquals(env.get("second", UUID.class), deleted.getFirst().getId());
+                    assertEquals(BoardElementType.STICKY_NOTE, deleted.getFirst().getType());
+                    assertTrue(changes.getFrames().isEmpty());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void changesShouldAskForFullResyncWhenSinceIsAhead() {
+        Feature.New("Board Changes")
+                .newScenario("A since revision newer than the board asks the client for a full resync")
+                .Given("a board with one sticky note", env -> createNote("only"))
+                .When("asking for changes since the current revision and since a future revision", env -> {
+                    env.put("upToDate", boardSnapshotQueryService.getBoardChanges(userId, boardId, 1));
+                    env.put("ahead", boardSnapshotQueryService.getBoardChanges(userId, boardId, 99));
+                })
+                .Then("an up-to-date client gets nothing and a client ahead of the board must resync", env -> {
+                    BoardChangesDTO upToDate = env.get("upToDate", BoardChangesDTO.class);
+                    assertFalse(upToDate.isFullResyncRequired());
+                    assertTrue(upToDate.getStickyNotes().isEmpty());
+                    assertTrue(upToDate.getDeleted().isEmpty());
+
+                    BoardChangesDTO ahead = env.get("ahead", BoardChangesDTO.class);
+                    assertTrue(ahead.isFullResyncRequired());
+                    assertEquals(1L, ahead.getRevision());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void changesShouldAskForFullResyncWhenTombstonesSinceWerePruned() {
+        Feature.New("Board Changes")
+                .newScenario("Pruning old tombstones makes clients behind the pruned range resync")
+                .Given("two deleted notes and a newer note", env -> {
+                    StickyNoteDTO first = createNote("first");
+                    StickyNoteDTO second = createNote("second");
+                    createNote("third");
+                    stickyNoteApplicationService.deleteStickyNote(userId, first.getId());
+                    stickyNoteApplicationService.deleteStickyNote(userId, second.getId());
+                    env.put("created", createNote("fourth").getId());
+                })
+                .When("tombstones more than one revision behind the board are pruned", env -> {
+                    new BoardTombstoneRetentionService(boardRevisionRepositoryPort, transactionManager, 1, 7)
+                            .pruneTombstones();
+                    env.put("stale", boardSnapshotQueryService.getBoardChanges(userId, boardId, 3));
+                    env.put("retained", boardSnapshotQueryService.getBoardChanges(userId, boardId, 5));
+                })
+                .Then("a client behind the pruned revision resyncs and a newer client still gets its changes", env -> {
+                    assertEquals(0, boardElementTombstoneRepository.count());
+                    assertEquals(5L, boardRepository.findById(boardId).orElseThrow().getMinRetainedRevision());
+
+                    BoardChangesDTO stale = env.get("stale", BoardChangesDTO.class);
+                    assertTrue(stale.isFullResyncRequired());
+                    assertEquals(6L, stale.getRevision());
+                    assertTrue(stale.getStickyNotes().isEmpty());
+
+                    BoardChangesDTO retained = env.get("retained", BoardChangesDTO.class);
+                    assertFalse(retained.isFullResyncRequired());
+                    assertEquals(List.of(env.get("created", UUID.class)),
+                            retained.getStickyNotes().stream().map(StickyNoteDTO::getId).toList());
+                    assertTrue(retained.getDeleted().isEmpty());
+                })
+                .Execute();
+    }
+
+    private StickyNoteDTO createNote(String text) {
+        return stickyNoteApplicationService.createStickyNote(userId, new CreateStickyNoteRequest(
+                boardId, 0.0, 0.0, 100.0, 100.0, text, "yellow", "sticky-note", "#000000", "20"));
+    }
+}
@@ -0,0 +1,179 @@
+package event.to.ai.backend.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.DomainModelItemRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
+import event.to.ai.backend.security.JwtService;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.textbox.adapter.out.persistence.TextBoxesRepository;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardComponentsStreamIntegrationTest {
+
+    private static final int STICKY_NOTE_COUNT = 25;
+
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private FilterChainProxy springSecurityFilterChain;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private TextBoxesRepository textBoxesRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private DomainModelItemRepository domainModelItemRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    private String token;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(springSecurityFilterChain)
+                .build();
+
+        User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+        board = new Board("Team Board", "planning");
+        board.setOwnerId(user.getId());
+        board = boardRepository.save(board);
+        boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+
+        Frame frame = frameRepository.save(BoardContentFixtures.frame(board, 0, 0));
+        for (int i = 0; i < STICKY_NOTE_COUNT; i++) {
+            stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, frame.getId(), i, i, "yellow"));
+        }
+        domainModelItemRepository.save(BoardContentFixtures.domainModelItem(board, frame.getId(), 5, 5));
+        token = jwtService.generateToken(user.getId(), user.getUsername());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        connectorRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        textBoxesRepository.deleteAll();
+        domainModelItemRepository.deleteAll();
+        frameRepository.deleteAll();
+        boardMembershipRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void ndjsonStreamShouldWriteOneLinePerElement() {
+        Feature.New("Board Components Stream")
+                .newScenario("NDJSON stream writes a header line and one line per element")
+                .When("requesting the NDJSON stream", env -> env.put("body", fetch("ndjson")))
+                .Then("every element is on its own line", env -> {
+                    List<String> lines = Arrays.stream(env.get("body", String.class).split("\n"))
+                            .filter(line -> !line.isBlank())
+                            .toList();
+                    assertEquals(1 + STICKY_NOTE_COUNT + 1 + 1, lines.size());
+                    try {
+                        assertEquals(board.getId().toString(), objectMapper.readTree(lines.getFirst()).get("boardId").asText());
+                        JsonNode firstElement = objectMapper.readTree(lines.get(1));
+                        assertEquals("stickyNotes", firstElement.get("section").asText());
+                        assertEquals("yellow", firstElement.get("data").get("color").asText());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void jsonStreamShouldMatchBoardComponentsShape() {
+        Feature.New("Board Components Stream")
+                .newScenario("JSON stream has the same shape as the components endpoint")
+                .When("requesting the JSON stream", env -> env.put("body", fetch("json")))
+                .Then("the body parses as a BoardComponentsDTO-shaped object", env -> {
+                    try {
+                        JsonNode root = objectMapper.readTree(env.get("body", String.class));
+                        assertEquals(board.getId().toString(), root.get("boardId").asText());
+                        assertEquals(STICKY_NOTE_COUNT, root.get("stickyNotes").size());
+                        assertEquals(0, root.get("textBoxes").size());
+                        assertEquals(1, root.get("frames").size());
+                        assertEquals(1, root.get("domainModelItems").size());
+                        assertEquals(0, root.get("connectors").size());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .Execute();
+    }
+
+    private String fetch(String format) {
+        try {
+            MvcResult started = mockMvc.perform(get("/api/boards/{boardId}/components/stream", board.getId())
+                            .param("format", format)
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            return mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.connector.adapter.out.persistence.entity.Connector;
+import event.to.ai.backend.connector.domain.ConnectorArrowType;
+import event.to.ai.backend.connector.domain.ConnectorLineType;
+import event.to.ai.backend.connector.domain.ConnectorTargetType;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.entity.DomainAttributeData;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.entity.DomainModelItem;
+import event.to.ai.backend.domainmodel.domain.DomainModelItemType;
+import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.textbox.adapter.out.persistence.entity.TextBoxes;
+
+import java.util.List;
+import java.util.UUID;
+
+// 整合測試共用的 Board 元件建構方法 (只建立 entity，不負責存檔)
+final class BoardContentFixtures {
+
+    private BoardContentFixtures() {
+    }
+
+    static StickyNote stickyNote(Board board, UUID frameId, double x, double y, String color) {
+        StickyNote stickyNote = new StickyNote();
+        stickyNote.setBoard(board);
+        stickyNote.setFrameId(frameId);
+        stickyNote.setPos(new event.to.ai.backend.stickynote.adapter.out.persistence.entity.Point2D(x, y));
+        stickyNote.setGeo(new event.to.ai.backend.stickynote.adapter.out.persistence.entity.Point2D(100.0, 100.0));
+        stickyNote.setDescription("note");
+        stickyNote.setColor(color);
+        stickyNote.setTag("tag");
+        return stickyNote;
+    }
+
+    static TextBoxes textBox(Board board, UUID frameId, double x, double y) {
+        TextBoxes textBox = new TextBoxes();
+        textBox.setBoard(board);
+        textBox.setFrameID(frameId);
+        textBox.setPos(new event.to.ai.backend.textbox.adapter.out.persistence.entity.Point2D(x, y));
+        textBox.setGeo(new event.to.ai.backend.textbox.adapter.out.persistence.entity.Point2D(120.0, 40.0));
+        textBox.setDescription("text");
+        textBox.setTag("tag");
+        return textBox;
+    }
+
+    static Frame frame(Board board, double x, double y) {
+        Frame frame = new Frame();
+        frame.setBoard(board);
+        frame.setPos(new event.to.ai.backend.frame.adapter.out.persistence.entity.Point2D(x, y));
+        frame.setSize(new event.to.ai.backend.frame.adapter.out.persistence.entity.Point2D(800.0, 600.0));
+        frame.setTitle("frame");
+        return frame;
+    }
+
+    static DomainModelItem domainModelItem(Board board, UUID frameId, double x, double y) {
+        DomainModelItem item = new DomainModelItem();
+        item.setBoard(board);
+        item.setFrameId(frameId);
+        item.setPos(new event.to.ai.backend.domainmodel.adapter.out.persistence.entity.Point2D(x, y));
+        item.setSize(new event.to.ai.backend.domainmodel.adapter.out.persistence.entity.Point2D(200.0, 150.0));
+        item.setName("Order");
+        item.setType(DomainModelItemType.ENTITY);
+        item.setDescription("");
+        item.setAttributes(List.of(new DomainAttributeData("id", "UUID", "", 0)));
+        return item;
+    }
+
+    static Connector connector(Board board, UUID fromTargetId, UUID toTargetId) {
+        Connector connector = new Connector();
+        connector.setBoard(board);
+        connector.setFromTargetType(ConnectorTargetType.STICKY_NOTE);
+        connector.setFromTargetId(fromTargetId);
+        connector.setToTargetType(ConnectorTargetType.STICKY_NOTE);
+        connector.setToTargetId(toTargetId);
+        connector.setLineType(ConnectorLineType.STRAIGHT);
+        connector.setStrokeColor("#000000");
+        connector.setStrokeWidth(2.0);
+        connector.setStartArrow(ConnectorArrowType.NONE);
+        connector.setEndArrow(ConnectorArrowType.TRIANGLE);
+        connector.setZIndex(0);
+        return connector;
+    }
+}
@@ -0,0 +1,260 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsBatchRequest;
+import event.to.ai.backend.board.adapter.in.web.dto.BoardElementsBatchResultDTO;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementCreateOperation;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementDeleteOperation;
+import event.to.ai.backend.board.adapter.in.web.dto.ElementUpdateOperation;
+import event.to.ai.backend.board.adapter.out.persistence.BoardElementTombstoneRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardElementsBatchService;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.connector.adapter.in.web.dto.CreateConnectorRequest;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.connector.adapter.out.persistence.entity.Connector;
+import event.to.ai.backend.connector.domain.ConnectorArrowType;
+import event.to.ai.backend.connector.domain.ConnectorLineType;
+import event.to.ai.backend.connector.domain.ConnectorTargetType;
+import event.to.ai.backend.frame.adapter.in.web.dto.CreateFrameRequest;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.frame.application.FrameApllicationService;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.UpdateStickyNoteRequest;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.stickynote.application.StickyNoteApplicationService;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardElementsBatchIntegrationTest {
+
+    private static final UUID FRAME_TEMP_ID = UUID.fromString("11111111-1111-4111-8111-111111111111");
+    private static final UUID FROM_NOTE_TEMP_ID = UUID.fromString("22222222-2222-4222-8222-222222222222");
+    private static final UUID TO_NOTE_TEMP_ID = UUID.fromString("33333333-3333-4333-8333-333333333333");
+    private static final UUID CONNECTOR_TEMP_ID = UUID.fromString("44444444-4444-4444-8444-444444444444");
+
+    @Autowired
+    private BoardElementsBatchService boardElementsBatchService;
+
+    @Autowired
+    private StickyNoteApplicationService stickyNoteApplicationService;
+
+    @Autowired
+    private FrameApllicationService frameApllicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @Autowired
+    private BoardElementTombstoneRepository boardElementTombstoneRepository;
+
+    private UUID userId;
+    private UUID boardId;
+    private UUID otherBoardId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+        userId = user.getId();
+        boardId = createOwnedBoard(user, "Team Board");
+        otherBoardId = createOwnedBoard(user, "Other Board");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        boardElementTombstoneRepository.deleteAll();
+        connectorRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        frameRepository.deleteAll();
+        boardMembershipRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void pastedElementsShouldBeWrittenInOneRevision() {
+        Feature.New("Board Elements Batch")
+                .newScenario("A pasted frame with notes and a connector, an update and a delete share one revision")
+                .Given("two existing sticky notes on the board", env -> {
+                    env.put("kept", createNote(boardId, "kept"));
+                    env.put("doomed", createNote(boardId, "doomed"));
+                })
+                .When("one batch creates a frame, two notes inside it and a connector between them, updates one note and deletes the other", env -> {
+                    BoardElementsBatchRequest request = new BoardElementsBatchRequest();
+                    request.getCreate().getFrames().add(new ElementCreateOperation<>(FRAME_TEMP_ID,
+                            new CreateFrameRequest(null, 0.0, 0.0, 800.0, 600.0, "Pasted Frame")));
+                    request.getCreate().getStickyNotes().add(new ElementCreateOperation<>(FROM_NOTE_TEMP_ID,
+                            noteInFrame("from")));
+                    request.getCreate().getStickyNotes().add(new ElementCreateOperation<>(TO_NOTE_TEMP_ID,
+                            noteInFrame("to")));
+                    request.getCreate().getConnectors().add(new ElementCreateOperation<>(CONNECTOR_TEMP_ID,
+                            connectorBetween(FROM_NOTE_TEMP_ID, TO_NOTE_TEMP_ID)));
+
+                    UpdateStickyNoteRequest update = new UpdateStickyNoteRequest();
+                    update.setColor("pink");
+                    update.setFrameId(FRAME_TEMP_ID.toString());
+                    request.getUpdate().getStickyNotes().add(new ElementUpdateOperation<>(env.get("kept", UUID.class), update));
+                    request.getDelete().add(new ElementDeleteOperation(BoardElementType.STICKY_NOTE, env.get("doomed", UUID.class)));
+
+                    env.put("result", boardElementsBatchService.applyBatch(userId, boardId, request));
+                })
+                .Then("every change carries the same new revision and temp ids are resolved to the created ids", env -> {
+                    BoardElementsBatchResultDTO result = env.get("result", BoardElementsBatchResultDTO.class);
+                    assertEquals(3L, result.getRevision());
+                    assertEquals(3L, boardRepository.findById(boardId).orElseThrow().getRevision());
+                    assertEquals(4, result.getCreatedIds().size());
+
+                    UUID frameId = result.getCreatedIds().get(FRAME_TEMP_ID);
+                    StickyNote from = stickyNoteRepository.findById(result.getCreatedIds().get(FROM_NOTE_TEMP_ID)).orElseThrow();
+                    assertEquals(frameId, from.getFrameId());
+                    assertEquals(3L, from.getRevision());
+
+                    Connector connector = connectorRepository.findById(result.getCreatedIds().get(CONNECTOR_TEMP_ID)).orElseThrow();
+                    assertEquals(from.getId(), connector.getFromTargetId());
+                    assertEquals(result.getCreatedIds().get(TO_NOTE_TEMP_ID), connector.getToTargetId());
+
+                    StickyNote kept = stickyNoteRepository.findById(env.get("kept", UUID.class)).orElseThrow();
+                    assertEquals("pink", kept.getColor());
+                    assertEquals(frameId, kept.getFrameId());
+                    assertEquals(3L, kept.getRevision());
+
+                    assertTrue(stickyNoteRepository.findById(env.get("doomed", UUID.class)).isEmpty());
+                    List<BoardElementTombstone> tombstones = boardElementTombstoneRepository.findAll();
+                    assertEquals(1, tombstones.size());
+                    assertEquals(3L, tombstones.getFirst().getRevision());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void batchTouchingAnotherBoardShouldBeRolledBack() {
+        Feature.New("Board Elements Batch")
+                .newScenario("A batch that deletes an element of another board fails as a whole")
+                .Given("a sticky note on another board", env ->
+                        env.put("foreignNote", createNote(otherBoardId, "foreign")))
+                .When("a batch creates a note and deletes the foreign note", env -> {
+                    BoardElementsBatchRequest request = new BoardElementsBatchRequest();
+                    request.getCreate().getStickyNotes().add(new ElementCreateOperation<>(FROM_NOTE_TEMP_ID, noteInFrame("new")));
+                    request.getDelete().add(new ElementDeleteOperation(BoardElementType.STICKY_NOTE, env.get("foreignNote", UUID.class)));
+                    env.put("error", assertThrows(RuntimeException.class,
+                            () -> boardElementsBatchService.applyBatch(userId, boardId, request)));
+                })
+                .Then("nothing is written to the board and the foreign note is untouched", env -> {
+                    assertTrue(env.get("error", RuntimeException.class).getMessage().startsWith("StickyNote not found"));
+                    assertTrue(stickyNoteRepository.findByBoardId(boardId).isEmpty());
+                    assertEquals(0L, boardRepository.findById(boardId).orElseThrow().getRevision());
+                    assertTrue(stickyNoteRepository.findById(env.get("foreignNote", UUID.class)).isPresent());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void deletedFrameShouldDetachItsChildren() {
+        Feature.New("Board Elements Batch")
+                .newScenario("Deleting a frame in a batch detaches its children in the batch revision")
+                .Given("a frame with a sticky note inside it", env -> {
+                    UUID frameId = frameApllicationService.createFrame(userId,
+                            new CreateFrameRequest(boardId, 0.0, 0.0, 800.0, 600.0, "Context")).getId();
+                    CreateStickyNoteRequest note = new CreateStickyNoteRequest(
+                            boardId, 10.0, 10.0, 100.0, 100.0, "child", "yellow", "sticky-note", "#000000", "20");
+                    note.setFrameId(frameId);
+                    env.put("frameId", frameId);
+                    env.put("child", stickyNoteApplicationService.createStickyNote(userId, note).getId());
+                })
+                .When("a batch deletes the frame without a mode", env -> {
+                    BoardElementsBatchRequest request = new BoardElementsBatchRequest();
+                    request.getDelete().add(new ElementDeleteOperation(BoardElementType.FRAME, env.get("frameId", UUID.class)));
+                    env.put("result", boardElementsBatchService.applyBatch(userId, boardId, request));
+                })
+                .Then("the child stays on the board without a frame and is listed as detached", env -> {
+                    BoardElementsBatchResultDTO result = env.get("result", BoardElementsBatchResultDTO.class);
+                    UUID child = env.get("child", UUID.class);
+                    StickyNote note = stickyNoteRepository.findById(child).orElseThrow();
+                    assertNull(note.getFrameId());
+                    assertEquals(result.getRevision(), note.getRevision());
+                    assertEquals(List.of(child), result.getDetached().get(BoardElementType.STICKY_NOTE));
+                    assertEquals(1, result.getDeleted().size());
+                    assertTrue(frameRepository.findById(env.get("frameId", UUID.class)).isEmpty());
+                })
+                .Execute();
+    }
+
+    private UUID createNote(UUID targetBoardId, String description) {
+        return stickyNoteApplicationService.createStickyNote(userId, new CreateStickyNoteRequest(
+                targetBoardId, 0.0, 0.0, 100.0, 100.0, description, "yellow", "sticky-note", "#000000", "20")).getId();
+    }
+
+    // boardId 留空，由批次 API 依路徑補上
+    private CreateStickyNoteRequest noteInFrame(String description) {
+        CreateStickyNoteRequest request = new CreateStickyNoteRequest(
+                null, 10.0, 10.0, 100.0, 100.0, description, "yellow", "sticky-note", "#000000", "20");
+        request.setFrameId(FRAME_TEMP_ID);
+        return request;
+    }
+
+    private CreateConnectorRequest connectorBetween(UUID fromTempId, UUID toTempId) {
+        CreateConnectorRequest request = new CreateConnectorRequest();
+        request.setFromTargetType(ConnectorTargetType.STICKY_NOTE);
+        request.setFromTargetId(fromTempId);
+        request.setFromX(0.0);
+        request.setFromY(0.0);
+        request.setToTargetType(ConnectorTargetType.STICKY_NOTE);
+        request.setToTargetId(toTempId);
+        request.setToX(100.0);
+        request.setToY(100.0);
+        request.setLineType(ConnectorLineType.STRAIGHT);
+        request.setStrokeColor("#000000");
+        request.setStrokeWidth(2.0);
+        request.setDashed(false);
+        request.setStartArrow(ConnectorArrowType.NONE);
+        request.setEndArrow(ConnectorArrowType.TRIANGLE);
+        request.setZIndex(1);
+        return request;
+    }
+
+    private UUID createOwnedBoard(User user, String title) {
+        Board board = new Board(title, "planning");
+        board.setOwnerId(user.getId());
+        board = boardRepository.save(board);
+        boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+        return board.getId();
+    }
+}
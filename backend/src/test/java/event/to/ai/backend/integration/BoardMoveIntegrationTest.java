@@ -0,0 +1,193 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.in.web.dto.ElementMoveRequest;
+import event.to.ai.backend.board.adapter.out.persistence.BoardElementTombstoneRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardMoveCoalescer;
+import event.to.ai.backend.board.application.port.out.BoardElementMoveRepositoryPort;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.connector.adapter.in.web.dto.CreateConnectorRequest;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.connector.application.ConnectorApplicationService;
+import event.to.ai.backend.connector.domain.ConnectorArrowType;
+import event.to.ai.backend.connector.domain.ConnectorLineType;
+import event.to.ai.backend.connector.domain.ConnectorTargetType;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.stickynote.application.StickyNoteApplicationService;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 排程的 tick 拉長到不會在測試中觸發，改由測試直接呼叫 flush()
+@SpringBootTest(properties = "app.board.move.flush-interval-ms=3600000")
+@ActiveProfiles("test")
+class BoardMoveIntegrationTest {
+
+    @Autowired
+    private BoardMoveCoalescer boardMoveCoalescer;
+
+    @Autowired
+    private StickyNoteApplicationService stickyNoteApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private ConnectorApplicationService connectorApplicationService;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @Autowired
+    private BoardElementMoveRepositoryPort boardElementMoveRepositoryPort;
+
+    @Autowired
+    private BoardElementTombstoneRepository boardElementTombstoneRepository;
+
+    private UUID userId;
+    private UUID boardId;
+    private UUID otherBoardId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+        userId = user.getId();
+        boardId = createOwnedBoard(user, "Team Board");
+        otherBoardId = createOwnedBoard(user, "Other Board");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        boardElementTombstoneRepository.deleteAll();
+        connectorRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        boardMembershipRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void dragBurstShouldBePersistedOncePerTick() {
+        Feature.New("Board Moves")
+                .newScenario("A burst of moves is written once with the latest position and a single revision")
+                .Given("a sticky note on the board", env ->
+                        env.put("noteId", stickyNoteApplicationService.createStickyNote(userId, new CreateStickyNoteRequest(
+                                boardId, 0.0, 0.0, 100.0, 100.0, "drag me", "yellow", "sticky-note", "#000000", "20")).getId()))
+                .When("a move addressed to the wrong board is flushed, then 30 positions and a resize share one tick", env -> {
+                    UUID noteId = env.get("noteId", UUID.class);
+                    // 同一張便利貼送到錯誤的 Board 不應被寫入
+                    boardMoveCoalescer.submit(userId, otherBoardId, List.of(
+                            new ElementMoveRequest(BoardElementType.STICKY_NOTE, noteId, -1.0, -1.0, null, null)));
+                    boardMoveCoalescer.flush();
+
+                    boardMoveCoalescer.submit(userId, boardId, List.of(
+                            new ElementMoveRequest(BoardElementType.STICKY_NOTE, noteId, 0.0, 0.0, 150.0, 120.0)));
+                    for (int i = 1; i <= 30; i++) {
+                        boardMoveCoalescer.submit(userId, boardId, List.of(
+                                new ElementMoveRequest(BoardElementType.STICKY_NOTE, noteId, i * 10.0, i * 5.0, null, null)));
+                    }
+                    boardMoveCoalescer.flush();
+                })
+                .Then("the note has the last position, the new size and the board advanced by one revision", env -> {
+                    StickyNote note = stickyNoteRepository.findById(env.get("noteId", UUID.class)).orElseThrow();
+                    assertEquals(300.0, note.getPos().getX());
+                    assertEquals(150.0, note.getPos().getY());
+                    assertEquals(150.0, note.getGeo().getX());
+                    assertEquals(120.0, note.getGeo().getY());
+                    assertEquals(2L, note.getRevision());
+                    assertEquals(2L, boardRepository.findById(boardId).orElseThrow().getRevision());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void movedNoteShouldResolveItsAnchoredConnectors() {
+        Feature.New("Board Moves")
+                .newScenario("Connectors anchored to a moved note are found by either end")
+                .Given("two notes joined by a connector and a free connector starting from the first note", env -> {
+                    UUID from = createNote("from");
+                    UUID to = createNote("to");
+                    env.put("from", from);
+                    env.put("to", to);
+                    env.put("between", createConnector(from, ConnectorTargetType.STICKY_NOTE, to));
+                    env.put("dangling", createConnector(from, ConnectorTargetType.FREE_POINT, null));
+                })
+                .When("the anchored connectors of both notes are looked up", env ->
+                        env.put("anchored", boardElementMoveRepositoryPort.findAnchoredConnectorIds(boardId,
+                                List.of(env.get("from", UUID.class), env.get("to", UUID.class)))))
+                .Then("each note lists the connectors touching it and nothing on other boards", env -> {
+                    @SuppressWarnings("unchecked")
+                    Map<UUID, List<UUID>> anchored = env.get("anchored", Map.class);
+                    UUID between = env.get("between", UUID.class);
+                    assertEquals(Set.of(between, env.get("dangling", UUID.class)),
+                            Set.copyOf(anchored.get(env.get("from", UUID.class))));
+                    assertEquals(List.of(between), anchored.get(env.get("to", UUID.class)));
+                    assertEquals(Map.of(), boardElementMoveRepositoryPort.findAnchoredConnectorIds(otherBoardId,
+                            List.of(env.get("from", UUID.class))));
+                })
+                .Execute();
+    }
+
+    private UUID createNote(String description) {
+        return stickyNoteApplicationService.createStickyNote(userId, new CreateStickyNoteRequest(
+                boardId, 0.0, 0.0, 100.0, 100.0, description, "yellow", "sticky-note", "#000000", "20")).getId();
+    }
+
+    private UUID createConnector(UUID fromNoteId, ConnectorTargetType toTargetType, UUID toTargetId) {
+        CreateConnectorRequest request = new CreateConnectorRequest();
+        request.setBoardId(boardId);
+        request.setFromTargetType(ConnectorTargetType.STICKY_NOTE);
+        request.setFromTargetId(fromNoteId);
+        request.setFromX(0.0);
+        request.setFromY(0.0);
+        request.setToTargetType(toTargetType);
+        request.setToTargetId(toTargetId);
+        request.setToX(100.0);
+        request.setToY(100.0);
+        request.setLineType(ConnectorLineType.STRAIGHT);
+        request.setStrokeColor("#000000");
+        request.setStrokeWidth(2.0);
+        request.setDashed(false);
+        request.setStartArrow(ConnectorArrowType.NONE);
+        request.setEndArrow(ConnectorArrowType.TRIANGLE);
+        request.setZIndex(1);
+        return connectorApplicationService.createConnector(userId, request).getId();
+    }
+
+    private UUID createOwnedBoard(User user, String title) {
+        Board board = new Board(title, "planning");
+        board.setOwnerId(user.getId());
+        board = boardRepository.save(board);
+        boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+        return board.getId();
+    }
+}
@@ -0,0 +1,190 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardSnapshotQueryService;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.connector.adapter.out.persistence.entity.Connector;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.DomainModelItemRepository;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.entity.DomainModelItem;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.textbox.adapter.out.persistence.TextBoxesRepository;
+import event.to.ai.backend.textbox.adapter.out.persistence.entity.TextBoxes;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 比較 Board 快照循序 / 平行讀取的延遲 (p50 / p99)
+// 執行方式：./gradlew benchmarkTest --tests '*BoardSnapshotBenchmarkTest'
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardSnapshotBenchmarkTest {
+
+    private static final int STICKY_NOTES = 3000;
+    private static final int TEXT_BOXES = 800;
+    private static final int FRAMES = 200;
+    private static final int DOMAIN_MODEL_ITEMS = 500;
+    private static final int CONNECTORS = 500;
+    private static final int TOTAL_ELEMENTS = STICKY_NOTES + TEXT_BOXES + FRAMES + DOMAIN_MODEL_ITEMS + CONNECTORS;
+
+    private static final int WARMUP_ITERATIONS = 30;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private BoardSnapshotQueryService boardSnapshotQueryService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private TextBoxesRepository textBoxesRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private DomainModelItemRepository domainModelItemRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    private UUID userId;
+    private UUID boardId;
+
+    @BeforeEach
+    void seedBoard() {
+        cleanUp();
+        User user = userRepository.save(new User("bench", "bench@example.com", "hash"));
+        Board board = new Board("Benchmark Board", "5k elements");
+        board.setOwnerId(user.getId());
+        board = boardRepository.save(board);
+        boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+
+        List<Frame> frames = new ArrayList<>();
+        for (int i = 0; i < FRAMES; i++) {
+            frames.add(BoardContentFixtures.frame(board, (i % 20) * 1000.0, (i / 20) * 800.0));
+        }
+        frames = frameRepository.saveAll(frames);
+
+        List<StickyNote> notes = new ArrayList<>();
+        for (int i = 0; i < STICKY_NOTES; i++) {
+            UUID frameId = frames.get(i % FRAMES).getId();
+            notes.add(BoardContentFixtures.stickyNote(board, frameId, i * 3.0, i * 2.0, "yellow"));
+        }
+        notes = stickyNoteRepository.saveAll(notes);
+
+        List<TextBoxes> textBoxes = new ArrayList<>();
+        for (int i = 0; i < TEXT_BOXES; i++) {
+            textBoxes.add(BoardContentFixtures.textBox(board, frames.get(i % FRAMES).getId(), i * 5.0, i * 4.0));
+        }
+        textBoxesRepository.saveAll(textBoxes);
+
+        List<DomainModelItem> items = new ArrayList<>();
+        for (int i = 0; i < DOMAIN_MODEL_ITEMS; i++) {
+            items.add(BoardContentFixtures.domainModelItem(board, frames.get(i % FRAMES).getId(), i * 7.0, i * 6.0));
+        }
+        domainModelItemRepository.saveAll(items);
+
+        List<Connector> connectors = new ArrayList<>();
+        for (int i = 0; i < CONNECTORS; i++) {
+            connectors.add(BoardContentFixtures.connector(board, notes.get(i).getId(), notes.get(i + 1).getId()));
+        }
+        connectorRepository.saveAll(connectors);
+
+        userId = user.getId();
+        boardId = board.getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        connectorRepository.deleteAllInBatch();
+        stickyNoteRepository.deleteAllInBatch();
+        textBoxesRepository.deleteAllInBatch();
+        domainModelItemRepository.deleteAllInBatch();
+        frameRepository.deleteAllInBatch();
+        boardMembershipRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareSequentialAndParallelSnapshotLatency() {
+        BoardComponentsDTO sequential = boardSnapshotQueryService.getBoardComponentsSequentially(userId, boardId);
+        BoardComponentsDTO parallel = boardSnapshotQueryService.getBoardComponentsInParallel(userId, boardId, 5);
+        assertEquals(TOTAL_ELEMENTS, countElements(sequential));
+        assertEquals(TOTAL_ELEMENTS, countElements(parallel));
+
+        long[] sequentialNanos = measure(() -> boardSnapshotQueryService.getBoardComponentsSequentially(userId, boardId));
+        long[] parallelNanos = measure(() -> boardSnapshotQueryService.getBoardComponentsInParallel(userId, boardId, 5));
+        long[] cappedNanos = measure(() -> boardSnapshotQueryService.getBoardComponentsInParallel(userId, boardId, 2));
+
+        report("sequential", sequentialNanos);
+        report("parallel (cap 5)", parallelNanos);
+        report("parallel (cap 2)", cappedNanos);
+    }
+
+    private long[] measure(Supplier<BoardComponentsDTO> snapshot) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            snapshot.get();
+        }
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            snapshot.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private void report(String mode, long[] sortedSamples) {
+        System.out.printf("[board-snapshot] %-18s elements=%d p50=%.2fms p99=%.2fms%n",
+                mode, TOTAL_ELEMENTS,
+                percentile(sortedSamples, 0.50) / 1_000_000.0,
+                percentile(sortedSamples, 0.99) / 1_000_000.0);
+    }
+
+    private long percentile(long[] sortedSamples, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(0, Math.min(index, sortedSamples.length - 1))];
+    }
+
+    private int countElements(BoardComponentsDTO components) {
+        return components.getStickyNotes().size()
+                + components.getTextBoxes().size()
+                + components.getFrames().size()
+                + components.getDomainModelItems().size()
+                + components.getConnectors().size();
+    }
+}
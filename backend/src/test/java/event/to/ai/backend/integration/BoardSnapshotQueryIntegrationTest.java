@@ -0,0 +1,201 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.in.web.dto.BoardComponentsDTO;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardSnapshotQueryService;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.DomainModelItemRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.textbox.adapter.out.persistence.TextBoxesRepository;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BoardSnapshotQueryIntegrationTest {
+
+    private static final int STICKY_NOTE_COUNT = 40;
+
+    @Autowired
+    private BoardSnapshotQueryService boardSnapshotQueryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private TextBoxesRepository textBoxesRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private DomainModelItemRepository domainModelItemRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        connectorRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        textBoxesRepository.deleteAll();
+        domainModelItemRepository.deleteAll();
+        frameRepository.deleteAll();
+        boardMembershipRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void boardSnapshotShouldUseOneStatementPerElementType() {
+        Feature.New("Board Snapshot Query")
+                .newScenario("Loading a board snapshot issues one membership check and one query per element type")
+                .Given("a board with every element type", env -> {
+                    User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+                    Board board = new Board("Team Board", "planning");
+                    board.setOwnerId(user.getId());
+                    board = boardRepository.save(board);
+                    boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+
+                    Frame frame = frameRepository.save(BoardContentFixtures.frame(board, 0, 0));
+                    List<StickyNote> notes = new ArrayList<>();
+                    for (int i = 0; i < STICKY_NOTE_COUNT; i++) {
+                        notes.add(BoardContentFixtures.stickyNote(board, frame.getId(), i * 10.0, i * 10.0, "yellow"));
+                    }
+                    notes = stickyNoteRepository.saveAll(notes);
+                    textBoxesRepository.save(BoardContentFixtures.textBox(board, frame.getId(), 10, 10));
+                    domainModelItemRepository.save(BoardContentFixtures.domainModelItem(board, frame.getId(), 20, 20));
+                    connectorRepository.save(BoardContentFixtures.connector(board, notes.get(0).getId(), notes.get(1).getId()));
+
+                    env.put("userId", user.getId());
+                    env.put("boardId", board.getId());
+                })
+                .When("loading the board snapshot", env -> {
+                    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                    statistics.clear();
+
+                    BoardComponentsDTO components = boardSnapshotQueryService.getBoardComponents(
+                            env.get("userId", UUID.class), env.get("boardId", UUID.class));
+
+                    env.put("components", components);
+                    env.put("statementCount", statistics.getPrepareStatementCount());
+                })
+                .Then("all elements are returned with a fixed number of statements", env -> {
+                    BoardComponentsDTO components = env.get("components", BoardComponentsDTO.class);
+                    assertEquals(STICKY_NOTE_COUNT, components.getStickyNotes().size());
+                    assertEquals(1, components.getTextBoxes().size());
+                    assertEquals(1, components.getFrames().size());
+                    assertEquals(1, components.getDomainModelItems().size());
+                    assertEquals(1, components.getDomainModelItems().getFirst().getAttributes().size());
+                    assertEquals(1, components.getConnectors().size());
+                    assertEquals(env.get("boardId", UUID.class), components.getStickyNotes().getFirst().getBoardId());
+
+                    // 1 條 membership 檢查 + 1 條 revision + 5 種元件各 1 條查詢，與元件數量無關
+                    assertEquals(7L, env.get("statementCount", Long.class));
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void parallelBoardSnapshotShouldMatchSequentialSnapshot() {
+        Feature.New("Board Snapshot Query")
+                .newScenario("Parallel snapshot loading returns the same components as sequential loading")
+                .Given("a board with sticky notes and a frame", env -> {
+                    User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+                    Board board = new Board("Team Board", "planning");
+                    board.setOwnerId(user.getId());
+                    board = boardRepository.save(board);
+                    boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+
+                    Frame frame = frameRepository.save(BoardContentFixtures.frame(board, 0, 0));
+                    for (int i = 0; i < STICKY_NOTE_COUNT; i++) {
+                        stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, frame.getId(), i, i, "orange"));
+                    }
+
+                    env.put("userId", user.getId());
+                    env.put("boardId", board.getId());
+                })
+                .When("loading the snapshot sequentially and in parallel with a concurrency cap of 2", env -> {
+                    UUID userId = env.get("userId", UUID.class);
+                    UUID boardId = env.get("boardId", UUID.class);
+                    env.put("sequential", boardSnapshotQueryService.getBoardComponentsSequentially(userId, boardId));
+                    env.put("parallel", boardSnapshotQueryService.getBoardComponentsInParallel(userId, boardId, 2));
+                })
+                .Then("both snapshots contain the same elements", env -> {
+                    BoardComponentsDTO sequential = env.get("sequential", BoardComponentsDTO.class);
+                    BoardComponentsDTO parallel = env.get("parallel", BoardComponentsDTO.class);
+                    assertEquals(STICKY_NOTE_COUNT, parallel.getStickyNotes().size());
+                    assertEquals(
+                            sequential.getStickyNotes().stream().map(note -> note.getId()).sorted().toList(),
+                            parallel.getStickyNotes().stream().map(note -> note.getId()).sorted().toList());
+                    assertEquals(1, parallel.getFrames().size());
+                    assertEquals(0, parallel.getConnectors().size());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void boardSnapshotShouldRejectNonMembers() {
+        Feature.New("Board Snapshot Query")
+                .newScenario("Loading a board snapshot requires board membership")
+                .Given("a board the actor is not a member of", env -> {
+                    User owner = userRepository.save(new User("alice", "alice@example.com", "hash"));
+                    User stranger = userRepository.save(new User("bob", "bob@example.com", "hash"));
+                    Board board = new Board("Team Board", "planning");
+                    board.setOwnerId(owner.getId());
+                    board = boardRepository.save(board);
+                    boardMembershipRepository.save(new BoardMembership(board, owner, BoardMembershipRole.OWNER));
+
+                    env.put("strangerId", stranger.getId());
+                    env.put("boardId", board.getId());
+                })
+                .When("the stranger loads the board snapshot", env -> {
+                    RuntimeException error = assertThrows(RuntimeException.class, () ->
+                            boardSnapshotQueryService.getBoardComponents(
+                                    env.get("strangerId", UUID.class), env.get("boardId", UUID.class)));
+                    env.put("error", error);
+                })
+                .Then("the snapshot is refused", env -> {
+                    RuntimeException error = env.get("error", RuntimeException.class);
+                    assertEquals("User is not a member of this board", error.getMessage());
+                })
+                .Execute();
+    }
+}
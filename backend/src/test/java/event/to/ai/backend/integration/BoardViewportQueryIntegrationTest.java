@@ -0,0 +1,155 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.application.BoardViewport;
+import event.to.ai.backend.board.application.port.out.BoardSnapshotRepositoryPort;
+import event.to.ai.backend.connector.adapter.in.web.dto.ConnectorDTO;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.connector.adapter.out.persistence.entity.Connector;
+import event.to.ai.backend.connector.adapter.out.persistence.entity.Point2D;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.DomainModelItemRepository;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDTO;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.entity.Frame;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.StickyNoteDTO;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.textbox.adapter.in.web.dto.TextBoxesDTO;
+import event.to.ai.backend.textbox.adapter.out.persistence.TextBoxesRepository;
+import event.to.ai.backend.textbox.adapter.out.persistence.entity.TextBoxes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 直接在 H2 上執行視窗查詢的 JPQL，確認 pos_x 下界與 connector 子查詢不會漏掉或多出元件
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardViewportQueryIntegrationTest {
+
+    private static final BoardViewport VIEWPORT = new BoardViewport(0, 0, 500, 500);
+
+    @Autowired
+    private BoardSnapshotRepositoryPort boardSnapshotRepositoryPort;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private TextBoxesRepository textBoxesRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private DomainModelItemRepository domainModelItemRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        connectorRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        textBoxesRepository.deleteAll();
+        domainModelItemRepository.deleteAll();
+        frameRepository.deleteAll();
+        boardRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void viewportQueryShouldReturnElementsIntersectingTheViewport() {
+        Feature.New("Board Viewport Query")
+                .newScenario("Elements starting left of the viewport are returned when they reach into it")
+                .Given("a board with elements inside, partly inside and outside the viewport", env -> {
+                    Board board = saveBoard("Team Board");
+                    // 800 寬的 frame 從 -700 開始，左緣遠在視窗外但右緣在視窗內
+                    Frame wideFrame = frameRepository.save(BoardContentFixtures.frame(board, -700, 100));
+                    frameRepository.save(BoardContentFixtures.frame(board, -900, 100));
+                    StickyNote inside = stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, 100, 100, "yellow"));
+                    StickyNote touchingLeftEdge = stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, -100, 100, "yellow"));
+                    stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, -150, 100, "yellow"));
+                    stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, 600, 100, "yellow"));
+                    stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, 100, 700, "yellow"));
+                    TextBoxes textBox = textBoxesRepository.save(BoardContentFixtures.textBox(board, null, 450, 450));
+                    // 其他 Board 上的元件不影響這張 Board 的最大寬度與結果
+                    Board otherBoard = saveBoard("Other Board");
+                    stickyNoteRepository.save(BoardContentFixtures.stickyNote(otherBoard, null, 100, 100, "yellow"));
+
+                    env.put("boardId", board.getId());
+                    env.put("frameIds", Set.of(wideFrame.getId()));
+                    env.put("noteIds", Set.of(inside.getId(), touchingLeftEdge.getId()));
+                    env.put("textBoxIds", Set.of(textBox.getId()));
+                })
+                .When("querying the viewport", env -> {
+                    UUID boardId = env.get("boardId", UUID.class);
+                    env.put("frames", boardSnapshotRepositoryPort.findFramesInViewport(boardId, VIEWPORT));
+                    env.put("notes", boardSnapshotRepositoryPort.findStickyNotesInViewport(boardId, VIEWPORT));
+                    env.put("textBoxes", boardSnapshotRepositoryPort.findTextBoxesInViewport(boardId, VIEWPORT));
+                    env.put("domainModelItems", boardSnapshotRepositoryPort.findDomainModelItemsInViewport(boardId, VIEWPORT));
+                })
+                .Then("only elements whose bounding box intersects the viewport are returned", env -> {
+                    List<FrameDTO> frames = env.get("frames", List.class);
+                    List<StickyNoteDTO> notes = env.get("notes", List.class);
+                    List<TextBoxesDTO> textBoxes = env.get("textBoxes", List.class);
+                    assertEquals(env.get("frameIds", Set.class), frames.stream().map(FrameDTO::getId).collect(Collectors.toSet()));
+                    assertEquals(env.get("noteIds", Set.class), notes.stream().map(StickyNoteDTO::getId).collect(Collectors.toSet()));
+                    assertEquals(env.get("textBoxIds", Set.class), textBoxes.stream().map(TextBoxesDTO::getId).collect(Collectors.toSet()));
+                    assertEquals(0, env.get("domainModelItems", List.class).size());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void viewportQueryShouldReturnConnectorsAnchoredOnVisibleElements() {
+        Feature.New("Board Viewport Query")
+                .newScenario("Connectors are resolved against the viewport without passing visible element ids")
+                .Given("connectors anchored on visible and hidden elements and a connector with a free end", env -> {
+                    Board board = saveBoard("Team Board");
+                    StickyNote visible = stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, 100, 100, "yellow"));
+                    StickyNote farAway = stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, 2000, 2000, "yellow"));
+                    StickyNote alsoFarAway = stickyNoteRepository.save(BoardContentFixtures.stickyNote(board, null, -2000, 2000, "yellow"));
+                    Frame wideFrame = frameRepository.save(BoardContentFixtures.frame(board, -700, 100));
+
+                    Connector fromVisible = connectorRepository.save(BoardContentFixtures.connector(board, visible.getId(), farAway.getId()));
+                    Connector toWideFrame = connectorRepository.save(BoardContentFixtures.connector(board, farAway.getId(), wideFrame.getId()));
+                    connectorRepository.save(BoardContentFixtures.connector(board, farAway.getId(), alsoFarAway.getId()));
+                    Connector freeEnd = BoardContentFixtures.connector(board, farAway.getId(), null);
+                    freeEnd.setToPoint(new Point2D(250.0, 250.0));
+                    freeEnd = connectorRepository.save(freeEnd);
+
+                    env.put("boardId", board.getId());
+                    env.put("connectorIds", Set.of(fromVisible.getId(), toWideFrame.getId(), freeEnd.getId()));
+                })
+                .When("querying connectors in the viewport", env -> {
+                    env.put("connectors", boardSnapshotRepositoryPort.findConnectorsInViewport(env.get("boardId", UUID.class), VIEWPORT));
+                })
+                .Then("connectors with an end on a visible element or a free end inside the viewport are returned", env -> {
+                    List<ConnectorDTO> connectors = env.get("connectors", List.class);
+                    assertEquals(env.get("connectorIds", Set.class),
+                            connectors.stream().map(ConnectorDTO::getId).collect(Collectors.toSet()));
+                })
+                .Execute();
+    }
+
+    private Board saveBoard(String title) {
+        Board board = new Board(title, "planning");
+        board.setOwnerId(UUID.randomUUID());
+        return boardRepository.save(board);
+    }
+}
@@ -0,0 +1,292 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.out.persistence.BoardElementTombstoneRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardMembershipRepository;
+import event.to.ai.backend.board.adapter.out.persistence.BoardRepository;
+import event.to.ai.backend.board.adapter.out.persistence.entity.Board;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardElementTombstone;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembership;
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.domain.BoardElementType;
+import event.to.ai.backend.connector.adapter.in.web.dto.CreateConnectorRequest;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.connector.application.ConnectorApplicationService;
+import event.to.ai.backend.connector.domain.ConnectorArrowType;
+import event.to.ai.backend.connector.domain.ConnectorLineType;
+import event.to.ai.backend.connector.domain.ConnectorTargetType;
+import event.to.ai.backend.frame.adapter.in.web.dto.CreateFrameRequest;
+import event.to.ai.backend.frame.adapter.in.web.dto.FrameDeletedDTO;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.frame.application.FrameApllicationService;
+import event.to.ai.backend.frame.domain.FrameDeleteMode;
+import event.to.ai.backend.stickynote.adapter.in.web.dto.CreateStickyNoteRequest;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.entity.StickyNote;
+import event.to.ai.backend.stickynote.application.StickyNoteApplicationService;
+import event.to.ai.backend.user.adapter.out.persistence.UserRepository;
+import event.to.ai.backend.user.adapter.out.persistence.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tw.teddysoft.ezspec.extension.junit5.EzScenario;
+import tw.teddysoft.ezspec.keyword.Feature;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FrameDeleteIntegrationTest {
+
+    @Autowired
+    private FrameApllicationService frameApllicationService;
+
+    @Autowired
+    private StickyNoteApplicationService stickyNoteApplicationService;
+
+    @Autowired
+    private ConnectorApplicationService connectorApplicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardMembershipRepository boardMembershipRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @Autowired
+    private BoardElementTombstoneRepository boardElementTombstoneRepository;
+
+    private UUID userId;
+    private UUID boardId;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        User user = userRepository.save(new User("alice", "alice@example.com", "hash"));
+        userId = user.getId();
+        Board board = new Board("Team Board", "planning");
+        board.setOwnerId(userId);
+        board = boardRepository.save(board);
+        boardMembershipRepository.save(new BoardMembership(board, user, BoardMembershipRole.OWNER));
+        boardId = board.getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        boardElementTombstoneRepository.deleteAll();
+        connectorRepository.deleteAll();
+        stickyNoteRepository.deleteAll();
+        frameRepository.deleteAll();
+        boardMembershipRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @EzScenario
+    public void detachShouldKeepChildrenOnTheBoard() {
+        Feature.New("Frame Deletion")
+                .newScenario("Deleting a frame in detach mode clears frame_id of its children in one revision")
+                .Given("a frame with two notes and a note outside it", env -> {
+                    UUID frameId = createFrame();
+                    env.put("frameId", frameId);
+                    env.put("inside", Set.of(createNote(frameId), createNote(frameId)));
+                    env.put("outside", createNote(null));
+                })
+                .When("the frame is deleted with mode detach", env ->
+                        env.put("result", frameApllicationService.deleteFrame(userId, env.get("frameId", UUID.class),
+                                FrameDeleteMode.DETACH)))
+                .Then("the notes remain without frame and carry the deletion revision", env -> {
+                    FrameDeletedDTO result = env.get("result", FrameDeletedDTO.class);
+                    @SuppressWarnings("unchecked")
+                    Set<UUID> inside = env.get("inside", Set.class);
+                    assertFalse(frameRepository.existsById(env.get("frameId", UUID.class)));
+                    assertEquals(inside, Set.copyOf(result.getDetached().get(BoardElementType.STICKY_NOTE)));
+                    assertEquals(1, result.getDeleted().size());
+                    for (UUID noteId : inside) {
+                        StickyNote note = stickyNoteRepository.findById(noteId).orElseThrow();
+                        assertNull(note.getFrameId());
+                        assertEquals(result.getRevision(), note.getRevision());
+                    }
+                    assertTrue(stickyNoteRepository.existsById(env.get("outside", UUID.class)));
+                    assertEquals(result.getRevision(), boardRepository.findById(boardId).orElseThrow().getRevision());
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void deleteShouldRemoveTheSubtree() {
+        Feature.New("Frame Deletion")
+                .newScenario("Deleting a frame in delete mode removes its children and leaves tombstones")
+                .Given("a frame with two notes and a note outside it", env -> {
+                    UUID frameId = createFrame();
+                    env.put("frameId", frameId);
+                    env.put("inside", Set.of(createNote(frameId), createNote(frameId)));
+                    env.put("outside", createNote(null));
+                })
+                .When("the frame is deleted with mode delete", env ->
+                        env.put("result", frameApllicationService.deleteFrame(userId, env.get("frameId", UUID.class),
+                                FrameDeleteMode.DELETE)))
+                .Then("only the note outside the frame is left and every removed element has a tombstone", env -> {
+                    FrameDeletedDTO result = env.get("result", FrameDeletedDTO.class);
+                    @SuppressWarnings("unchecked")
+                    Set<UUID> inside = env.get("inside", Set.class);
+                    assertEquals(List.of(env.get("outside", UUID.class)),
+                            stickyNoteRepository.findByBoardId(boardId).stream().map(StickyNote::getId).toList());
+                    assertTrue(result.getDetached().isEmpty());
+
+                    Set<UUID> tombstoneIds = boardElementTombstoneRepository.findAll().stream()
+                            .filter(tombstone -> tombstone.getRevision() == result.getRevision())
+                            .map(BoardElementTombstone::getElementId)
+                            .collect(Collectors.toSet());
+                    assertEquals(3, tombstoneIds.size());
+                    assertTrue(tombstoneIds.containsAll(inside));
+                    assertTrue(tombstoneIds.contains(env.get("frameId", UUID.class)));
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void deleteShouldRemoveConnectorsAnchoredOnRemovedChildren() {
+        Feature.New("Frame Deletion")
+                .newScenario("Deleting a frame in delete mode also removes connectors anchored on its children")
+                .Given("a note inside a frame connected to a note outside it, and a connector between two outside notes", env -> {
+                    UUID frameId = createFrame();
+                    UUID inside = createNote(frameId);
+                    UUID outside = createNote(null);
+                    env.put("frameId", frameId);
+                    env.put("outside", outside);
+                    env.put("anchored", createConnector(outside, inside));
+                    env.put("unrelated", createConnector(outside, createNote(null)));
+                })
+                .When("the frame is deleted with mode delete", env ->
+                        env.put("result", frameApllicationService.deleteFrame(userId, env.get("frameId", UUID.class),
+                                FrameDeleteMode.DELETE)))
+                .Then("the anchored connector is deleted with a tombstone and listed in the event", env -> {
+                    FrameDeletedDTO result = env.get("result", FrameDeletedDTO.class);
+                    UUID anchored = env.get("anchored", UUID.class);
+                    assertFalse(connectorRepository.existsById(anchored));
+                    assertTrue(connectorRepository.existsById(env.get("unrelated", UUID.class)));
+                    assertTrue(stickyNoteRepository.existsById(env.get("outside", UUID.class)));
+                    assertTrue(result.getDeleted().stream().anyMatch(deleted ->
+                            deleted.getId().equals(anchored) && deleted.getType() == BoardElementType.CONNECTOR));
+                    assertTrue(boardElementTombstoneRepository.findAll().stream().anyMatch(tombstone ->
+                            tombstone.getElementId().equals(anchored) && tombstone.getRevision() == result.getRevision()));
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void detachShouldRemoveConnectorsAnchoredOnTheFrameItself() {
+        Feature.New("Frame Deletion")
+                .newScenario("Deleting a frame in detach mode removes connectors whose end is the frame itself")
+                .Given("a connector from a note to the frame, a connector from the frame to a note inside it, and a connector between notes", env -> {
+                    UUID frameId = createFrame();
+                    UUID inside = createNote(frameId);
+                    UUID outside = createNote(null);
+                    env.put("frameId", frameId);
+                    env.put("toFrame", createConnector(ConnectorTargetType.STICKY_NOTE, outside, ConnectorTargetType.FRAME, frameId));
+                    env.put("fromFrame", createConnector(ConnectorTargetType.FRAME, frameId, ConnectorTargetType.STICKY_NOTE, inside));
+                    env.put("betweenNotes", createConnector(outside, inside));
+                })
+                .When("the frame is deleted with mode detach", env ->
+                        env.put("result", frameApllicationService.deleteFrame(userId, env.get("frameId", UUID.class),
+                                FrameDeleteMode.DETACH)))
+                .Then("both frame-anchored connectors are deleted with tombstones in the event and the other connector stays", env -> {
+                    assertFrameAnchoredConnectorsRemoved(env.get("result", FrameDeletedDTO.class),
+                            Set.of(env.get("toFrame", UUID.class), env.get("fromFrame", UUID.class)));
+                    assertTrue(connectorRepository.existsById(env.get("betweenNotes", UUID.class)));
+                })
+                .Execute();
+    }
+
+    @EzScenario
+    public void deleteShouldRemoveConnectorsAnchoredOnTheFrameItself() {
+        Feature.New("Frame Deletion")
+                .newScenario("Deleting a frame in delete mode removes connectors whose end is the frame itself")
+                .Given("a connector from an outside note to the frame", env -> {
+                    UUID frameId = createFrame();
+                    createNote(frameId);
+                    env.put("frameId", frameId);
+                    env.put("toFrame", createConnector(ConnectorTargetType.STICKY_NOTE, createNote(null),
+                            ConnectorTargetType.FRAME, frameId));
+                })
+                .When("the frame is deleted with mode delete", env ->
+                        env.put("result", frameApllicationService.deleteFrame(userId, env.get("frameId", UUID.class),
+                                FrameDeleteMode.DELETE)))
+                .Then("the connector is deleted with a tombstone in the event", env ->
+                        assertFrameAnchoredConnectorsRemoved(env.get("result", FrameDeletedDTO.class),
+                                Set.of(env.get("toFrame", UUID.class))))
+                .Execute();
+    }
+
+    private void assertFrameAnchoredConnectorsRemoved(FrameDeletedDTO result, Set<UUID> connectorIds) {
+        for (UUID connectorId : connectorIds) {
+            assertFalse(connectorRepository.existsById(connectorId));
+            assertEquals(1, result.getDeleted().stream().filter(deleted ->
+                    deleted.getId().equals(connectorId) && deleted.getType() == BoardElementType.CONNECTOR).count());
+            assertTrue(boardElementTombstoneRepository.findAll().stream().anyMatch(tombstone ->
+                    tombstone.getElementId().equals(connectorId) && tombstone.getRevision() == result.getRevision()));
+        }
+        List<UUID> detachedConnectors = result.getDetached().getOrDefault(BoardElementType.CONNECTOR, List.of());
+        assertTrue(detachedConnectors.stream().noneMatch(connectorIds::contains));
+    }
+
+    private UUID createConnector(UUID fromNoteId, UUID toNoteId) {
+        return createConnector(ConnectorTargetType.STICKY_NOTE, fromNoteId, ConnectorTargetType.STICKY_NOTE, toNoteId);
+    }
+
+    private UUID createConnector(ConnectorTargetType fromTargetType, UUID fromTargetId,
+                                 ConnectorTargetType toTargetType, UUID toTargetId) {
+        CreateConnectorRequest request = new CreateConnectorRequest();
+        request.setBoardId(boardId);
+        request.setFromTargetType(fromTargetType);
+        request.setFromTargetId(fromTargetId);
+        request.setFromX(0.0);
+        request.setFromY(0.0);
+        request.setToTargetType(toTargetType);
+        request.setToTargetId(toTargetId);
+        request.setToX(100.0);
+        request.setToY(100.0);
+        request.setLineType(ConnectorLineType.STRAIGHT);
+        request.setStrokeColor("#000000");
+        request.setStrokeWidth(2.0);
+        request.setDashed(false);
+        request.setStartArrow(ConnectorArrowType.NONE);
+        request.setEndArrow(ConnectorArrowType.TRIANGLE);
+        request.setZIndex(1);
+        return connectorApplicationService.createConnector(userId, request).getId();
+    }
+
+    private UUID createFrame() {
+        return frameApllicationService.createFrame(userId,
+                new CreateFrameRequest(boardId, 0.0, 0.0, 800.0, 600.0, "Context")).getId();
+    }
+
+    private UUID createNote(UUID frameId) {
+        CreateStickyNoteRequest request = new CreateStickyNoteRequest(
+                boardId, 10.0, 10.0, 100.0, 100.0, "note", "yellow", "sticky-note", "#000000", "20");
+        request.setFrameId(frameId);
+        return stickyNoteApplicationService.createStickyNote(userId, request).getId();
+    }
+}
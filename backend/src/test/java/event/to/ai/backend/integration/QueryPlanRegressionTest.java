@@ -0,0 +1,196 @@
+package event.to.ai.backend.integration;
+
+import event.to.ai.backend.board.adapter.out.persistence.BoardElementMovePersistenceAdapter;
+import event.to.ai.backend.board.application.BoardViewport;
+import event.to.ai.backend.board.application.port.out.BoardSnapshotRepositoryPort;
+import event.to.ai.backend.connector.adapter.out.persistence.ConnectorRepository;
+import event.to.ai.backend.domainmodel.adapter.out.persistence.DomainModelItemRepository;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameChildrenPersistenceAdapter;
+import event.to.ai.backend.frame.adapter.out.persistence.FrameRepository;
+import event.to.ai.backend.stickynote.adapter.out.persistence.StickyNoteRepository;
+import event.to.ai.backend.textbox.adapter.out.persistence.TextBoxesRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 以 H2 (MySQL mode) 的 EXPLAIN 檢查熱門查詢的執行計畫
+// 先實際呼叫 repository，收集 Hibernate 送出的 SQL，再逐一 EXPLAIN；任何一個退化成 tableScan 就失敗
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "event.to.ai.backend.integration.QueryPlanRegressionTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class QueryPlanRegressionTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000701");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StickyNoteRepository stickyNoteRepository;
+
+    @Autowired
+    private TextBoxesRepository textBoxesRepository;
+
+    @Autowired
+    private FrameRepository frameRepository;
+
+    @Autowired
+    private DomainModelItemRepository domainModelItemRepository;
+
+    @Autowired
+    private ConnectorRepository connectorRepository;
+
+    @Autowired
+    private BoardSnapshotRepositoryPort boardSnapshotRepositoryPort;
+
+    @Test
+    void elementQueriesByBoardShouldUseAnIndex() {
+        assertIndexed(() -> stickyNoteRepository.findByBoardId(BOARD_ID));
+        assertIndexed(() -> stickyNoteRepository.findByBoardIdAndColor(BOARD_ID, "yellow"));
+        assertIndexed(() -> textBoxesRepository.findByBoardId(BOARD_ID));
+        assertIndexed(() -> frameRepository.findByBoardId(BOARD_ID));
+        assertIndexed(() -> domainModelItemRepository.findByBoardId(BOARD_ID));
+        assertIndexed(() -> connectorRepository.findByBoardId(BOARD_ID));
+    }
+
+    @Test
+    void snapshotAndIncrementalQueriesShouldUseAnIndex() {
+        assertIndexed(() -> boardSnapshotRepositoryPort.findStickyNotesByBoardId(BOARD_ID));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findConnectorsByBoardId(BOARD_ID));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findStickyNotesChangedBetween(BOARD_ID, 1L, 5L));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findTextBoxesChangedBetween(BOARD_ID, 1L, 5L));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findFramesChangedBetween(BOARD_ID, 1L, 5L));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findDomainModelItemsChangedBetween(BOARD_ID, 1L, 5L));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findConnectorsChangedBetween(BOARD_ID, 1L, 5L));
+    }
+
+    @Test
+    void viewportQueriesShouldUseAnIndex() {
+        BoardViewport viewport = new BoardViewport(0, 0, 500, 500);
+        assertIndexed(() -> boardSnapshotRepositoryPort.findStickyNotesInViewport(BOARD_ID, viewport));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findTextBoxesInViewport(BOARD_ID, viewport));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findFramesInViewport(BOARD_ID, viewport));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findDomainModelItemsInViewport(BOARD_ID, viewport));
+        assertIndexed(() -> boardSnapshotRepositoryPort.findConnectorsInViewport(BOARD_ID, viewport));
+    }
+
+    // BoardElementMovePersistenceAdapter 直接走 JdbcTemplate，Hibernate 的 StatementInspector 收集不到，改由 CapturingJdbcTemplate 收集
+    @Test
+    void anchoredConnectorLookupShouldUseAnIndex() {
+        CapturingJdbcTemplate capturingJdbcTemplate = new CapturingJdbcTemplate(jdbcTemplate.getDataSource());
+        BoardElementMovePersistenceAdapter adapter = new BoardElementMovePersistenceAdapter(capturingJdbcTemplate);
+
+        adapter.findAnchoredConnectorIds(BOARD_ID, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        assertCapturedPlansIndexed(capturingJdbcTemplate);
+    }
+
+    // FrameChildrenPersistenceAdapter 同樣走 JdbcTemplate；flush 需要交易，整段在會 rollback 的交易內執行
+    // 沒有資料時 delete 不會送出，但 delete 與其前面的 select 使用同一個條件
+    @Test
+    void frameChildQueriesShouldUseAnIndex() {
+        CapturingJdbcTemplate capturingJdbcTemplate = new CapturingJdbcTemplate(jdbcTemplate.getDataSource());
+        FrameChildrenPersistenceAdapter adapter = new FrameChildrenPersistenceAdapter(capturingJdbcTemplate);
+        ReflectionTestUtils.setField(adapter, "entityManager", entityManager);
+        List<UUID> frameIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adapter.findChildIds(BOARD_ID, frameIds);
+            adapter.detachChildren(BOARD_ID, frameIds, 2L);
+            adapter.deleteConnectorsAnchoredOnFrames(BOARD_ID, frameIds);
+            adapter.deleteChildren(BOARD_ID, frameIds);
+            status.setRollbackOnly();
+        });
+
+        assertCapturedPlansIndexed(capturingJdbcTemplate);
+    }
+
+    private void assertCapturedPlansIndexed(CapturingJdbcTemplate capturingJdbcTemplate) {
+        assertFalse(capturingJdbcTemplate.statements.isEmpty(), "No SQL captured");
+        for (String sql : capturingJdbcTemplate.statements) {
+            assertPlanIndexed(sql, (int) sql.chars().filter(c -> c == '?').count());
+        }
+    }
+
+    private void assertIndexed(Runnable repositoryCall) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        repositoryCall.run();
+        List<String> statements = new ArrayList<>(CapturingStatementInspector.STATEMENTS);
+        assertFalse(statements.isEmpty(), "No SQL captured");
+        for (String sql : statements) {
+            assertPlanIndexed(sql, (int) sql.chars().filter(c -> c == '?').count());
+        }
+    }
+
+    // 參數值不影響 H2 在 prepare 時決定的執行計畫，一律綁 null
+    private void assertPlanIndexed(String sql, int parameterCount) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class,
+                new Object[parameterCount]));
+        assertFalse(plan.contains("tableScan"), () -> "Table scan in plan:\n" + plan);
+        assertTrue(plan.contains("IDX_") || plan.contains("PRIMARY_KEY"), () -> "No index in plan:\n" + plan);
+    }
+
+    private static final class CapturingJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        private CapturingJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            statements.add(sql);
+            super.query(sql, rch, args);
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            statements.add(sql);
+            return super.query(sql, rowMapper, args);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            statements.add(sql);
+            return super.update(sql, args);
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.regionMatches(true, 0, "select", 0, "select".length())) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
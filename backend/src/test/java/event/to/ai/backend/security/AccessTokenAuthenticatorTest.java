@@ -0,0 +1,84 @@
+package event.to.ai.backend.security;
+
+import event.to.ai.backend.user.application.UserDeletedEvent;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenAuthenticatorTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000101");
+
+    private JwtService jwtService;
+    private CustomUserDetailsService userDetailsService;
+    private TokenRevocationService tokenRevocationService;
+    private AccessTokenAuthenticator authenticator;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 3600);
+        userDetailsService = Mockito.mock(CustomUserDetailsService.class);
+        tokenRevocationService = new TokenRevocationService(3600, 100);
+        authenticator = new AccessTokenAuthenticator(jwtService, userDetailsService, tokenRevocationService);
+    }
+
+    @Test
+    void tokenWithUsernameClaimShouldNotLoadUser() {
+        String token = jwtService.generateToken(USER_ID, "alice");
+
+        AuthUserPrincipal principal = authenticator.authenticate(token);
+
+        assertEquals(USER_ID, principal.getId());
+        assertEquals("alice", principal.getUsername());
+        verify(userDetailsService, never()).loadUserById(any());
+    }
+
+    @Test
+    void legacyTokenWithoutUsernameShouldFallBackToUserLookup() {
+        AuthUserPrincipal stored = new AuthUserPrincipal(USER_ID, "alice", "hash");
+        when(userDetailsService.loadUserById(USER_ID)).thenReturn(stored);
+        Instant now = Instant.now();
+        String legacyToken = Jwts.builder()
+                .subject(USER_ID.toString())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertSame(stored, authenticator.authenticate(legacyToken));
+    }
+
+    @Test
+    void tokenOfDeletedUserShouldBeRejected() {
+        String token = jwtService.generateToken(USER_ID, "alice");
+
+        tokenRevocationService.onUserDeleted(new UserDeletedEvent(USER_ID));
+
+        assertThrows(JwtException.class, () -> authenticator.authenticate(token));
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyShouldBeRejected() {
+        String token = new JwtService("another-32-byte-minimum-secret-key-value", 3600)
+                .generateToken(USER_ID, "alice");
+
+        assertThrows(JwtException.class, () -> authenticator.authenticate(token));
+    }
+}
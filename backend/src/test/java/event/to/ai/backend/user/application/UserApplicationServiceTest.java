@@ -10,6 +10,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import tw.teddysoft.ezspec.extension.junit5.EzScenario;
 import tw.teddysoft.ezspec.keyword.Feature;
@@ -36,6 +37,9 @@ class UserApplicationServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserApplicationService userApplicationService;
 
@@ -294,6 +298,11 @@ class UserApplicationServiceTest {
                     UUID userId = env.get("userId", UUID.class);
                     verify(userRepositoryPort).deleteById(userId);
                 })
+                .And("a user deleted event should be published to revoke tokens", env -> {
+                    UUID userId = env.get("userId", UUID.class);
+                    verify(eventPublisher).publishEvent(argThat((Object event) ->
+                            event instanceof UserDeletedEvent deleted && deleted.getUserId().equals(userId)));
+                })
                 .Execute();
     }
 
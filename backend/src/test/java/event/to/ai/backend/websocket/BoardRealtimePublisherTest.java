@@ -0,0 +1,145 @@
+package event.to.ai.backend.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BoardRealtimePublisherTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000501");
+    private static final UUID OTHER_BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000502");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final String TOPIC = "/topic/boards/" + BOARD_ID + "/events";
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private BoardEventBus boardEventBus;
+    private BoardRealtimePublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        boardEventBus = Mockito.mock(BoardEventBus.class);
+        publisher = new BoardRealtimePublisher(boardEventBus, jsonMapper, true, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void eventsWithinOneWindowShouldBeSentAsOneEnvelopeInOrder() {
+        publisher.publish(BoardRealtimeEventType.STICKY_NOTE_CREATED, USER_ID, BOARD_ID, "first");
+        publisher.publish(BoardRealtimeEventType.STICKY_NOTE_UPDATED, USER_ID, BOARD_ID, "second");
+        publisher.publish(BoardRealtimeEventType.FRAME_CREATED, USER_ID, OTHER_BOARD_ID, "other");
+        verifyNoInteractions(boardEventBus);
+
+        publisher.flush();
+
+        Map<?, ?> envelope = sentTo(TOPIC);
+        assertEquals("board.batch", envelope.get("type"));
+        assertNull(envelope.get("userId"));
+        List<?> events = (List<?>) ((Map<?, ?>) envelope.get("payload")).get("events");
+        assertEquals(List.of("first", "second"), events.stream()
+                .map(event -> ((Map<?, ?>) event).get("payload"))
+                .toList());
+
+        // 只有一筆的 Board 直接送出原事件
+        assertEquals("frame.created", sentTo("/topic/boards/" + OTHER_BOARD_ID + "/events").get("type"));
+    }
+
+    @Test
+    void reachingMaxEventsShouldFlushWithoutWaitingForTheWindow() {
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(BoardRealtimeEventType.STICKY_NOTE_MOVED, USER_ID, BOARD_ID, i);
+        }
+
+        verify(boardEventBus, times(1)).publish(eq(TOPIC), any(Message.class));
+
+        publisher.flush();
+
+        verify(boardEventBus, times(1)).publish(anyString(), any(Message.class));
+    }
+
+    @Test
+    void eventsShouldOnlyBeQueuedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(BoardRealtimeEventType.STICKY_NOTE_DELETED, USER_ID, BOARD_ID, "rolled back");
+        publisher.flush();
+        verifyNoInteractions(boardEventBus);
+
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        publisher.flush();
+        verifyNoInteractions(boardEventBus);
+
+        TransactionSynchronizationManager.initSynchronization();
+        publisher.publish(BoardRealtimeEventType.STICKY_NOTE_CREATED, USER_ID, BOARD_ID, "committed");
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        publisher.flush();
+
+        assertEquals("committed", sentTo(TOPIC).get("payload"));
+    }
+
+    @Test
+    void disabledBatchingShouldSendEachEventImmediately() {
+        publisher = new BoardRealtimePublisher(boardEventBus, jsonMapper, false, 3);
+
+        publisher.publish(BoardRealtimeEventType.TEXT_BOX_CREATED, USER_ID, BOARD_ID, "a");
+        publisher.publish(BoardRealtimeEventType.TEXT_BOX_UPDATED, USER_ID, BOARD_ID, "b");
+
+        verify(boardEventBus, times(2)).publish(eq(TOPIC), any(Message.class));
+    }
+
+    @Test
+    void eventShouldBePreEncodedAsJson() {
+        Message<byte[]> message = publisher.encode(
+                new BoardRealtimeEvent(BoardRealtimeEventType.STICKY_NOTE_CREATED, USER_ID, BOARD_ID, Map.of("id", "n1")));
+
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, message.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+        Map<?, ?> json = jsonMapper.readValue(message.getPayload(), Map.class);
+        assertEquals("stickyNote.created", json.get("type"));
+        assertEquals(USER_ID.toString(), json.get("userId"));
+        assertEquals(BOARD_ID.toString(), json.get("boardId"));
+        assertEquals(Map.of("id", "n1"), json.get("payload"));
+    }
+
+    private Map<?, ?> sentTo(String topic) {
+        ArgumentCaptor<Message> message = ArgumentCaptor.forClass(Message.class);
+        verify(boardEventBus).publish(eq(topic), message.capture());
+        return jsonMapper.readValue((byte[]) message.getValue().getPayload(), Map.class);
+    }
+
+    // 模擬交易結束：依結果呼叫 afterCommit 與 afterCompletion
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package event.to.ai.backend.websocket;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 測試用的跨節點 bus：同一個 JVM 內模擬多個節點，每則事件轉送給每個節點的本地 broker 各一次
+class InMemoryBoardEventBus implements BoardEventBus {
+
+    private final List<SimpMessagingTemplate> nodes = new CopyOnWriteArrayList<>();
+    private final List<Consumer<CacheInvalidation>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    void join(SimpMessagingTemplate nodeMessagingTemplate) {
+        nodes.add(nodeMessagingTemplate);
+    }
+
+    @Override
+    public void publish(String destination, Message<byte[]> message) {
+        for (SimpMessagingTemplate node : nodes) {
+            node.send(destination, message);
+        }
+    }
+
+    // 包含送出的節點在內全部轉送，listener 本來就必須可重複套用
+    @Override
+    public void broadcastInvalidation(CacheInvalidation invalidation) {
+        invalidationListeners.forEach(listener -> listener.accept(invalidation));
+    }
+
+    @Override
+    public void onInvalidation(Consumer<CacheInvalidation> listener) {
+        invalidationListeners.add(listener);
+    }
+}
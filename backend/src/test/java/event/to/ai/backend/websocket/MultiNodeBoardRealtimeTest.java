@@ -0,0 +1,88 @@
+package event.to.ai.backend.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 兩個節點各自有本地 broker 與訂閱者，透過共用的 bus 互相看到對方的異動
+class MultiNodeBoardRealtimeTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000601");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final InMemoryBoardEventBus bus = new InMemoryBoardEventBus();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.broker.stop();
+        nodeB.broker.stop();
+    }
+
+    @Test
+    void eventPublishedOnOneNodeShouldReachSubscribersOnEveryNodeExactlyOnce() {
+        String topic = nodeA.publisher.topicFor(BOARD_ID);
+        nodeA.subscribe("alice", topic);
+        nodeB.subscribe("bob", topic);
+        nodeB.subscribe("carol", topic);
+
+        nodeA.publisher.publish(BoardRealtimeEventType.STICKY_NOTE_CREATED, USER_ID, BOARD_ID, "note");
+        nodeA.publisher.flush();
+        nodeB.publisher.flush();
+
+        assertEquals(1, nodeA.delivered.size());
+        assertEquals(2, nodeB.delivered.size());
+        Map<?, ?> received = jsonMapper.readValue((byte[]) nodeB.delivered.getFirst().getPayload(), Map.class);
+        assertEquals("stickyNote.created", received.get("type"));
+        assertEquals("note", received.get("payload"));
+    }
+
+    private final class Node {
+
+        private final SimpleBrokerMessageHandler broker;
+        private final BoardRealtimePublisher publisher;
+        private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+
+        private Node() {
+            ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+            clientOutboundChannel.subscribe(delivered::add);
+            ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+            broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutboundChannel,
+                    brokerChannel, List.of("/topic"));
+            broker.start();
+            bus.join(new SimpMessagingTemplate(brokerChannel));
+            publisher = new BoardRealtimePublisher(bus, jsonMapper, true, 100);
+        }
+
+        private void subscribe(String sessionId, String destination) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(destination);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package event.to.ai.backend.websocket;
+
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardAccessService;
+import event.to.ai.backend.board.application.BoardMembershipChangedEvent;
+import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
+import event.to.ai.backend.security.TokenRevocationService;
+import event.to.ai.backend.user.application.UserDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.ReactorNettyTcpStompClient;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// relay 模式：兩個節點各有自己的 BrokerBoardEventBus 與本地快取，外部 broker 以把訊息送給每個節點的訂閱代替
+class RelayCacheInvalidationTest {
+
+    private static final UUID BOARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000701");
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final List<Node> nodes = new CopyOnWriteArrayList<>();
+    private final List<StompHeaders> relayed = new CopyOnWriteArrayList<>();
+
+    @Test
+    void membershipChangeOnOneNodeShouldInvalidateAccessCacheOnOtherNodes() {
+        Node nodeA = new Node(true);
+        Node nodeB = new Node(true);
+        nodeA.boardAccessService.findRole(BOARD_ID, USER_ID);
+        nodeB.boardAccessService.findRole(BOARD_ID, USER_ID);
+        nodeB.boardAccessService.findRole(BOARD_ID, USER_ID);
+        verify(nodeB.membershipPort, times(1)).findRoleByBoardIdAndUserId(BOARD_ID, USER_ID);
+
+        BoardMembershipChangedEvent event = BoardMembershipChangedEvent.member(BOARD_ID, USER_ID);
+        nodeA.boardAccessService.onMembershipChanged(event);
+        nodeA.listener.onMembershipChanged(event);
+
+        assertEquals(1, relayed.size());
+        StompHeaders headers = relayed.getFirst();
+        assertEquals(BrokerBoardEventBus.INVALIDATION_DESTINATION, headers.getDestination());
+        assertTrue(headers.getFirst(BrokerBoardEventBus.NODE_ID_HEADER) != null);
+
+        nodeB.boardAccessService.findRole(BOARD_ID, USER_ID);
+        verify(nodeB.membershipPort, times(2)).findRoleByBoardIdAndUserId(BOARD_ID, USER_ID);
+        // 送出的節點自己會收到 broker 送回的同一則通知，但不會再清一次
+        nodeA.boardAccessService.findRole(BOARD_ID, USER_ID);
+        verify(nodeA.membershipPort, times(2)).findRoleByBoardIdAndUserId(BOARD_ID, USER_ID);
+    }
+
+    @Test
+    void wholeBoardChangeShouldInvalidateEveryMemberOnOtherNodes() {
+        Node nodeA = new Node(true);
+        Node nodeB = new Node(true);
+        UUID otherUserId = UUID.randomUUID();
+        nodeB.boardAccessService.findRole(BOARD_ID, USER_ID);
+        nodeB.boardAccessService.findRole(BOARD_ID, otherUserId);
+
+        nodeA.listener.onMembershipChanged(BoardMembershipChangedEvent.wholeBoard(BOARD_ID));
+
+        nodeB.boardAccessService.findRole(BOARD_ID, USER_ID);
+        nodeB.boardAccessService.findRole(BOARD_ID, otherUserId);
+        verify(nodeB.membershipPort, times(2)).findRoleByBoardIdAndUserId(BOARD_ID, USER_ID);
+        verify(nodeB.membershipPort, times(2)).findRoleByBoardIdAndUserId(BOARD_ID, otherUserId);
+    }
+
+    @Test
+    void deletedUserShouldBeRevokedOnEveryNode() {
+        Node nodeA = new Node(true);
+        Node nodeB = new Node(true);
+
+        UserDeletedEvent event = new UserDeletedEvent(USER_ID);
+        nodeA.tokenRevocationService.onUserDeleted(event);
+        nodeA.listener.onUserDeleted(event);
+
+        assertTrue(nodeA.tokenRevocationService.isRevoked(USER_ID));
+        assertTrue(nodeB.tokenRevocationService.isRevoked(USER_ID));
+    }
+
+    @Test
+    void simpleModeShouldNotBroadcastInvalidations() {
+        Node node = new Node(false);
+
+        node.listener.onUserDeleted(new UserDeletedEvent(USER_ID));
+
+        assertTrue(relayed.isEmpty());
+        assertFalse(node.tokenRevocationService.isRevoked(USER_ID));
+    }
+
+    private final class Node {
+
+        private final BoardMembershipRepositoryPort membershipPort = Mockito.mock(BoardMembershipRepositoryPort.class);
+        private final BoardAccessService boardAccessService = new BoardAccessService(membershipPort, 60, 100);
+        private final TokenRevocationService tokenRevocationService = new TokenRevocationService(3600, 100);
+        private final BrokerBoardEventBus bus;
+        private final ClusterCacheInvalidationListener listener;
+
+        private Node(boolean relay) {
+            when(membershipPort.findRoleByBoardIdAndUserId(Mockito.any(), Mockito.any()))
+                    .thenReturn(Optional.of(BoardMembershipRole.EDITOR));
+            // 專用連線送出的通知由外部 broker 轉給所有節點 (包含送出的節點) 的訂閱
+            bus = new BrokerBoardEventBus(new SimpMessagingTemplate(new ExecutorSubscribableChannel()), jsonMapper,
+                    relay ? Mockito.mock(ReactorNettyTcpStompClient.class) : null, new StompHeaders()) {
+                @Override
+                void sendInvalidation(StompHeaders headers, byte[] payload) {
+                    relayed.add(headers);
+                    nodes.forEach(node -> node.bus.receiveInvalidation(
+                            headers.getFirst(BrokerBoardEventBus.NODE_ID_HEADER), payload));
+                }
+            };
+            listener = new ClusterCacheInvalidationListener(bus, boardAccessService, tokenRevocationService);
+            nodes.add(this);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package event.to.ai.backend.websocket.interceptor;
 
+import event.to.ai.backend.board.adapter.out.persistence.entity.BoardMembershipRole;
+import event.to.ai.backend.board.application.BoardAccessService;
 import event.to.ai.backend.board.application.port.out.BoardMembershipRepositoryPort;
 import event.to.ai.backend.security.AuthUserPrincipal;
 import event.to.ai.backend.user.application.port.out.UserRepositoryPort;
@@ -11,6 +13,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -25,12 +28,14 @@ class BoardSubscriptionAuthorizationChannelInterceptorTest {
         BoardMembershipRepositoryPort boardMembershipRepositoryPort = Mockito.mock(BoardMembershipRepositoryPort.class);
         UserRepositoryPort userRepositoryPort = Mockito.mock(UserRepositoryPort.class);
         BoardSubscriptionAuthorizationChannelInterceptor interceptor =
-                new BoardSubscriptionAuthorizationChannelInterceptor(boardMembershipRepositoryPort, userRepositoryPort);
+                new BoardSubscriptionAuthorizationChannelInterceptor(
+                        new BoardAccessService(boardMembershipRepositoryPort, 60, 100), userRepositoryPort);
 
         UUID boardId = UUID.fromString("00000000-0000-0000-0000-000000000201");
         UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000202");
         AuthUserPrincipal principal = new AuthUserPrincipal(userId, "alice", "hash");
-        when(boardMembershipRepositoryPort.existsByBoardIdAndUserId(boardId, userId)).thenReturn(true);
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(boardId, userId))
+                .thenReturn(Optional.of(BoardMembershipRole.VIEWER));
 
         StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
         accessor.setDestination("/topic/boards/" + boardId);
@@ -38,7 +43,9 @@ class BoardSubscriptionAuthorizationChannelInterceptorTest {
         Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
 
         assertDoesNotThrow(() -> interceptor.preSend(message, null));
-        verify(boardMembershipRepositoryPort).existsByBoardIdAndUserId(boardId, userId);
+        // 同一位成員重新訂閱時直接命中快取，不再查詢資料庫
+        assertDoesNotThrow(() -> interceptor.preSend(message, null));
+        verify(boardMembershipRepositoryPort).findRoleByBoardIdAndUserId(boardId, userId);
     }
 
     @Test
@@ -46,12 +53,13 @@ class BoardSubscriptionAuthorizationChannelInterceptorTest {
         BoardMembershipRepositoryPort boardMembershipRepositoryPort = Mockito.mock(BoardMembershipRepositoryPort.class);
         UserRepositoryPort userRepositoryPort = Mockito.mock(UserRepositoryPort.class);
         BoardSubscriptionAuthorizationChannelInterceptor interceptor =
-                new BoardSubscriptionAuthorizationChannelInterceptor(boardMembershipRepositoryPort, userRepositoryPort);
+                new BoardSubscriptionAuthorizationChannelInterceptor(
+                        new BoardAccessService(boardMembershipRepositoryPort, 60, 100), userRepositoryPort);
 
         UUID boardId = UUID.fromString("00000000-0000-0000-0000-000000000203");
         UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000204");
         AuthUserPrincipal principal = new AuthUserPrincipal(userId, "bob", "hash");
-        when(boardMembershipRepositoryPort.existsByBoardIdAndUserId(boardId, userId)).thenReturn(false);
+        when(boardMembershipRepositoryPort.findRoleByBoardIdAndUserId(boardId, userId)).thenReturn(Optional.empty());
 
         StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
         accessor.setDestination("/topic/boards/" + boardId + "/events");
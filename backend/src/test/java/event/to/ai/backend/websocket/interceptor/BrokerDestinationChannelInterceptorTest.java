@@ -0,0 +1,62 @@
+package event.to.ai.backend.websocket.interceptor;
+
+import event.to.ai.backend.security.AuthUserPrincipal;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BrokerDestinationChannelInterceptorTest {
+
+    private static final AuthUserPrincipal PRINCIPAL =
+            new AuthUserPrincipal(UUID.fromString("00000000-0000-0000-0000-000000000301"), "mallory", "hash");
+
+    private final BrokerDestinationChannelInterceptor interceptor = new BrokerDestinationChannelInterceptor();
+
+    @Test
+    void preSendShouldRejectClientSendToClusterInvalidations() {
+        Message<byte[]> message = frame(StompCommand.SEND, "/topic/cluster.cache-invalidations",
+                "{\"type\":\"REVOKED_USER\",\"userId\":\"00000000-0000-0000-0000-000000000001\"}");
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    void preSendShouldRejectClientSubscriptionToClusterInvalidations() {
+        Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/topic/cluster.cache-invalidations", "");
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    void preSendShouldRejectClientSendToBoardTopic() {
+        Message<byte[]> message = frame(StompCommand.SEND,
+                "/topic/boards/00000000-0000-0000-0000-000000000302/events", "{}");
+
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, null));
+    }
+
+    @Test
+    void preSendShouldAllowApplicationSendAndBoardSubscription() {
+        UUID boardId = UUID.fromString("00000000-0000-0000-0000-000000000302");
+
+        assertDoesNotThrow(() -> interceptor.preSend(frame(StompCommand.SEND, "/app/boards/" + boardId + "/moves", "{}"), null));
+        assertDoesNotThrow(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/boards/" + boardId + "/events", ""), null));
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, String body) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setNativeHeader("x-node-id", "forged-node");
+        accessor.setUser(PRINCIPAL);
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
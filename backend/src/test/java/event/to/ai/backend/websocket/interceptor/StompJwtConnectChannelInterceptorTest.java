@@ -1,8 +1,7 @@
 package event.to.ai.backend.websocket.interceptor;
 
+import event.to.ai.backend.security.AccessTokenAuthenticator;
 import event.to.ai.backend.security.AuthUserPrincipal;
-import event.to.ai.backend.security.CustomUserDetailsService;
-import event.to.ai.backend.security.JwtService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.messaging.Message;
@@ -21,15 +20,12 @@ class StompJwtConnectChannelInterceptorTest {
 
     @Test
     void preSendShouldAttachPrincipalForValidConnectToken() {
-        JwtService jwtService = Mockito.mock(JwtService.class);
-        CustomUserDetailsService customUserDetailsService = Mockito.mock(CustomUserDetailsService.class);
-        StompJwtConnectChannelInterceptor interceptor = new StompJwtConnectChannelInterceptor(jwtService, customUserDetailsService);
+        AccessTokenAuthenticator accessTokenAuthenticator = Mockito.mock(AccessTokenAuthenticator.class);
+        StompJwtConnectChannelInterceptor interceptor = new StompJwtConnectChannelInterceptor(accessTokenAuthenticator);
 
         UUID userId = UUID.fromString("00000000-0000-0000-0000-000000000101");
         AuthUserPrincipal principal = new AuthUserPrincipal(userId, "alice", "hash");
-        when(jwtService.extractUserId("token-123")).thenReturn(userId);
-        when(jwtService.isTokenValid("token-123", userId)).thenReturn(true);
-        when(customUserDetailsService.loadUserById(userId)).thenReturn(principal);
+        when(accessTokenAuthenticator.authenticate("token-123")).thenReturn(principal);
 
         StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
         accessor.addNativeHeader("Authorization", "Bearer token-123");
@@ -43,9 +39,8 @@ class StompJwtConnectChannelInterceptorTest {
 
     @Test
     void preSendShouldRejectMissingAuthorizationHeader() {
-        JwtService jwtService = Mockito.mock(JwtService.class);
-        CustomUserDetailsService customUserDetailsService = Mockito.mock(CustomUserDetailsService.class);
-        StompJwtConnectChannelInterceptor interceptor = new StompJwtConnectChannelInterceptor(jwtService, customUserDetailsService);
+        AccessTokenAuthenticator accessTokenAuthenticator = Mockito.mock(AccessTokenAuthenticator.class);
+        StompJwtConnectChannelInterceptor interceptor = new StompJwtConnectChannelInterceptor(accessTokenAuthenticator);
 
         StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
         Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
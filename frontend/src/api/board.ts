@@ -5,6 +5,24 @@ export interface BoardMemberPayload {
 	role: 'OWNER' | 'EDITOR' | 'VIEWER';
 }
 
+export interface BoardElementMovePayload {
+	type: 'STICKY_NOTE' | 'TEXT_BOX' | 'FRAME';
+	id: string;
+	posX: number;
+	posY: number;
+	width?: number;
+	height?: number;
+}
+
+type BoardElementKind = 'stickyNotes' | 'textBoxes' | 'frames' | 'domainModelItems' | 'connectors';
+
+// tempId 為前端產生的 UUID，同一批內的 frameId / fromTargetId / toTargetId 可直接引用
+export interface BoardElementsBatchPayload {
+	create?: Partial<Record<BoardElementKind, { tempId: string; data: Record<string, unknown> }[]>>;
+	update?: Partial<Record<BoardElementKind, { id: string; data: Record<string, unknown> }[]>>;
+	delete?: { type: 'STICKY_NOTE' | 'TEXT_BOX' | 'FRAME' | 'DOMAIN_MODEL_ITEM' | 'CONNECTOR'; id: string }[];
+}
+
 export const boardApi = {
 	async list() {
 		const response = await apiClient.get('/boards', {
@@ -41,6 +59,28 @@ export const boardApi = {
 		return response.data;
 	},
 
+	async getChanges(boardId: string, since: number) {
+		const response = await apiClient.get(`/boards/${boardId}/changes`, {
+			params: { since },
+			headers: buildAuthHeaders(),
+		});
+		return response.data;
+	},
+
+	async moveElements(boardId: string, moves: BoardElementMovePayload[]) {
+		const response = await apiClient.post(`/boards/${boardId}/moves`, { moves }, {
+			headers: buildAuthHeaders(),
+		});
+		return response.data;
+	},
+
+	async applyElementsBatch(boardId: string, payload: BoardElementsBatchPayload) {
+		const response = await apiClient.post(`/boards/${boardId}/elements:batch`, payload, {
+			headers: buildAuthHeaders(),
+		});
+		return response.data;
+	},
+
 	async getMembers(boardId: string) {
 		const response = await apiClient.get(`/boards/board_member/${boardId}`, {
 			headers: buildAuthHeaders(),
@@ -7,4 +7,17 @@ export const commonApi = {
 		});
 		return response.data;
 	},
+	// 非同步分析：回傳工作狀態，之後以 getAnalysisJob 查詢進度與結果
+	async submitAnalysisJob(boardId: string) {
+		const response = await apiClient.post('/analysis/jobs', { boardId: boardId }, {
+			headers: buildAuthHeaders(),
+		});
+		return response.data;
+	},
+	async getAnalysisJob(jobId: string) {
+		const response = await apiClient.get(`/analysis/jobs/${jobId}`, {
+			headers: buildAuthHeaders(),
+		});
+		return response.data;
+	},
 };
\ No newline at end of file
@@ -100,9 +100,11 @@ export const frameApi = {
 		return response.data;
 	},
 
-    async delete(elementId: string) {
+    // mode=detach 保留子元件並清除 frameId，mode=delete 連同子元件一起刪除
+    async delete(elementId: string, mode: 'detach' | 'delete' = 'detach') {
 		const response = await apiClient.delete(`/frames/${elementId}`, {
 			headers: buildAuthHeaders(),
+			params: { mode },
 		});
 		return response.data;
 	},
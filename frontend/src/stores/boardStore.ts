@@ -5,9 +5,46 @@ import type { CanvasTransform, BoardState } from '@/types/board';
 import { saveStateToLocalStorage } from '@/utils/localStorage';
 import { debounce } from '@/utils/debounce';
 import router from '@/router';
-import { stickyNoteApi, textBoxApi, frameApi, domainModelItemApi, connectorApi } from '@/api';
+import {
+  boardApi,
+  stickyNoteApi,
+  textBoxApi,
+  frameApi,
+  domainModelItemApi,
+  connectorApi,
+  type BoardElementMovePayload,
+  type BoardElementsBatchPayload,
+} from '@/api';
 import { getNameByHex } from '@/constants/colors';
 
+// 與後端 app.board.batch.max-operations 的預設值相同，超過時分成多批送出
+const BATCH_MAX_OPERATIONS = 500;
+
+type BatchDeleteType = NonNullable<BoardElementsBatchPayload['delete']>[number]['type'];
+
+const BATCH_DELETE_TYPES: Record<ElementType, BatchDeleteType> = {
+  [ElementType.StickyNote]: 'STICKY_NOTE',
+  [ElementType.Text]: 'TEXT_BOX',
+  [ElementType.Frame]: 'FRAME',
+  [ElementType.DomainModelItem]: 'DOMAIN_MODEL_ITEM',
+  [ElementType.Connector]: 'CONNECTOR',
+};
+
+// /moves 只接受這三種元件
+const MOVE_ELEMENT_TYPES: Partial<Record<ElementType, BoardElementMovePayload['type']>> = {
+  [ElementType.StickyNote]: 'STICKY_NOTE',
+  [ElementType.Text]: 'TEXT_BOX',
+  [ElementType.Frame]: 'FRAME',
+};
+
+function chunk<T>(items: T[], size: number): T[][] {
+  const chunks: T[][] = [];
+  for (let i = 0; i < items.length; i += size) {
+    chunks.push(items.slice(i, i + size));
+  }
+  return chunks;
+}
+
 export interface BoardStoreState {
   elements: BoardElement[];
   selectedElementIds: string[];
@@ -230,6 +267,54 @@ export const useBoardStore = defineStore('board', {
       ); // Deselect deleted elements
     },
 
+    // 以批次 API 刪除，每批一個交易、只廣播一則 elements.batched；回傳後端確實刪除的 id
+    async deleteElementsFromBackend(ids: string[]): Promise<string[]> {
+      const boardId = this.getCurrentBoardId();
+      if (!boardId) return [];
+
+      const operations = ids
+        .map((id) => this.getElementById(id))
+        .filter((element): element is BoardElement => Boolean(element))
+        .map((element) => ({ type: BATCH_DELETE_TYPES[element.type], id: element.id }));
+
+      const deletedIds: string[] = [];
+      for (const operationChunk of chunk(operations, BATCH_MAX_OPERATIONS)) {
+        try {
+          await boardApi.applyElementsBatch(boardId, { delete: operationChunk });
+          deletedIds.push(...operationChunk.map((operation) => operation.id));
+        } catch (error) {
+          console.error('Failed to delete elements:', error);
+        }
+      }
+      return deletedIds;
+    },
+
+    // 一次移動多個元件 (例如拖曳 frame 時連同其中的元件)，以一次 /moves 送出，後端合併寫入並廣播 *.moved
+    // /moves 不支援的類型仍逐一更新
+    moveElements(moves: { id: string; x: number; y: number }[]) {
+      const boardId = this.getCurrentBoardId();
+      const payload: BoardElementMovePayload[] = [];
+
+      for (const move of moves) {
+        const element = this.getElementById(move.id);
+        if (!element) continue;
+
+        const type = MOVE_ELEMENT_TYPES[element.type];
+        if (!boardId || !type) {
+          this.updateElement(move.id, { x: move.x, y: move.y });
+          continue;
+        }
+        this.updateElementLocal(move.id, { x: move.x, y: move.y });
+        payload.push({ type, id: move.id, posX: move.x, posY: move.y });
+      }
+
+      if (boardId && payload.length > 0) {
+        boardApi.moveElements(boardId, payload).catch((error) => {
+          console.error('Failed to move elements:', error);
+        });
+      }
+    },
+
     selectElement(id: string | null, multiple: boolean = false) {
       if (id === null) {
         this.selectedElementIds = [];
@@ -332,6 +417,7 @@ export const useBoardStore = defineStore('board', {
       // The View will call deleteSelectedElements after calling this.
     },
 
+    // 整份剪貼簿以一次批次 API 建立；frame 內的元件以 frame 的 tempId 當作 frameId，由後端換成真正的 id
     async paste() {
       if (this.clipboard.length === 0) return;
 
@@ -339,116 +425,127 @@ export const useBoardStore = defineStore('board', {
       if (!boardId) return;
 
       const OFFSET = 30;
-      const pastedIds: string[] = [];
-      const oldToNewIdMap = new Map<string, string>();
 
       // Sort clipboard so frames are pasted first to establish new frame IDs
-      const sortedClipboard = [...this.clipboard].sort((a, b) => {
-        if (a.type === ElementType.Frame && b.type !== ElementType.Frame) return -1;
-        if (a.type !== ElementType.Frame && b.type === ElementType.Frame) return 1;
-        return 0;
-      });
+      // Skip connectors for now
+      const sortedClipboard = this.clipboard
+        .filter((element) => element.type !== ElementType.Connector)
+        .sort((a, b) => {
+          if (a.type === ElementType.Frame && b.type !== ElementType.Frame) return -1;
+          if (a.type !== ElementType.Frame && b.type === ElementType.Frame) return 1;
+          return 0;
+        });
 
-      for (const element of sortedClipboard) {
-        // Skip connectors for now
-        if (element.type === ElementType.Connector) {
-          continue;
-        }
+      const tempIdByOldId = new Map<string, string>();
+      sortedClipboard.forEach((element) => tempIdByOldId.set(element.id, uuidv4()));
 
-        let createdId: string | null = null;
-        const newPos = {
+      const pending = sortedClipboard.map((element) => ({
+        tempId: tempIdByOldId.get(element.id) as string,
+        element: {
+          ...element,
           x: (element as any).x + OFFSET,
           y: (element as any).y + OFFSET,
-        };
+          // Determine the new frameId if the element belonged to a frame that was also copied
+          frameId: (element as any).frameId ? (tempIdByOldId.get((element as any).frameId) || null) : null,
+        } as BoardElement,
+      }));
 
-        // Determine the new frameId if the element belonged to a frame that was also copied
-        const newFrameId = (element as any).frameId ? (oldToNewIdMap.get((element as any).frameId) || null) : null;
+      // 超過單批上限時分批送出，前一批建立的 frame 已有真正的 id，後面的批次直接引用
+      const createdIds = new Map<string, string>();
+      const pastedIds: string[] = [];
+      for (const pendingChunk of chunk(pending, BATCH_MAX_OPERATIONS)) {
+        const create: NonNullable<BoardElementsBatchPayload['create']> = {};
+        for (const { tempId, element } of pendingChunk) {
+          const frameId = element.frameId ? (createdIds.get(element.frameId) ?? element.frameId) : null;
+          const e = element as any;
 
-        try {
           if (element.type === ElementType.StickyNote) {
-            const res = await stickyNoteApi.create({
-              boardId,
-              posX: newPos.x,
-              posY: newPos.y,
-              geoX: (element as any).width,
-              geoY: (element as any).height,
-              description: (element as any).text,
-              color: getNameByHex((element as any).backgroundColor),
-              fontColor: (element as any).textColor,
-              fontSize: (element as any).fontSize,
-              tag: 'sticky-note',
+            (create.stickyNotes ??= []).push({
+              tempId,
+              data: {
+                posX: e.x,
+                posY: e.y,
+                geoX: e.width,
+                geoY: e.height,
+                frameId,
+                description: e.text,
+                color: getNameByHex(e.backgroundColor),
+                fontColor: e.textColor,
+                fontSize: e.fontSize,
+                tag: 'sticky-note',
+              },
             });
-            createdId = res.id;
           } else if (element.type === ElementType.Text) {
-            const res = await textBoxApi.create({
-              boardId,
-              posX: newPos.x,
-              posY: newPos.y,
-              geoX: (element as any).width,
-              geoY: (element as any).height,
-              description: (element as any).text,
-              fontColor: (element as any).textColor,
-              fontSize: (element as any).fontSize,
-              color: '#FFFFFF',
-              tag: 'text-box',
+            (create.textBoxes ??= []).push({
+              tempId,
+              data: {
+                posX: e.x,
+                posY: e.y,
+                geoX: e.width,
+                geoY: e.height,
+                frameID: frameId,
+                description: e.text,
+                fontColor: e.textColor,
+                fontSize: e.fontSize,
+                color: '#FFFFFF',
+                tag: 'text-box',
+              },
             });
-            createdId = res.id;
           } else if (element.type === ElementType.Frame) {
-            const res = await frameApi.create({
-              boardId,
-              posX: newPos.x,
-              posY: newPos.y,
-              width: (element as any).width,
-              height: (element as any).height,
-              title: (element as any).title,
+            (create.frames ??= []).push({
+              tempId,
+              data: {
+                posX: e.x,
+                posY: e.y,
+                width: e.width,
+                height: e.height,
+                title: e.title,
+              },
             });
-            createdId = res.id;
           } else if (element.type === ElementType.DomainModelItem) {
-            const res = await domainModelItemApi.create({
-              boardId,
-              posX: newPos.x,
-              posY: newPos.y,
-              width: (element as any).width,
-              height: (element as any).height,
-              name: (element as any).name,
-              type: (element as any).modelType,
-              attributes: (element as any).attributes,
-              // DomainModelItem doesn't support frameId on backend yet
+            (create.domainModelItems ??= []).push({
+              tempId,
+              data: {
+                posX: e.x,
+                posY: e.y,
+                width: e.width,
+                height: e.height,
+                name: e.name,
+                type: e.modelType,
+                attributes: e.attributes,
+                // DomainModelItem doesn't support frameId on backend yet
+              },
             });
-            createdId = res.id;
           }
+        }
 
-          if (createdId) {
-            oldToNewIdMap.set(element.id, createdId);
-            this.addElement(
-              {
-                ...element,
-                x: newPos.x,
-                y: newPos.y,
-                frameId: newFrameId,
-              } as any,
-              createdId,
-              false
-            );
-            pastedIds.push(createdId);
-          }
+        try {
+          const result = await boardApi.applyElementsBatch(boardId, { create });
+          Object.entries<string>(result?.createdIds ?? {}).forEach(([tempId, id]) => createdIds.set(tempId, id));
         } catch (error) {
-          console.error(`Failed to paste element ${element.id}:`, error);
+          console.error('Failed to paste elements:', error);
+          continue;
+        }
+
+        for (const { tempId, element } of pendingChunk) {
+          const createdId = createdIds.get(tempId);
+          if (!createdId) continue;
+          const frameId = element.frameId ? (createdIds.get(element.frameId) ?? null) : null;
+          this.addElement({ ...element, frameId } as any, createdId, false);
+          pastedIds.push(createdId);
         }
       }
 
       if (pastedIds.length > 0) {
         this.selectedElementIds = pastedIds;
-        // Update clipboard positions and mapping for next paste
+        // Update clipboard positions for next paste
         this.clipboard.forEach((el) => {
           if (el.type !== ElementType.Connector) {
             (el as any).x += OFFSET;
             (el as any).y += OFFSET;
           }
-          // Note: we don't update el.id or el.frameId in clipboard 
-          // to keep them relative to the ORIGINAL clipboard state 
-          // or we'd have to update the whole map.
-          // Keeping them as is works for subsequent pastes since oldToNewIdMap is rebuilt.
+          // Note: we don't update el.id or el.frameId in clipboard,
+          // tempIdByOldId is rebuilt from the original ids on every paste.
         });
       }
     },
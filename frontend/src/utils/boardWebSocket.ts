@@ -23,6 +23,14 @@ function updateElementLocal(store: BoardWebSocketStore, id: string, updates: Par
   store.elements[index] = { ...currentElement, ...updates } as BoardElement;
 }
 
+// 後端 ConnectorDTO 以 fromX / fromY、toX / toY 攤平座標
+function connectorPoint(payload: any, end: 'from' | 'to') {
+  if (payload[`${end}Point`]) return payload[`${end}Point`];
+  const x = payload[`${end}X`];
+  const y = payload[`${end}Y`];
+  return x != null && y != null ? { x, y } : undefined;
+}
+
 function createRemoteElement(store: BoardWebSocketStore, element: string, payload: any) {
   if (element === 'stickyNote') {
     store.addElement(
@@ -116,12 +124,12 @@ function createRemoteElement(store: BoardWebSocketStore, element: string, payloa
         fromTargetId: payload.fromTargetId,
         fromSide: payload.fromSide,
         fromOffset: payload.fromOffset,
-        fromPoint: payload.fromPoint,
+        fromPoint: connectorPoint(payload, 'from'),
         toTargetType: payload.toTargetType,
         toTargetId: payload.toTargetId,
         toSide: payload.toSide,
         toOffset: payload.toOffset,
-        toPoint: payload.toPoint,
+        toPoint: connectorPoint(payload, 'to'),
         lineType: payload.lineType,
         label: payload.label,
         strokeColor: payload.strokeColor,
@@ -138,6 +146,7 @@ function createRemoteElement(store: BoardWebSocketStore, element: string, payloa
   }
 }
 
+// *.updated 改變位置或尺寸時另外帶有 connectorIds，與 *.moved 相同，connector 依錨定元件的新位置重新繞線
 function updateRemoteElement(store: BoardWebSocketStore, element: string, payload: any) {
   const existingElement = store.elements.find((boardElement) => boardElement.id === payload.id);
   if (!existingElement) {
@@ -210,12 +219,12 @@ function updateRemoteElement(store: BoardWebSocketStore, element: string, payloa
       fromTargetId: payload.fromTargetId,
       fromSide: payload.fromSide,
       fromOffset: payload.fromOffset,
-      fromPoint: payload.fromPoint,
+      fromPoint: connectorPoint(payload, 'from'),
       toTargetType: payload.toTargetType,
       toTargetId: payload.toTargetId,
       toSide: payload.toSide,
       toOffset: payload.toOffset,
-      toPoint: payload.toPoint,
+      toPoint: connectorPoint(payload, 'to'),
       lineType: payload.lineType,
       label: payload.label,
       strokeColor: payload.strokeColor,
@@ -229,9 +238,71 @@ function updateRemoteElement(store: BoardWebSocketStore, element: string, payloa
   }
 }
 
+// *.moved 事件由後端每個 tick 合併送出，只帶位置與有變動的尺寸
+// connectorIds 為錨定在這些元件上的 connector，connector 依錨定元件的位置重新繞線，不必重新載入整張 Board
+function moveRemoteElements(store: BoardWebSocketStore, payload: any) {
+  for (const move of payload?.moves ?? []) {
+    const updates: Partial<BoardElement> = { x: move.posX, y: move.posY };
+    if (move.width != null) updates.width = move.width;
+    if (move.height != null) updates.height = move.height;
+    updateElementLocal(store, move.id, updates);
+  }
+}
+
+// elements.batched 是批次 API 的彙整事件，frame 要比其他元件先建立
+// detached 為所屬 frame 被刪除而清除 frameId 的元件
+const BATCH_ELEMENT_KINDS: [string, string][] = [
+  ['frames', 'frame'],
+  ['stickyNotes', 'stickyNote'],
+  ['textBoxes', 'textBox'],
+  ['domainModelItems', 'domainModelItem'],
+  ['connectors', 'connector'],
+];
+
+function applyRemoteBatch(store: BoardWebSocketStore, payload: any) {
+  for (const [kind, element] of BATCH_ELEMENT_KINDS) {
+    for (const created of payload?.created?.[kind] ?? []) {
+      createRemoteElement(store, element, created);
+    }
+    for (const updated of payload?.updated?.[kind] ?? []) {
+      updateRemoteElement(store, element, updated);
+    }
+  }
+  const deletedIds = (payload?.deleted ?? []).map((deleted: any) => deleted.id);
+  if (deletedIds.length > 0) {
+    store.deleteElements(deletedIds);
+  }
+  detachRemoteElements(store, payload?.detached);
+}
+
+// GET /changes 的回應與 elements.batched 使用相同的分組，新增與更新都以 updateRemoteElement 套用 (不存在時建立)
+// 包含自己送出的異動，重複套用不影響結果
+export function applyBoardChanges(store: BoardWebSocketStore, changes: any) {
+  for (const [kind, element] of BATCH_ELEMENT_KINDS) {
+    for (const changed of changes?.[kind] ?? []) {
+      updateRemoteElement(store, element, changed);
+    }
+  }
+  const deletedIds = (changes?.deleted ?? []).map((deleted: any) => deleted.id);
+  if (deletedIds.length > 0) {
+    store.deleteElements(deletedIds);
+  }
+}
+
+function detachRemoteElements(store: BoardWebSocketStore, detached: Record<string, string[]> | undefined) {
+  for (const ids of Object.values(detached ?? {})) {
+    for (const id of ids) {
+      updateElementLocal(store, id, { frameId: null });
+    }
+  }
+}
+
+// frame.deleted 另外帶有子元件的處理結果：deleted 為一併刪除的元件 (含 frame 本身)，detached 為 frameId 被清除的元件
 function deleteRemoteElement(store: BoardWebSocketStore, payload: any) {
   const elementId = payload.id;
-  store.deleteElements([elementId]);
+  const deletedIds = (payload?.deleted ?? []).map((deleted: any) => deleted.id);
+  store.deleteElements(deletedIds.includes(elementId) ? deletedIds : [elementId, ...deletedIds]);
+  detachRemoteElements(store, payload?.detached);
   // console.log('Remote element deleted:', elementId);
 }
 
@@ -240,6 +311,14 @@ export function handleBoardWebSocketEvent(
   event: BoardWebSocketEvent,
   currentUserId: string | null | undefined
 ) {
+  // 後端把同一時間窗內的事件合併成 board.batch，逐筆依原順序套用，是否為自己的異動由每筆事件判斷
+  if (event.type === 'board.batch') {
+    for (const batchedEvent of event.payload?.events ?? []) {
+      handleBoardWebSocketEvent(store, batchedEvent, currentUserId);
+    }
+    return;
+  }
+
   if (event.userId === currentUserId) {
     return;
   }
@@ -247,6 +326,11 @@ export function handleBoardWebSocketEvent(
   const { type, payload } = event;
   const [element, behaviour] = type.split('.');
 
+  // analysis.* 是分析工作的進度，不影響 Board 上的元件
+  if (element === 'analysis') {
+    return;
+  }
+
   try {
     if (behaviour === 'created') {
       createRemoteElement(store, element, payload);
@@ -254,6 +338,10 @@ export function handleBoardWebSocketEvent(
       updateRemoteElement(store, element, payload);
     } else if (behaviour === 'deleted') {
       deleteRemoteElement(store, payload);
+    } else if (behaviour === 'moved') {
+      moveRemoteElements(store, payload);
+    } else if (behaviour === 'batched') {
+      applyRemoteBatch(store, payload);
     }
   } catch (error) {
     console.error('Error handling WebSocket event:', error);